@@ -67,6 +67,27 @@ public class FileCacheBenchmark {
         parameters.fileCache.remove(randomKeyInCache(parameters));
     }
 
+    /**
+     * Reads cached files while one in four operations reads a file that is not in the cache, like a scan does. Compare the
+     * protected ratios to see how much of the working set the scan evicts and what the protected list costs.
+     */
+    @Benchmark
+    public void getDuringScan(CacheParameters parameters, Blackhole blackhole) {
+        final Path key;
+        if (ThreadLocalRandom.current().nextInt(4) == 0) {
+            key = randomKeyNotInCache(parameters);
+            blackhole.consume(parameters.fileCache.put(key, INDEX_INPUT));
+        } else {
+            key = randomKeyInCache(parameters);
+            final CachedIndexInput cachedIndexInput = parameters.fileCache.get(key);
+            blackhole.consume(cachedIndexInput);
+            if (cachedIndexInput == null) {
+                return;
+            }
+        }
+        parameters.fileCache.decRef(key);
+    }
+
     private static Path randomKeyInCache(CacheParameters parameters) {
         int i = ThreadLocalRandom.current().nextInt(parameters.maximumNumberOfEntries);
         return Paths.get(Integer.toString(i));
@@ -85,13 +106,17 @@ public class FileCacheBenchmark {
         @Param({ "1", "8" })
         int concurrencyLevel;
 
+        @Param({ "0.0", "0.5" })
+        double protectedRatio;
+
         FileCache fileCache;
 
         @Setup
         public void setup() {
             fileCache = FileCacheFactory.createConcurrentLRUFileCache(
                 (long) maximumNumberOfEntries * INDEX_INPUT.length(),
-                concurrencyLevel
+                concurrencyLevel,
+                protectedRatio
             );
             for (long i = 0; i < maximumNumberOfEntries; i++) {
                 final Path key = Paths.get(Long.toString(i));
@@ -59,6 +59,14 @@ public abstract class ArrayValuesSourceAggregatorFactory extends AggregatorFacto
         this.configs = configs;
     }
 
+    /**
+     * Values that depend on scores depend on the term statistics of the whole shard, so they can't be cached per segment.
+     */
+    @Override
+    protected boolean supportsSegmentLevelCache() {
+        return configs.values().stream().noneMatch(ValuesSourceConfig::needsScores);
+    }
+
     @Override
     public Aggregator createInternal(
         SearchContext searchContext,
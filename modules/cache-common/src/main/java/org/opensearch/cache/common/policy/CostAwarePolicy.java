@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.policy;
+
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.policy.CachedQueryResult;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A cache admission policy which weighs how often a key is requested against how expensive its value was to compute.
+ * Every key tested by the policy is recorded in a frequency sketch. A key seen before is admitted. A key seen for the first
+ * time is only admitted if the took time of its value per kb of the value's size reaches a threshold, so one-off queries
+ * which are cheap or produce large values don't push repeated or expensive ones out of the cache.
+ * The policy accepts values of type V and decodes them into CachedQueryResult.PolicyValues, which has the took time.
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public class CostAwarePolicy<K, V> implements BiPredicate<ICacheKey<K>, V> {
+    /**
+     * The size of value assumed when deriving the number of keys the frequency sketch tracks from the cache size.
+     */
+    static final long ASSUMED_VALUE_SIZE_IN_BYTES = 1024;
+    static final int MIN_TRACKED_KEYS = 1024;
+    static final int MAX_TRACKED_KEYS = 1 << 20;
+
+    private volatile boolean enabled;
+
+    /**
+     * The minimum took time per kb of the value to admit a value whose key wasn't seen before.
+     */
+    private volatile TimeValue threshold;
+
+    /**
+     * Function which extracts the relevant PolicyValues from a serialized CachedQueryResult
+     */
+    private final Function<V, CachedQueryResult.PolicyValues> cachedResultParser;
+
+    private final ToLongBiFunction<ICacheKey<K>, V> weigher;
+
+    private final FrequencySketch frequencySketch;
+
+    /**
+     * Constructs a cost aware policy.
+     * @param enabled whether the policy starts out enabled
+     * @param threshold the took time per kb threshold
+     * @param cacheSizeInBytes the size of the cache, used to size the frequency sketch
+     * @param cachedResultParser the function providing policy values
+     * @param weigher the function providing the size of a value
+     * @param clusterSettings cluster settings
+     * @param enabledSetting the cluster setting enabling the policy
+     * @param thresholdSetting the cluster setting for the threshold
+     */
+    public CostAwarePolicy(
+        boolean enabled,
+        TimeValue threshold,
+        long cacheSizeInBytes,
+        Function<V, CachedQueryResult.PolicyValues> cachedResultParser,
+        ToLongBiFunction<ICacheKey<K>, V> weigher,
+        ClusterSettings clusterSettings,
+        Setting<Boolean> enabledSetting,
+        Setting<TimeValue> thresholdSetting
+    ) {
+        if (threshold.compareTo(TimeValue.ZERO) < 0) {
+            throw new IllegalArgumentException("Threshold for CostAwarePolicy must be >= 0ms but was " + threshold.getStringRep());
+        }
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.cachedResultParser = cachedResultParser;
+        this.weigher = weigher;
+        long trackedKeys = Math.min(Math.max(cacheSizeInBytes / ASSUMED_VALUE_SIZE_IN_BYTES, MIN_TRACKED_KEYS), MAX_TRACKED_KEYS);
+        this.frequencySketch = new FrequencySketch((int) trackedKeys);
+        clusterSettings.addSettingsUpdateConsumer(enabledSetting, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(thresholdSetting, this::setThreshold);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private void setThreshold(TimeValue threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Records the key and checks whether to admit its value.
+     * @param key the key
+     * @param value the value computed for the key
+     * @return whether to admit the value
+     */
+    @Override
+    public boolean test(ICacheKey<K> key, V value) {
+        if (!enabled) {
+            return true;
+        }
+        if (frequencySketch.increment(key.hashCode()) > 1) {
+            return true;
+        }
+        long tookTimeNanos;
+        try {
+            tookTimeNanos = cachedResultParser.apply(value).getTookTimeNanos();
+        } catch (Exception e) {
+            // Without a took time, the value has to wait for its key to be seen again
+            return false;
+        }
+        long sizeInBytes = Math.max(weigher.applyAsLong(key, value), 1);
+        // tookTime / (sizeInBytes / 1024) >= threshold, without losing precision on values smaller than a kb
+        return tookTimeNanos >= threshold.nanos() * (sizeInBytes / 1024.0);
+    }
+
+    // pkg-private for testing
+    int frequency(ICacheKey<K> key) {
+        return frequencySketch.frequency(key.hashCode());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.policy;
+
+/**
+ * A count-min sketch estimating how often a hash was seen recently. Counters have 4 bits and 16 of them are packed into a long.
+ * Each hash maps to one counter per row of the sketch, and its estimate is the smallest of them. Only the smallest counters
+ * are incremented, which keeps the overestimation caused by collisions low. Once the number of increments reaches ten times
+ * the number of expected entries, all counters are halved so that old popularity fades away.
+ */
+final class FrequencySketch {
+
+    static final int MAX_FREQUENCY = 15;
+
+    private static final int ROWS = 4;
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long HALF_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int counterMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Creates a sketch.
+     * @param expectedEntries the number of distinct hashes the sketch should tell apart
+     */
+    FrequencySketch(int expectedEntries) {
+        if (expectedEntries <= 0) {
+            throw new IllegalArgumentException("Frequency sketch needs a positive number of expected entries but was " + expectedEntries);
+        }
+        int counters = Math.max(64, Integer.highestOneBit((int) Math.min(ROWS * (long) expectedEntries, 1 << 30) - 1) << 1);
+        this.table = new long[counters >>> 4];
+        this.counterMask = counters - 1;
+        this.sampleSize = (int) Math.min(10L * expectedEntries, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Records one occurrence of the hash.
+     * @return the estimated number of occurrences including this one, at most {@link #MAX_FREQUENCY}
+     */
+    synchronized int increment(int hash) {
+        int frequency = estimate(hash);
+        if (frequency < MAX_FREQUENCY) {
+            for (int row = 0; row < ROWS; row++) {
+                int index = indexOf(hash, row);
+                if (counter(index) == frequency) {
+                    table[index >>> 4] += 1L << ((index & 15) << 2);
+                }
+            }
+            frequency++;
+        }
+        if (++additions >= sampleSize) {
+            halve();
+        }
+        return frequency;
+    }
+
+    /**
+     * @return the estimated number of recent occurrences of the hash
+     */
+    synchronized int frequency(int hash) {
+        return estimate(hash);
+    }
+
+    private int estimate(int hash) {
+        int frequency = MAX_FREQUENCY;
+        for (int row = 0; row < ROWS; row++) {
+            frequency = Math.min(frequency, counter(indexOf(hash, row)));
+        }
+        return frequency;
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = ((hash & 0xFFFFFFFFL) ^ SEEDS[row]) * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & counterMask;
+    }
+
+    private int counter(int index) {
+        return (int) (table[index >>> 4] >>> ((index & 15) << 2)) & 0xF;
+    }
+
+    private void halve() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & HALF_MASK;
+        }
+        additions >>>= 1;
+    }
+}
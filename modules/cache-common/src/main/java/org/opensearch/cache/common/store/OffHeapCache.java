@@ -0,0 +1,612 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.stats.CacheStatsHolder;
+import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
+import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
+import org.opensearch.common.cache.stats.NoopCacheStatsHolder;
+import org.opensearch.common.cache.store.builders.ICacheBuilder;
+import org.opensearch.common.cache.store.config.CacheConfig;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A cache which keeps serialized values outside of the java heap, in direct byte buffers of a fixed size called slabs.
+ * Every slab belongs to one size class and is split into chunks of that class's size. Size classes are powers of two, and a
+ * value is copied into a chunk of the smallest size class which fits it. Each size class has its own LRU list, so an
+ * eviction always frees a chunk the new value can use. When all slabs are in use and a size class has nothing to evict,
+ * a slab is taken away from the size class which holds the most slabs. Keys are kept on heap.
+ *
+ * Values larger than a slab are not stored. They are handed to the removal listener right away with
+ * {@link RemovalReason#CAPACITY}, so the TieredSpilloverCache can move them to its next tier.
+ *
+ * A single lock guards the cache. Callers needing concurrency, like the TieredSpilloverCache, use one instance per segment.
+ *
+ * @param <K> Type of key.
+ * @param <V> Type of value.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class OffHeapCache<K, V> implements ICache<K, V> {
+
+    private static final Logger logger = LogManager.getLogger(OffHeapCache.class);
+
+    static final int DEFAULT_SLAB_SIZE_IN_BYTES = 1024 * 1024;
+    static final int MIN_CHUNK_SIZE_IN_BYTES = 64;
+
+    private final Serializer<V, byte[]> valueSerializer;
+    private final RemovalListener<ICacheKey<K>, V> removalListener;
+    private final CacheStatsHolder cacheStatsHolder;
+    private final int slabSizeInBytes;
+    private final int maxSlabs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Slab> slabs = new ArrayList<>();
+    private final SizeClass<K>[] sizeClasses;
+    private final Map<ICacheKey<K>, Entry<K>> entries = new HashMap<>();
+    private final Map<ICacheKey<K>, CompletableFuture<V>> pendingLoads = new ConcurrentHashMap<>();
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    OffHeapCache(Builder<K, V> builder) {
+        this.valueSerializer = Objects.requireNonNull(builder.valueSerializer, "Value serializer shouldn't be null");
+        this.removalListener = Objects.requireNonNull(builder.getRemovalListener(), "Removal listener can't be null");
+        long maxSizeInBytes = builder.getMaxWeightInBytes();
+        this.slabSizeInBytes = (int) Math.min(builder.slabSizeInBytes, Long.highestOneBit(Math.max(maxSizeInBytes, 1)));
+        if (slabSizeInBytes < MIN_CHUNK_SIZE_IN_BYTES || Integer.bitCount(slabSizeInBytes) != 1) {
+            throw new IllegalArgumentException(
+                "Off-heap cache needs a power of two slab size of at least " + MIN_CHUNK_SIZE_IN_BYTES + " bytes, got " + slabSizeInBytes
+            );
+        }
+        this.maxSlabs = (int) Math.min(Integer.MAX_VALUE, maxSizeInBytes / slabSizeInBytes);
+        int numberOfSizeClasses = Integer.numberOfTrailingZeros(slabSizeInBytes) - Integer.numberOfTrailingZeros(MIN_CHUNK_SIZE_IN_BYTES)
+            + 1;
+        this.sizeClasses = new SizeClass[numberOfSizeClasses];
+        for (int i = 0; i < numberOfSizeClasses; i++) {
+            sizeClasses[i] = new SizeClass<>(MIN_CHUNK_SIZE_IN_BYTES << i);
+        }
+        List<String> dimensionNames = Objects.requireNonNull(builder.dimensionNames, "Dimension names can't be null");
+        if (builder.getStatsTrackingEnabled()) {
+            this.cacheStatsHolder = new DefaultCacheStatsHolder(dimensionNames, OffHeapCacheFactory.NAME);
+        } else {
+            this.cacheStatsHolder = NoopCacheStatsHolder.getInstance();
+        }
+    }
+
+    @Override
+    public V get(ICacheKey<K> key) {
+        byte[] bytes = lookup(key);
+        if (bytes == null) {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+            return null;
+        }
+        cacheStatsHolder.incrementHits(key.dimensions);
+        return valueSerializer.deserialize(bytes);
+    }
+
+    @Override
+    public void put(ICacheKey<K> key, V value) {
+        byte[] bytes = valueSerializer.serialize(value);
+        List<Removal<K>> removals = new ArrayList<>();
+        boolean stored = false;
+        lock.lock();
+        try {
+            Entry<K> previous = entries.remove(key);
+            if (previous != null) {
+                removals.add(new Removal<>(key, read(previous), RemovalReason.REPLACED));
+                release(previous);
+            }
+            int sizeClass = sizeClassFor(bytes.length);
+            if (sizeClass >= 0) {
+                Chunk chunk = allocate(sizeClass, removals);
+                if (chunk != null) {
+                    chunk.slab.buffer.put(chunk.offset, bytes);
+                    Entry<K> entry = new Entry<>(key, chunk, bytes.length, sizeClass);
+                    entries.put(key, entry);
+                    sizeClasses[sizeClass].lru.put(key, entry);
+                    stored = true;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        notifyRemovals(removals);
+        if (stored) {
+            cacheStatsHolder.incrementItems(key.dimensions);
+            cacheStatsHolder.incrementSizeInBytes(key.dimensions, bytes.length);
+        } else {
+            // The value doesn't fit, let the listener decide where it goes next
+            removalListener.onRemoval(new RemovalNotification<>(key, value, RemovalReason.CAPACITY));
+            cacheStatsHolder.incrementEvictions(key.dimensions);
+        }
+    }
+
+    /**
+     * Loads the value of an absent key at most once at a time. Concurrent callers for the same key wait for the value of the
+     * caller that is loading it instead of running their loaders, like {@link org.opensearch.common.cache.Cache} does.
+     */
+    @Override
+    public V computeIfAbsent(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = pendingLoads.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return inFlight.get();
+        }
+        try {
+            // Another caller may have loaded and stored the value between our miss and registering the future
+            byte[] bytes = lookup(key);
+            if (bytes != null) {
+                value = valueSerializer.deserialize(bytes);
+            } else {
+                value = loader.load(key);
+                if (value != null) {
+                    put(key, value);
+                }
+            }
+            future.complete(value);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingLoads.remove(key, future);
+        }
+        return value;
+    }
+
+    @Override
+    public void invalidate(ICacheKey<K> key) {
+        if (key.getDropStatsForDimensions()) {
+            cacheStatsHolder.removeDimensions(key.dimensions);
+        }
+        if (key.key != null) {
+            byte[] bytes = null;
+            lock.lock();
+            try {
+                Entry<K> entry = entries.remove(key);
+                if (entry != null) {
+                    bytes = read(entry);
+                    release(entry);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (bytes != null) {
+                notifyRemovals(List.of(new Removal<>(key, bytes, RemovalReason.INVALIDATED)));
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        List<Removal<K>> removals = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Entry<K> entry : entries.values()) {
+                removals.add(new Removal<>(entry.key, read(entry), RemovalReason.INVALIDATED));
+                release(entry);
+            }
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+        notifyRemovals(removals);
+        cacheStatsHolder.reset();
+    }
+
+    /**
+     * Returns a snapshot of the keys. Removing a key through the iterator invalidates it.
+     */
+    @Override
+    public Iterable<ICacheKey<K>> keys() {
+        List<ICacheKey<K>> keys;
+        lock.lock();
+        try {
+            keys = new ArrayList<>(entries.keySet());
+        } finally {
+            lock.unlock();
+        }
+        return () -> new Iterator<ICacheKey<K>>() {
+            private final Iterator<ICacheKey<K>> iterator = keys.iterator();
+            private ICacheKey<K> current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public ICacheKey<K> next() {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current == null) {
+                    throw new IllegalStateException();
+                }
+                invalidate(current);
+                current = null;
+            }
+        };
+    }
+
+    @Override
+    public long count() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void refresh() {
+        // Entries don't expire, nothing to do
+    }
+
+    @Override
+    public ImmutableCacheStatsHolder stats(String[] levels) {
+        return cacheStatsHolder.getImmutableCacheStatsHolder(levels);
+    }
+
+    /**
+     * Drops all the entries without notifying the removal listener. The direct memory of the slabs is returned once they
+     * are garbage collected.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            entries.clear();
+            for (SizeClass<K> sizeClass : sizeClasses) {
+                sizeClass.lru.clear();
+                sizeClass.freeChunks.clear();
+                sizeClass.slabCount = 0;
+            }
+            slabs.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // pkg-private for testing
+    int getSlabSizeInBytes() {
+        return slabSizeInBytes;
+    }
+
+    // pkg-private for testing
+    int getAllocatedSlabs() {
+        lock.lock();
+        try {
+            return slabs.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the index of the smallest size class whose chunks fit the given length, or -1 if the length is larger than a slab.
+     */
+    int sizeClassFor(int length) {
+        if (length > slabSizeInBytes) {
+            return -1;
+        }
+        int chunkSize = Math.max(MIN_CHUNK_SIZE_IN_BYTES, Integer.highestOneBit(Math.max(length - 1, 1)) << 1);
+        return Integer.numberOfTrailingZeros(chunkSize) - Integer.numberOfTrailingZeros(MIN_CHUNK_SIZE_IN_BYTES);
+    }
+
+    private Chunk allocate(int sizeClassIndex, List<Removal<K>> removals) {
+        SizeClass<K> sizeClass = sizeClasses[sizeClassIndex];
+        if (sizeClass.freeChunks.isEmpty() && slabs.size() < maxSlabs) {
+            allocateSlab(sizeClassIndex);
+        }
+        if (sizeClass.freeChunks.isEmpty() && !sizeClass.lru.isEmpty()) {
+            evict(sizeClass.lru.values().iterator().next(), removals);
+        }
+        if (sizeClass.freeChunks.isEmpty()) {
+            reassignSlab(sizeClassIndex, removals);
+        }
+        return sizeClass.freeChunks.poll();
+    }
+
+    private void allocateSlab(int sizeClassIndex) {
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.allocateDirect(slabSizeInBytes);
+        } catch (OutOfMemoryError e) {
+            // Running out of direct memory must not fail the caller, we evict instead of growing
+            logger.warn("Unable to allocate a slab for the off-heap cache", e);
+            return;
+        }
+        Slab slab = new Slab(buffer);
+        slabs.add(slab);
+        assignSlab(slab, sizeClassIndex);
+    }
+
+    /**
+     * Takes a slab away from the size class holding the most slabs, evicting the entries stored in it, and gives it to the
+     * given size class. This keeps the cache usable when the sizes of the values change over time.
+     */
+    private void reassignSlab(int sizeClassIndex, List<Removal<K>> removals) {
+        SizeClass<K> victim = null;
+        for (int i = 0; i < sizeClasses.length; i++) {
+            if (i != sizeClassIndex && sizeClasses[i].slabCount > 0 && (victim == null || sizeClasses[i].slabCount > victim.slabCount)) {
+                victim = sizeClasses[i];
+            }
+        }
+        if (victim == null) {
+            return;
+        }
+        final Slab slab = victim.lru.isEmpty() ? victim.freeChunks.peek().slab : victim.lru.values().iterator().next().chunk.slab;
+        List<Entry<K>> stored = new ArrayList<>();
+        for (Entry<K> entry : victim.lru.values()) {
+            if (entry.chunk.slab == slab) {
+                stored.add(entry);
+            }
+        }
+        for (Entry<K> entry : stored) {
+            evict(entry, removals);
+        }
+        victim.freeChunks.removeIf(chunk -> chunk.slab == slab);
+        victim.slabCount--;
+        assignSlab(slab, sizeClassIndex);
+    }
+
+    private void assignSlab(Slab slab, int sizeClassIndex) {
+        SizeClass<K> sizeClass = sizeClasses[sizeClassIndex];
+        for (int offset = 0; offset + sizeClass.chunkSize <= slabSizeInBytes; offset += sizeClass.chunkSize) {
+            sizeClass.freeChunks.add(new Chunk(slab, offset));
+        }
+        sizeClass.slabCount++;
+    }
+
+    private void evict(Entry<K> entry, List<Removal<K>> removals) {
+        entries.remove(entry.key);
+        removals.add(new Removal<>(entry.key, read(entry), RemovalReason.EVICTED));
+        release(entry);
+    }
+
+    private void release(Entry<K> entry) {
+        SizeClass<K> sizeClass = sizeClasses[entry.sizeClass];
+        sizeClass.lru.remove(entry.key);
+        sizeClass.freeChunks.add(entry.chunk);
+    }
+
+    /**
+     * Returns a copy of the value stored for the key, or null if it isn't cached, without updating the stats.
+     */
+    private byte[] lookup(ICacheKey<K> key) {
+        lock.lock();
+        try {
+            Entry<K> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            sizeClasses[entry.sizeClass].lru.get(key); // moves the entry to the most recently used end of its list
+            return read(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private byte[] read(Entry<K> entry) {
+        byte[] bytes = new byte[entry.length];
+        entry.chunk.slab.buffer.get(entry.chunk.offset, bytes);
+        return bytes;
+    }
+
+    /**
+     * Deserializes removed values and notifies the removal listener. Called without holding the lock, as the listener may
+     * put the values into another tier.
+     */
+    private void notifyRemovals(List<Removal<K>> removals) {
+        for (Removal<K> removal : removals) {
+            removalListener.onRemoval(new RemovalNotification<>(removal.key, valueSerializer.deserialize(removal.bytes), removal.reason));
+            cacheStatsHolder.decrementItems(removal.key.dimensions);
+            cacheStatsHolder.decrementSizeInBytes(removal.key.dimensions, removal.bytes.length);
+            if (RemovalReason.EVICTED.equals(removal.reason)) {
+                cacheStatsHolder.incrementEvictions(removal.key.dimensions);
+            }
+        }
+    }
+
+    /**
+     * A direct buffer of the slab size, split into the chunks of one size class.
+     */
+    private static class Slab {
+        final ByteBuffer buffer;
+
+        Slab(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * A part of a slab which holds one value.
+     */
+    private static class Chunk {
+        final Slab slab;
+        final int offset;
+
+        Chunk(Slab slab, int offset) {
+            this.slab = slab;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * The chunks of one size, free or in use, and the LRU order of the entries stored in them.
+     */
+    private static class SizeClass<K> {
+        final int chunkSize;
+        final ArrayDeque<Chunk> freeChunks = new ArrayDeque<>();
+        final LinkedHashMap<ICacheKey<K>, Entry<K>> lru = new LinkedHashMap<>(16, 0.75f, true);
+        int slabCount;
+
+        SizeClass(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    private static class Entry<K> {
+        final ICacheKey<K> key;
+        final Chunk chunk;
+        final int length;
+        final int sizeClass;
+
+        Entry(ICacheKey<K> key, Chunk chunk, int length, int sizeClass) {
+            this.key = key;
+            this.chunk = chunk;
+            this.length = length;
+            this.sizeClass = sizeClass;
+        }
+    }
+
+    /**
+     * A value copied out of its chunk while holding the lock, to be deserialized and passed to the listener afterwards.
+     */
+    private static class Removal<K> {
+        final ICacheKey<K> key;
+        final byte[] bytes;
+        final RemovalReason reason;
+
+        Removal(ICacheKey<K> key, byte[] bytes, RemovalReason reason) {
+            this.key = key;
+            this.bytes = bytes;
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * Factory to create OffHeapCache objects.
+     */
+    public static class OffHeapCacheFactory implements ICache.Factory {
+
+        /**
+         * Defines cache name
+         */
+        public static final String NAME = "opensearch_offheap";
+
+        /**
+         * Default constructor
+         */
+        public OffHeapCacheFactory() {}
+
+        @Override
+        @SuppressWarnings({ "unchecked" }) // Required to ensure the serializer outputs byte[]
+        public <K, V> ICache<K, V> create(CacheConfig<K, V> config, CacheType cacheType, Map<String, Factory> cacheFactories) {
+            Serializer<V, byte[]> valueSerializer;
+            try {
+                valueSerializer = (Serializer<V, byte[]>) config.getValueSerializer();
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("OffHeapCache requires a value serializer of type Serializer<V, byte[]>");
+            }
+            Builder<K, V> builder = new Builder<K, V>().setValueSerializer(valueSerializer).setDimensionNames(config.getDimensionNames());
+            builder.setRemovalListener(config.getRemovalListener())
+                .setStatsTrackingEnabled(config.getStatsTrackingEnabled())
+                .setSettings(config.getSettings());
+            if (config.getMaxSizeInBytes() > 0) {
+                // Set by the TieredSpilloverCache for each of its segments
+                builder.setMaximumWeightInBytes(config.getMaxSizeInBytes());
+            } else {
+                builder.setMaximumWeightInBytes(
+                    OffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
+                        .get(config.getSettings())
+                        .getBytes()
+                );
+            }
+            return builder.build();
+        }
+
+        @Override
+        public String getCacheName() {
+            return NAME;
+        }
+    }
+
+    /**
+     * Builder object for the off-heap cache.
+     * @param <K> Type of key
+     * @param <V> Type of value
+     */
+    public static class Builder<K, V> extends ICacheBuilder<K, V> {
+        private Serializer<V, byte[]> valueSerializer;
+        private List<String> dimensionNames;
+        private int slabSizeInBytes = DEFAULT_SLAB_SIZE_IN_BYTES;
+
+        /**
+         * Default constructor
+         */
+        public Builder() {}
+
+        /**
+         * Sets the serializer used to copy values off heap.
+         * @param valueSerializer value serializer
+         * @return builder
+         */
+        public Builder<K, V> setValueSerializer(Serializer<V, byte[]> valueSerializer) {
+            this.valueSerializer = valueSerializer;
+            return this;
+        }
+
+        /**
+         * Sets the dimension names used for stats.
+         * @param dimensionNames dimension names
+         * @return builder
+         */
+        public Builder<K, V> setDimensionNames(List<String> dimensionNames) {
+            this.dimensionNames = dimensionNames;
+            return this;
+        }
+
+        /**
+         * Sets the size of the slabs, which is also the largest value the cache stores. Must be a power of two.
+         * @param slabSizeInBytes slab size in bytes
+         * @return builder
+         */
+        public Builder<K, V> setSlabSizeInBytes(int slabSizeInBytes) {
+            this.slabSizeInBytes = slabSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public OffHeapCache<K, V> build() {
+            return new OffHeapCache<>(this);
+        }
+    }
+}
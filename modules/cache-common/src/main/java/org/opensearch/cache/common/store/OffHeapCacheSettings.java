@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import static org.opensearch.common.settings.Setting.Property.NodeScope;
+
+/**
+ * Settings related to OffHeapCache.
+ */
+public class OffHeapCacheSettings {
+
+    /**
+     * Default off-heap cache size ie 256mb.
+     */
+    public static final ByteSizeValue DEFAULT_MAXIMUM_SIZE = new ByteSizeValue(256, ByteSizeUnit.MB);
+
+    /**
+     * Setting which defines the amount of direct memory the off-heap cache may use when it is not used as a tier of the
+     * TieredSpilloverCache, which sets the size itself.
+     *
+     * Pattern: {cache_type}.opensearch_offheap.size
+     * Example: indices.request.cache.opensearch_offheap.size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> MAXIMUM_SIZE_IN_BYTES = Setting.suffixKeySetting(
+        OffHeapCache.OffHeapCacheFactory.NAME + ".size",
+        (key) -> Setting.byteSizeSetting(key, DEFAULT_MAXIMUM_SIZE, NodeScope)
+    );
+
+    /**
+     * Default constructor
+     */
+    OffHeapCacheSettings() {}
+}
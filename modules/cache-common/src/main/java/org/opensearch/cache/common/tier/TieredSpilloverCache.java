@@ -10,6 +10,7 @@ package org.opensearch.cache.common.tier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.cache.common.policy.CostAwarePolicy;
 import org.opensearch.cache.common.policy.TookTimePolicy;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.cache.CacheType;
@@ -45,17 +46,23 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.ToLongBiFunction;
 
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.COST_AWARE_POLICY_ENABLED_SETTING_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.DISK_CACHE_ENABLED_SETTING_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_STORE_SIZE;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_OFFHEAP_STORE_NAME;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_OFFHEAP_STORE_SIZE;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_ONHEAP_STORE_SIZE;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_SEGMENTS;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TOOK_TIME_DISK_TIER_POLICY_CONCRETE_SETTINGS_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TOOK_TIME_POLICY_CONCRETE_SETTINGS_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheStatsHolder.TIER_DIMENSION_VALUE_DISK;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheStatsHolder.TIER_DIMENSION_VALUE_OFF_HEAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheStatsHolder.TIER_DIMENSION_VALUE_ON_HEAP;
 import static org.opensearch.common.cache.settings.CacheSettings.INVALID_SEGMENT_COUNT_EXCEPTION_MESSAGE;
 import static org.opensearch.common.cache.settings.CacheSettings.VALID_SEGMENT_COUNT_VALUES;
@@ -64,6 +71,8 @@ import static org.opensearch.common.cache.settings.CacheSettings.VALID_SEGMENT_C
  * This cache spillover the evicted items from heap tier to disk tier. All the new items are first cached on heap
  * and the items evicted from on heap cache are moved to disk based cache. If disk based cache also gets full,
  * then items are eventually evicted from it and removed which will result in cache miss.
+ * If an off-heap store is configured, it sits between the two tiers: items evicted from heap are moved off heap first,
+ * and items evicted from the off-heap tier, or too large for it, are moved to disk.
  *
  * @param <K> Type of key
  * @param <V> Type of value
@@ -105,12 +114,16 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
         Boolean isDiskCacheEnabled = DISK_CACHE_ENABLED_SETTING_MAP.get(builder.cacheType).get(builder.cacheConfig.getSettings());
         this.dimensionNames = builder.cacheConfig.getDimensionNames();
         // Pass "tier" as the innermost dimension name, in addition to whatever dimensions are specified for the cache as a whole
-        this.statsHolder = new TieredSpilloverCacheStatsHolder(dimensionNames, isDiskCacheEnabled);
+        this.statsHolder = new TieredSpilloverCacheStatsHolder(dimensionNames, isDiskCacheEnabled, builder.offHeapCacheFactory != null);
         long onHeapCachePerSegmentSizeInBytes = builder.onHeapCacheSizeInBytes / this.numberOfSegments;
+        long offHeapCachePerSegmentSizeInBytes = builder.offHeapCacheSizeInBytes / this.numberOfSegments;
         long diskCachePerSegmentSizeInBytes = builder.diskCacheSizeInBytes / this.numberOfSegments;
         if (onHeapCachePerSegmentSizeInBytes <= 0) {
             throw new IllegalArgumentException("Per segment size for onHeap cache within Tiered cache should be " + "greater than 0");
         }
+        if (builder.offHeapCacheFactory != null && offHeapCachePerSegmentSizeInBytes <= 0) {
+            throw new IllegalArgumentException("Per segment size for offHeap cache within Tiered cache should be " + "greater than 0");
+        }
         if (diskCachePerSegmentSizeInBytes <= 0) {
             throw new IllegalArgumentException("Per segment size for disk cache within Tiered cache should be " + "greater than 0");
         }
@@ -122,6 +135,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                 i + 1,
                 this.numberOfSegments,
                 onHeapCachePerSegmentSizeInBytes,
+                offHeapCachePerSegmentSizeInBytes,
                 diskCachePerSegmentSizeInBytes
             );
         }
@@ -133,10 +147,13 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
 
         private final ICache<K, V> diskCache;
         private final ICache<K, V> onHeapCache;
+        // Null if the cache has no off-heap tier
+        private final ICache<K, V> offHeapCache;
 
         // Removal listeners for the individual tiers
         private final RemovalListener<ICacheKey<K>, V> onDiskRemovalListener;
         private final RemovalListener<ICacheKey<K>, V> onHeapRemovalListener;
+        private final RemovalListener<ICacheKey<K>, V> offHeapRemovalListener;
 
         // Removal listener from the spillover cache as a whole
         private final RemovalListener<ICacheKey<K>, V> removalListener;
@@ -150,12 +167,16 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
         // Policies guarding access to the cache overall.
         private final List<Predicate<V>> policies;
 
+        // Policies guarding access to the cache overall, which also need the key of the value.
+        private final List<BiPredicate<ICacheKey<K>, V>> admissionPolicies;
+
         // Policies guarding access to the disk tier.
         private final List<Predicate<V>> diskPolicies;
 
         private final TieredSpilloverCacheStatsHolder statsHolder;
 
         private final long onHeapCacheMaxWeight;
+        private final long offHeapCacheMaxWeight;
         private final long diskCacheMaxWeight;
 
         /**
@@ -170,6 +191,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             int segmentNumber,
             int numberOfSegments,
             long onHeapCacheSizeInBytes,
+            long offHeapCacheSizeInBytes,
             long diskCacheSizeInBytes
         ) {
             Objects.requireNonNull(builder.onHeapCacheFactory, "onHeap cache builder can't be null");
@@ -182,6 +204,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
 
             this.onHeapRemovalListener = new HeapTierRemovalListener(this);
             this.onDiskRemovalListener = new DiskTierRemovalListener(this);
+            this.offHeapRemovalListener = new OffHeapTierRemovalListener(this);
             this.weigher = Objects.requireNonNull(builder.cacheConfig.getWeigher(), "Weigher can't be null");
             this.onHeapCache = builder.onHeapCacheFactory.create(
                 new CacheConfig.Builder<K, V>().setRemovalListener(onHeapRemovalListener)
@@ -201,6 +224,28 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                 builder.cacheFactories
 
             );
+            if (builder.offHeapCacheFactory != null) {
+                this.offHeapCache = builder.offHeapCacheFactory.create(
+                    new CacheConfig.Builder<K, V>().setRemovalListener(offHeapRemovalListener)
+                        .setKeyType(builder.cacheConfig.getKeyType())
+                        .setValueType(builder.cacheConfig.getValueType())
+                        .setSettings(builder.cacheConfig.getSettings())
+                        .setWeigher(builder.cacheConfig.getWeigher())
+                        .setKeySerializer(builder.cacheConfig.getKeySerializer())
+                        .setValueSerializer(builder.cacheConfig.getValueSerializer())
+                        .setDimensionNames(builder.cacheConfig.getDimensionNames())
+                        .setMaxSizeInBytes(offHeapCacheSizeInBytes)
+                        .setClusterSettings(builder.cacheConfig.getClusterSettings())
+                        .setSegmentCount(1) // We don't need to make underlying caches multi-segmented
+                        .setStatsTrackingEnabled(false)
+                        .setCacheAlias("tiered_off_heap#" + segmentNumber)
+                        .build(),
+                    builder.cacheType,
+                    builder.cacheFactories
+                );
+            } else {
+                this.offHeapCache = null;
+            }
             this.diskCache = builder.diskCacheFactory.create(
                 new CacheConfig.Builder<K, V>().setRemovalListener(onDiskRemovalListener)
                     .setKeyType(builder.cacheConfig.getKeyType())
@@ -223,11 +268,16 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             Boolean isDiskCacheEnabled = DISK_CACHE_ENABLED_SETTING_MAP.get(builder.cacheType).get(builder.cacheConfig.getSettings());
             LinkedHashMap<ICache<K, V>, TierInfo> cacheListMap = new LinkedHashMap<>();
             cacheListMap.put(onHeapCache, new TierInfo(true, TIER_DIMENSION_VALUE_ON_HEAP));
+            if (offHeapCache != null) {
+                cacheListMap.put(offHeapCache, new TierInfo(true, TIER_DIMENSION_VALUE_OFF_HEAP));
+            }
             cacheListMap.put(diskCache, new TierInfo(isDiskCacheEnabled, TIER_DIMENSION_VALUE_DISK));
             this.caches = Collections.synchronizedMap(cacheListMap);
             this.policies = builder.policies;
+            this.admissionPolicies = builder.admissionPolicies;
             this.diskPolicies = builder.diskPolicies; // Will never be null; builder initializes it to an empty list
             this.onHeapCacheMaxWeight = onHeapCacheSizeInBytes;
+            this.offHeapCacheMaxWeight = offHeapCacheSizeInBytes;
             this.diskCacheMaxWeight = diskCacheSizeInBytes;
         }
 
@@ -236,6 +286,11 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             return onHeapCache;
         }
 
+        // Package private for testing
+        ICache<K, V> getOffHeapCache() {
+            return offHeapCache;
+        }
+
         // Package private for testing
         ICache<K, V> getDiskCache() {
             return diskCache;
@@ -263,6 +318,9 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             Tuple<V, String> cacheValueTuple = getValueFromTieredCache(true).apply(key);
             if (evaluatePoliciesList(value, policies)) {
                 if (cacheValueTuple == null) {
+                    if (!evaluateAdmissionPolicies(key, value)) {
+                        return;
+                    }
                     // In case it is not present in any tier, put it inside onHeap cache by default.
                     try (ReleasableLock ignore = writeLock.acquire()) {
                         onHeapCache.put(key, value);
@@ -298,6 +356,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                 }
             }
             List<String> heapDimensionValues = statsHolder.getDimensionsWithTierValue(key.dimensions, TIER_DIMENSION_VALUE_ON_HEAP);
+            List<String> offHeapDimensionValues = statsHolder.getDimensionsWithTierValue(key.dimensions, TIER_DIMENSION_VALUE_OFF_HEAP);
             List<String> diskDimensionValues = statsHolder.getDimensionsWithTierValue(key.dimensions, TIER_DIMENSION_VALUE_DISK);
 
             if (cacheValueTuple == null) {
@@ -312,8 +371,11 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                     // Handle stats
                     if (wasCacheMiss) {
                         // The value was just computed and added to the cache by this thread.
-                        // Register a miss for the heap cache, and the disk cache if present
+                        // Register a miss for the heap cache, and the off-heap and disk caches if present
                         statsHolder.incrementMisses(heapDimensionValues);
+                        if (offHeapCache != null) {
+                            statsHolder.incrementMisses(offHeapDimensionValues);
+                        }
                         if (caches.get(diskCache).isEnabled()) {
                             statsHolder.incrementMisses(diskDimensionValues);
                         }
@@ -328,9 +390,16 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                 if (cacheValueTuple.v2().equals(TIER_DIMENSION_VALUE_ON_HEAP)) {
                     // A hit for the heap tier
                     statsHolder.incrementHits(heapDimensionValues);
+                } else if (cacheValueTuple.v2().equals(TIER_DIMENSION_VALUE_OFF_HEAP)) {
+                    // Miss for the heap tier, hit for the off-heap tier
+                    statsHolder.incrementMisses(heapDimensionValues);
+                    statsHolder.incrementHits(offHeapDimensionValues);
                 } else if (cacheValueTuple.v2().equals(TIER_DIMENSION_VALUE_DISK)) {
-                    // Miss for the heap tier, hit for the disk tier
+                    // Miss for the heap and off-heap tiers, hit for the disk tier
                     statsHolder.incrementMisses(heapDimensionValues);
+                    if (offHeapCache != null) {
+                        statsHolder.incrementMisses(offHeapDimensionValues);
+                    }
                     statsHolder.incrementHits(diskDimensionValues);
                 }
             }
@@ -392,7 +461,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                     future.completeExceptionally(npe);
                     throw new ExecutionException(npe);
                 } else {
-                    wasRejectedByPolicy = !evaluatePoliciesList(value, policies);
+                    wasRejectedByPolicy = !evaluatePoliciesList(value, policies) || !evaluateAdmissionPolicies(key, value);
                     future.complete(new Tuple<>(new Tuple<>(key, value), wasRejectedByPolicy));
                     wasCacheMiss = !wasRejectedByPolicy;
                 }
@@ -444,7 +513,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
 
         @Override
         public long count() {
-            return onHeapCache.count() + diskCache.count();
+            return onHeapCache.count() + (offHeapCache != null ? offHeapCache.count() : 0) + diskCache.count();
         }
 
         @Override
@@ -472,26 +541,10 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
         void handleRemovalFromHeapTier(RemovalNotification<ICacheKey<K>, V> notification) {
             ICacheKey<K> key = notification.getKey();
             boolean wasEvicted = SPILLOVER_REMOVAL_REASONS.contains(notification.getRemovalReason());
-            boolean countEvictionTowardsTotal = false; // Don't count this eviction towards the cache's total if it ends up in the disk tier
-            boolean exceptionOccurredOnDiskCachePut = false;
-            boolean canCacheOnDisk = caches.get(diskCache).isEnabled()
-                && wasEvicted
-                && evaluatePoliciesList(notification.getValue(), diskPolicies);
-            if (canCacheOnDisk) {
-                try (ReleasableLock ignore = writeLock.acquire()) {
-                    diskCache.put(key, notification.getValue()); // spill over to the disk tier and increment its stats
-                } catch (Exception ex) {
-                    // TODO: Catch specific exceptions. Needs better exception handling. We are just swallowing exception
-                    // in this case as it shouldn't cause upstream request to fail.
-                    logger.warn("Exception occurred while putting item to disk cache", ex);
-                    exceptionOccurredOnDiskCachePut = true;
-                }
-                if (!exceptionOccurredOnDiskCachePut) {
-                    updateStatsOnPut(TIER_DIMENSION_VALUE_DISK, key, notification.getValue());
-                }
-            }
-            if (!canCacheOnDisk || exceptionOccurredOnDiskCachePut) {
-                // If the value is not going to the disk cache, send this notification to the TSC's removal listener
+            // Don't count this eviction towards the cache's total if it ends up in a lower tier
+            boolean countEvictionTowardsTotal = false;
+            if (!wasEvicted || (!spillOverToOffHeapTier(notification) && !spillOverToDiskTier(notification))) {
+                // If the value is not going to a lower tier, send this notification to the TSC's removal listener
                 // as the value is leaving the TSC entirely
                 removalListener.onRemoval(notification);
                 countEvictionTowardsTotal = true;
@@ -499,6 +552,59 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             updateStatsOnRemoval(TIER_DIMENSION_VALUE_ON_HEAP, wasEvicted, key, notification.getValue(), countEvictionTowardsTotal);
         }
 
+        void handleRemovalFromOffHeapTier(RemovalNotification<ICacheKey<K>, V> notification) {
+            ICacheKey<K> key = notification.getKey();
+            boolean wasEvicted = SPILLOVER_REMOVAL_REASONS.contains(notification.getRemovalReason());
+            boolean countEvictionTowardsTotal = false;
+            if (!wasEvicted || !spillOverToDiskTier(notification)) {
+                removalListener.onRemoval(notification);
+                countEvictionTowardsTotal = true;
+            }
+            updateStatsOnRemoval(TIER_DIMENSION_VALUE_OFF_HEAP, wasEvicted, key, notification.getValue(), countEvictionTowardsTotal);
+        }
+
+        /**
+         * Moves a value evicted from the heap tier to the off-heap tier, if there is one.
+         * @return whether the value was put in the off-heap tier
+         */
+        private boolean spillOverToOffHeapTier(RemovalNotification<ICacheKey<K>, V> notification) {
+            if (offHeapCache == null) {
+                return false;
+            }
+            ICacheKey<K> key = notification.getKey();
+            // Update the stats first: a value the off-heap tier can't hold is handed back to its removal listener during the put,
+            // which moves it on to the disk tier and updates the stats for its removal.
+            updateStatsOnPut(TIER_DIMENSION_VALUE_OFF_HEAP, key, notification.getValue());
+            try (ReleasableLock ignore = writeLock.acquire()) {
+                offHeapCache.put(key, notification.getValue());
+            } catch (Exception ex) {
+                logger.warn("Exception occurred while putting item to off-heap cache", ex);
+                updateStatsOnRemoval(TIER_DIMENSION_VALUE_OFF_HEAP, false, key, notification.getValue(), false);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Moves a value evicted from a tier above to the disk tier, if it's enabled and the value passes the disk policies.
+         * @return whether the value was put in the disk tier
+         */
+        private boolean spillOverToDiskTier(RemovalNotification<ICacheKey<K>, V> notification) {
+            if (!caches.get(diskCache).isEnabled() || !evaluatePoliciesList(notification.getValue(), diskPolicies)) {
+                return false;
+            }
+            try (ReleasableLock ignore = writeLock.acquire()) {
+                diskCache.put(notification.getKey(), notification.getValue()); // spill over to the disk tier and increment its stats
+            } catch (Exception ex) {
+                // TODO: Catch specific exceptions. Needs better exception handling. We are just swallowing exception
+                // in this case as it shouldn't cause upstream request to fail.
+                logger.warn("Exception occurred while putting item to disk cache", ex);
+                return false;
+            }
+            updateStatsOnPut(TIER_DIMENSION_VALUE_DISK, notification.getKey(), notification.getValue());
+            return true;
+        }
+
         boolean evaluatePoliciesList(V value, List<Predicate<V>> policiesList) {
             for (Predicate<V> policy : policiesList) {
                 if (!policy.test(value)) {
@@ -508,6 +614,15 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             return true;
         }
 
+        boolean evaluateAdmissionPolicies(ICacheKey<K> key, V value) {
+            for (BiPredicate<ICacheKey<K>, V> policy : admissionPolicies) {
+                if (!policy.test(key, value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         /**
          * Get a value from the tiered cache, and the name of the tier it was found in.
          * @param captureStats Whether to record hits/misses for this call of the function
@@ -570,6 +685,11 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             return onHeapCacheMaxWeight;
         }
 
+        // pkg-private for testing
+        long getOffHeapCacheMaxWeight() {
+            return offHeapCacheMaxWeight;
+        }
+
         // pkg-private for testing
         long getDiskCacheMaxWeight() {
             return diskCacheMaxWeight;
@@ -591,6 +711,22 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             }
         }
 
+        /**
+         * A class which receives removal events from the off-heap tier.
+         */
+        private class OffHeapTierRemovalListener implements RemovalListener<ICacheKey<K>, V> {
+            private final TieredSpilloverCacheSegment<K, V> tsc;
+
+            OffHeapTierRemovalListener(TieredSpilloverCacheSegment<K, V> tsc) {
+                this.tsc = tsc;
+            }
+
+            @Override
+            public void onRemoval(RemovalNotification<ICacheKey<K>, V> notification) {
+                tsc.handleRemovalFromOffHeapTier(notification);
+            }
+        }
+
         /**
          * A class which receives removal events from the disk tier.
          */
@@ -661,8 +797,9 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
     }
 
     /**
-     * Provides an iteration over both onHeap and disk keys. This is not protected from any mutations to the cache.
-     * @return An iterable over (onHeap + disk) keys
+     * Provides an iteration over the onHeap, offHeap (if configured) and disk keys. This is not protected from any mutations to
+     * the cache.
+     * @return An iterable over (onHeap + offHeap + disk) keys
      */
     @SuppressWarnings({ "unchecked" })
     @Override
@@ -732,6 +869,16 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
         return onHeapCacheEntries;
     }
 
+    // Package private for testing.
+    long offHeapCacheCount() {
+        long offHeapCacheEntries = 0;
+        for (int iter = 0; iter < this.numberOfSegments; iter++) {
+            ICache<K, V> offHeapCache = tieredSpilloverCacheSegments[iter].offHeapCache;
+            offHeapCacheEntries += offHeapCache != null ? offHeapCache.count() : 0;
+        }
+        return offHeapCacheEntries;
+    }
+
     // Package private for testing.
     long diskCacheCount() {
         long diskCacheEntries = 0;
@@ -856,6 +1003,23 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             }
             ICache.Factory diskCacheFactory = cacheFactories.get(diskCacheStoreName);
 
+            // The off-heap tier is optional
+            ICache.Factory offHeapCacheFactory = null;
+            long offHeapCacheSize = 0;
+            String offHeapCacheStoreName = TIERED_SPILLOVER_OFFHEAP_STORE_NAME.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
+                .get(settings);
+            if (!offHeapCacheStoreName.isEmpty()) {
+                if (!cacheFactories.containsKey(offHeapCacheStoreName)) {
+                    throw new IllegalArgumentException(
+                        "No associated offHeapCache found for tieredSpilloverCache for " + "cacheType:" + cacheType
+                    );
+                }
+                offHeapCacheFactory = cacheFactories.get(offHeapCacheStoreName);
+                offHeapCacheSize = TIERED_SPILLOVER_OFFHEAP_STORE_SIZE.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
+                    .get(settings)
+                    .getBytes();
+            }
+
             TimeValue tookTimePolicyThreshold = TOOK_TIME_POLICY_CONCRETE_SETTINGS_MAP.get(cacheType).get(settings);
             TimeValue tookTimeDiskPolicyThreshold = TOOK_TIME_DISK_TIER_POLICY_CONCRETE_SETTINGS_MAP.get(cacheType).get(settings);
             Function<V, CachedQueryResult.PolicyValues> cachedResultParser = Objects.requireNonNull(
@@ -879,6 +1043,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
 
             return new Builder<K, V>().setDiskCacheFactory(diskCacheFactory)
                 .setOnHeapCacheFactory(onHeapCacheFactory)
+                .setOffHeapCacheFactory(offHeapCacheFactory)
                 .setRemovalListener(config.getRemovalListener())
                 .setCacheConfig(config)
                 .setCacheType(cacheType)
@@ -899,7 +1064,20 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                         TOOK_TIME_DISK_TIER_POLICY_CONCRETE_SETTINGS_MAP.get(cacheType)
                     )
                 )
+                .addAdmissionPolicy(
+                    new CostAwarePolicy<>(
+                        COST_AWARE_POLICY_ENABLED_SETTING_MAP.get(cacheType).get(settings),
+                        COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP.get(cacheType).get(settings),
+                        onHeapCacheSize,
+                        cachedResultParser,
+                        config.getWeigher(),
+                        config.getClusterSettings(),
+                        COST_AWARE_POLICY_ENABLED_SETTING_MAP.get(cacheType),
+                        COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP.get(cacheType)
+                    )
+                )
                 .setOnHeapCacheSizeInBytes(onHeapCacheSize)
+                .setOffHeapCacheSizeInBytes(offHeapCacheSize)
                 .setDiskCacheSize(diskCacheSize)
                 .build();
         }
@@ -917,6 +1095,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
      */
     public static class Builder<K, V> {
         private ICache.Factory onHeapCacheFactory;
+        private ICache.Factory offHeapCacheFactory;
         private ICache.Factory diskCacheFactory;
         private RemovalListener<ICacheKey<K>, V> removalListener;
         private CacheConfig<K, V> cacheConfig;
@@ -924,9 +1103,11 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
         private Map<String, ICache.Factory> cacheFactories;
         private final List<Predicate<V>> policies = new ArrayList<>();
         private final List<Predicate<V>> diskPolicies = new ArrayList<>();
+        private final List<BiPredicate<ICacheKey<K>, V>> admissionPolicies = new ArrayList<>();
 
         private int numberOfSegments;
         private long onHeapCacheSizeInBytes;
+        private long offHeapCacheSizeInBytes;
         private long diskCacheSizeInBytes;
 
         /**
@@ -944,6 +1125,16 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             return this;
         }
 
+        /**
+         * Set offHeap cache factory. The off-heap tier is optional and is left out if this isn't set.
+         * @param offHeapCacheFactory Factory for offHeap cache.
+         * @return builder
+         */
+        public Builder<K, V> setOffHeapCacheFactory(ICache.Factory offHeapCacheFactory) {
+            this.offHeapCacheFactory = offHeapCacheFactory;
+            return this;
+        }
+
         /**
          * Set disk cache factory
          * @param diskCacheFactory Factory for disk cache.
@@ -1014,6 +1205,17 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             return this;
         }
 
+        /**
+         * Set a cache policy to be used to limit access to this cache, which decides based on the key as well as the value.
+         * It is only checked for values which aren't in the cache yet, after the policies added with addPolicy.
+         * @param admissionPolicy the policy
+         * @return builder
+         */
+        public Builder<K, V> addAdmissionPolicy(BiPredicate<ICacheKey<K>, V> admissionPolicy) {
+            this.admissionPolicies.add(admissionPolicy);
+            return this;
+        }
+
         /**
          * Sets number of segments for tiered cache
          * @param numberOfSegments number of segments
@@ -1034,6 +1236,16 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             return this;
         }
 
+        /**
+         * Sets offHeap cache size
+         * @param offHeapCacheSizeInBytes size of offHeap cache in bytes
+         * @return builder
+         */
+        public Builder<K, V> setOffHeapCacheSizeInBytes(long offHeapCacheSizeInBytes) {
+            this.offHeapCacheSizeInBytes = offHeapCacheSizeInBytes;
+            return this;
+        }
+
         /**
          * Sets disk cache siz
          * @param diskCacheSizeInBytes size of diskCache in bytes
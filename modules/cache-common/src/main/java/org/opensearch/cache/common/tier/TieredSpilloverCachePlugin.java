@@ -8,6 +8,8 @@
 
 package org.opensearch.cache.common.tier;
 
+import org.opensearch.cache.common.store.OffHeapCache;
+import org.opensearch.cache.common.store.OffHeapCacheSettings;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.settings.Setting;
@@ -19,6 +21,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.COST_AWARE_POLICY_ENABLED_SETTING_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.DISK_CACHE_ENABLED_SETTING_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TOOK_TIME_DISK_TIER_POLICY_CONCRETE_SETTINGS_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TOOK_TIME_POLICY_CONCRETE_SETTINGS_MAP;
@@ -47,7 +51,9 @@ public class TieredSpilloverCachePlugin extends Plugin implements CachePlugin {
     public Map<String, ICache.Factory> getCacheFactoryMap() {
         return Map.of(
             TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME,
-            new TieredSpilloverCache.TieredSpilloverCacheFactory()
+            new TieredSpilloverCache.TieredSpilloverCacheFactory(),
+            OffHeapCache.OffHeapCacheFactory.NAME,
+            new OffHeapCache.OffHeapCacheFactory()
         );
     }
 
@@ -64,6 +70,8 @@ public class TieredSpilloverCachePlugin extends Plugin implements CachePlugin {
             settingList.add(TOOK_TIME_POLICY_CONCRETE_SETTINGS_MAP.get(cacheType));
             settingList.add(TOOK_TIME_DISK_TIER_POLICY_CONCRETE_SETTINGS_MAP.get(cacheType));
             settingList.add(DISK_CACHE_ENABLED_SETTING_MAP.get(cacheType));
+            settingList.add(COST_AWARE_POLICY_ENABLED_SETTING_MAP.get(cacheType));
+            settingList.add(COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP.get(cacheType));
             settingList.add(
                 TieredSpilloverCacheSettings.TIERED_SPILLOVER_SEGMENTS.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
             );
@@ -73,6 +81,17 @@ public class TieredSpilloverCachePlugin extends Plugin implements CachePlugin {
             settingList.add(
                 TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_STORE_SIZE.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
             );
+            settingList.add(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_OFFHEAP_STORE_NAME.getConcreteSettingForNamespace(
+                    cacheType.getSettingPrefix()
+                )
+            );
+            settingList.add(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_OFFHEAP_STORE_SIZE.getConcreteSettingForNamespace(
+                    cacheType.getSettingPrefix()
+                )
+            );
+            settingList.add(OffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES.getConcreteSettingForNamespace(cacheType.getSettingPrefix()));
         }
         return settingList;
     }
@@ -11,6 +11,7 @@ package org.opensearch.cache.common.tier;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -38,6 +39,11 @@ public class TieredSpilloverCacheSettings {
      */
     public static final long MIN_DISK_CACHE_SIZE_IN_BYTES = 10485760L;
 
+    /**
+     * Default off-heap cache size ie 256mb.
+     */
+    public static final ByteSizeValue DEFAULT_OFFHEAP_CACHE_SIZE = new ByteSizeValue(256, ByteSizeUnit.MB);
+
     /**
      * The default took time threshold for a value to enter the heap tier of the cache, and therefore to enter the cache at all.
      */
@@ -48,6 +54,11 @@ public class TieredSpilloverCacheSettings {
      */
     public static final TimeValue DEFAULT_TOOK_TIME_DISK_THRESHOLD = new TimeValue(10, TimeUnit.MILLISECONDS);
 
+    /**
+     * The default took time per kb of the value above which the cost aware policy admits a value seen for the first time.
+     */
+    public static final TimeValue DEFAULT_COST_AWARE_TOOK_TIME_PER_KB_THRESHOLD = new TimeValue(1, TimeUnit.MILLISECONDS);
+
     /**
      * Setting which defines the onHeap cache store to be used in TieredSpilloverCache.
      *
@@ -67,6 +78,18 @@ public class TieredSpilloverCacheSettings {
         (key) -> Setting.simpleString(key, "", NodeScope)
     );
 
+    /**
+     * Setting which defines the off-heap cache store to be used between the onHeap and disk tiers of TieredSpilloverCache.
+     * The off-heap tier is optional and isn't used when this setting is empty.
+     *
+     * Pattern: {cache_type}.tiered_spillover.offheap.store.name
+     * Example: indices.request.cache.tiered_spillover.offheap.store.name
+     */
+    public static final Setting.AffixSetting<String> TIERED_SPILLOVER_OFFHEAP_STORE_NAME = Setting.suffixKeySetting(
+        TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME + ".offheap.store.name",
+        (key) -> Setting.simpleString(key, "", NodeScope)
+    );
+
     /**
      * Setting to disable/enable disk cache dynamically.
      */
@@ -107,6 +130,18 @@ public class TieredSpilloverCacheSettings {
         (key) -> Setting.memorySizeSetting(key, "1%", NodeScope)
     );
 
+    /**
+     * Setting which defines the off-heap cache size to be used within tiered cache, if it has an off-heap tier.
+     * This setting overrides size settings from the off-heap tier implementation.
+     *
+     * Pattern: {cache_type}.tiered_spillover.offheap.store.size
+     * Example: indices.request.cache.tiered_spillover.offheap.store.size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> TIERED_SPILLOVER_OFFHEAP_STORE_SIZE = Setting.suffixKeySetting(
+        TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME + ".offheap.store.size",
+        (key) -> Setting.byteSizeSetting(key, DEFAULT_OFFHEAP_CACHE_SIZE, NodeScope)
+    );
+
     /**
      * Setting which defines the disk cache size to be used within tiered cache.
      * This setting overrides the size setting from the disk tier implementation.
@@ -146,6 +181,30 @@ public class TieredSpilloverCacheSettings {
         )
     );
 
+    /**
+     * Setting to enable the cost aware policy, which admits a value into the cache only if its key was seen before or
+     * if computing it was expensive for its size.
+     */
+    private static final Setting.AffixSetting<Boolean> TIERED_SPILLOVER_COST_AWARE_POLICY_ENABLED = Setting.suffixKeySetting(
+        TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME + ".policies.cost_aware.enabled",
+        (key) -> Setting.boolSetting(key, false, NodeScope, Setting.Property.Dynamic)
+    );
+
+    /**
+     * Setting defining the minimum took time per kb of the value for the cost aware policy to admit a value whose key
+     * wasn't seen before.
+     */
+    private static final Setting.AffixSetting<TimeValue> TIERED_SPILLOVER_COST_AWARE_TOOK_TIME_PER_KB_THRESHOLD = Setting.suffixKeySetting(
+        TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME + ".policies.cost_aware.took_time_per_kb.threshold",
+        (key) -> Setting.timeSetting(
+            key,
+            DEFAULT_COST_AWARE_TOOK_TIME_PER_KB_THRESHOLD,
+            TimeValue.ZERO, // Minimum value for this setting
+            NodeScope,
+            Setting.Property.Dynamic
+        )
+    );
+
     /**
      * Stores took time policy settings for various cache types as these are dynamic so that can be registered and
      * retrieved accordingly.
@@ -164,6 +223,18 @@ public class TieredSpilloverCacheSettings {
      */
     public static final Map<CacheType, Setting<Boolean>> DISK_CACHE_ENABLED_SETTING_MAP;
 
+    /**
+     * Stores cost aware policy enabled settings for various cache types as these are dynamic so that can be registered and
+     * retrieved accordingly.
+     */
+    public static final Map<CacheType, Setting<Boolean>> COST_AWARE_POLICY_ENABLED_SETTING_MAP;
+
+    /**
+     * Stores cost aware policy threshold settings for various cache types as these are dynamic so that can be registered and
+     * retrieved accordingly.
+     */
+    public static final Map<CacheType, Setting<TimeValue>> COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP;
+
     /**
      * Fetches concrete took time policy and disk cache settings.
      */
@@ -171,6 +242,8 @@ public class TieredSpilloverCacheSettings {
         Map<CacheType, Setting<TimeValue>> concreteTookTimePolicySettingMap = new HashMap<>();
         Map<CacheType, Setting<TimeValue>> concreteDiskTookTimePolicySettingMap = new HashMap<>();
         Map<CacheType, Setting<Boolean>> diskCacheSettingMap = new HashMap<>();
+        Map<CacheType, Setting<Boolean>> costAwarePolicyEnabledSettingMap = new HashMap<>();
+        Map<CacheType, Setting<TimeValue>> concreteCostAwarePolicySettingMap = new HashMap<>();
         for (CacheType cacheType : CacheType.values()) {
             concreteTookTimePolicySettingMap.put(
                 cacheType,
@@ -184,10 +257,20 @@ public class TieredSpilloverCacheSettings {
                 cacheType,
                 TIERED_SPILLOVER_DISK_CACHE_SETTING.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
             );
+            costAwarePolicyEnabledSettingMap.put(
+                cacheType,
+                TIERED_SPILLOVER_COST_AWARE_POLICY_ENABLED.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
+            );
+            concreteCostAwarePolicySettingMap.put(
+                cacheType,
+                TIERED_SPILLOVER_COST_AWARE_TOOK_TIME_PER_KB_THRESHOLD.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
+            );
         }
         TOOK_TIME_POLICY_CONCRETE_SETTINGS_MAP = concreteTookTimePolicySettingMap;
         TOOK_TIME_DISK_TIER_POLICY_CONCRETE_SETTINGS_MAP = concreteDiskTookTimePolicySettingMap;
         DISK_CACHE_ENABLED_SETTING_MAP = diskCacheSettingMap;
+        COST_AWARE_POLICY_ENABLED_SETTING_MAP = costAwarePolicyEnabledSettingMap;
+        COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP = concreteCostAwarePolicySettingMap;
     }
 
     /**
@@ -26,12 +26,18 @@ import java.util.function.Consumer;
  * This means for misses and evictions, if we are incrementing for the on-heap tier and the disk tier is present,
  * we have to increment only the leaf nodes corresponding to the on-heap tier itself, and not its ancestors,
  * which correspond to totals including both tiers. If the disk tier is not present, we do increment the ancestor nodes.
+ *
+ * When an off-heap tier sits between the two, the same rule applies to it: only misses of the last tier a request
+ * reaches count towards the total.
  */
 public class TieredSpilloverCacheStatsHolder extends DefaultCacheStatsHolder {
 
     /** Whether the disk cache is currently enabled. */
     private boolean diskCacheEnabled;
 
+    /** Whether the cache has an off-heap tier between the on-heap and disk tiers. */
+    private final boolean offHeapCacheEnabled;
+
     // Common values used for tier dimension
 
     /** The name for the tier dimension. */
@@ -43,7 +49,8 @@ public class TieredSpilloverCacheStatsHolder extends DefaultCacheStatsHolder {
     /** Dimension value for on-disk cache, like EhcacheDiskCache. */
     public static final String TIER_DIMENSION_VALUE_DISK = "disk";
 
-    static final List<String> TIER_VALUES = List.of(TIER_DIMENSION_VALUE_ON_HEAP, TIER_DIMENSION_VALUE_DISK);
+    /** Dimension value for off-heap cache, like OffHeapCache. */
+    public static final String TIER_DIMENSION_VALUE_OFF_HEAP = "off_heap";
 
     /**
      * Constructor for the stats holder.
@@ -51,11 +58,22 @@ public class TieredSpilloverCacheStatsHolder extends DefaultCacheStatsHolder {
      * @param diskCacheEnabled whether the disk tier starts out enabled
      */
     public TieredSpilloverCacheStatsHolder(List<String> originalDimensionNames, boolean diskCacheEnabled) {
+        this(originalDimensionNames, diskCacheEnabled, false);
+    }
+
+    /**
+     * Constructor for the stats holder.
+     * @param originalDimensionNames the original dimension names, not including TIER_DIMENSION_NAME
+     * @param diskCacheEnabled whether the disk tier starts out enabled
+     * @param offHeapCacheEnabled whether the cache has an off-heap tier
+     */
+    public TieredSpilloverCacheStatsHolder(List<String> originalDimensionNames, boolean diskCacheEnabled, boolean offHeapCacheEnabled) {
         super(
             getDimensionNamesWithTier(originalDimensionNames),
             TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME
         );
         this.diskCacheEnabled = diskCacheEnabled;
+        this.offHeapCacheEnabled = offHeapCacheEnabled;
     }
 
     private static List<String> getDimensionNamesWithTier(List<String> dimensionNames) {
@@ -75,8 +93,9 @@ public class TieredSpilloverCacheStatsHolder extends DefaultCacheStatsHolder {
 
     private String validateTierDimensionValue(List<String> dimensionValues) {
         String tierDimensionValue = dimensionValues.get(dimensionValues.size() - 1);
-        assert tierDimensionValue.equals(TIER_DIMENSION_VALUE_ON_HEAP) || tierDimensionValue.equals(TIER_DIMENSION_VALUE_DISK)
-            : "Invalid tier dimension value";
+        assert tierDimensionValue.equals(TIER_DIMENSION_VALUE_ON_HEAP)
+            || tierDimensionValue.equals(TIER_DIMENSION_VALUE_OFF_HEAP)
+            || tierDimensionValue.equals(TIER_DIMENSION_VALUE_DISK) : "Invalid tier dimension value";
         return tierDimensionValue;
     }
 
@@ -91,16 +110,21 @@ public class TieredSpilloverCacheStatsHolder extends DefaultCacheStatsHolder {
     public void incrementMisses(List<String> dimensionValues) {
         final String tierValue = validateTierDimensionValue(dimensionValues);
 
-        // If the disk tier is present, only misses from the disk tier should be included in total values.
+        // Only misses from the last tier should be included in total values.
+        final boolean isLastTier = switch (tierValue) {
+            case TIER_DIMENSION_VALUE_ON_HEAP -> !offHeapCacheEnabled && !diskCacheEnabled;
+            case TIER_DIMENSION_VALUE_OFF_HEAP -> !diskCacheEnabled;
+            default -> true;
+        };
         Consumer<Node> missIncrementer = (node) -> {
-            if (tierValue.equals(TIER_DIMENSION_VALUE_ON_HEAP) && diskCacheEnabled) {
-                // If on-heap tier, increment only the leaf node corresponding to the on heap values; not the total values in its parent
-                // nodes
+            if (!isLastTier) {
+                // If a lower tier is present, increment only the leaf node corresponding to this tier's values; not the total values
+                // in its parent nodes
                 if (node.isAtLowestLevel()) {
                     node.incrementMisses();
                 }
             } else {
-                // If disk tier, or on-heap tier with a disabled disk tier, increment the leaf node and its parents
+                // If disk tier, or a tier above a disabled disk tier, increment the leaf node and its parents
                 node.incrementMisses();
             }
         };
@@ -170,6 +194,22 @@ public class TieredSpilloverCacheStatsHolder extends DefaultCacheStatsHolder {
         this.diskCacheEnabled = diskCacheEnabled;
     }
 
+    /**
+     * Returns the tier dimension values of the tiers that are in use, from the top tier down: on-heap, off-heap if the
+     * cache has an off-heap tier, and disk if the disk tier is enabled.
+     */
+    List<String> getTierValues() {
+        List<String> tierValues = new ArrayList<>(3);
+        tierValues.add(TIER_DIMENSION_VALUE_ON_HEAP);
+        if (offHeapCacheEnabled) {
+            tierValues.add(TIER_DIMENSION_VALUE_OFF_HEAP);
+        }
+        if (diskCacheEnabled) {
+            tierValues.add(TIER_DIMENSION_VALUE_DISK);
+        }
+        return tierValues;
+    }
+
     @Override
     public void removeDimensions(List<String> dimensionValues) {
         assert dimensionValues.size() == dimensionNames.size() - 1
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.policy;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.policy.CachedQueryResult;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.Before;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.COST_AWARE_POLICY_ENABLED_SETTING_MAP;
+
+public class CostAwarePolicyTests extends OpenSearchTestCase {
+    // Took times of the values, in nanoseconds
+    private final Map<String, Long> tookTimeMap = new HashMap<>();
+
+    private ClusterSettings clusterSettings;
+
+    @Before
+    public void setup() {
+        Settings settings = Settings.EMPTY;
+        clusterSettings = new ClusterSettings(settings, new HashSet<>());
+        clusterSettings.registerSetting(COST_AWARE_POLICY_ENABLED_SETTING_MAP.get(CacheType.INDICES_REQUEST_CACHE));
+        clusterSettings.registerSetting(COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP.get(CacheType.INDICES_REQUEST_CACHE));
+    }
+
+    private CostAwarePolicy<String, String> getCostAwarePolicy(boolean enabled, TimeValue threshold) {
+        return new CostAwarePolicy<>(
+            enabled,
+            threshold,
+            0,
+            value -> new CachedQueryResult.PolicyValues(tookTimeMap.get(value)),
+            (key, value) -> value.length(),
+            clusterSettings,
+            COST_AWARE_POLICY_ENABLED_SETTING_MAP.get(CacheType.INDICES_REQUEST_CACHE),
+            COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP.get(CacheType.INDICES_REQUEST_CACHE)
+        );
+    }
+
+    public void testCheapValueIsAdmittedOnceItsKeyIsSeenAgain() {
+        CostAwarePolicy<String, String> policy = getCostAwarePolicy(true, TimeValue.timeValueMillis(10));
+        ICacheKey<String> key = getICacheKey("key");
+        // 5ms for a kb is below the threshold
+        String value = getValue(1024, TimeValue.timeValueMillis(5));
+        assertFalse(policy.test(key, value));
+        assertEquals(1, policy.frequency(key));
+        assertTrue(policy.test(key, value));
+        assertEquals(2, policy.frequency(key));
+    }
+
+    public void testExpensiveValueIsAdmittedTheFirstTime() {
+        CostAwarePolicy<String, String> policy = getCostAwarePolicy(true, TimeValue.timeValueMillis(10));
+        // 5ms for 100 bytes is above the threshold of 10ms per kb
+        assertTrue(policy.test(getICacheKey("small"), getValue(100, TimeValue.timeValueMillis(5))));
+        // 50ms for 10kb is below it
+        assertFalse(policy.test(getICacheKey("large"), getValue(10 * 1024, TimeValue.timeValueMillis(50))));
+        assertTrue(policy.test(getICacheKey("slow"), getValue(10 * 1024, TimeValue.timeValueMillis(100))));
+    }
+
+    public void testValueWithoutTookTimeIsAdmittedOnceItsKeyIsSeenAgain() {
+        CostAwarePolicy<String, String> policy = getCostAwarePolicy(true, TimeValue.ZERO);
+        ICacheKey<String> key = getICacheKey("key");
+        // The took time map has no entry for this value, so parsing it fails
+        String value = randomAlphaOfLength(10);
+        assertFalse(policy.test(key, value));
+        assertTrue(policy.test(key, value));
+    }
+
+    public void testDisabledPolicyAdmitsEverything() {
+        CostAwarePolicy<String, String> policy = getCostAwarePolicy(false, TimeValue.timeValueMillis(10));
+        ICacheKey<String> key = getICacheKey("key");
+        String value = getValue(1024, TimeValue.timeValueMillis(5));
+        assertTrue(policy.test(key, value));
+        // A disabled policy doesn't record keys
+        assertEquals(0, policy.frequency(key));
+
+        clusterSettings.applySettings(
+            Settings.builder().put(COST_AWARE_POLICY_ENABLED_SETTING_MAP.get(CacheType.INDICES_REQUEST_CACHE).getKey(), true).build()
+        );
+        assertFalse(policy.test(key, value));
+    }
+
+    public void testThresholdUpdate() {
+        CostAwarePolicy<String, String> policy = getCostAwarePolicy(true, TimeValue.timeValueMillis(10));
+        String value = getValue(1024, TimeValue.timeValueMillis(5));
+        assertFalse(policy.test(getICacheKey("key1"), value));
+
+        clusterSettings.applySettings(
+            Settings.builder()
+                .put(COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP.get(CacheType.INDICES_REQUEST_CACHE).getKey(), TimeValue.timeValueMillis(1))
+                .build()
+        );
+        assertTrue(policy.test(getICacheKey("key2"), value));
+    }
+
+    public void testNegativeThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> getCostAwarePolicy(true, TimeValue.MINUS_ONE));
+    }
+
+    private String getValue(int sizeInBytes, TimeValue tookTime) {
+        String value = randomAlphaOfLength(sizeInBytes);
+        tookTimeMap.put(value, tookTime.nanos());
+        return value;
+    }
+
+    private ICacheKey<String> getICacheKey(String key) {
+        return new ICacheKey<>(key, List.of("0"));
+    }
+}
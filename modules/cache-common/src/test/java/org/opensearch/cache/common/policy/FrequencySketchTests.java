@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.policy;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class FrequencySketchTests extends OpenSearchTestCase {
+
+    public void testIncrement() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+        int hash = randomInt();
+        assertEquals(0, sketch.frequency(hash));
+        assertEquals(1, sketch.increment(hash));
+        assertEquals(2, sketch.increment(hash));
+        assertEquals(2, sketch.frequency(hash));
+    }
+
+    public void testEstimatesNeverUnderestimate() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+        int[] hashes = new int[100];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = randomInt();
+            int occurrences = randomIntBetween(1, 10);
+            for (int j = 0; j < occurrences; j++) {
+                sketch.increment(hashes[i]);
+            }
+        }
+        for (int hash : hashes) {
+            assertThat(sketch.frequency(hash), greaterThanOrEqualTo(1));
+        }
+    }
+
+    public void testFrequencyIsCapped() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+        int hash = randomInt();
+        for (int i = 0; i < 20; i++) {
+            sketch.increment(hash);
+        }
+        assertEquals(FrequencySketch.MAX_FREQUENCY, sketch.frequency(hash));
+        assertEquals(FrequencySketch.MAX_FREQUENCY, sketch.increment(hash));
+    }
+
+    public void testCountersAreHalvedAfterSampleSize() {
+        // The counters are halved after 10 * 64 = 640 increments
+        FrequencySketch sketch = new FrequencySketch(64);
+        int hash = 42;
+        for (int i = 0; i < FrequencySketch.MAX_FREQUENCY; i++) {
+            sketch.increment(hash);
+        }
+        for (int i = 0; i < 624; i++) {
+            sketch.increment(hash + 1 + i);
+        }
+        assertEquals(FrequencySketch.MAX_FREQUENCY, sketch.frequency(hash));
+        sketch.increment(hash + 1000);
+        assertEquals(FrequencySketch.MAX_FREQUENCY / 2, sketch.frequency(hash));
+    }
+
+    public void testInvalidExpectedEntries() {
+        expectThrows(IllegalArgumentException.class, () -> new FrequencySketch(0));
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.stats.ImmutableCacheStats;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OffHeapCacheTests extends OpenSearchTestCase {
+    private static final List<String> dimensionNames = List.of("dim1");
+
+    private final List<RemovalNotification<ICacheKey<String>, String>> removals = new ArrayList<>();
+
+    public void testPutAndGet() throws Exception {
+        OffHeapCache<String, String> cache = getOffHeapCache(4096, 1024);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String value = randomAlphaOfLengthBetween(0, 100);
+            values.add(value);
+            cache.put(getICacheKey("key" + i), value);
+        }
+        assertEquals(10, cache.count());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(values.get(i), cache.get(getICacheKey("key" + i)));
+        }
+        assertNull(cache.get(getICacheKey("absent")));
+
+        ImmutableCacheStats stats = cache.stats().getTotalStats();
+        assertEquals(10, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(10, stats.getItems());
+        assertEquals(values.stream().mapToInt(String::length).sum(), stats.getSizeInBytes());
+        assertTrue(removals.isEmpty());
+    }
+
+    public void testPutReplacesValue() {
+        OffHeapCache<String, String> cache = getOffHeapCache(4096, 1024);
+        ICacheKey<String> key = getICacheKey("key");
+        cache.put(key, "small");
+        cache.put(key, randomAlphaOfLength(500));
+        cache.put(key, "value");
+        assertEquals("value", cache.get(key));
+        assertEquals(1, cache.count());
+        assertEquals(2, removals.size());
+        assertEquals(RemovalReason.REPLACED, removals.get(0).getRemovalReason());
+        assertEquals("small", removals.get(0).getValue());
+        assertEquals(5, cache.stats().getTotalStats().getSizeInBytes());
+    }
+
+    public void testSizeClasses() {
+        OffHeapCache<String, String> cache = getOffHeapCache(4096, 1024);
+        assertEquals(0, cache.sizeClassFor(0));
+        assertEquals(0, cache.sizeClassFor(64));
+        assertEquals(1, cache.sizeClassFor(65));
+        assertEquals(1, cache.sizeClassFor(128));
+        assertEquals(4, cache.sizeClassFor(1024));
+        assertEquals(-1, cache.sizeClassFor(1025));
+    }
+
+    public void testEvictsLeastRecentlyUsedValueOfTheSameSizeClass() {
+        // A single slab of 16 chunks of 64 bytes
+        OffHeapCache<String, String> cache = getOffHeapCache(1024, 1024);
+        for (int i = 0; i < 16; i++) {
+            cache.put(getICacheKey("key" + i), "value" + i);
+        }
+        assertNotNull(cache.get(getICacheKey("key0")));
+        cache.put(getICacheKey("key16"), "value16");
+
+        assertEquals(16, cache.count());
+        assertEquals(1, cache.getAllocatedSlabs());
+        assertNotNull(cache.get(getICacheKey("key0")));
+        assertNull(cache.get(getICacheKey("key1")));
+        assertEquals(1, removals.size());
+        assertEquals(RemovalReason.EVICTED, removals.get(0).getRemovalReason());
+        assertEquals("key1", removals.get(0).getKey().key);
+        assertEquals("value1", removals.get(0).getValue());
+        assertEquals(1, cache.stats().getTotalStats().getEvictions());
+    }
+
+    public void testValueLargerThanSlabIsRejected() {
+        OffHeapCache<String, String> cache = getOffHeapCache(4096, 1024);
+        ICacheKey<String> key = getICacheKey("key");
+        String value = randomAlphaOfLength(1025);
+        cache.put(key, value);
+
+        assertNull(cache.get(key));
+        assertEquals(0, cache.count());
+        assertEquals(1, removals.size());
+        assertEquals(RemovalReason.CAPACITY, removals.get(0).getRemovalReason());
+        assertEquals(value, removals.get(0).getValue());
+        assertEquals(0, cache.stats().getTotalStats().getItems());
+        assertEquals(1, cache.stats().getTotalStats().getEvictions());
+    }
+
+    public void testSlabIsReassignedToAnotherSizeClass() {
+        // Two slabs, both taken by the 64 byte size class
+        OffHeapCache<String, String> cache = getOffHeapCache(2048, 1024);
+        for (int i = 0; i < 32; i++) {
+            cache.put(getICacheKey("small" + i), "value" + i);
+        }
+        assertEquals(2, cache.getAllocatedSlabs());
+        assertEquals(32, cache.count());
+
+        // The 512 byte size class has no slab and nothing to evict, so it takes the slab of the least recently used small value
+        String largeValue = randomAlphaOfLength(500);
+        cache.put(getICacheKey("large"), largeValue);
+
+        assertEquals(largeValue, cache.get(getICacheKey("large")));
+        assertEquals(2, cache.getAllocatedSlabs());
+        assertEquals(17, cache.count());
+        assertEquals(16, removals.size());
+        assertNull(cache.get(getICacheKey("small0")));
+        assertNotNull(cache.get(getICacheKey("small31")));
+    }
+
+    public void testInvalidate() {
+        OffHeapCache<String, String> cache = getOffHeapCache(4096, 1024);
+        for (int i = 0; i < 5; i++) {
+            cache.put(getICacheKey("key" + i), "value" + i);
+        }
+        cache.invalidate(getICacheKey("key0"));
+        assertNull(cache.get(getICacheKey("key0")));
+        assertEquals(4, cache.count());
+        assertEquals(RemovalReason.INVALIDATED, removals.get(0).getRemovalReason());
+        assertEquals("value0", removals.get(0).getValue());
+
+        // Removing through the keys iterator invalidates the key
+        Iterator<ICacheKey<String>> iterator = cache.keys().iterator();
+        ICacheKey<String> removedKey = iterator.next();
+        iterator.remove();
+        assertNull(cache.get(removedKey));
+        assertEquals(3, cache.count());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+        assertEquals(5, removals.size());
+        assertEquals(0, cache.stats().getTotalStats().getItems());
+    }
+
+    public void testComputeIfAbsent() throws Exception {
+        OffHeapCache<String, String> cache = getOffHeapCache(4096, 1024);
+        ICacheKey<String> key = getICacheKey("key");
+        LoadAwareCacheLoader<ICacheKey<String>, String> loader = getLoadAwareCacheLoader("value");
+        assertEquals("value", cache.computeIfAbsent(key, loader));
+        assertTrue(loader.isLoaded());
+
+        loader = getLoadAwareCacheLoader("other");
+        assertEquals("value", cache.computeIfAbsent(key, loader));
+        assertFalse(loader.isLoaded());
+    }
+
+    public void testComputeIfAbsentConcurrentlyLoadsOnce() throws Exception {
+        OffHeapCache<String, String> cache = getOffHeapCache(4096, 1024);
+        ICacheKey<String> key = getICacheKey("key");
+        int numberOfThreads = randomIntBetween(2, 10);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        LoadAwareCacheLoader<ICacheKey<String>, String> loader = new LoadAwareCacheLoader<>() {
+            @Override
+            public String load(ICacheKey<String> key) throws Exception {
+                loads.incrementAndGet();
+                loading.await(); // keeps the load in flight until every caller has started
+                return "value";
+            }
+
+            @Override
+            public boolean isLoaded() {
+                return loads.get() > 0;
+            }
+        };
+        Phaser phaser = new Phaser(numberOfThreads + 1);
+        List<Thread> threads = new ArrayList<>();
+        List<String> values = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                phaser.arriveAndAwaitAdvance();
+                try {
+                    values.add(cache.computeIfAbsent(key, loader));
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        phaser.arriveAndAwaitAdvance();
+        assertBusy(() -> assertEquals(1, loads.get()));
+        loading.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(numberOfThreads, values.size());
+        for (String value : values) {
+            assertEquals("value", value);
+        }
+        assertEquals(1, cache.count());
+    }
+
+    public void testFactory() {
+        ICache.Factory factory = new OffHeapCache.OffHeapCacheFactory();
+        ICache<String, String> cache = factory.create(
+            new CacheConfig.Builder<String, String>().setKeyType(String.class)
+                .setValueType(String.class)
+                .setValueSerializer(new StringSerializer())
+                .setRemovalListener(removals::add)
+                .setDimensionNames(dimensionNames)
+                .setSettings(Settings.EMPTY)
+                .build(),
+            CacheType.INDICES_REQUEST_CACHE,
+            Map.of()
+        );
+        assertEquals(OffHeapCache.DEFAULT_SLAB_SIZE_IN_BYTES, ((OffHeapCache<String, String>) cache).getSlabSizeInBytes());
+        cache.put(getICacheKey("key"), "value");
+        assertEquals("value", cache.get(getICacheKey("key")));
+        assertEquals(OffHeapCache.OffHeapCacheFactory.NAME, factory.getCacheName());
+    }
+
+    public void testSlabSizeIsBoundedByTheCacheSize() {
+        assertEquals(512, getOffHeapCache(1000, 1024).getSlabSizeInBytes());
+        expectThrows(IllegalArgumentException.class, () -> getOffHeapCache(32, 1024));
+        expectThrows(IllegalArgumentException.class, () -> getOffHeapCache(4096, 1000));
+    }
+
+    private OffHeapCache<String, String> getOffHeapCache(long maxSizeInBytes, int slabSizeInBytes) {
+        OffHeapCache.Builder<String, String> builder = new OffHeapCache.Builder<String, String>().setValueSerializer(
+            new StringSerializer()
+        ).setDimensionNames(dimensionNames).setSlabSizeInBytes(slabSizeInBytes);
+        builder.setMaximumWeightInBytes(maxSizeInBytes).setRemovalListener(removals::add);
+        return builder.build();
+    }
+
+    private ICacheKey<String> getICacheKey(String key) {
+        return new ICacheKey<>(key, List.of("0"));
+    }
+
+    private LoadAwareCacheLoader<ICacheKey<String>, String> getLoadAwareCacheLoader(String value) {
+        return new LoadAwareCacheLoader<>() {
+            boolean isLoaded = false;
+
+            @Override
+            public String load(ICacheKey<String> key) {
+                isLoaded = true;
+                return value;
+            }
+
+            @Override
+            public boolean isLoaded() {
+                return isLoaded;
+            }
+        };
+    }
+
+    static class StringSerializer implements Serializer<String, byte[]> {
+        @Override
+        public byte[] serialize(String object) {
+            return object.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String deserialize(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean equals(String object, byte[] bytes) {
+            return object.equals(deserialize(bytes));
+        }
+    }
+}
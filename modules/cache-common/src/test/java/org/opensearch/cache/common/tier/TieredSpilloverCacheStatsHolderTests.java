@@ -24,8 +24,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheStatsHolder.TIER_DIMENSION_VALUE_DISK;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheStatsHolder.TIER_DIMENSION_VALUE_OFF_HEAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheStatsHolder.TIER_DIMENSION_VALUE_ON_HEAP;
-import static org.opensearch.cache.common.tier.TieredSpilloverCacheStatsHolder.TIER_VALUES;
 
 public class TieredSpilloverCacheStatsHolderTests extends OpenSearchTestCase {
     // These are modified from DefaultCacheStatsHolderTests.java to account for the tiers. Because we can't add a dependency on server.test,
@@ -35,7 +35,7 @@ public class TieredSpilloverCacheStatsHolderTests extends OpenSearchTestCase {
         for (boolean diskTierEnabled : List.of(true, false)) {
             List<String> dimensionNames = List.of("dim1", "dim2", "dim3", "dim4");
             TieredSpilloverCacheStatsHolder cacheStatsHolder = new TieredSpilloverCacheStatsHolder(dimensionNames, diskTierEnabled);
-            Map<String, List<String>> usedDimensionValues = getUsedDimensionValues(cacheStatsHolder, 10, diskTierEnabled);
+            Map<String, List<String>> usedDimensionValues = getUsedDimensionValues(cacheStatsHolder, 10);
             Map<List<String>, CacheStats> expected = populateStats(cacheStatsHolder, usedDimensionValues, 1000, 10, diskTierEnabled);
 
             // test the value in the map is as expected for each distinct combination of values (all leaf nodes)
@@ -74,7 +74,7 @@ public class TieredSpilloverCacheStatsHolderTests extends OpenSearchTestCase {
     public void testReset() throws Exception {
         List<String> dimensionNames = List.of("dim1", "dim2");
         TieredSpilloverCacheStatsHolder cacheStatsHolder = new TieredSpilloverCacheStatsHolder(dimensionNames, true);
-        Map<String, List<String>> usedDimensionValues = getUsedDimensionValues(cacheStatsHolder, 10, true);
+        Map<String, List<String>> usedDimensionValues = getUsedDimensionValues(cacheStatsHolder, 10);
         Map<List<String>, CacheStats> expected = populateStats(cacheStatsHolder, usedDimensionValues, 100, 10, true);
 
         cacheStatsHolder.reset();
@@ -141,10 +141,35 @@ public class TieredSpilloverCacheStatsHolderTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMissesWithOffHeapTier() throws Exception {
+        List<String> dimensionNames = List.of("dim1");
+        TieredSpilloverCacheStatsHolder cacheStatsHolder = new TieredSpilloverCacheStatsHolder(dimensionNames, true, true);
+        assertEquals(
+            List.of(TIER_DIMENSION_VALUE_ON_HEAP, TIER_DIMENSION_VALUE_OFF_HEAP, TIER_DIMENSION_VALUE_DISK),
+            cacheStatsHolder.getTierValues()
+        );
+        // A request missing every tier counts as a single miss for the cache as a whole
+        for (String tier : cacheStatsHolder.getTierValues()) {
+            cacheStatsHolder.incrementMisses(List.of("A1", tier));
+        }
+        assertEquals(1, cacheStatsHolder.getStatsRoot().getImmutableStats().getMisses());
+        DefaultCacheStatsHolder.Node offHeapNode = getNode(List.of("A1", TIER_DIMENSION_VALUE_OFF_HEAP), cacheStatsHolder.getStatsRoot());
+        assertEquals(1, offHeapNode.getImmutableStats().getMisses());
+
+        // With the disk tier disabled, the off-heap tier is the last one
+        cacheStatsHolder.setDiskCacheEnabled(false);
+        assertEquals(List.of(TIER_DIMENSION_VALUE_ON_HEAP, TIER_DIMENSION_VALUE_OFF_HEAP), cacheStatsHolder.getTierValues());
+        cacheStatsHolder.incrementMisses(List.of("A1", TIER_DIMENSION_VALUE_ON_HEAP));
+        cacheStatsHolder.incrementMisses(List.of("A1", TIER_DIMENSION_VALUE_OFF_HEAP));
+        assertEquals(2, cacheStatsHolder.getStatsRoot().getImmutableStats().getMisses());
+        DefaultCacheStatsHolder.Node onHeapNode = getNode(List.of("A1", TIER_DIMENSION_VALUE_ON_HEAP), cacheStatsHolder.getStatsRoot());
+        assertEquals(2, onHeapNode.getImmutableStats().getMisses());
+    }
+
     public void testCount() throws Exception {
         List<String> dimensionNames = List.of("dim1", "dim2");
         TieredSpilloverCacheStatsHolder cacheStatsHolder = new TieredSpilloverCacheStatsHolder(dimensionNames, true);
-        Map<String, List<String>> usedDimensionValues = getUsedDimensionValues(cacheStatsHolder, 10, true);
+        Map<String, List<String>> usedDimensionValues = getUsedDimensionValues(cacheStatsHolder, 10);
         Map<List<String>, CacheStats> expected = populateStats(cacheStatsHolder, usedDimensionValues, 100, 10, true);
 
         long expectedCount = 0L;
@@ -212,7 +237,7 @@ public class TieredSpilloverCacheStatsHolderTests extends OpenSearchTestCase {
         List<List<String>> statsToPopulate,
         boolean diskTierEnabled
     ) {
-        List<String> tiers = diskTierEnabled ? TIER_VALUES : List.of(TIER_DIMENSION_VALUE_ON_HEAP);
+        List<String> tiers = cacheStatsHolder.getTierValues();
         for (List<String> dims : statsToPopulate) {
             // Increment hits, misses, and evictions for set of dimensions, for both heap and disk
             for (String tier : tiers) {
@@ -330,11 +355,7 @@ public class TieredSpilloverCacheStatsHolderTests extends OpenSearchTestCase {
         return result;
     }
 
-    static Map<String, List<String>> getUsedDimensionValues(
-        TieredSpilloverCacheStatsHolder cacheStatsHolder,
-        int numValuesPerDim,
-        boolean diskTierEnabled
-    ) {
+    static Map<String, List<String>> getUsedDimensionValues(TieredSpilloverCacheStatsHolder cacheStatsHolder, int numValuesPerDim) {
         Map<String, List<String>> usedDimensionValues = new HashMap<>();
         for (int i = 0; i < cacheStatsHolder.getDimensionNames().size() - 1; i++) { // Have to handle final tier dimension separately
             List<String> values = new ArrayList<>();
@@ -343,11 +364,7 @@ public class TieredSpilloverCacheStatsHolderTests extends OpenSearchTestCase {
             }
             usedDimensionValues.put(cacheStatsHolder.getDimensionNames().get(i), values);
         }
-        if (diskTierEnabled) {
-            usedDimensionValues.put(TieredSpilloverCacheStatsHolder.TIER_DIMENSION_NAME, TIER_VALUES);
-        } else {
-            usedDimensionValues.put(TieredSpilloverCacheStatsHolder.TIER_DIMENSION_NAME, List.of(TIER_DIMENSION_VALUE_ON_HEAP));
-        }
+        usedDimensionValues.put(TieredSpilloverCacheStatsHolder.TIER_DIMENSION_NAME, cacheStatsHolder.getTierValues());
         return usedDimensionValues;
     }
 
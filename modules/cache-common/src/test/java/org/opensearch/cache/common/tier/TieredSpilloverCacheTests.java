@@ -9,6 +9,7 @@
 package org.opensearch.cache.common.tier;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.cache.common.store.OffHeapCache;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.cache.ICache;
@@ -58,6 +59,8 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static org.opensearch.cache.common.tier.TieredSpilloverCache.ZERO_SEGMENT_COUNT_EXCEPTION_MESSAGE;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.COST_AWARE_POLICY_ENABLED_SETTING_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.DEFAULT_TOOK_TIME_DISK_THRESHOLD;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.DISK_CACHE_ENABLED_SETTING_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.MIN_DISK_CACHE_SIZE_IN_BYTES;
@@ -67,6 +70,7 @@ import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TOOK
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TOOK_TIME_POLICY_CONCRETE_SETTINGS_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheStatsHolder.TIER_DIMENSION_NAME;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheStatsHolder.TIER_DIMENSION_VALUE_DISK;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheStatsHolder.TIER_DIMENSION_VALUE_OFF_HEAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheStatsHolder.TIER_DIMENSION_VALUE_ON_HEAP;
 import static org.opensearch.common.cache.settings.CacheSettings.INVALID_SEGMENT_COUNT_EXCEPTION_MESSAGE;
 import static org.opensearch.common.cache.settings.CacheSettings.VALID_SEGMENT_COUNT_VALUES;
@@ -88,6 +92,8 @@ public class TieredSpilloverCacheTests extends OpenSearchTestCase {
         clusterSettings.registerSetting(TOOK_TIME_POLICY_CONCRETE_SETTINGS_MAP.get(CacheType.INDICES_REQUEST_CACHE));
         clusterSettings.registerSetting(TOOK_TIME_DISK_TIER_POLICY_CONCRETE_SETTINGS_MAP.get(CacheType.INDICES_REQUEST_CACHE));
         clusterSettings.registerSetting(DISK_CACHE_ENABLED_SETTING_MAP.get(CacheType.INDICES_REQUEST_CACHE));
+        clusterSettings.registerSetting(COST_AWARE_POLICY_ENABLED_SETTING_MAP.get(CacheType.INDICES_REQUEST_CACHE));
+        clusterSettings.registerSetting(COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP.get(CacheType.INDICES_REQUEST_CACHE));
     }
 
     public void testComputeIfAbsentWhenTheQueryThrowsAnException() throws Exception {
@@ -2554,6 +2560,186 @@ public class TieredSpilloverCacheTests extends OpenSearchTestCase {
         assertEquals(expectedDiskSize / cache.getNumberOfSegments(), segment.getDiskCacheMaxWeight());
     }
 
+    public void testComputeIfAbsentWithOffHeapTier() throws Exception {
+        int onHeapCacheSize = randomIntBetween(10, 30);
+        int offHeapCacheSize = 16; // A single slab of 64 byte chunks, each holding one random UUID value
+        int diskCacheSize = randomIntBetween(60, 100);
+        int keyValueSize = 50;
+        MockCacheRemovalListener<String, String> removalListener = new MockCacheRemovalListener<>();
+        TieredSpilloverCache<String, String> tieredSpilloverCache = getTieredSpilloverCacheWithOffHeapTier(
+            onHeapCacheSize * keyValueSize,
+            offHeapCacheSize * 64,
+            diskCacheSize,
+            keyValueSize,
+            removalListener
+        );
+
+        int numOfItems = onHeapCacheSize + offHeapCacheSize + randomIntBetween(1, diskCacheSize);
+        int numOfDiskItems = numOfItems - onHeapCacheSize - offHeapCacheSize;
+        for (int iter = 0; iter < numOfItems; iter++) {
+            tieredSpilloverCache.computeIfAbsent(getICacheKey(UUID.randomUUID().toString()), getLoadAwareCacheLoader());
+        }
+
+        // Values evicted from heap are moved off heap, and values evicted from the off-heap tier are moved to disk
+        assertEquals(onHeapCacheSize, tieredSpilloverCache.onHeapCacheCount());
+        assertEquals(offHeapCacheSize, tieredSpilloverCache.offHeapCacheCount());
+        assertEquals(numOfDiskItems, tieredSpilloverCache.diskCacheCount());
+        assertEquals(numOfItems, tieredSpilloverCache.count());
+        assertEquals(0, removalListener.evictionsMetric.count());
+
+        assertEquals(offHeapCacheSize, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_OFF_HEAP));
+        assertEquals(offHeapCacheSize * keyValueSize, getSizeInBytesForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_OFF_HEAP));
+        assertEquals(numOfItems - onHeapCacheSize, getEvictionsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP));
+        assertEquals(numOfDiskItems, getEvictionsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_OFF_HEAP));
+        assertEquals(0, getTotalStatsSnapshot(tieredSpilloverCache).getEvictions());
+
+        // Only the misses of the disk tier count towards the total
+        assertEquals(numOfItems, getMissesForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP));
+        assertEquals(numOfItems, getMissesForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_OFF_HEAP));
+        assertEquals(numOfItems, getMissesForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK));
+        assertEquals(numOfItems, getTotalStatsSnapshot(tieredSpilloverCache).getMisses());
+
+        List<ICacheKey<String>> offHeapKeys = new ArrayList<>();
+        tieredSpilloverCache.tieredSpilloverCacheSegments[0].getOffHeapCache().keys().forEach(offHeapKeys::add);
+        for (ICacheKey<String> key : offHeapKeys) {
+            LoadAwareCacheLoader<ICacheKey<String>, String> loadAwareCacheLoader = getLoadAwareCacheLoader();
+            assertNotNull(tieredSpilloverCache.computeIfAbsent(key, loadAwareCacheLoader));
+            assertFalse(loadAwareCacheLoader.isLoaded());
+        }
+        assertEquals(offHeapCacheSize, getHitsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_OFF_HEAP));
+        assertEquals(numOfItems + offHeapCacheSize, getMissesForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP));
+        assertEquals(numOfItems, getMissesForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_OFF_HEAP));
+        assertEquals(offHeapCacheSize, getTotalStatsSnapshot(tieredSpilloverCache).getHits());
+        assertEquals(numOfItems, getTotalStatsSnapshot(tieredSpilloverCache).getMisses());
+    }
+
+    public void testValuesTooLargeForOffHeapTierSpillToDisk() throws Exception {
+        int keyValueSize = 50;
+        MockCacheRemovalListener<String, String> removalListener = new MockCacheRemovalListener<>();
+        TieredSpilloverCache<String, String> tieredSpilloverCache = getTieredSpilloverCacheWithOffHeapTier(
+            keyValueSize,
+            1024,
+            100,
+            keyValueSize,
+            removalListener
+        );
+
+        // Values larger than a slab of the off-heap tier go straight to disk
+        String largeValue = randomAlphaOfLength(2048);
+        ICacheKey<String> firstKey = getICacheKey("first");
+        tieredSpilloverCache.put(firstKey, largeValue);
+        tieredSpilloverCache.put(getICacheKey("second"), randomAlphaOfLength(2048));
+
+        assertEquals(1, tieredSpilloverCache.onHeapCacheCount());
+        assertEquals(0, tieredSpilloverCache.offHeapCacheCount());
+        assertEquals(1, tieredSpilloverCache.diskCacheCount());
+        assertEquals(largeValue, tieredSpilloverCache.get(firstKey));
+        assertEquals(0, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_OFF_HEAP));
+        assertEquals(1, getEvictionsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_OFF_HEAP));
+        assertEquals(1, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK));
+        assertEquals(0, getTotalStatsSnapshot(tieredSpilloverCache).getEvictions());
+        assertEquals(0, removalListener.evictionsMetric.count());
+    }
+
+    public void testCostAwarePolicyAdmitsCheapValuesOnceTheirKeyIsSeenAgain() throws Exception {
+        int keyValueSize = 50;
+        MockCacheRemovalListener<String, String> removalListener = new MockCacheRemovalListener<>();
+        Settings settings = Settings.builder()
+            .put(
+                CacheSettings.getConcreteStoreNameSettingForCacheType(CacheType.INDICES_REQUEST_CACHE).getKey(),
+                TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME
+            )
+            .put(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_ONHEAP_STORE_NAME.getConcreteSettingForNamespace(
+                    CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
+                ).getKey(),
+                OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME
+            )
+            .put(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_STORE_NAME.getConcreteSettingForNamespace(
+                    CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
+                ).getKey(),
+                MockDiskCache.MockDiskCacheFactory.NAME
+            )
+            .put(COST_AWARE_POLICY_ENABLED_SETTING_MAP.get(CacheType.INDICES_REQUEST_CACHE).getKey(), true)
+            .put(COST_AWARE_POLICY_CONCRETE_SETTINGS_MAP.get(CacheType.INDICES_REQUEST_CACHE).getKey(), TimeValue.timeValueMillis(10))
+            .put(TIERED_SPILLOVER_SEGMENTS.getConcreteSettingForNamespace(CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()).getKey(), 1)
+            .build();
+
+        // Every value took 1ms to compute, which is cheap for its size
+        ICache<String, String> tieredSpilloverICache = new TieredSpilloverCache.TieredSpilloverCacheFactory().create(
+            new CacheConfig.Builder<String, String>().setKeyType(String.class)
+                .setValueType(String.class)
+                .setWeigher((k, v) -> keyValueSize)
+                .setRemovalListener(removalListener)
+                .setKeySerializer(new StringSerializer())
+                .setValueSerializer(new StringSerializer())
+                .setSettings(settings)
+                .setDimensionNames(dimensionNames)
+                .setCachedResultParser(s -> new CachedQueryResult.PolicyValues(1_000_000))
+                .setClusterSettings(clusterSettings)
+                .setStoragePath(getStoragePath(settings))
+                .build(),
+            CacheType.INDICES_REQUEST_CACHE,
+            Map.of(
+                OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME,
+                new OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory(),
+                MockDiskCache.MockDiskCacheFactory.NAME,
+                new MockDiskCache.MockDiskCacheFactory(0, 100, false, keyValueSize)
+            )
+        );
+        TieredSpilloverCache<String, String> tieredSpilloverCache = (TieredSpilloverCache<String, String>) tieredSpilloverICache;
+
+        // The first time a key is seen its value is computed but not cached, and this counts as neither a hit nor a miss
+        ICacheKey<String> key = getICacheKey("key");
+        LoadAwareCacheLoader<ICacheKey<String>, String> loader = getLoadAwareCacheLoader();
+        assertNotNull(tieredSpilloverCache.computeIfAbsent(key, loader));
+        assertTrue(loader.isLoaded());
+        assertEquals(0, tieredSpilloverCache.count());
+        assertEquals(0, getTotalStatsSnapshot(tieredSpilloverCache).getMisses());
+
+        // The second time it is cached
+        loader = getLoadAwareCacheLoader();
+        String value = tieredSpilloverCache.computeIfAbsent(key, loader);
+        assertTrue(loader.isLoaded());
+        assertEquals(1, tieredSpilloverCache.count());
+        assertEquals(1, getTotalStatsSnapshot(tieredSpilloverCache).getMisses());
+
+        loader = getLoadAwareCacheLoader();
+        assertEquals(value, tieredSpilloverCache.computeIfAbsent(key, loader));
+        assertFalse(loader.isLoaded());
+        assertEquals(1, getHitsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP));
+
+        // Disabling the policy admits keys seen for the first time
+        clusterSettings.applySettings(
+            Settings.builder().put(COST_AWARE_POLICY_ENABLED_SETTING_MAP.get(CacheType.INDICES_REQUEST_CACHE).getKey(), false).build()
+        );
+        tieredSpilloverCache.computeIfAbsent(getICacheKey("other"), getLoadAwareCacheLoader());
+        assertEquals(2, tieredSpilloverCache.count());
+    }
+
+    private TieredSpilloverCache<String, String> getTieredSpilloverCacheWithOffHeapTier(
+        long onHeapCacheSizeInBytes,
+        long offHeapCacheSizeInBytes,
+        int diskCacheSize,
+        int keyValueSize,
+        RemovalListener<ICacheKey<String>, String> removalListener
+    ) {
+        return new TieredSpilloverCache.Builder<String, String>().setOnHeapCacheFactory(
+            new OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory()
+        )
+            .setOffHeapCacheFactory(new OffHeapCache.OffHeapCacheFactory())
+            .setDiskCacheFactory(new MockDiskCache.MockDiskCacheFactory(0, diskCacheSize, false, keyValueSize))
+            .setCacheConfig(getCacheConfig(keyValueSize, Settings.EMPTY, removalListener, 1))
+            .setRemovalListener(removalListener)
+            .setCacheType(CacheType.INDICES_REQUEST_CACHE)
+            .setNumberOfSegments(1)
+            .setOnHeapCacheSizeInBytes(onHeapCacheSizeInBytes)
+            .setOffHeapCacheSizeInBytes(offHeapCacheSizeInBytes)
+            .setDiskCacheSize(diskCacheSize)
+            .build();
+    }
+
     private List<String> getMockDimensions() {
         List<String> dims = new ArrayList<>();
         for (String dimensionName : dimensionNames) {
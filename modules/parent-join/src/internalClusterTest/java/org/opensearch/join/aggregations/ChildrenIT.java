@@ -40,6 +40,7 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.indices.IndicesSegmentRequestCache;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.InternalAggregation;
@@ -235,6 +236,34 @@ public class ChildrenIT extends AbstractParentChildTestCase {
         }
     }
 
+    public void testSegmentLevelCacheWithChildrenInNewSegments() throws Exception {
+        String indexName = "segment_cache";
+        assertAcked(
+            prepareCreate(indexName).setSettings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndicesSegmentRequestCache.INDEX_SEGMENT_REQUEST_CACHE_ENABLED_SETTING.getKey(), true)
+            ).setMapping(buildParentJoinFieldMappingFromSimplifiedDef("join_field", true, "parent", "child"))
+        );
+        createIndexRequest(indexName, "parent", "1", null).get();
+        refresh(indexName);
+
+        // every refresh adds a segment with a new child of the parent, that is in the first segment
+        for (int numChildren = 1; numChildren <= 3; numChildren++) {
+            createIndexRequest(indexName, "child", Integer.toString(numChildren + 1), "1").get();
+            refresh(indexName);
+
+            SearchResponse searchResponse = client().prepareSearch(indexName)
+                .setSize(0)
+                .setRequestCache(true)
+                .addAggregation(children("children", "child"))
+                .get();
+            assertSearchResponse(searchResponse);
+            Children children = searchResponse.getAggregations().get("children");
+            assertThat(children.getDocCount(), equalTo((long) numChildren));
+        }
+    }
+
     public void testNonExistingChildType() throws Exception {
         SearchResponse searchResponse = client().prepareSearch("test").addAggregation(children("non-existing", "xyz")).get();
         assertSearchResponse(searchResponse);
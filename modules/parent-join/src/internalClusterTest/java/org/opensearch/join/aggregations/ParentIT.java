@@ -36,7 +36,9 @@ import com.carrotsearch.randomizedtesting.annotations.ParametersFactory;
 
 import org.opensearch.action.search.SearchRequestBuilder;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.indices.IndicesSegmentRequestCache;
 import org.opensearch.search.aggregations.Aggregation;
 import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
 import org.opensearch.search.aggregations.bucket.terms.Terms;
@@ -58,6 +60,7 @@ import static org.opensearch.join.aggregations.JoinAggregationBuilders.parent;
 import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING;
 import static org.opensearch.search.aggregations.AggregationBuilders.terms;
 import static org.opensearch.search.aggregations.AggregationBuilders.topHits;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
 import static org.hamcrest.Matchers.equalTo;
 
@@ -217,6 +220,36 @@ public class ParentIT extends AbstractParentChildTestCase {
         return commenterToComments;
     }
 
+    public void testSegmentLevelCacheWithParentInNewSegment() throws Exception {
+        String indexName = "segment_cache";
+        assertAcked(
+            prepareCreate(indexName).setSettings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndicesSegmentRequestCache.INDEX_SEGMENT_REQUEST_CACHE_ENABLED_SETTING.getKey(), true)
+            ).setMapping(buildParentJoinFieldMappingFromSimplifiedDef("join_field", true, "parent", "child"))
+        );
+        createIndexRequest(indexName, "child", "2", "1").get();
+        refresh(indexName);
+        assertParentDocCount(indexName, 0);
+
+        // the parent of the child of the first segment is added in a new segment
+        createIndexRequest(indexName, "parent", "1", null).get();
+        refresh(indexName);
+        assertParentDocCount(indexName, 1);
+    }
+
+    private void assertParentDocCount(String indexName, long expected) {
+        SearchResponse searchResponse = client().prepareSearch(indexName)
+            .setSize(0)
+            .setRequestCache(true)
+            .addAggregation(parent("parents", "child"))
+            .get();
+        assertSearchResponse(searchResponse);
+        Parent parentAgg = searchResponse.getAggregations().get("parents");
+        assertThat(parentAgg.getDocCount(), equalTo(expected));
+    }
+
     public void testNonExistingParentType() throws Exception {
         SearchResponse searchResponse = client().prepareSearch("test").addAggregation(parent("non-existing", "xyz")).get();
         assertSearchResponse(searchResponse);
@@ -122,4 +122,13 @@ public class ChildrenAggregatorFactory extends ValuesSourceAggregatorFactory {
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    /**
+     * The aggregator joins the documents it collects with the parent documents of every segment of the shard, so the result of
+     * a segment depends on the other segments and can't be cached under the key of that segment alone.
+     */
+    @Override
+    protected boolean supportsSegmentLevelCache() {
+        return false;
+    }
 }
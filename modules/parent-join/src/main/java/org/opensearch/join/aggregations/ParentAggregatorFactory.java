@@ -123,4 +123,13 @@ public class ParentAggregatorFactory extends ValuesSourceAggregatorFactory {
         // See https://github.com/opensearch-project/OpenSearch/issues/9316
         return false;
     }
+
+    /**
+     * The aggregator joins the documents it collects with the child documents of every segment of the shard, so the result of
+     * a segment depends on the other segments and can't be cached under the key of that segment alone.
+     */
+    @Override
+    protected boolean supportsSegmentLevelCache() {
+        return false;
+    }
 }
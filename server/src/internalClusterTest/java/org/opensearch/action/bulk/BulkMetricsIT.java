@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.ingest.PutPipelineRequest;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.ingest.IngestTestPlugin;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.plugins.PluginsService;
+import org.opensearch.plugins.TelemetryPlugin;
+import org.opensearch.telemetry.Telemetry;
+import org.opensearch.telemetry.TelemetrySettings;
+import org.opensearch.telemetry.metrics.Counter;
+import org.opensearch.telemetry.metrics.Histogram;
+import org.opensearch.telemetry.metrics.MetricsTelemetry;
+import org.opensearch.telemetry.metrics.TaggedMeasurement;
+import org.opensearch.telemetry.metrics.noop.NoopCounter;
+import org.opensearch.telemetry.metrics.tags.Tags;
+import org.opensearch.telemetry.tracing.TracingTelemetry;
+import org.opensearch.test.OpenSearchIntegTestCase;
+import org.opensearch.test.telemetry.tracing.MockTracingTelemetry;
+import org.opensearch.transport.client.Requests;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertNoFailures;
+import static org.hamcrest.Matchers.greaterThan;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 2)
+public class BulkMetricsIT extends OpenSearchIntegTestCase {
+
+    private static final List<String> HISTOGRAMS = List.of(
+        "bulk.coordinating.latency",
+        "bulk.ingest.latency",
+        "bulk.shard.latency",
+        "bulk.shard.primary.latency",
+        "bulk.shard.replica.latency",
+        "bulk.shard.translog_sync.latency",
+        "bulk.item.parse.latency",
+        "bulk.item.version_lookup.latency",
+        "bulk.item.lucene.latency",
+        "bulk.item.translog.latency"
+    );
+
+    @Override
+    protected Settings nodeSettings(int nodeOrdinal) {
+        return Settings.builder()
+            .put(super.nodeSettings(nodeOrdinal))
+            .put(TelemetrySettings.METRICS_FEATURE_ENABLED_SETTING.getKey(), true)
+            .build();
+    }
+
+    @Override
+    protected Collection<Class<? extends Plugin>> nodePlugins() {
+        return Arrays.asList(IngestTestPlugin.class, CountingTelemetryPlugin.class);
+    }
+
+    @Override
+    protected boolean addMockTelemetryPlugin() {
+        return false;
+    }
+
+    public void testBulkRecordsEveryStage() throws Exception {
+        createIndex(
+            "index",
+            Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+                .put(IndexSettings.INDEX_TRANSLOG_DURABILITY_SETTING.getKey(), Translog.Durability.REQUEST.name())
+                .build()
+        );
+        ensureGreen("index");
+
+        BytesReference source = BytesReference.bytes(
+            jsonBuilder().startObject()
+                .field("description", "my_pipeline")
+                .startArray("processors")
+                .startObject()
+                .startObject("test")
+                .endObject()
+                .endObject()
+                .endArray()
+                .endObject()
+        );
+        client().admin().cluster().putPipeline(new PutPipelineRequest("_id", source, MediaTypeRegistry.JSON)).get();
+
+        BulkRequest bulkRequest = new BulkRequest();
+        int numDocs = randomIntBetween(1, 32);
+        for (int i = 0; i < numDocs; i++) {
+            IndexRequest indexRequest = new IndexRequest("index").id(Integer.toString(i)).setPipeline("_id");
+            bulkRequest.add(indexRequest.source(Requests.INDEX_CONTENT_TYPE, "field", "value"));
+        }
+        assertNoFailures(client().bulk(bulkRequest).actionGet());
+
+        assertBusy(() -> {
+            for (String histogram : HISTOGRAMS) {
+                long records = 0;
+                for (PluginsService pluginsService : internalCluster().getInstances(PluginsService.class)) {
+                    for (CountingTelemetryPlugin plugin : pluginsService.filterPlugins(CountingTelemetryPlugin.class)) {
+                        records += plugin.records(histogram);
+                    }
+                }
+                assertThat("histogram [" + histogram + "] was not recorded", records, greaterThan(0L));
+            }
+        });
+    }
+
+    /**
+     * Telemetry plugin whose histograms count how often they are recorded.
+     */
+    public static class CountingTelemetryPlugin extends Plugin implements TelemetryPlugin {
+
+        private final Map<String, AtomicLong> records = new ConcurrentHashMap<>();
+
+        long records(String histogram) {
+            AtomicLong count = records.get(histogram);
+            return count == null ? 0 : count.get();
+        }
+
+        @Override
+        public Optional<Telemetry> getTelemetry(TelemetrySettings settings) {
+            return Optional.of(new Telemetry() {
+                @Override
+                public TracingTelemetry getTracingTelemetry() {
+                    return new MockTracingTelemetry();
+                }
+
+                @Override
+                public MetricsTelemetry getMetricsTelemetry() {
+                    return new CountingMetricsTelemetry();
+                }
+            });
+        }
+
+        @Override
+        public String getName() {
+            return "counting";
+        }
+
+        private class CountingMetricsTelemetry implements MetricsTelemetry {
+
+            @Override
+            public Counter createCounter(String name, String description, String unit) {
+                return NoopCounter.INSTANCE;
+            }
+
+            @Override
+            public Counter createUpDownCounter(String name, String description, String unit) {
+                return NoopCounter.INSTANCE;
+            }
+
+            @Override
+            public Histogram createHistogram(String name, String description, String unit) {
+                final AtomicLong count = records.computeIfAbsent(name, k -> new AtomicLong());
+                return new Histogram() {
+                    @Override
+                    public void record(double value) {
+                        count.incrementAndGet();
+                    }
+
+                    @Override
+                    public void record(double value, Tags tags) {
+                        count.incrementAndGet();
+                    }
+                };
+            }
+
+            @Override
+            public Closeable createGauge(String name, String description, String unit, Supplier<Double> valueProvider, Tags tags) {
+                return () -> {};
+            }
+
+            @Override
+            public Closeable createGauge(String name, String description, String unit, Supplier<TaggedMeasurement> value) {
+                return () -> {};
+            }
+
+            @Override
+            public void close() {
+
+            }
+        }
+    }
+}
@@ -735,7 +735,8 @@ public class IndexShardIT extends OpenSearchSingleNodeTestCase {
             MergedSegmentPublisher.EMPTY,
             ReferencedSegmentsPublisher.EMPTY,
             Collections.emptyMap(),
-            null // TODO
+            null, // TODO
+            null
         );
     }
 
@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.basic;
+
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchTransportService;
+import org.opensearch.action.search.TransportSearchAction;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchIntegTestCase;
+import org.opensearch.test.transport.MockTransportService;
+import org.opensearch.transport.TransportService;
+import org.junit.After;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertNoFailures;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 2)
+public class SearchBatchedShardRequestsIT extends OpenSearchIntegTestCase {
+
+    @Override
+    protected Collection<Class<? extends Plugin>> nodePlugins() {
+        return List.of(MockTransportService.TestPlugin.class);
+    }
+
+    @After
+    public void resetSettings() {
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().putNull(TransportSearchAction.SEARCH_QUERY_PHASE_BATCH_SHARD_REQUESTS.getKey()))
+        );
+    }
+
+    public void testBatchedQueryPhaseMatchesPerShardRequests() throws Exception {
+        assertAcked(
+            prepareCreate("test").setMapping("value", "type=long", "group", "type=keyword")
+                .setSettings(
+                    Settings.builder()
+                        .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, randomIntBetween(4, 8))
+                        .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                )
+        );
+        ensureGreen("test");
+        final int numDocs = randomIntBetween(50, 200);
+        final List<IndexRequestBuilder> docs = new ArrayList<>(numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            docs.add(client().prepareIndex("test").setId(Integer.toString(i)).setSource("value", i, "group", "g" + (i % 3)));
+        }
+        indexRandom(true, docs);
+
+        final AtomicInteger batches = new AtomicInteger();
+        for (TransportService transportService : internalCluster().getInstances(TransportService.class)) {
+            ((MockTransportService) transportService).addRequestHandlingBehavior(
+                SearchTransportService.QUERY_BATCH_ACTION_NAME,
+                (handler, request, channel, task) -> {
+                    batches.incrementAndGet();
+                    handler.messageReceived(request, channel, task);
+                }
+            );
+        }
+
+        final SearchResponse expected = search();
+        assertThat(batches.get(), equalTo(0));
+
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().put(TransportSearchAction.SEARCH_QUERY_PHASE_BATCH_SHARD_REQUESTS.getKey(), true))
+        );
+        final SearchResponse actual = search();
+        // more shards than nodes, at least one node holds several shards of the index
+        assertThat(batches.get(), greaterThan(0));
+
+        assertThat(actual.getSuccessfulShards(), equalTo(expected.getSuccessfulShards()));
+        assertThat(actual.getHits().getTotalHits(), equalTo(expected.getHits().getTotalHits()));
+        assertThat(actual.getHits().getHits().length, equalTo(expected.getHits().getHits().length));
+        for (int i = 0; i < expected.getHits().getHits().length; i++) {
+            assertThat(actual.getHits().getAt(i).getId(), equalTo(expected.getHits().getAt(i).getId()));
+        }
+        final Terms expectedGroups = expected.getAggregations().get("groups");
+        final Terms actualGroups = actual.getAggregations().get("groups");
+        assertThat(actualGroups.getBuckets().size(), equalTo(expectedGroups.getBuckets().size()));
+        for (Terms.Bucket bucket : expectedGroups.getBuckets()) {
+            assertThat(actualGroups.getBucketByKey(bucket.getKeyAsString()).getDocCount(), equalTo(bucket.getDocCount()));
+        }
+    }
+
+    public void testBatchedQueryPhaseOnManyShardsThatMostlyMatchNothing() throws Exception {
+        final int numShards = randomIntBetween(20, 40);
+        assertAcked(
+            prepareCreate("test").setMapping("value", "type=long")
+                .setSettings(
+                    Settings.builder()
+                        .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, numShards)
+                        .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                )
+        );
+        ensureGreen("test");
+        final int numDocs = randomIntBetween(10, 50);
+        final List<IndexRequestBuilder> docs = new ArrayList<>(numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            // all the documents go to the same shard, the range query rewrites to match_none on the other ones
+            docs.add(client().prepareIndex("test").setId(Integer.toString(i)).setRouting("r").setSource("value", i));
+        }
+        indexRandom(true, docs);
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().put(TransportSearchAction.SEARCH_QUERY_PHASE_BATCH_SHARD_REQUESTS.getKey(), true))
+        );
+
+        // a single concurrent shard request runs the shards of each batch one after the other
+        final SearchResponse response = client().prepareSearch("test")
+            .setQuery(QueryBuilders.rangeQuery("value").gte(0))
+            .setMaxConcurrentShardRequests(1)
+            .setSize(numDocs)
+            .get();
+        assertNoFailures(response);
+        assertThat(response.getTotalShards(), equalTo(numShards));
+        assertThat(response.getSuccessfulShards(), equalTo(numShards));
+        // the shards that match nothing are skipped by the nodes, the one holding the documents is not
+        assertThat(response.getSkippedShards(), greaterThan(0));
+        assertThat(response.getSkippedShards(), lessThan(numShards));
+        assertThat(response.getHits().getTotalHits().value(), equalTo((long) numDocs));
+        assertThat(response.getHits().getHits().length, equalTo(numDocs));
+    }
+
+    private SearchResponse search() {
+        final SearchResponse response = client().prepareSearch("test")
+            .setQuery(QueryBuilders.rangeQuery("value").gte(10))
+            .addSort("value", SortOrder.DESC)
+            .setSize(10)
+            .addAggregation(terms("groups").field("group"))
+            .get();
+        assertNoFailures(response);
+        return response;
+    }
+}
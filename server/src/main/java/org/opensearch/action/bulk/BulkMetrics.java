@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.index.engine.Engine;
+import org.opensearch.telemetry.metrics.Histogram;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class containing the latency metrics of the stages of a bulk request. The coordinating, ingest and shard latencies are recorded on
+ * the coordinating node, the primary, replica and translog sync latencies on the nodes that hold the shard copies. The parse, version
+ * lookup, Lucene and translog latencies are recorded for every index operation executed by the engine of a shard copy.
+ *
+ * @opensearch.internal
+ */
+public final class BulkMetrics {
+
+    private static final String LATENCY_METRIC_UNIT_MS = "ms";
+
+    /** Metrics that are not recorded, for the callers of the shard level helpers that don't report metrics */
+    public static final BulkMetrics NOOP = new BulkMetrics(NoopMetricsRegistry.INSTANCE);
+
+    public final Histogram coordinatingLatency;
+    public final Histogram ingestLatency;
+    public final Histogram shardLatency;
+    public final Histogram primaryLatency;
+    public final Histogram replicaLatency;
+    public final Histogram translogSyncLatency;
+    public final Histogram parseLatency;
+    public final Histogram versionLookupLatency;
+    public final Histogram luceneLatency;
+    public final Histogram translogLatency;
+
+    public BulkMetrics(MetricsRegistry metricsRegistry) {
+        coordinatingLatency = metricsRegistry.createHistogram(
+            "bulk.coordinating.latency",
+            "Histogram for tracking the latency of bulk requests on the coordinating node",
+            LATENCY_METRIC_UNIT_MS
+        );
+        ingestLatency = metricsRegistry.createHistogram(
+            "bulk.ingest.latency",
+            "Histogram for tracking the time spent running the ingest pipelines of bulk requests",
+            LATENCY_METRIC_UNIT_MS
+        );
+        shardLatency = metricsRegistry.createHistogram(
+            "bulk.shard.latency",
+            "Histogram for tracking the latency of shard bulk requests as seen by the coordinating node, including replication",
+            LATENCY_METRIC_UNIT_MS
+        );
+        primaryLatency = metricsRegistry.createHistogram(
+            "bulk.shard.primary.latency",
+            "Histogram for tracking the time spent executing shard bulk requests on the primary",
+            LATENCY_METRIC_UNIT_MS
+        );
+        replicaLatency = metricsRegistry.createHistogram(
+            "bulk.shard.replica.latency",
+            "Histogram for tracking the time spent executing shard bulk requests on a replica",
+            LATENCY_METRIC_UNIT_MS
+        );
+        translogSyncLatency = metricsRegistry.createHistogram(
+            "bulk.shard.translog_sync.latency",
+            "Histogram for tracking the time spent syncing the translog of a shard copy after a shard bulk request",
+            LATENCY_METRIC_UNIT_MS
+        );
+        parseLatency = metricsRegistry.createHistogram(
+            "bulk.item.parse.latency",
+            "Histogram for tracking the time spent parsing the documents of bulk items",
+            LATENCY_METRIC_UNIT_MS
+        );
+        versionLookupLatency = metricsRegistry.createHistogram(
+            "bulk.item.version_lookup.latency",
+            "Histogram for tracking the time spent resolving the current version of the documents of bulk items",
+            LATENCY_METRIC_UNIT_MS
+        );
+        luceneLatency = metricsRegistry.createHistogram(
+            "bulk.item.lucene.latency",
+            "Histogram for tracking the time spent adding the documents of bulk items to Lucene",
+            LATENCY_METRIC_UNIT_MS
+        );
+        translogLatency = metricsRegistry.createHistogram(
+            "bulk.item.translog.latency",
+            "Histogram for tracking the time spent writing the operations of bulk items to the translog",
+            LATENCY_METRIC_UNIT_MS
+        );
+    }
+
+    /**
+     * Records the time the stages of the given engine result took, if the engine measured them
+     */
+    public void recordStages(Engine.Result result) {
+        if (result instanceof Engine.IndexResult indexResult && indexResult.hasStageTimes()) {
+            recordNanos(parseLatency, indexResult.getParseTime());
+            recordNanos(versionLookupLatency, indexResult.getVersionLookupTime());
+            recordNanos(luceneLatency, indexResult.getLuceneTime());
+            recordNanos(translogLatency, indexResult.getTranslogTime());
+        }
+    }
+
+    /**
+     * Records the given time in nanoseconds to the given histogram, in milliseconds
+     */
+    public static void recordNanos(Histogram histogram, long tookNanos) {
+        histogram.record((double) tookNanos / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
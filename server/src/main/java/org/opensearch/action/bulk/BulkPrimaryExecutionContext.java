@@ -35,15 +35,28 @@ package org.opensearch.action.bulk;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.core.index.AppendOnlyIndexOperationRetryException;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.mapper.RoutingFieldMapper;
+import org.opensearch.index.mapper.SourceFieldMapper;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.translog.Translog;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * This is a utility class that holds the per request state needed to perform bulk operations on the primary.
@@ -84,6 +97,7 @@ class BulkPrimaryExecutionContext {
 
     private final BulkShardRequest request;
     private final IndexShard primary;
+    private final BulkMetrics bulkMetrics;
     private Translog.Location locationToSync = null;
     private int currentIndex = -1;
 
@@ -92,10 +106,18 @@ class BulkPrimaryExecutionContext {
     private BulkItemResponse executionResult;
     private int retryCounter;
     private final BulkItemResponse[] primaryResponses;
+    private DocumentMapper parsedBy;
+    private ParsedDocument[] parsedDocuments;
+    private Map<String, GetResult> updatedSources;
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
+        this(request, primary, BulkMetrics.NOOP);
+    }
+
+    BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary, BulkMetrics bulkMetrics) {
         this.request = request;
         this.primary = primary;
+        this.bulkMetrics = bulkMetrics;
         this.primaryResponses = new BulkItemResponse[request.items().length];
         advance();
     }
@@ -194,6 +216,85 @@ class BulkPrimaryExecutionContext {
         return primary;
     }
 
+    /** sets the documents that the given mapper parsed ahead of execution from the item requests, by item position */
+    public void setParsedDocuments(DocumentMapper parsedBy, ParsedDocument[] parsedDocuments) {
+        assert parsedDocuments.length == request.items().length;
+        this.parsedBy = parsedBy;
+        this.parsedDocuments = parsedDocuments;
+    }
+
+    /**
+     * attaches the document parsed ahead of execution from the current item request, if any, to the source that is about to be
+     * indexed. The document is only attached once so that retries parse the source again.
+     */
+    public void attachParsedDocument(SourceToParse sourceToParse) {
+        if (parsedDocuments != null && parsedDocuments[currentIndex] != null) {
+            sourceToParse.setParsedDocument(parsedBy, parsedDocuments[currentIndex]);
+            parsedDocuments[currentIndex] = null;
+        }
+    }
+
+    /**
+     * makes the updates of this request remember the documents they write, so that the following updates of the same documents are
+     * prepared against them instead of getting the documents from the shard. Only applies if the shard stores the source as it is
+     * sent, otherwise the source of the shard differs from the source that was indexed.
+     */
+    public void reuseUpdatedSources() {
+        final DocumentMapper documentMapper = primary.mapperService().documentMapper();
+        if (documentMapper == null || primary.indexSettings().isDerivedSourceEnabled()) {
+            return;
+        }
+        final SourceFieldMapper sourceMapper = documentMapper.sourceMapper();
+        if (sourceMapper.enabled() && sourceMapper.isComplete()) {
+            updatedSources = new HashMap<>();
+        }
+    }
+
+    /**
+     * returns the document that an earlier update of this request wrote for the document of the given update, or null if the
+     * update has to get the document from the shard
+     */
+    public GetResult getUpdatedSource(UpdateRequest updateRequest) {
+        if (updatedSources == null || retryCounter > 0 || updateRequest.ifSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO) {
+            return null;
+        }
+        return updatedSources.get(updateRequest.id());
+    }
+
+    private void rememberUpdatedSource(BulkItemResponse translatedResponse) {
+        final DocWriteRequest<?> current = getCurrent();
+        if (current.opType() == DocWriteRequest.OpType.UPDATE && translatedResponse.isFailed() == false) {
+            final DocWriteResponse response = translatedResponse.getResponse();
+            if (requestToExecute instanceof IndexRequest indexRequest) {
+                final String routing = indexRequest.routing();
+                updatedSources.put(
+                    current.id(),
+                    new GetResult(
+                        primary.shardId().getIndexName(),
+                        current.id(),
+                        response.getSeqNo(),
+                        response.getPrimaryTerm(),
+                        response.getVersion(),
+                        true,
+                        indexRequest.source(),
+                        Collections.emptyMap(),
+                        routing == null
+                            ? Collections.emptyMap()
+                            : Collections.singletonMap(
+                                RoutingFieldMapper.NAME,
+                                new DocumentField(RoutingFieldMapper.NAME, Collections.singletonList(routing))
+                            )
+                    )
+                );
+                return;
+            } else if (response.getResult() == DocWriteResponse.Result.NOOP) {
+                // the document didn't change
+                return;
+            }
+        }
+        updatedSources.remove(current.id());
+    }
+
     /**
      * sets the request that should actually be executed on the primary. This can be different from the request
      * received from the user (specifically, an update request is translated to an indexing or delete request).
@@ -256,6 +357,7 @@ class BulkPrimaryExecutionContext {
     /** the current operation has been executed on the primary with the specified result */
     public void markOperationAsExecuted(Engine.Result result) {
         assertInvariants(ItemProcessingState.TRANSLATED);
+        bulkMetrics.recordStages(result);
         final BulkItemRequest current = getCurrentItem();
         DocWriteRequest<?> docWriteRequest = getRequestToExecute();
         switch (result.getResultType()) {
@@ -334,6 +436,9 @@ class BulkPrimaryExecutionContext {
         assert executionResult != null && translatedResponse.getItemId() == executionResult.getItemId();
         assert translatedResponse.getItemId() == getCurrentItem().id();
 
+        if (updatedSources != null) {
+            rememberUpdatedSource(translatedResponse);
+        }
         if (translatedResponse.isFailed() == false && requestToExecute != null && requestToExecute != getCurrent()) {
             request.items()[currentIndex] = new BulkItemRequest(request.items()[currentIndex].id(), requestToExecute);
         }
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.mapper.SourceToParse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parses the index requests of a bulk shard request ahead of their execution on the primary, spreading the work over up to
+ * {@code parallelism} threads. The calling thread takes part in the parsing, the other threads are forked to the given executor
+ * and only pick up items that were not parsed yet, so the call never waits for a task that has not started.
+ *
+ * Items whose parsing fails or requires a mapping update are left unparsed: they are parsed again when they are executed, which
+ * reports the failure or triggers the mapping update as usual.
+ *
+ * @opensearch.internal
+ */
+final class ParallelDocumentParser {
+
+    private static final Logger logger = LogManager.getLogger(ParallelDocumentParser.class);
+
+    private ParallelDocumentParser() {}
+
+    /**
+     * Parses the index requests of the given items with the given mapper.
+     *
+     * @return the parsed documents by item position, {@code null} for the items that were not parsed
+     */
+    static ParsedDocument[] parse(BulkItemRequest[] items, DocumentMapper documentMapper, Executor executor, int parallelism)
+        throws InterruptedException {
+        final ParsedDocument[] parsedDocuments = new ParsedDocument[items.length];
+        final AtomicInteger nextItem = new AtomicInteger();
+        final CountDownLatch remainingItems = new CountDownLatch(items.length);
+        final Runnable worker = () -> {
+            int item;
+            while ((item = nextItem.getAndIncrement()) < items.length) {
+                try {
+                    parsedDocuments[item] = parse(items[item], documentMapper);
+                } finally {
+                    remainingItems.countDown();
+                }
+            }
+        };
+        final int forked = Math.min(parallelism, items.length) - 1;
+        for (int i = 0; i < forked; i++) {
+            try {
+                executor.execute(worker);
+            } catch (OpenSearchRejectedExecutionException e) {
+                // the remaining items are parsed on the calling thread
+                break;
+            }
+        }
+        worker.run();
+        // all the items were picked up, wait for the ones that are still parsed on the forked threads
+        remainingItems.await();
+        return parsedDocuments;
+    }
+
+    private static ParsedDocument parse(BulkItemRequest item, DocumentMapper documentMapper) {
+        if (item.request() instanceof IndexRequest == false || item.primaryResponse() != null) {
+            return null;
+        }
+        final IndexRequest request = (IndexRequest) item.request();
+        try {
+            final ParsedDocument parsedDocument = documentMapper.parse(
+                new SourceToParse(
+                    request.index(),
+                    request.id(),
+                    request.source(),
+                    request.getContentType(),
+                    request.routing(),
+                    request.extraFieldValues()
+                )
+            );
+            return parsedDocument.dynamicMappingsUpdate() == null ? parsedDocument : null;
+        } catch (Exception e) {
+            logger.trace("failed to parse document [{}] ahead of its execution", request.id());
+            return null;
+        }
+    }
+}
@@ -157,6 +157,7 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
     private final IndicesService indicesService;
     private final SystemIndices systemIndices;
     private final Tracer tracer;
+    private final BulkMetrics bulkMetrics;
     private final ResponseCollectorService nodeMetricsCollector;
     private final Map<String, Long> clientConnections = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
@@ -174,7 +175,8 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
         IndexingPressureService indexingPressureService,
         IndicesService indicesService,
         SystemIndices systemIndices,
-        Tracer tracer
+        Tracer tracer,
+        BulkMetrics bulkMetrics
     ) {
         this(
             threadPool,
@@ -190,7 +192,8 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
             indicesService,
             systemIndices,
             System::nanoTime,
-            tracer
+            tracer,
+            bulkMetrics
         );
     }
 
@@ -208,7 +211,8 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
         IndicesService indicesService,
         SystemIndices systemIndices,
         LongSupplier relativeTimeProvider,
-        Tracer tracer
+        Tracer tracer,
+        BulkMetrics bulkMetrics
     ) {
         super(BulkAction.NAME, transportService, actionFilters, BulkRequest::new, ThreadPool.Names.SAME);
         Objects.requireNonNull(relativeTimeProvider);
@@ -226,6 +230,7 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
         this.systemIndices = systemIndices;
         clusterService.addStateApplier(this.ingestForwarder);
         this.tracer = tracer;
+        this.bulkMetrics = bulkMetrics;
         this.nodeMetricsCollector = new ResponseCollectorService(clusterService);
     }
 
@@ -250,7 +255,11 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
     protected void doExecute(Task task, BulkRequest bulkRequest, ActionListener<BulkResponse> listener) {
         final boolean isOnlySystem = isOnlySystem(bulkRequest, clusterService.state().metadata().getIndicesLookup(), systemIndices);
         final Releasable releasable = indexingPressureService.markCoordinatingOperationStarted(bulkRequest::ramBytesUsed, isOnlySystem);
-        final ActionListener<BulkResponse> releasingListener = ActionListener.runBefore(listener, releasable::close);
+        final long startTimeNanos = relativeTime();
+        final ActionListener<BulkResponse> releasingListener = ActionListener.runBefore(listener, () -> {
+            releasable.close();
+            BulkMetrics.recordNanos(bulkMetrics.coordinatingLatency, relativeTime() - startTimeNanos);
+        });
         final String executorName = isOnlySystem ? Names.SYSTEM_WRITE : Names.WRITE;
         try {
             doInternalExecute(task, bulkRequest, executorName, releasingListener);
@@ -827,6 +836,7 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
                                     );
                                 }
                             }, releasable::close), () -> {
+                                BulkMetrics.recordNanos(bulkMetrics.shardLatency, relativeTime() - startTimeNanos);
                                 if (targetNodeId != null) {
                                     clientConnections.computeIfPresent(targetNodeId, (id, conns) -> conns == 1 ? null : conns - 1);
                                 }
@@ -1111,7 +1121,9 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
                     logger.debug("failed to execute pipeline for a bulk request", exception);
                     listener.onFailure(exception);
                 } else {
-                    long ingestTookInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ingestStartTimeInNanos);
+                    final long ingestTookInNanos = System.nanoTime() - ingestStartTimeInNanos;
+                    BulkMetrics.recordNanos(bulkMetrics.ingestLatency, ingestTookInNanos);
+                    long ingestTookInMillis = TimeUnit.NANOSECONDS.toMillis(ingestTookInNanos);
                     BulkRequest bulkRequest = bulkRequestModifier.getBulkRequest();
                     ActionListener<BulkResponse> actionListener = bulkRequestModifier.wrapActionListenerIfNeeded(
                         ingestTookInMillis,
@@ -72,6 +72,8 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
@@ -90,8 +92,10 @@ import org.opensearch.index.SegmentReplicationPressureService;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.index.get.GetResult;
+import org.opensearch.index.mapper.DocumentMapperForType;
 import org.opensearch.index.mapper.MapperException;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.remote.RemoteStorePressureService;
 import org.opensearch.index.seqno.SequenceNumbers;
@@ -132,6 +136,32 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
 
     public static final String ACTION_NAME = BulkAction.NAME + "[s]";
 
+    /**
+     * The number of threads of the write thread pool that parse the documents of a bulk shard request ahead of their execution on
+     * the primary. The documents are still indexed one after the other, {@code 1} parses each document when it is indexed.
+     */
+    public static final Setting<Integer> BULK_DOCUMENT_PARSE_PARALLELISM = Setting.intSetting(
+        "indices.bulk.document_parse_parallelism",
+        1,
+        1,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * Whether an update of a bulk shard request reuses the source that an earlier update of the same request wrote for the same
+     * document instead of getting the document from the shard. Every item is still executed on its own and gets its own sequence
+     * number, but the updates of a document that is updated many times in a row only get it once. A change of the document by
+     * another request in between makes the update fail with a version conflict, which {@code retry_on_conflict} retries with the
+     * document of the shard.
+     */
+    public static final Setting<Boolean> BULK_REUSE_UPDATED_SOURCE = Setting.boolSetting(
+        "indices.bulk.update.reuse_source.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     private static final Logger logger = LogManager.getLogger(TransportShardBulkAction.class);
     private static final Function<IndexShard, String> EXECUTOR_NAME_FUNCTION = shard -> {
         if (shard.indexSettings().getIndexMetadata().isSystem()) {
@@ -145,6 +175,8 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
     private final MappingUpdatedAction mappingUpdatedAction;
     private final SegmentReplicationPressureService segmentReplicationPressureService;
     private final RemoteStorePressureService remoteStorePressureService;
+    private final BulkMetrics bulkMetrics;
+    private volatile PrimaryExecutionOptions primaryExecutionOptions;
 
     /**
      * This action is used for performing primary term validation. With remote translog enabled, the translogs would
@@ -170,7 +202,8 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         SegmentReplicationPressureService segmentReplicationPressureService,
         RemoteStorePressureService remoteStorePressureService,
         SystemIndices systemIndices,
-        Tracer tracer
+        Tracer tracer,
+        BulkMetrics bulkMetrics
     ) {
         super(
             settings,
@@ -194,6 +227,18 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         this.mappingUpdatedAction = mappingUpdatedAction;
         this.segmentReplicationPressureService = segmentReplicationPressureService;
         this.remoteStorePressureService = remoteStorePressureService;
+        this.bulkMetrics = bulkMetrics;
+        this.primaryExecutionOptions = new PrimaryExecutionOptions(
+            BULK_DOCUMENT_PARSE_PARALLELISM.get(settings),
+            BULK_REUSE_UPDATED_SOURCE.get(settings),
+            bulkMetrics
+        );
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(
+                BULK_DOCUMENT_PARSE_PARALLELISM,
+                BULK_REUSE_UPDATED_SOURCE,
+                (parallelism, reuse) -> this.primaryExecutionOptions = new PrimaryExecutionOptions(parallelism, reuse, bulkMetrics)
+            );
 
         this.transportPrimaryTermValidationAction = ACTION_NAME + "[validate_primary_term]";
 
@@ -421,8 +466,13 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
     protected void dispatchedShardOperationOnPrimary(
         BulkShardRequest request,
         IndexShard primary,
-        ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener
+        ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> originalListener
     ) {
+        final long startTimeNanos = System.nanoTime();
+        final ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener = ActionListener.runBefore(
+            originalListener,
+            () -> BulkMetrics.recordNanos(bulkMetrics.primaryLatency, System.nanoTime() - startTimeNanos)
+        );
         ClusterStateObserver observer = new ClusterStateObserver(clusterService, request.timeout(), logger, threadPool.getThreadContext());
         performOnPrimary(request, primary, updateHelper, threadPool::absoluteTimeInMillis, (update, shardId, mappingListener) -> {
             assert update != null;
@@ -443,7 +493,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             public void onTimeout(TimeValue timeout) {
                 mappingUpdateListener.onFailure(new MapperException("timed out while waiting for a dynamic mapping update"));
             }
-        }), listener, threadPool, executor(primary));
+        }), listener, threadPool, executor(primary), primaryExecutionOptions);
     }
 
     @Override
@@ -459,6 +509,28 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         return super.getReplicationMode(indexShard);
     }
 
+    /**
+     * The bulk settings that the execution of a bulk shard request on the primary reads, taken from the action's settings when the
+     * request starts so that a concurrent settings update does not change them halfway through the request.
+     *
+     * @opensearch.internal
+     */
+    public static final class PrimaryExecutionOptions {
+
+        /** Parses every document when it is indexed, doesn't reuse updated sources and doesn't record metrics */
+        public static final PrimaryExecutionOptions DEFAULT = new PrimaryExecutionOptions(1, false, BulkMetrics.NOOP);
+
+        private final int documentParseParallelism;
+        private final boolean reuseUpdatedSource;
+        private final BulkMetrics bulkMetrics;
+
+        public PrimaryExecutionOptions(int documentParseParallelism, boolean reuseUpdatedSource, BulkMetrics bulkMetrics) {
+            this.documentParseParallelism = documentParseParallelism;
+            this.reuseUpdatedSource = reuseUpdatedSource;
+            this.bulkMetrics = Objects.requireNonNull(bulkMetrics);
+        }
+    }
+
     public static void performOnPrimary(
         BulkShardRequest request,
         IndexShard primary,
@@ -468,17 +540,28 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         Consumer<ActionListener<Void>> waitForMappingUpdate,
         ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
         ThreadPool threadPool,
-        String executorName
+        String executorName,
+        PrimaryExecutionOptions options
     ) {
         new ActionRunnable<PrimaryResult<BulkShardRequest, BulkShardResponse>>(listener) {
 
             private final ExecutorService executor = threadPool.executor(executorName);
 
-            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
+            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary, options.bulkMetrics);
+
+            private boolean documentsParsed = false;
 
             @Override
             protected void doRun() throws Exception {
                 long startTime = System.nanoTime();
+                if (documentsParsed == false) {
+                    // only on the first run, runs that follow a mapping update parse the remaining documents when they execute them
+                    documentsParsed = true;
+                    parseDocuments();
+                    if (options.reuseUpdatedSource) {
+                        context.reuseUpdatedSources();
+                    }
+                }
                 while (context.hasMoreOperationsToExecute()) {
                     if (executeBulkItemRequest(
                         context,
@@ -536,6 +619,26 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 });
             }
 
+            private void parseDocuments() throws InterruptedException {
+                if (options.documentParseParallelism <= 1
+                    || request.items().length <= 1
+                    || primary.indexSettings().isPluggableDataFormatEnabled()) {
+                    return;
+                }
+                final DocumentMapperForType documentMapper = primary.mapperService().documentMapperWithAutoCreate();
+                if (documentMapper.getMapping() != null) {
+                    // the index has no mapping yet, the first document that is executed creates it
+                    return;
+                }
+                final ParsedDocument[] parsedDocuments = ParallelDocumentParser.parse(
+                    request.items(),
+                    documentMapper.getDocumentMapper(),
+                    executor,
+                    options.documentParseParallelism
+                );
+                context.setParsedDocuments(documentMapper.getDocumentMapper(), parsedDocuments);
+            }
+
             private void finishRequest(long serviceTimeEWMAInNanos, int nodeQueueSize) {
                 // If no actual writes occurred (locationToSync is null), we should not trigger refresh
                 // even if the request has RefreshPolicy.IMMEDIATE
@@ -565,7 +668,8 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                         locationToSync,
                         null,
                         context.getPrimary(),
-                        logger
+                        logger,
+                        tookNanos -> BulkMetrics.recordNanos(options.bulkMetrics.translogSyncLatency, tookNanos)
                     )
                 );
             }
@@ -606,7 +710,12 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         if (opType == DocWriteRequest.OpType.UPDATE) {
             final UpdateRequest updateRequest = (UpdateRequest) context.getCurrent();
             try {
-                updateResult = updateHelper.prepare(updateRequest, context.getPrimary(), nowInMillisSupplier);
+                final GetResult updatedSource = context.getUpdatedSource(updateRequest);
+                if (updatedSource != null) {
+                    updateResult = updateHelper.prepare(updateRequest, context.getPrimary(), updatedSource, nowInMillisSupplier);
+                } else {
+                    updateResult = updateHelper.prepare(updateRequest, context.getPrimary(), nowInMillisSupplier);
+                }
             } catch (Exception failure) {
                 // we may fail translating a update to index or delete operation
                 // we use index result to communicate failure while translating update request
@@ -659,17 +768,21 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             );
         } else {
             final IndexRequest request = context.getRequestToExecute();
+            final SourceToParse sourceToParse = new SourceToParse(
+                request.index(),
+                request.id(),
+                request.source(),
+                request.getContentType(),
+                request.routing(),
+                request.extraFieldValues()
+            );
+            if (request == context.getCurrent()) {
+                context.attachParsedDocument(sourceToParse);
+            }
             result = primary.applyIndexOperationOnPrimary(
                 version,
                 request.versionType(),
-                new SourceToParse(
-                    request.index(),
-                    request.id(),
-                    request.source(),
-                    request.getContentType(),
-                    request.routing(),
-                    request.extraFieldValues()
-                ),
+                sourceToParse,
                 request.ifSeqNo(),
                 request.ifPrimaryTerm(),
                 request.getAutoGeneratedTimestamp(),
@@ -852,9 +965,18 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
 
     @Override
     protected void dispatchedShardOperationOnReplica(BulkShardRequest request, IndexShard replica, ActionListener<ReplicaResult> listener) {
+        final long startTimeNanos = System.nanoTime();
         ActionListener.completeWith(listener, () -> {
-            final Translog.Location location = performOnReplica(request, replica);
-            return new WriteReplicaResult<>(request, location, null, replica, logger);
+            final Translog.Location location = performOnReplica(request, replica, bulkMetrics);
+            BulkMetrics.recordNanos(bulkMetrics.replicaLatency, System.nanoTime() - startTimeNanos);
+            return new WriteReplicaResult<>(
+                request,
+                location,
+                null,
+                replica,
+                logger,
+                tookNanos -> BulkMetrics.recordNanos(bulkMetrics.translogSyncLatency, tookNanos)
+            );
         });
     }
 
@@ -863,7 +985,8 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         return request.ramBytesUsed();
     }
 
-    public static Translog.Location performOnReplica(BulkShardRequest request, IndexShard replica) throws Exception {
+    public static Translog.Location performOnReplica(BulkShardRequest request, IndexShard replica, BulkMetrics bulkMetrics)
+        throws Exception {
         Translog.Location location = null;
         for (int i = 0; i < request.items().length; i++) {
             final BulkItemRequest item = request.items()[i];
@@ -895,6 +1018,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 operationResult = performOpOnReplica(response.getResponse(), item.request(), replica);
             }
             assert operationResult != null : "operation result must never be null";
+            bulkMetrics.recordStages(operationResult);
             location = syncOperationResultOrThrow(operationResult, location);
         }
         return location;
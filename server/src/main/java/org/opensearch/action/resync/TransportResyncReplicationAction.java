@@ -151,7 +151,15 @@ public class TransportResyncReplicationAction extends TransportWriteAction<
     ) {
         ActionListener.completeWith(
             listener,
-            () -> new WritePrimaryResult<>(performOnPrimary(request), new ResyncReplicationResponse(), null, null, primary, logger)
+            () -> new WritePrimaryResult<>(
+                performOnPrimary(request),
+                new ResyncReplicationResponse(),
+                null,
+                null,
+                primary,
+                logger,
+                tookNanos -> {}
+            )
         );
     }
 
@@ -172,7 +180,7 @@ public class TransportResyncReplicationAction extends TransportWriteAction<
     ) {
         ActionListener.completeWith(listener, () -> {
             Translog.Location location = performOnReplica(request, replica);
-            return new WriteReplicaResult<>(request, location, null, replica, logger);
+            return new WriteReplicaResult<>(request, location, null, replica, logger, tookNanos -> {});
         });
     }
 
@@ -63,11 +63,13 @@ import org.opensearch.telemetry.tracing.Span;
 import org.opensearch.telemetry.tracing.SpanCreationContext;
 import org.opensearch.telemetry.tracing.SpanScope;
 import org.opensearch.telemetry.tracing.Tracer;
+import org.opensearch.transport.RemoteClusterAware;
 import org.opensearch.transport.Transport;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -263,10 +265,27 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                     throw new SearchPhaseExecutionException(getName(), msg, null, ShardSearchFailure.EMPTY_ARRAY);
                 }
             }
+            final Map<String, List<Integer>> batchedShardsPerNode = new LinkedHashMap<>();
+            final SearchShardTarget[] targets = new SearchShardTarget[shardsIts.size()];
             for (int index = 0; index < shardsIts.size(); index++) {
                 final SearchShardIterator shardRoutings = shardsIts.get(index);
                 assert shardRoutings.skip() == false;
-                performPhaseOnShard(index, shardRoutings, shardRoutings.nextOrNull());
+                final SearchShardTarget shard = shardRoutings.nextOrNull();
+                if (shard != null && canBatchShardRequests(shard)) {
+                    targets[index] = shard;
+                    final String nodeKey = RemoteClusterAware.buildRemoteIndexName(shard.getClusterAlias(), shard.getNodeId());
+                    batchedShardsPerNode.computeIfAbsent(nodeKey, n -> new ArrayList<>()).add(index);
+                } else {
+                    performPhaseOnShard(index, shardRoutings, shard);
+                }
+            }
+            for (List<Integer> shardIndices : batchedShardsPerNode.values()) {
+                if (shardIndices.size() == 1) {
+                    final int index = shardIndices.get(0);
+                    performPhaseOnShard(index, shardsIts.get(index), targets[index]);
+                } else {
+                    performPhaseOnShardBatch(shardIndices, targets);
+                }
             }
         }
     }
@@ -278,6 +297,16 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         successfulShardExecution(iterator);
     }
 
+    /**
+     * Counts a shard of a batch that its node skipped because it can't match any document, the same way as the shards
+     * that the can_match phase skips.
+     */
+    void onShardSkipped(SearchShardIterator shardIt) {
+        successfulOps.incrementAndGet();
+        skippedOps.incrementAndGet();
+        successfulShardExecution(shardIt);
+    }
+
     private void performPhaseOnShard(final int shardIndex, final SearchShardIterator shardIt, final SearchShardTarget shard) {
         /*
          * We capture the thread that this phase is starting on. When we are called back after executing the phase, we are either on the
@@ -334,6 +363,32 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         }
     }
 
+    /**
+     * Sends the requests of shards that live on the same node together. Batched requests are not throttled by
+     * {@link SearchRequest#getMaxConcurrentShardRequests()} on the coordinating node, the node applies the limit instead.
+     */
+    private void performPhaseOnShardBatch(final List<Integer> shardIndices, final SearchShardTarget[] targets) {
+        final Thread thread = Thread.currentThread();
+        final List<SearchShardIterator> shardIts = new ArrayList<>(shardIndices.size());
+        final List<SearchShardTarget> shards = new ArrayList<>(shardIndices.size());
+        final List<SearchActionListener<Result>> listeners = new ArrayList<>(shardIndices.size());
+        for (int shardIndex : shardIndices) {
+            final SearchShardIterator shardIt = shardsIts.get(shardIndex);
+            shardIts.add(shardIt);
+            shards.add(targets[shardIndex]);
+            listeners.add(createShardActionListener(targets[shardIndex], shardIndex, shardIt, this, null, thread));
+        }
+        try {
+            executePhaseOnShards(shardIts, shards, listeners);
+        } catch (final Exception e) {
+            fork(() -> {
+                for (SearchActionListener<Result> listener : listeners) {
+                    listener.onFailure(e);
+                }
+            });
+        }
+    }
+
     /**
      * Extension point to create the appropriate action listener for shard execution.
      * Override this method to provide custom listener implementations (e.g., streaming listeners).
@@ -394,6 +449,31 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         SearchActionListener<Result> listener
     );
 
+    /**
+     * Whether the request of the given shard can be sent together with the requests of the other shards on the same node,
+     * see {@link #executePhaseOnShards}. Only the first shard copies are batched, retries on other copies are sent one by one.
+     */
+    protected boolean canBatchShardRequests(SearchShardTarget shard) {
+        return false;
+    }
+
+    /**
+     * Sends the requests of several shards that live on the same node in a single request. Phases that accept shards in
+     * {@link #canBatchShardRequests} override it, the default sends the requests one by one.
+     * @param shardIts the shards iterators
+     * @param shards the shard routings to send the requests for, all on the same node
+     * @param listeners the listeners to notify on response, one per shard
+     */
+    protected void executePhaseOnShards(
+        List<SearchShardIterator> shardIts,
+        List<SearchShardTarget> shards,
+        List<SearchActionListener<Result>> listeners
+    ) {
+        for (int i = 0; i < shards.size(); i++) {
+            executePhaseOnShard(shardIts.get(i), shards.get(i), listeners.get(i));
+        }
+    }
+
     private void fork(final Runnable runnable) {
         executor.execute(new AbstractRunnable() {
             @Override
@@ -911,7 +991,11 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     protected abstract SearchPhase getNextPhase(SearchPhaseResults<Result> results, SearchPhaseContext context);
 
     void executeNext(PendingExecutions pendingExecutions, Thread originalThread) {
-        executeNext(pendingExecutions == null ? null : pendingExecutions::finishAndRunNext, originalThread);
+        if (pendingExecutions == null) {
+            // not throttled, or sent in a batch that did not take a permit
+            return;
+        }
+        executeNext(pendingExecutions::finishAndRunNext, originalThread);
     }
 
     void executeNext(Runnable runnable, Thread originalThread) {
@@ -76,6 +76,8 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
 
     private final Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory;
     private final GroupShardsIterator<SearchShardIterator> shardsIts;
+    private final ClusterState clusterState;
+    private CanMatchShardBoundsCache shardBoundsCache;
 
     CanMatchPreFilterSearchPhase(
         Logger logger,
@@ -162,6 +164,15 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         );
         this.phaseFactory = phaseFactory;
         this.shardsIts = shardsIts;
+        this.clusterState = clusterState;
+    }
+
+    /**
+     * Caches the shard bounds reported by the can_match responses so that later requests can skip shards without
+     * sending them a can_match request.
+     */
+    void setShardBoundsCache(CanMatchShardBoundsCache shardBoundsCache) {
+        this.shardBoundsCache = shardBoundsCache;
     }
 
     @Override
@@ -183,6 +194,14 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         );
     }
 
+    @Override
+    protected void onShardResult(CanMatchResponse result, SearchShardIterator shardIt) {
+        if (shardBoundsCache != null) {
+            shardBoundsCache.put(getRequest(), shardIt, clusterState, result);
+        }
+        super.onShardResult(result, shardIt);
+    }
+
     @Override
     protected SearchPhase getNextPhase(SearchPhaseResults<CanMatchResponse> results, SearchPhaseContext context) {
 
@@ -0,0 +1,279 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.search.pruning.MandatoryQueryConstraintExtractor;
+import org.opensearch.action.search.pruning.QueryConstraint;
+import org.opensearch.action.search.pruning.QueryConstraintExtractor;
+import org.opensearch.action.search.pruning.RangeQueryConstraint;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.time.DateMathParser;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.SearchService.CanMatchResponse;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.MinAndMax;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches on the coordinating node the bounds that the can_match phase reports for the primary sort field of each shard,
+ * so that later requests with a range query on that field can skip the shards whose bounds do not intersect the range
+ * without a round trip to them.
+ *
+ * Only the bounds of date fields on indices with an index level write block are cached, since their documents cannot
+ * change anymore. An entry is valid for the settings version, the mapping version and the primary term of the shard it was
+ * reported for, removing the write block bumps the settings version and invalidates the entries of the index.
+ *
+ * @opensearch.internal
+ */
+public final class CanMatchShardBoundsCache {
+
+    /**
+     * Whether the coordinating node caches the shard bounds reported by the can_match phase.
+     */
+    public static final Setting<Boolean> SEARCH_CAN_MATCH_BOUNDS_CACHE_ENABLED = Setting.boolSetting(
+        "search.can_match.bounds_cache.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum number of shard bounds cached on the coordinating node.
+     */
+    public static final Setting<Integer> SEARCH_CAN_MATCH_BOUNDS_CACHE_SIZE = Setting.intSetting(
+        "search.can_match.bounds_cache.size",
+        10_000,
+        0,
+        Property.NodeScope
+    );
+
+    private final Cache<Key, Entry> cache;
+    private final QueryConstraintExtractor constraintExtractor = new MandatoryQueryConstraintExtractor();
+    private volatile boolean enabled;
+
+    CanMatchShardBoundsCache(ClusterSettings clusterSettings) {
+        this.cache = CacheBuilder.<Key, Entry>builder().setMaximumWeight(clusterSettings.get(SEARCH_CAN_MATCH_BOUNDS_CACHE_SIZE)).build();
+        this.enabled = clusterSettings.get(SEARCH_CAN_MATCH_BOUNDS_CACHE_ENABLED);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_CAN_MATCH_BOUNDS_CACHE_ENABLED, this::setEnabled);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled == false) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Caches the bounds of the primary sort field of the request reported by the can_match response of a shard.
+     */
+    void put(SearchRequest request, SearchShardIterator shardIt, ClusterState clusterState, CanMatchResponse response) {
+        if (enabled == false || shardIt.getClusterAlias() != null) {
+            return;
+        }
+        final String field = cacheableField(request.source());
+        if (field == null || response.estimatedMinAndMax() == null) {
+            return;
+        }
+        if (response.boundsFormat() instanceof DocValueFormat.DateTime == false) {
+            return;
+        }
+        final Generation generation = generation(clusterState, shardIt.shardId());
+        if (generation == null) {
+            return;
+        }
+        cache.put(
+            new Key(shardIt.shardId(), field),
+            new Entry(generation, response.estimatedMinAndMax(), (DocValueFormat.DateTime) response.boundsFormat())
+        );
+    }
+
+    /**
+     * Skips the shards whose cached bounds prove that they cannot match the mandatory range queries of the request. At least
+     * one shard is kept so that the response is built as usual. Like the can_match phase, shards are only skipped if the
+     * request has nothing to compute on the shards that match no documents, see {@link SearchService#canRewriteToMatchNone}.
+     *
+     * @return the number of shards that were skipped
+     */
+    int skipShards(
+        SearchRequest request,
+        GroupShardsIterator<SearchShardIterator> shardIterators,
+        ClusterState clusterState,
+        LongSupplier nowInMillis
+    ) {
+        if (enabled == false || request.pointInTimeBuilder() != null || SearchService.canRewriteToMatchNone(request.source()) == false) {
+            return 0;
+        }
+        final String field = cacheableField(request.source());
+        if (field == null) {
+            return 0;
+        }
+        final List<QueryConstraint> constraints = constraintExtractor.extractMandatoryConstraints(request.source(), Set.of(field));
+        if (constraints.isEmpty()) {
+            return 0;
+        }
+        final List<SearchShardIterator> skippable = new ArrayList<>();
+        int active = 0;
+        for (SearchShardIterator shardIt : shardIterators) {
+            if (shardIt.skip()) {
+                continue;
+            }
+            active++;
+            if (shardIt.getClusterAlias() == null && canSkip(shardIt.shardId(), field, constraints, clusterState, nowInMillis)) {
+                skippable.add(shardIt);
+            }
+        }
+        // if all the shards can be skipped, the first one still runs so that the response is built as usual
+        final int skipped = skippable.isEmpty() == false && skippable.size() == active ? skippable.size() - 1 : skippable.size();
+        for (int i = skippable.size() - skipped; i < skippable.size(); i++) {
+            skippable.get(i).resetAndSkip();
+        }
+        return skipped;
+    }
+
+    private boolean canSkip(
+        ShardId shardId,
+        String field,
+        List<QueryConstraint> constraints,
+        ClusterState clusterState,
+        LongSupplier nowInMillis
+    ) {
+        final Key key = new Key(shardId, field);
+        final Entry entry = cache.get(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.generation.equals(generation(clusterState, shardId)) == false) {
+            cache.invalidate(key, entry);
+            return false;
+        }
+        for (QueryConstraint constraint : constraints) {
+            if (constraint instanceof RangeQueryConstraint range && intersects(entry, range, nowInMillis) == false) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code false} only if the range of the query is provably disjoint from the cached bounds, using the same
+     * rounding of the bounds as the range query on the shard.
+     */
+    private static boolean intersects(Entry entry, RangeQueryConstraint constraint, LongSupplier nowInMillis) {
+        if (constraint.relation() != null
+            || entry.bounds.getMin() instanceof Long == false
+            || entry.bounds.getMax() instanceof Long == false) {
+            return true;
+        }
+        final long min = (Long) entry.bounds.getMin();
+        final long max = (Long) entry.bounds.getMax();
+        try {
+            final DateMathParser parser = constraint.format() == null
+                ? entry.format.getDateMathParser()
+                : DateFormatter.forPattern(constraint.format()).toDateMathParser();
+            final ZoneId timeZone = constraint.timeZone() == null ? null : ZoneId.of(constraint.timeZone());
+            final DateFieldMapper.Resolution resolution = entry.format.getResolution();
+            if (constraint.hasLowerBound()) {
+                long lower = DateFieldMapper.DateFieldType.parseToLong(
+                    constraint.lowerValue(),
+                    constraint.includeLower() == false,
+                    timeZone,
+                    parser,
+                    nowInMillis,
+                    resolution
+                );
+                if (constraint.includeLower() == false && lower == Long.MAX_VALUE) {
+                    return false;
+                }
+                lower = constraint.includeLower() ? lower : lower + 1;
+                if (lower > max) {
+                    return false;
+                }
+            }
+            if (constraint.hasUpperBound()) {
+                long upper = DateFieldMapper.DateFieldType.parseToLong(
+                    constraint.upperValue(),
+                    constraint.includeUpper(),
+                    timeZone,
+                    parser,
+                    nowInMillis,
+                    resolution
+                );
+                if (constraint.includeUpper() == false && upper == Long.MIN_VALUE) {
+                    return false;
+                }
+                upper = constraint.includeUpper() ? upper : upper - 1;
+                if (upper < min) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            // the shard reports the parsing failure
+            return true;
+        }
+    }
+
+    private static String cacheableField(SearchSourceBuilder source) {
+        final FieldSortBuilder sortBuilder = FieldSortBuilder.getPrimaryFieldSortOrNull(source);
+        if (sortBuilder == null || sortBuilder.getNumericType() != null) {
+            return null;
+        }
+        return sortBuilder.getFieldName();
+    }
+
+    /**
+     * Returns the generation of the shard if its index can not be written anymore, {@code null} otherwise.
+     */
+    private static Generation generation(ClusterState clusterState, ShardId shardId) {
+        final IndexMetadata indexMetadata = clusterState.metadata().index(shardId.getIndex());
+        if (indexMetadata == null) {
+            return null;
+        }
+        final Settings settings = indexMetadata.getSettings();
+        if (IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.get(settings) == false
+            && IndexMetadata.INDEX_READ_ONLY_SETTING.get(settings) == false
+            && IndexMetadata.INDEX_BLOCKS_READ_ONLY_ALLOW_DELETE_SETTING.get(settings) == false) {
+            return null;
+        }
+        return new Generation(
+            indexMetadata.getSettingsVersion(),
+            indexMetadata.getMappingVersion(),
+            indexMetadata.primaryTerm(shardId.id())
+        );
+    }
+
+    int count() {
+        return cache.count();
+    }
+
+    private record Key(ShardId shardId, String field) {}
+
+    private record Generation(long settingsVersion, long mappingVersion, long primaryTerm) {}
+
+    private record Entry(Generation generation, MinAndMax<?> bounds, DocValueFormat.DateTime format) {}
+}
@@ -34,6 +34,7 @@ package org.opensearch.action.search;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.TopFieldDocs;
+import org.opensearch.Version;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.core.action.ActionListener;
@@ -46,6 +47,8 @@ import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.transport.Transport;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
@@ -66,6 +69,8 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
     private final int trackTotalHitsUpTo;
     private volatile BottomSortValuesCollector bottomSortCollector;
 
+    private boolean batchShardRequests;
+
     SearchQueryThenFetchAsyncAction(
         final Logger logger,
         final SearchTransportService searchTransportService,
@@ -138,6 +143,50 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         getSearchTransport().sendExecuteQuery(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(), listener);
     }
 
+    /**
+     * Sends the requests of the shards that live on the same node in a single request per node.
+     */
+    void setBatchShardRequests(boolean batchShardRequests) {
+        this.batchShardRequests = batchShardRequests;
+    }
+
+    @Override
+    protected boolean canBatchShardRequests(SearchShardTarget shard) {
+        // a request on a single shard fetches during the query phase, there is nothing to batch it with anyway
+        if (batchShardRequests == false || getNumShards() <= 1) {
+            return false;
+        }
+        try {
+            return getConnection(shard.getClusterAlias(), shard.getNodeId()).getVersion().onOrAfter(Version.V_3_9_0);
+        } catch (Exception e) {
+            // the shard is sent on its own, which reports the failure and moves to the next copy
+            return false;
+        }
+    }
+
+    @Override
+    protected void executePhaseOnShards(
+        final List<SearchShardIterator> shardIts,
+        final List<SearchShardTarget> shards,
+        final List<SearchActionListener<SearchPhaseResult>> listeners
+    ) {
+        final List<ShardSearchRequest> requests = new ArrayList<>(shardIts.size());
+        for (SearchShardIterator shardIt : shardIts) {
+            ShardSearchRequest request = rewriteShardSearchRequest(super.buildShardSearchRequest(shardIt));
+            request.setInboundNetworkTime(System.currentTimeMillis());
+            requests.add(request);
+        }
+        final SearchShardTarget shard = shards.get(0);
+        getSearchTransport().sendExecuteQueryBatch(
+            getConnection(shard.getClusterAlias(), shard.getNodeId()),
+            requests,
+            getRequest().getMaxConcurrentShardRequests(),
+            getTask(),
+            listeners,
+            i -> onShardSkipped(shardIts.get(i))
+        );
+    }
+
     @Override
     protected void onShardGroupFailure(int shardIndex, SearchShardTarget shardTarget, Exception exc) {
         progressListener.notifyQueryFailure(shardIndex, shardTarget, exc);
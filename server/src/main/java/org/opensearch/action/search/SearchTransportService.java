@@ -40,10 +40,12 @@ import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.CountDown;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.tasks.TaskId;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
 import org.opensearch.search.SearchPhaseResult;
@@ -60,6 +62,7 @@ import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.query.ScrollQuerySearchResult;
+import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.RemoteClusterService;
 import org.opensearch.transport.Transport;
@@ -71,11 +74,17 @@ import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
 
 /**
  * An encapsulation of {@link org.opensearch.search.SearchService} operations exposed through
@@ -93,6 +102,7 @@ public class SearchTransportService {
     public static final String DFS_ACTION_NAME = "indices:data/read/search[phase/dfs]";
     public static final String QUERY_ACTION_NAME = "indices:data/read/search[phase/query]";
     public static final String QUERY_ID_ACTION_NAME = "indices:data/read/search[phase/query/id]";
+    public static final String QUERY_BATCH_ACTION_NAME = "indices:data/read/search[phase/query/batch]";
     public static final String QUERY_SCROLL_ACTION_NAME = "indices:data/read/search[phase/query/scroll]";
     public static final String QUERY_FETCH_SCROLL_ACTION_NAME = "indices:data/read/search[phase/query+fetch/scroll]";
     public static final String FETCH_ID_SCROLL_ACTION_NAME = "indices:data/read/search[phase/fetch/id/scroll]";
@@ -253,6 +263,55 @@ public class SearchTransportService {
         );
     }
 
+    /**
+     * Sends the query phase requests of several shards that live on the same node in a single transport request. The node
+     * answers once all the shards are done and the listeners are notified per shard, in the order of the requests. The
+     * shards that the node skipped because they can't match any document are reported to {@code onShardSkipped} with their
+     * position in the requests instead of their listeners.
+     */
+    public void sendExecuteQueryBatch(
+        Transport.Connection connection,
+        final List<ShardSearchRequest> requests,
+        int maxConcurrentShardRequests,
+        SearchTask task,
+        final List<SearchActionListener<SearchPhaseResult>> listeners,
+        final IntConsumer onShardSkipped
+    ) {
+        assert requests.size() == listeners.size();
+        final List<ActionListener<SearchPhaseResult>> handlers = new ArrayList<>(listeners.size());
+        for (SearchActionListener<SearchPhaseResult> listener : listeners) {
+            handlers.add(responseWrapper.apply(connection, listener));
+        }
+        final ActionListener<ShardSearchBatchResponse> batchListener = new ActionListener<ShardSearchBatchResponse>() {
+            @Override
+            public void onResponse(ShardSearchBatchResponse response) {
+                for (int i = 0; i < handlers.size(); i++) {
+                    if (response.skipped(i)) {
+                        onShardSkipped.accept(i);
+                    } else if (response.failure(i) == null) {
+                        handlers.get(i).onResponse(response.result(i));
+                    } else {
+                        handlers.get(i).onFailure(response.failure(i));
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                for (ActionListener<SearchPhaseResult> handler : handlers) {
+                    handler.onFailure(e);
+                }
+            }
+        };
+        transportService.sendChildRequest(
+            connection,
+            QUERY_BATCH_ACTION_NAME,
+            new ShardSearchBatchRequest(requests, maxConcurrentShardRequests),
+            task,
+            new ConnectionCountingHandler<>(batchListener, ShardSearchBatchResponse::new, clientConnections, connection.getNode().getId())
+        );
+    }
+
     public void sendExecuteQuery(
         Transport.Connection connection,
         final QuerySearchRequest request,
@@ -466,6 +525,264 @@ public class SearchTransportService {
 
     }
 
+    /**
+     * The query phase requests of several shards of the same node
+     *
+     * @opensearch.internal
+     */
+    static class ShardSearchBatchRequest extends TransportRequest implements IndicesRequest {
+        private final List<ShardSearchRequest> requests;
+        private final int maxConcurrentShardRequests;
+
+        ShardSearchBatchRequest(List<ShardSearchRequest> requests, int maxConcurrentShardRequests) {
+            this.requests = Objects.requireNonNull(requests);
+            this.maxConcurrentShardRequests = maxConcurrentShardRequests;
+        }
+
+        ShardSearchBatchRequest(StreamInput in) throws IOException {
+            super(in);
+            requests = in.readList(ShardSearchRequest::new);
+            maxConcurrentShardRequests = in.readVInt();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeList(requests);
+            out.writeVInt(maxConcurrentShardRequests);
+        }
+
+        List<ShardSearchRequest> requests() {
+            return requests;
+        }
+
+        int maxConcurrentShardRequests() {
+            return maxConcurrentShardRequests;
+        }
+
+        @Override
+        public String[] indices() {
+            final Set<String> indices = new LinkedHashSet<>();
+            for (ShardSearchRequest request : requests) {
+                if (request.indices() != null) {
+                    Collections.addAll(indices, request.indices());
+                }
+            }
+            return indices.toArray(new String[0]);
+        }
+
+        @Override
+        public IndicesOptions indicesOptions() {
+            return requests.isEmpty() ? null : requests.get(0).indicesOptions();
+        }
+
+        @Override
+        public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+            // all the shards of the batch share the search shard task, cancelling the parent cancels all of them
+            final Supplier<String> metadataSupplier = requests.isEmpty() ? () -> "" : requests.get(0)::getMetadataSupplier;
+            return new SearchShardTask(id, type, action, getDescription(), parentTaskId, headers, metadataSupplier);
+        }
+
+        @Override
+        public String getDescription() {
+            final StringBuilder sb = new StringBuilder("shardIds[");
+            for (int i = 0; i < requests.size(); i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(requests.get(i).shardId());
+            }
+            return sb.append(']').toString();
+        }
+    }
+
+    /**
+     * The query phase results of a {@link ShardSearchBatchRequest}, each shard either has a result or a failure, or was
+     * skipped because it can't match any document
+     *
+     * @opensearch.internal
+     */
+    static class ShardSearchBatchResponse extends TransportResponse {
+        private final SearchPhaseResult[] results;
+        private final Exception[] failures;
+        private final boolean[] skipped;
+
+        ShardSearchBatchResponse(int size) {
+            this.results = new SearchPhaseResult[size];
+            this.failures = new Exception[size];
+            this.skipped = new boolean[size];
+        }
+
+        ShardSearchBatchResponse(StreamInput in) throws IOException {
+            super(in);
+            final int size = in.readVInt();
+            results = new SearchPhaseResult[size];
+            failures = new Exception[size];
+            skipped = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                if (in.readBoolean()) {
+                    skipped[i] = true;
+                } else if (in.readBoolean()) {
+                    // batches are only sent for requests on more than one shard, which never fetch in the query phase
+                    results[i] = new QuerySearchResult(in);
+                } else {
+                    failures[i] = in.readException();
+                }
+            }
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(results.length);
+            for (int i = 0; i < results.length; i++) {
+                out.writeBoolean(skipped[i]);
+                if (skipped[i]) {
+                    continue;
+                }
+                if (failures[i] == null) {
+                    out.writeBoolean(true);
+                    results[i].writeTo(out);
+                } else {
+                    out.writeBoolean(false);
+                    out.writeException(failures[i]);
+                }
+            }
+        }
+
+        SearchPhaseResult result(int index) {
+            return results[index];
+        }
+
+        Exception failure(int index) {
+            return failures[index];
+        }
+
+        boolean skipped(int index) {
+            return skipped[index];
+        }
+    }
+
+    /**
+     * Executes the shards of a {@link ShardSearchBatchRequest} with at most {@code maxConcurrentShardRequests} of them
+     * running at the same time, which is the limit the coordinating node applies when the shards are sent one by one.
+     * The source shared by the shards is rewritten once for the whole batch, and the shards that can return an empty
+     * response are checked with can_match up front so that those which match nothing never take one of the slots.
+     */
+    private static void executeQueryBatch(
+        SearchService searchService,
+        ShardSearchBatchRequest request,
+        SearchShardTask task,
+        ActionListener<ShardSearchBatchResponse> listener
+    ) {
+        final List<ShardSearchRequest> requests = request.requests();
+        final ShardSearchBatchResponse response = new ShardSearchBatchResponse(requests.size());
+        if (requests.isEmpty()) {
+            listener.onResponse(response);
+            return;
+        }
+        searchService.rewriteSharedSource(requests, ActionListener.wrap(ignored -> {
+            final List<Integer> toExecute = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                if (canSkipShard(searchService, requests.get(i))) {
+                    response.skipped[i] = true;
+                } else {
+                    toExecute.add(i);
+                }
+            }
+            if (toExecute.isEmpty()) {
+                // the coordinating node needs a non empty response to reduce, it is not guaranteed to get one from other nodes
+                response.skipped[0] = false;
+                toExecute.add(0);
+            }
+            executeQueryBatchShards(searchService, request, toExecute, task, response, listener);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Whether the shard can be answered with an empty response without running its query phase. The shards of a batch are
+     * sent before the coordinating node got any response, so the shards may be skipped as long as one shard of the batch
+     * runs its query phase. Failures are left to the query phase of the shard, which reports them the same way as when the
+     * shards are sent one by one.
+     */
+    private static boolean canSkipShard(SearchService searchService, ShardSearchRequest request) {
+        if (request.scroll() != null || request.numberOfShards() <= 1 || SearchService.canRewriteToMatchNone(request.source()) == false) {
+            return false;
+        }
+        try {
+            return searchService.canMatch(new ShardSearchRequest(request)).canMatch() == false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void executeQueryBatchShards(
+        SearchService searchService,
+        ShardSearchBatchRequest request,
+        List<Integer> toExecute,
+        SearchShardTask task,
+        ShardSearchBatchResponse response,
+        ActionListener<ShardSearchBatchResponse> listener
+    ) {
+        if (toExecute.isEmpty()) {
+            listener.onResponse(response);
+            return;
+        }
+        final CountDown countDown = new CountDown(toExecute.size());
+        final AtomicInteger nextShard = new AtomicInteger();
+        // the number of shard executions that are owed, only the thread that moves it from 0 runs them so that shards
+        // completing on the calling thread do not start the next shard recursively
+        final AtomicInteger pendingRuns = new AtomicInteger();
+        final Runnable executeNext = new Runnable() {
+            @Override
+            public void run() {
+                if (pendingRuns.getAndIncrement() > 0) {
+                    return;
+                }
+                do {
+                    executeShard();
+                } while (pendingRuns.decrementAndGet() > 0);
+            }
+
+            private void executeShard() {
+                final int next = nextShard.getAndIncrement();
+                if (next >= toExecute.size()) {
+                    return;
+                }
+                final int index = toExecute.get(next);
+                final ActionListener<SearchPhaseResult> shardListener = new ActionListener<SearchPhaseResult>() {
+                    @Override
+                    public void onResponse(SearchPhaseResult result) {
+                        response.results[index] = result;
+                        onShardDone();
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        response.failures[index] = e;
+                        onShardDone();
+                    }
+                };
+                try {
+                    searchService.executeQueryPhase(request.requests().get(index), false, task, shardListener);
+                } catch (Exception e) {
+                    shardListener.onFailure(e);
+                }
+            }
+
+            private void onShardDone() {
+                if (countDown.countDown()) {
+                    listener.onResponse(response);
+                } else {
+                    run();
+                }
+            }
+        };
+        final int concurrency = Math.max(1, Math.min(request.maxConcurrentShardRequests(), toExecute.size()));
+        for (int i = 0; i < concurrency; i++) {
+            executeNext.run();
+        }
+    }
+
     /**
      * A search free context response
      *
@@ -579,6 +896,22 @@ public class SearchTransportService {
             (request) -> ((ShardSearchRequest) request).numberOfShards() == 1 ? QueryFetchSearchResult::new : QuerySearchResult::new
         );
 
+        transportService.registerRequestHandler(
+            QUERY_BATCH_ACTION_NAME,
+            ThreadPool.Names.SAME,
+            false,
+            true,
+            AdmissionControlActionType.SEARCH,
+            ShardSearchBatchRequest::new,
+            (request, channel, task) -> executeQueryBatch(
+                searchService,
+                request,
+                (SearchShardTask) task,
+                new ChannelActionListener<>(channel, QUERY_BATCH_ACTION_NAME, request)
+            )
+        );
+        TransportActionProxy.registerProxyAction(transportService, QUERY_BATCH_ACTION_NAME, ShardSearchBatchResponse::new);
+
         transportService.registerRequestHandler(
             QUERY_ID_ACTION_NAME,
             ThreadPool.Names.SAME,
@@ -173,6 +173,16 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    /**
+     * Sends the query phase requests of the shards that live on the same node in a single request per node.
+     */
+    public static final Setting<Boolean> SEARCH_QUERY_PHASE_BATCH_SHARD_REQUESTS = Setting.boolSetting(
+        "search.query_phase.batch_shard_requests.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     final NodeClient client;
     private final ThreadPool threadPool;
     final ClusterService clusterService;
@@ -194,6 +204,10 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
 
     private final SearchIndexPruningService searchIndexPruningService;
 
+    private final CanMatchShardBoundsCache canMatchShardBoundsCache;
+
+    private volatile boolean batchShardRequests;
+
     @Inject
     public TransportSearchAction(
         NodeClient client,
@@ -240,6 +254,10 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             clusterService.getClusterSettings(),
             new ClusterStateFieldDomainProvider()
         );
+        this.canMatchShardBoundsCache = new CanMatchShardBoundsCache(clusterService.getClusterSettings());
+        this.batchShardRequests = clusterService.getClusterSettings().get(SEARCH_QUERY_PHASE_BATCH_SHARD_REQUESTS);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SEARCH_QUERY_PHASE_BATCH_SHARD_REQUESTS, batch -> this.batchShardRequests = batch);
     }
 
     private Map<String, AliasFilter> buildPerIndexAliasFilter(
@@ -1293,6 +1311,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         SearchRequestContext searchRequestContext
     ) {
         maybeApplySearchIndexPruning(searchRequest, shardIterators, clusterState, timeProvider);
+        canMatchShardBoundsCache.skipShards(searchRequest, shardIterators, clusterState, timeProvider::getAbsoluteStartMillis);
         return createSearchAsyncAction(
             task,
             searchRequest,
@@ -1355,7 +1374,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         SearchRequestContext searchRequestContext
     ) {
         if (preFilter) {
-            return new CanMatchPreFilterSearchPhase(
+            final CanMatchPreFilterSearchPhase canMatchPhase = new CanMatchPreFilterSearchPhase(
                 logger,
                 searchTransportService,
                 connectionLookup,
@@ -1392,6 +1411,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 searchRequestContext,
                 tracer
             );
+            canMatchPhase.setShardBoundsCache(canMatchShardBoundsCache);
+            return canMatchPhase;
         } else {
             final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(
                 executor,
@@ -1427,7 +1448,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                     );
                     break;
                 case QUERY_THEN_FETCH:
-                    searchAsyncAction = new SearchQueryThenFetchAsyncAction(
+                    final SearchQueryThenFetchAsyncAction queryThenFetchAsyncAction = new SearchQueryThenFetchAsyncAction(
                         logger,
                         searchTransportService,
                         connectionLookup,
@@ -1447,6 +1468,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         searchRequestContext,
                         tracer
                     );
+                    queryThenFetchAsyncAction.setBatchShardRequests(batchShardRequests);
+                    searchAsyncAction = queryThenFetchAsyncAction;
                     break;
                 default:
                     throw new IllegalStateException("Unknown search type: [" + searchRequest.searchType() + "]");
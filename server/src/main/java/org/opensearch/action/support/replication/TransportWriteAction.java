@@ -71,6 +71,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 
 /**
  * Base class for transport actions that modify data in some shard like index, delete, and shardBulk.
@@ -334,19 +335,25 @@ public abstract class TransportWriteAction<
         public final Location location;
         public final IndexShard primary;
         private final Logger logger;
+        private final LongConsumer translogSyncListener;
 
+        /**
+         * @param translogSyncListener notified with the time in nanoseconds the translog sync took, if the write syncs the translog
+         */
         public WritePrimaryResult(
             ReplicaRequest request,
             @Nullable Response finalResponse,
             @Nullable Location location,
             @Nullable Exception operationFailure,
             IndexShard primary,
-            Logger logger
+            Logger logger,
+            LongConsumer translogSyncListener
         ) {
             super(request, finalResponse, operationFailure);
             this.location = location;
             this.primary = primary;
             this.logger = logger;
+            this.translogSyncListener = translogSyncListener;
             assert location == null || operationFailure == null : "expected either failure to be null or translog location to be null, "
                 + "but found: ["
                 + location
@@ -375,7 +382,7 @@ public abstract class TransportWriteAction<
                     public void onFailure(Exception ex) {
                         listener.onFailure(ex);
                     }
-                }, logger).run();
+                }, logger, translogSyncListener).run();
             }
         }
     }
@@ -390,19 +397,25 @@ public abstract class TransportWriteAction<
         private final ReplicaRequest request;
         private final IndexShard replica;
         private final Logger logger;
+        private final LongConsumer translogSyncListener;
 
+        /**
+         * @param translogSyncListener notified with the time in nanoseconds the translog sync took, if the write syncs the translog
+         */
         public WriteReplicaResult(
             ReplicaRequest request,
             @Nullable Location location,
             @Nullable Exception operationFailure,
             IndexShard replica,
-            Logger logger
+            Logger logger,
+            LongConsumer translogSyncListener
         ) {
             super(operationFailure);
             this.location = location;
             this.request = request;
             this.replica = replica;
             this.logger = logger;
+            this.translogSyncListener = translogSyncListener;
         }
 
         @Override
@@ -420,7 +433,7 @@ public abstract class TransportWriteAction<
                     public void onFailure(Exception ex) {
                         listener.onFailure(ex);
                     }
-                }, logger).run();
+                }, logger, translogSyncListener).run();
             }
         }
     }
@@ -470,15 +483,18 @@ public abstract class TransportWriteAction<
         private final IndexShard indexShard;
         private final WriteRequest<?> request;
         private final Logger logger;
+        private final LongConsumer translogSyncListener;
 
         AsyncAfterWriteAction(
             final IndexShard indexShard,
             final WriteRequest<?> request,
             @Nullable final Translog.Location location,
             final RespondingWriteResult respond,
-            final Logger logger
+            final Logger logger,
+            final LongConsumer translogSyncListener
         ) {
             this.indexShard = indexShard;
+            this.translogSyncListener = translogSyncListener;
             this.request = request;
             boolean waitUntilRefresh = false;
             switch (request.getRefreshPolicy()) {
@@ -541,7 +557,9 @@ public abstract class TransportWriteAction<
             }
             if (sync) {
                 assert pendingOps.get() > 0;
+                final long syncStartTime = System.nanoTime();
                 indexShard.sync(location, (ex) -> {
+                    translogSyncListener.accept(System.nanoTime() - syncStartTime);
                     syncFailure.set(ex);
                     maybeFinish();
                 });
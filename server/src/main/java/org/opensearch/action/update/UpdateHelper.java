@@ -91,6 +91,13 @@ public class UpdateHelper {
         return prepare(indexShard.shardId(), request, getResult, nowInMillis);
     }
 
+    /**
+     * Prepares an update request against the given version of the document instead of getting the document from the shard.
+     */
+    public Result prepare(UpdateRequest request, IndexShard indexShard, GetResult getResult, LongSupplier nowInMillis) {
+        return prepare(indexShard.shardId(), request, getResult, nowInMillis);
+    }
+
     /**
      * Prepares an update request by converting it into an index or delete request or an update response (no action, in the event of a
      * noop).
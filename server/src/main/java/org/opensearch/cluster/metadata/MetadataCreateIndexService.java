@@ -1199,6 +1199,29 @@ public class MetadataCreateIndexService {
         }
     }
 
+    /**
+     * Validates that the source of index operations is only compressed in translog files once all the nodes of the cluster can
+     * read {@link Translog.Index#FORMAT_COMPRESSED_SOURCE}. Older nodes would read the compressed bytes as the source when they
+     * replay or recover the translog files of a shard. Nodes older than the minimum node version can't join the cluster, so the
+     * check only needs to be done when the setting is enabled.
+     */
+    public static void validateTranslogSourceCompressionSettings(Settings settings, ClusterState state) {
+        if (IndexSettings.INDEX_TRANSLOG_SOURCE_COMPRESSION_ENABLED_SETTING.get(settings) == false) {
+            return;
+        }
+        Version minNodeVersion = state.nodes().getMinNodeVersion();
+        if (minNodeVersion.before(Version.V_3_9_0)) {
+            throw new IllegalArgumentException(
+                IndexSettings.INDEX_TRANSLOG_SOURCE_COMPRESSION_ENABLED_SETTING.getKey()
+                    + " requires all nodes in the cluster to be on version ["
+                    + Version.V_3_9_0
+                    + "] or later, but the minimum node version is ["
+                    + minNodeVersion
+                    + "]"
+            );
+        }
+    }
+
     /**
      * Validates ingestion source settings for version compatibility and mapper settings correctness.
      * In a mixed cluster, older nodes may not recognize newer mapper types (e.g., field_mapping),
@@ -1675,6 +1698,7 @@ public class MetadataCreateIndexService {
         validateIndexSettings(request.index(), request.settings(), forbidPrivateIndexSettings);
         validateContext(request);
         validateIngestionSourceSettings(request.settings(), state);
+        validateTranslogSourceCompressionSettings(request.settings(), state);
     }
 
     public void validateIndexSettings(String indexName, final Settings settings, final boolean forbidPrivateIndexSettings)
@@ -34,6 +34,8 @@ package org.opensearch.common.settings;
 import org.apache.logging.log4j.LogManager;
 import org.opensearch.action.admin.cluster.configuration.TransportAddVotingConfigExclusionsAction;
 import org.opensearch.action.admin.indices.close.TransportCloseIndexAction;
+import org.opensearch.action.bulk.TransportShardBulkAction;
+import org.opensearch.action.search.CanMatchShardBoundsCache;
 import org.opensearch.action.search.CreatePitController;
 import org.opensearch.action.search.SearchRequestSlowLog;
 import org.opensearch.action.search.SearchRequestStats;
@@ -125,11 +127,14 @@ import org.opensearch.index.autoforcemerge.ForceMergeManagerSettings;
 import org.opensearch.index.compositeindex.CompositeIndexSettings;
 import org.opensearch.index.remote.RemoteStorePressureSettings;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
+import org.opensearch.index.shard.PrimaryReplicaSyncer;
 import org.opensearch.index.store.remote.filecache.FileCacheSettings;
+import org.opensearch.index.translog.TranslogGroupSyncService;
 import org.opensearch.indices.ClusterMergeSchedulerConfig;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
+import org.opensearch.indices.IndicesSegmentRequestCache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.indices.ShardLimitValidator;
@@ -171,6 +176,7 @@ import org.opensearch.search.backpressure.settings.NodeDuressSettings;
 import org.opensearch.search.backpressure.settings.SearchBackpressureSettings;
 import org.opensearch.search.backpressure.settings.SearchShardTaskSettings;
 import org.opensearch.search.backpressure.settings.SearchTaskSettings;
+import org.opensearch.search.deciders.ConcurrentSearchSliceController;
 import org.opensearch.search.fetch.subphase.highlight.FastVectorHighlighter;
 import org.opensearch.search.pipeline.SearchPipelineService;
 import org.opensearch.search.streaming.FlushModeResolver;
@@ -311,6 +317,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 FsRepository.REPOSITORIES_COMPRESS_SETTING,
                 FsRepository.REPOSITORIES_LOCATION_SETTING,
                 IndicesQueryCache.INDICES_CACHE_QUERY_SIZE_SETTING,
+                TranslogGroupSyncService.TRANSLOG_GROUP_SYNC_ENABLED,
+                TranslogGroupSyncService.TRANSLOG_GROUP_SYNC_MAX_DELAY,
                 IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING,
                 IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING,
                 IndicesQueryCache.INDICES_QUERIES_CACHE_SKIP_CACHE_FACTOR,
@@ -458,6 +466,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
                 TransportSearchAction.SEARCH_CANCEL_AFTER_TIME_INTERVAL_SETTING,
                 TransportSearchAction.SEARCH_PHASE_TOOK_ENABLED,
+                TransportSearchAction.SEARCH_QUERY_PHASE_BATCH_SHARD_REQUESTS,
+                CanMatchShardBoundsCache.SEARCH_CAN_MATCH_BOUNDS_CACHE_ENABLED,
+                CanMatchShardBoundsCache.SEARCH_CAN_MATCH_BOUNDS_CACHE_SIZE,
                 SearchRequestStats.SEARCH_REQUEST_STATS_ENABLED,
                 RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
                 SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
@@ -484,6 +495,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_TYPE_SETTING,
                 TransportReplicationAction.REPLICATION_INITIAL_RETRY_BACKOFF_BOUND,
                 TransportReplicationAction.REPLICATION_RETRY_TIMEOUT,
+                TransportShardBulkAction.BULK_DOCUMENT_PARSE_PARALLELISM,
+                TransportShardBulkAction.BULK_REUSE_UPDATED_SOURCE,
+                PrimaryReplicaSyncer.RESYNC_MAX_CONCURRENT_CHUNKS,
                 PublishCheckpointAction.PUBLISH_CHECK_POINT_RETRY_TIMEOUT,
                 TransportSettings.HOST,
                 TransportSettings.PUBLISH_HOST,
@@ -565,6 +579,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IndicesRequestCache.INDICES_REQUEST_CACHE_CLEANUP_INTERVAL_SETTING,
                 IndicesRequestCache.INDICES_REQUEST_CACHE_STALENESS_THRESHOLD_SETTING,
                 IndicesRequestCache.INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING,
+                IndicesSegmentRequestCache.INDICES_SEGMENT_REQUEST_CACHE_SIZE,
                 HunspellService.HUNSPELL_LAZY_LOAD,
                 HunspellService.HUNSPELL_IGNORE_CASE,
                 HunspellService.HUNSPELL_DICTIONARY_OPTIONS,
@@ -605,6 +620,10 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 SearchService.SEARCH_MAX_QUERY_STRING_LENGTH_MONITOR_ONLY,
                 SearchService.CARDINALITY_AGGREGATION_PRUNING_THRESHOLD,
                 SearchService.TERMS_AGGREGATION_MAX_PRECOMPUTE_CARDINALITY,
+                ConcurrentSearchSliceController.ADAPTIVE_SLICE_COUNT_ENABLED_SETTING,
+                ConcurrentSearchSliceController.ADAPTIVE_SLICE_COUNT_CPU_THRESHOLD_SETTING,
+                ConcurrentSearchSliceController.ADAPTIVE_SLICE_COUNT_MIN_DOCS_PER_SLICE_SETTING,
+                SearchService.BOUNDED_PARTIAL_REDUCE_SETTING,
                 CardinalityAggregator.CARDINALITY_AGGREGATION_HYBRID_COLLECTOR_ENABLED,
                 CardinalityAggregator.CARDINALITY_AGGREGATION_HYBRID_COLLECTOR_MEMORY_THRESHOLD,
                 SearchService.KEYWORD_INDEX_OR_DOC_VALUES_ENABLED,
@@ -658,6 +677,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IndexingMemoryController.NATIVE_INDEX_BUFFER_SIZE_SETTING,
                 IndexingMemoryController.MIN_NATIVE_INDEX_BUFFER_SIZE_SETTING,
                 IndexingMemoryController.MAX_NATIVE_INDEX_BUFFER_SIZE_SETTING,
+                IndexingMemoryController.WRITE_RATE_AWARE_SETTING,
                 ResourceWatcherService.ENABLED,
                 ResourceWatcherService.RELOAD_INTERVAL_HIGH,
                 ResourceWatcherService.RELOAD_INTERVAL_MEDIUM,
@@ -784,6 +804,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 // Settings related to Searchable Snapshots
                 Node.NODE_SEARCH_CACHE_SIZE_SETTING,
                 FileCacheSettings.DATA_TO_FILE_CACHE_SIZE_RATIO_SETTING,
+                FileCacheSettings.FILE_CACHE_PROTECTED_RATIO_SETTING,
 
                 // Settings related to Tiered Storage
                 TieringUtils.H2W_MAX_CONCURRENT_TIERING_REQUESTS,
@@ -943,6 +964,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 StreamSearchTransportService.STREAM_SEARCH_ENABLED,
                 TieredStoragePrefetchSettings.READ_AHEAD_BLOCK_COUNT,
                 TieredStoragePrefetchSettings.STORED_FIELDS_PREFETCH_ENABLED_SETTING,
+                TieredStoragePrefetchSettings.ADAPTIVE_READ_AHEAD_ENABLED_SETTING,
+                TieredStoragePrefetchSettings.READ_AHEAD_MAX_IN_FLIGHT_BLOCKS,
+                TieredStoragePrefetchSettings.PREFETCH_ON_OPEN_ENABLED_SETTING,
                 SearchIndexPruningSettings.ENABLED,
                 SearchIndexPruningSettings.MIN_SHARDS,
                 SearchIndexPruningSettings.FIELDS
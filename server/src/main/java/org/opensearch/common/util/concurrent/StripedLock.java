@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.lease.Releasable;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Manages a fixed number of locks that keys are mapped to by their hash code. Unlike {@link KeyedLock}, acquiring a lock doesn't
+ * touch a shared map, at the cost of keys sharing a lock with the other keys of their stripe. Since two keys can share a lock, a
+ * thread must never wait for the lock of a key while holding the lock of another key.
+ * Note: this lock is reentrant
+ *
+ * @opensearch.internal
+ */
+public final class StripedLock<T> {
+
+    public static final int MAX_STRIPES = 1 << 16;
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * Creates a non-fair lock with at least the given number of stripes, rounded up to the next power of two
+     */
+    public StripedLock(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be greater than 0 but was [" + stripes + "]");
+        }
+        if (stripes > MAX_STRIPES) {
+            throw new IllegalArgumentException("stripes must be at most [" + MAX_STRIPES + "] but was [" + stripes + "]");
+        }
+        final int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the number of stripes of this lock
+     */
+    public int stripes() {
+        return locks.length;
+    }
+
+    /**
+     * Acquires the lock of the stripe of the given key. The lock can be acquired by the same thread multiple times. The lock is
+     * released by closing the returned {@link Releasable}, closing it more than once has no effect.
+     */
+    public Releasable acquire(T key) {
+        final ReentrantLock lock = locks[stripe(key)];
+        lock.lock();
+        return new ReleasableLock(lock);
+    }
+
+    /**
+     * Tries to acquire the lock of the stripe of the given key and returns it. If the lock can't be acquired null is returned.
+     */
+    public Releasable tryAcquire(T key) {
+        final ReentrantLock lock = locks[stripe(key)];
+        return lock.tryLock() ? new ReleasableLock(lock) : null;
+    }
+
+    /**
+     * Returns <code>true</code> iff the caller thread holds the lock of the stripe of the given key
+     */
+    public boolean isHeldByCurrentThread(T key) {
+        return locks[stripe(key)].isHeldByCurrentThread();
+    }
+
+    private int stripe(T key) {
+        final int hash = key.hashCode();
+        // spread the high bits since only the low bits select the stripe
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static final class ReleasableLock implements Releasable {
+        final ReentrantLock lock;
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        private ReleasableLock(ReentrantLock lock) {
+            this.lock = lock;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                lock.unlock();
+            }
+        }
+    }
+}
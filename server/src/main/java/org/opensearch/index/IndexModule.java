@@ -94,6 +94,7 @@ import org.opensearch.index.store.remote.directory.RemoteSnapshotDirectoryFactor
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.NodeCacheService;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupSyncService;
 import org.opensearch.indices.ClusterMergeSchedulerConfig;
 import org.opensearch.indices.IndicesBitsetFilterCache;
 import org.opensearch.indices.IndicesQueryCache;
@@ -282,6 +283,7 @@ public final class IndexModule {
     private final Map<String, IndexStorePlugin.CompositeDirectoryFactory> compositeDirectoryFactories;
     private final Map<String, DataFormatAwareStoreDirectoryFactory> dataFormatAwareStoreDirectoryFactories;
     private final SetOnce<BiFunction<IndexSettings, IndicesQueryCache, QueryCache>> forceQueryCacheProvider = new SetOnce<>();
+    private final SetOnce<TranslogGroupSyncService> translogGroupSyncService = new SetOnce<>();
     private final List<SearchOperationListener> searchOperationListeners = new ArrayList<>();
     private final List<IndexingOperationListener> indexOperationListeners = new ArrayList<>();
     private final IndexNameExpressionResolver expressionResolver;
@@ -519,6 +521,15 @@ public final class IndexModule {
         this.indexReaderWrapper.set(indexReaderWrapperFactory);
     }
 
+    /**
+     * Sets the node level service that groups the translog syncs of the shards of this index with the ones of the other shards
+     * that share their data path.
+     */
+    public void setTranslogGroupSyncService(TranslogGroupSyncService translogGroupSyncService) {
+        ensureNotFrozen();
+        this.translogGroupSyncService.set(translogGroupSyncService);
+    }
+
     IndexEventListener freeze() { // pkg private for testing
         if (this.frozen.compareAndSet(false, true)) {
             return new CompositeIndexEventListener(indexSettings, indexEventListeners);
@@ -1101,7 +1112,8 @@ public final class IndexModule {
                 clusterMergeSchedulerConfig,
                 dataFormatRegistry,
                 dataFormatAwareStoreDirectoryFactory,
-                nodeCacheService
+                nodeCacheService,
+                translogGroupSyncService.get()
             );
             success = true;
             return indexService;
@@ -109,6 +109,7 @@ import org.opensearch.index.store.Store;
 import org.opensearch.index.store.remote.filecache.NodeCacheService;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupSyncService;
 import org.opensearch.indices.ClusterMergeSchedulerConfig;
 import org.opensearch.indices.IndicesBitsetFilterCache;
 import org.opensearch.indices.RemoteStoreSettings;
@@ -217,6 +218,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private final RecoverySettings recoverySettings;
     private final RemoteStoreSettings remoteStoreSettings;
     private final NodeCacheService nodeCacheService;
+    @Nullable
+    private final TranslogGroupSyncService translogGroupSyncService;
     private final CompositeIndexSettings compositeIndexSettings;
     private final Consumer<IndexShard> replicator;
     private final Function<ShardId, ReplicationStats> segmentReplicationStatsProvider;
@@ -274,7 +277,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         ClusterMergeSchedulerConfig clusterMergeSchedulerConfig,
         DataFormatRegistry dataFormatRegistry,
         DataFormatAwareStoreDirectoryFactory dataFormatAwareStoreDirectoryFactory,
-        NodeCacheService nodeCacheService
+        NodeCacheService nodeCacheService,
+        @Nullable TranslogGroupSyncService translogGroupSyncService
     ) {
         super(indexSettings);
         this.storeFactory = storeFactory;
@@ -380,6 +384,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         this.remoteStoreSettings = remoteStoreSettings;
         this.compositeIndexSettings = compositeIndexSettings;
         this.nodeCacheService = nodeCacheService;
+        this.translogGroupSyncService = translogGroupSyncService;
         this.replicator = replicator;
         this.segmentReplicationStatsProvider = segmentReplicationStatsProvider;
         indexSettings.setDefaultMaxMergesAtOnce(clusterDefaultMaxMergeAtOnceSupplier.get());
@@ -893,7 +898,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                 this.indexSettings.isSegRepEnabledOrRemoteNode() ? mergedSegmentPublisher : null,
                 this.indexSettings.isSegRepEnabledOrRemoteNode() ? referencedSegmentsPublisher : null,
                 checksumStrategies,
-                dataFormatRegistry
+                dataFormatRegistry,
+                translogGroupSyncService
             );
             eventListener.indexShardStateChanged(indexShard, null, indexShard.state(), "shard created");
             eventListener.afterIndexShardCreated(indexShard);
@@ -35,6 +35,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.sandbox.index.MergeOnFlushMergePolicy;
 import org.opensearch.Version;
+import org.opensearch.cluster.metadata.DataStream;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.logging.Loggers;
@@ -44,6 +45,7 @@ import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.FeatureFlags;
+import org.opensearch.common.util.concurrent.StripedLock;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
@@ -218,6 +220,18 @@ public final class IndexSettings {
         false,
         Property.IndexScope
     );
+
+    /**
+     * Whether the source of index operations is compressed in the translog files of the index. Operations are only compressed if
+     * that makes them smaller, and translog files that mix compressed and uncompressed operations can only be read by nodes that
+     * know the compressed format, so this can only be enabled once all the nodes of the cluster are on 3.9.0 or later.
+     */
+    public static final Setting<Boolean> INDEX_TRANSLOG_SOURCE_COMPRESSION_ENABLED_SETTING = Setting.boolSetting(
+        "index.translog.source_compression.enabled",
+        false,
+        Property.IndexScope,
+        Property.Dynamic
+    );
     public static final Setting<Boolean> INDEX_WARMER_ENABLED_SETTING = Setting.boolSetting(
         "index.warmer.enabled",
         true,
@@ -527,6 +541,19 @@ public final class IndexSettings {
         Property.Dynamic
     );
 
+    /**
+     * The number of locks that the engine spreads the document ids over when it updates its version map. {@code 0} locks every
+     * document id on its own, which allocates a lock per in-flight operation.
+     */
+    public static final Setting<Integer> INDEX_VERSION_MAP_LOCK_STRIPES_SETTING = Setting.intSetting(
+        "index.engine.version_map.lock_stripes",
+        0,
+        0,
+        StripedLock.MAX_STRIPES,
+        Property.IndexScope,
+        Property.Final
+    );
+
     /**
      * Controls how many soft-deleted documents will be kept around before being merged away. Keeping more deleted
      * documents increases the chance of operation-based recoveries and allows querying a longer history of documents.
@@ -959,6 +986,7 @@ public final class IndexSettings {
     private final boolean defaultAllowUnmappedFields;
     private volatile Translog.Durability durability;
     private final boolean translogReadForward;
+    private volatile boolean translogSourceCompressionEnabled;
     private volatile TimeValue syncInterval;
     private volatile TimeValue publishReferencedSegmentsInterval;
     private volatile TimeValue refreshInterval;
@@ -977,6 +1005,7 @@ public final class IndexSettings {
     private final boolean softDeleteEnabled;
     private final boolean contextAwareEnabled;
     private int maxRetryOnLookupMapAcquisitionException;
+    private final int versionMapLockStripes;
     private volatile long softDeleteRetentionOperations;
 
     private volatile long retentionLeaseMillis;
@@ -1187,6 +1216,7 @@ public final class IndexSettings {
         this.allowDerivedField = scopedSettings.get(ALLOW_DERIVED_FIELDS);
         this.durability = scopedSettings.get(INDEX_TRANSLOG_DURABILITY_SETTING);
         this.translogReadForward = INDEX_TRANSLOG_READ_FORWARD_SETTING.get(settings);
+        this.translogSourceCompressionEnabled = scopedSettings.get(INDEX_TRANSLOG_SOURCE_COMPRESSION_ENABLED_SETTING);
         defaultFields = scopedSettings.get(DEFAULT_FIELD_SETTING);
         syncInterval = INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.get(settings);
         publishReferencedSegmentsInterval = INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING.get(settings);
@@ -1200,6 +1230,7 @@ public final class IndexSettings {
         softDeleteEnabled = scopedSettings.get(INDEX_SOFT_DELETES_SETTING);
         contextAwareEnabled = scopedSettings.get(INDEX_CONTEXT_AWARE_ENABLED_SETTING);
         maxRetryOnLookupMapAcquisitionException = scopedSettings.get(INDEX_MAX_RETRY_ON_LOOKUP_MAP_LOCK_ACQUISITION_EXCEPTION);
+        versionMapLockStripes = scopedSettings.get(INDEX_VERSION_MAP_LOCK_STRIPES_SETTING);
         assert softDeleteEnabled || version.before(Version.V_2_0_0) : "soft deletes must be enabled in version " + version;
         softDeleteRetentionOperations = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING);
         retentionLeaseMillis = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING).millis();
@@ -1326,6 +1357,10 @@ public final class IndexSettings {
         );
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_DURABILITY_SETTING, this::setTranslogDurability);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_SYNC_INTERVAL_SETTING, this::setTranslogSyncInterval);
+        scopedSettings.addSettingsUpdateConsumer(
+            INDEX_TRANSLOG_SOURCE_COMPRESSION_ENABLED_SETTING,
+            this::setTranslogSourceCompressionEnabled
+        );
         scopedSettings.addSettingsUpdateConsumer(
             INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING,
             this::setPublishReferencedSegmentsInterval
@@ -2031,6 +2066,8 @@ public final class IndexSettings {
 
     /**
      * Returns the merge policy that should be used for this index.
+     * Time series indices created on or after {@link Version#V_3_9_0} that are sorted on @timestamp and don't configure a merge
+     * policy use the log byte size merge policy.
      *
      * @param isTimeSeriesIndex true if index contains @timestamp field
      */
@@ -2057,7 +2094,13 @@ public final class IndexSettings {
                             mergePolicyProvider = logByteSizeMergePolicyProvider;
                             break;
                         case DEFAULT_POLICY:
-                            mergePolicyProvider = defaultMergePolicyProvider();
+                            // segments are flushed in time order when the index is sorted on the timestamp, merging only adjacent
+                            // segments keeps the time ranges of the merged segments apart which makes the sorted merges cheaper,
+                            // indices created before the switch keep the policy they were created with
+                            mergePolicyProvider = version.onOrAfter(Version.V_3_9_0)
+                                && indexSortConfig.hasPrimarySortOnField(DataStream.TIMESERIES_FIELDNAME)
+                                    ? logByteSizeMergePolicyProvider
+                                    : defaultMergePolicyProvider();
                             break;
                     }
                 } else {
@@ -2195,6 +2238,17 @@ public final class IndexSettings {
         return translogReadForward;
     }
 
+    /**
+     * Returns <code>true</code> if the source of index operations is compressed in the translog files of this index
+     */
+    public boolean isTranslogSourceCompressionEnabled() {
+        return translogSourceCompressionEnabled;
+    }
+
+    private void setTranslogSourceCompressionEnabled(boolean translogSourceCompressionEnabled) {
+        this.translogSourceCompressionEnabled = translogSourceCompressionEnabled;
+    }
+
     public boolean isContextAwareEnabled() {
         return contextAwareEnabled && FeatureFlags.isEnabled(CONTEXT_AWARE_MIGRATION_EXPERIMENTAL_SETTING);
     }
@@ -2207,6 +2261,13 @@ public final class IndexSettings {
         return maxRetryOnLookupMapAcquisitionException;
     }
 
+    /**
+     * Returns the number of locks that the document ids of the version map are spread over, {@code 0} if every id is locked on its own
+     */
+    public int getVersionMapLockStripes() {
+        return versionMapLockStripes;
+    }
+
     private void setSoftDeleteRetentionOperations(long ops) {
         this.softDeleteRetentionOperations = ops;
     }
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.cache.request;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -54,6 +55,8 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
     private long evictions;
     private long hitCount;
     private long missCount;
+    private long segmentLevelHitCount;
+    private long segmentLevelMissCount;
 
     public RequestCacheStats() {}
 
@@ -67,6 +70,8 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions = builder.evictions;
         this.hitCount = builder.hitCount;
         this.missCount = builder.missCount;
+        this.segmentLevelHitCount = builder.segmentLevelHitCount;
+        this.segmentLevelMissCount = builder.segmentLevelMissCount;
     }
 
     public RequestCacheStats(StreamInput in) throws IOException {
@@ -74,6 +79,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         evictions = in.readVLong();
         hitCount = in.readVLong();
         missCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+            segmentLevelHitCount = in.readVLong();
+            segmentLevelMissCount = in.readVLong();
+        }
     }
 
     /**
@@ -93,6 +102,8 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions += stats.evictions;
         this.hitCount += stats.hitCount;
         this.missCount += stats.missCount;
+        this.segmentLevelHitCount += stats.segmentLevelHitCount;
+        this.segmentLevelMissCount += stats.segmentLevelMissCount;
     }
 
     public long getMemorySizeInBytes() {
@@ -115,6 +126,21 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         return this.missCount;
     }
 
+    /**
+     * The number of segment results of requests that missed the shard level request cache which were found in the segment
+     * level request cache.
+     */
+    public long getSegmentLevelHitCount() {
+        return this.segmentLevelHitCount;
+    }
+
+    /**
+     * The number of segment results of requests that missed the shard level request cache which had to be computed.
+     */
+    public long getSegmentLevelMissCount() {
+        return this.segmentLevelMissCount;
+    }
+
     /**
      * Builder for the {@link RequestCacheStats} class.
      * Provides a fluent API for constructing a RequestCacheStats object.
@@ -124,6 +150,8 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         private long evictions = 0;
         private long hitCount = 0;
         private long missCount = 0;
+        private long segmentLevelHitCount = 0;
+        private long segmentLevelMissCount = 0;
 
         public Builder() {}
 
@@ -147,6 +175,16 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder segmentLevelHitCount(long count) {
+            this.segmentLevelHitCount = count;
+            return this;
+        }
+
+        public Builder segmentLevelMissCount(long count) {
+            this.segmentLevelMissCount = count;
+            return this;
+        }
+
         /**
          * Creates a {@link RequestCacheStats} object from the builder's current state.
          * @return A new RequestCacheStats instance.
@@ -162,6 +200,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         out.writeVLong(evictions);
         out.writeVLong(hitCount);
         out.writeVLong(missCount);
+        if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+            out.writeVLong(segmentLevelHitCount);
+            out.writeVLong(segmentLevelMissCount);
+        }
     }
 
     @Override
@@ -171,6 +213,8 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.EVICTIONS, getEvictions());
         builder.field(Fields.HIT_COUNT, getHitCount());
         builder.field(Fields.MISS_COUNT, getMissCount());
+        builder.field(Fields.SEGMENT_LEVEL_HIT_COUNT, getSegmentLevelHitCount());
+        builder.field(Fields.SEGMENT_LEVEL_MISS_COUNT, getSegmentLevelMissCount());
         builder.endObject();
         return builder;
     }
@@ -187,5 +231,7 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         static final String EVICTIONS = "evictions";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String SEGMENT_LEVEL_HIT_COUNT = "segment_level_hit_count";
+        static final String SEGMENT_LEVEL_MISS_COUNT = "segment_level_miss_count";
     }
 }
@@ -52,12 +52,16 @@ public final class ShardRequestCache {
     final CounterMetric totalMetric = new CounterMetric();
     final CounterMetric hitCount = new CounterMetric();
     final CounterMetric missCount = new CounterMetric();
+    final CounterMetric segmentLevelHitCount = new CounterMetric();
+    final CounterMetric segmentLevelMissCount = new CounterMetric();
 
     public RequestCacheStats stats() {
         return new RequestCacheStats.Builder().memorySize(Math.max(0, totalMetric.count()))
             .evictions(evictionsMetric.count())
             .hitCount(hitCount.count())
             .missCount(missCount.count())
+            .segmentLevelHitCount(segmentLevelHitCount.count())
+            .segmentLevelMissCount(segmentLevelMissCount.count())
             .build();
     }
 
@@ -69,6 +73,14 @@ public final class ShardRequestCache {
         missCount.inc();
     }
 
+    public void onSegmentLevelHit() {
+        segmentLevelHitCount.inc();
+    }
+
+    public void onSegmentLevelMiss() {
+        segmentLevelMissCount.inc();
+    }
+
     // Functions used to increment size by passing in the size directly, Used now, as we use ICacheKey<Key> in the IndicesRequestCache..
     public void onCached(long keyRamBytesUsed, BytesReference value) {
         totalMetric.inc(keyRamBytesUsed + value.ramBytesUsed());
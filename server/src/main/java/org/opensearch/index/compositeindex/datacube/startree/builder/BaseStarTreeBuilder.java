@@ -44,6 +44,7 @@ import org.opensearch.index.compositeindex.datacube.startree.node.InMemoryTreeNo
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNodeType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentsSorter;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.mapper.DocCountFieldMapper;
@@ -595,6 +596,15 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
         return new StarTreeDocument(dims, metrics);
     }
 
+    /**
+     * Returns whether the document dimensions come after the previous document dimensions in the star-tree sort order.
+     * The aggregated documents of a star-tree are written in this order, which lets merges combine the documents of the
+     * merged segments without sorting them again.
+     */
+    protected boolean isInSortedOrder(Long[] previousDimensions, Long[] dimensions) {
+        return previousDimensions == null || StarTreeDocumentsSorter.compare(previousDimensions, dimensions, -1, dimensionComparators) <= 0;
+    }
+
     /**
      * Sets dimensions / metric readers nnd numSegmentDocs
      */
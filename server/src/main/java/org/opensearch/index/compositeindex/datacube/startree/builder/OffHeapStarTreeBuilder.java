@@ -183,9 +183,14 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
         int[] docIds;
         this.isMerge = true;
         Map<String, OrdinalMap> ordinalMaps = getOrdinalMaps(starTreeValuesSubs);
+        // start doc id of the documents of every segment, the documents of a segment are expected to be sorted already
+        int[] runStarts = new int[starTreeValuesSubs.size() + 1];
+        boolean runsSorted = true;
         try {
             int seg = 0;
             for (StarTreeValues starTreeValues : starTreeValuesSubs) {
+                runStarts[seg] = numDocs;
+                Long[] previousDimensions = null;
                 SequentialDocValuesIterator[] dimensionReaders = new SequentialDocValuesIterator[numDimensions];
                 List<SequentialDocValuesIterator> metricReaders = new ArrayList<>();
                 AtomicInteger numSegmentDocs = new AtomicInteger();
@@ -198,11 +203,26 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
                 while (currentDocId < numSegmentDocs.get()) {
                     StarTreeDocument starTreeDocument = getStarTreeDocument(currentDocId, dimensionReaders, metricReaders, longValuesMap);
                     segmentDocumentFileManager.writeStarTreeDocument(starTreeDocument, true);
+                    runsSorted = runsSorted && isInSortedOrder(previousDimensions, starTreeDocument.dimensions);
+                    previousDimensions = starTreeDocument.dimensions;
                     numDocs++;
                     currentDocId++;
                 }
                 seg++;
             }
+            runStarts[seg] = numDocs;
+            if (numDocs == 0) {
+                return Collections.emptyIterator();
+            }
+            if (runsSorted) {
+                try {
+                    docIds = StarTreeDocumentsSorter.mergeSortedRuns(runStarts, this::readSegmentDimensions, dimensionComparators);
+                } catch (UncheckedIOException ex) {
+                    throw ex.getCause();
+                }
+                return reduceSortedDocuments(docIds, numDocs, true);
+            }
+            logger.debug("Star-tree documents of the merged segments are not sorted, sorting all the documents");
             docIds = new int[numDocs];
             for (int i = 0; i < numDocs; i++) {
                 docIds[i] = i;
@@ -212,13 +232,17 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
             throw ex;
         }
 
-        if (numDocs == 0) {
-            return Collections.emptyIterator();
-        }
-
         return sortAndReduceDocuments(docIds, numDocs, true);
     }
 
+    private Long[] readSegmentDimensions(int docId) {
+        try {
+            return segmentDocumentFileManager.readDimensions(docId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Sorts and reduces the star tree documents based on the dimensions
      */
@@ -229,13 +253,13 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
                 return Collections.emptyIterator();
             }
             try {
-                StarTreeDocumentsSorter.sort(sortedDocIds, -1, numDocs, index -> {
-                    try {
-                        return segmentDocumentFileManager.readDimensions(sortedDocIds[index]);
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
-                    }
-                }, dimensionComparators);
+                StarTreeDocumentsSorter.sort(
+                    sortedDocIds,
+                    -1,
+                    numDocs,
+                    index -> readSegmentDimensions(sortedDocIds[index]),
+                    dimensionComparators
+                );
             } catch (UncheckedIOException ex) {
                 // Unwrap UncheckedIOException and throw as IOException
                 if (ex.getCause() != null) {
@@ -243,6 +267,18 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
                 }
                 throw ex;
             }
+        } catch (IOException ex) {
+            IOUtils.closeWhileHandlingException(segmentDocumentFileManager);
+            throw ex;
+        }
+        return reduceSortedDocuments(sortedDocIds, numDocs, isMerge);
+    }
+
+    /**
+     * Reduces the star tree documents which are already in sorted order of their dimensions
+     */
+    private Iterator<StarTreeDocument> reduceSortedDocuments(int[] sortedDocIds, int numDocs, boolean isMerge) throws IOException {
+        try {
             final StarTreeDocument currentDocument = segmentDocumentFileManager.readStarTreeDocument(sortedDocIds[0], isMerge);
             // Create an iterator for aggregated documents
             return new Iterator<StarTreeDocument>() {
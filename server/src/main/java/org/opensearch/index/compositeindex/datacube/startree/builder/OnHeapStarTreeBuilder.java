@@ -17,6 +17,7 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentsSorter;
 import org.opensearch.index.mapper.MapperService;
 
 import java.io.IOException;
@@ -117,7 +118,33 @@ public class OnHeapStarTreeBuilder extends BaseStarTreeBuilder {
     @Override
     Iterator<StarTreeDocument> mergeStarTrees(List<StarTreeValues> starTreeValuesSubs) throws IOException {
         this.isMerge = true;
-        return sortAndAggregateStarTreeDocuments(getSegmentsStarTreeDocuments(starTreeValuesSubs), true);
+        int[] runStarts = new int[starTreeValuesSubs.size() + 1];
+        StarTreeDocument[] starTreeDocuments = getSegmentsStarTreeDocuments(starTreeValuesSubs, runStarts);
+        if (starTreeDocuments.length > 0 && areRunsSorted(starTreeDocuments, runStarts)) {
+            // the documents of every segment are already sorted, merge them instead of sorting everything again
+            int[] sortedDocIds = StarTreeDocumentsSorter.mergeSortedRuns(
+                runStarts,
+                docId -> starTreeDocuments[docId].dimensions,
+                dimensionComparators
+            );
+            StarTreeDocument[] sortedStarTreeDocuments = new StarTreeDocument[sortedDocIds.length];
+            for (int i = 0; i < sortedDocIds.length; i++) {
+                sortedStarTreeDocuments[i] = starTreeDocuments[sortedDocIds[i]];
+            }
+            return mergeStarTreeDocuments(sortedStarTreeDocuments, true);
+        }
+        return sortAndAggregateStarTreeDocuments(starTreeDocuments, true);
+    }
+
+    private boolean areRunsSorted(StarTreeDocument[] starTreeDocuments, int[] runStarts) {
+        for (int run = 0; run < runStarts.length - 1; run++) {
+            for (int docId = runStarts[run] + 1; docId < runStarts[run + 1]; docId++) {
+                if (isInSortedOrder(starTreeDocuments[docId - 1].dimensions, starTreeDocuments[docId].dimensions) == false) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     /**
@@ -128,10 +155,19 @@ public class OnHeapStarTreeBuilder extends BaseStarTreeBuilder {
      * @return array of star tree documents
      */
     StarTreeDocument[] getSegmentsStarTreeDocuments(List<StarTreeValues> starTreeValuesSubs) throws IOException {
+        return getSegmentsStarTreeDocuments(starTreeValuesSubs, new int[starTreeValuesSubs.size() + 1]);
+    }
+
+    /**
+     * Returns an array of all the starTreeDocuments from all the segments and records in {@code runStarts} the index of
+     * the first document of every segment, followed by the total number of documents.
+     */
+    private StarTreeDocument[] getSegmentsStarTreeDocuments(List<StarTreeValues> starTreeValuesSubs, int[] runStarts) throws IOException {
         List<StarTreeDocument> starTreeDocuments = new ArrayList<>();
         Map<String, OrdinalMap> ordinalMaps = getOrdinalMaps(starTreeValuesSubs);
         int seg = 0;
         for (StarTreeValues starTreeValues : starTreeValuesSubs) {
+            runStarts[seg] = starTreeDocuments.size();
             SequentialDocValuesIterator[] dimensionReaders = new SequentialDocValuesIterator[numDimensions];
             List<SequentialDocValuesIterator> metricReaders = new ArrayList<>();
             AtomicInteger numSegmentDocs = new AtomicInteger();
@@ -147,6 +183,7 @@ public class OnHeapStarTreeBuilder extends BaseStarTreeBuilder {
             }
             seg++;
         }
+        runStarts[seg] = starTreeDocuments.size();
         StarTreeDocument[] starTreeDocumentsArr = new StarTreeDocument[starTreeDocuments.size()];
         return starTreeDocuments.toArray(starTreeDocumentsArr);
     }
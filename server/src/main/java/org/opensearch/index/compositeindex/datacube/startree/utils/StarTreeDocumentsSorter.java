@@ -9,6 +9,7 @@
 package org.opensearch.index.compositeindex.datacube.startree.utils;
 
 import org.apache.lucene.util.IntroSorter;
+import org.apache.lucene.util.PriorityQueue;
 
 import java.util.Comparator;
 import java.util.List;
@@ -46,14 +47,84 @@ public class StarTreeDocumentsSorter {
 
             @Override
             protected int comparePivot(int j) {
-                Long[] currentDimensions = dimensionsReader.apply(j);
-                for (int i = dimensionId + 1; i < dimensions.length; i++) {
-                    if (!Objects.equals(dimensions[i], currentDimensions[i])) {
-                        return dimensionComparators.get(i).compare(dimensions[i], currentDimensions[i]);
-                    }
-                }
-                return 0;
+                return StarTreeDocumentsSorter.compare(dimensions, dimensionsReader.apply(j), dimensionId, dimensionComparators);
             }
         }.sort(0, numDocs);
     }
+
+    /**
+     * Compares the dimension values after the given dimension id.
+     */
+    public static int compare(Long[] dimensions, Long[] otherDimensions, int dimensionId, List<Comparator<Long>> dimensionComparators) {
+        for (int i = dimensionId + 1; i < dimensions.length; i++) {
+            if (!Objects.equals(dimensions[i], otherDimensions[i])) {
+                return dimensionComparators.get(i).compare(dimensions[i], otherDimensions[i]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Merges runs of documents which are already sorted on all the dimensions into a single sorted order. Documents are
+     * identified by consecutive ids and run {@code i} spans the ids {@code [runStarts[i], runStarts[i + 1])}.
+     * <p>
+     * This is used when merging star-trees: the aggregated documents of every segment are already sorted, so a k-way
+     * merge costs {@code O(n log k)} comparisons and reads every document once, instead of sorting all the documents
+     * again.
+     *
+     * @return the document ids in sorted order
+     */
+    public static int[] mergeSortedRuns(
+        final int[] runStarts,
+        final IntFunction<Long[]> dimensionsReader,
+        final List<Comparator<Long>> dimensionComparators
+    ) {
+        final int numRuns = runStarts.length - 1;
+        final int numDocs = runStarts[numRuns];
+        final int[] sortedDocIds = new int[numDocs];
+        if (numRuns <= 0) {
+            return sortedDocIds;
+        }
+        final PriorityQueue<RunHead> queue = new PriorityQueue<>(numRuns) {
+            @Override
+            protected boolean lessThan(RunHead a, RunHead b) {
+                int cmp = compare(a.dimensions, b.dimensions, -1, dimensionComparators);
+                // keep documents of the same dimensions in segment order
+                return cmp != 0 ? cmp < 0 : a.docId < b.docId;
+            }
+        };
+        for (int run = 0; run < numRuns; run++) {
+            if (runStarts[run] < runStarts[run + 1]) {
+                queue.add(new RunHead(runStarts[run], runStarts[run + 1], dimensionsReader.apply(runStarts[run])));
+            }
+        }
+        int i = 0;
+        while (queue.size() > 0) {
+            final RunHead head = queue.top();
+            sortedDocIds[i++] = head.docId;
+            if (++head.docId < head.end) {
+                head.dimensions = dimensionsReader.apply(head.docId);
+                queue.updateTop();
+            } else {
+                queue.pop();
+            }
+        }
+        assert i == numDocs;
+        return sortedDocIds;
+    }
+
+    /**
+     * Current document of a sorted run
+     */
+    private static final class RunHead {
+        private int docId;
+        private final int end;
+        private Long[] dimensions;
+
+        private RunHead(int docId, int end, Long[] dimensions) {
+            this.docId = docId;
+            this.end = end;
+            this.dimensions = dimensions;
+        }
+    }
 }
@@ -285,7 +285,7 @@ public class DataFormatAwareEngine implements Indexer {
             ? engineConfig.getDocumentMetadataResolver()
             : DocumentMetadataResolver.NOOP;
         this.documentLookup = new DocumentLookupSupport(shardId, this.documentLookupProvider, this.documentMetadataResolver);
-        this.versionMap = new LiveVersionMap();
+        this.versionMap = new LiveVersionMap(engineConfig.getIndexSettings().getVersionMapLockStripes());
 
         List<ReferenceManager.RefreshListener> refreshListeners = new ArrayList<>();
         refreshListeners.add(versionMap);
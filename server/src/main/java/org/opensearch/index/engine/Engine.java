@@ -635,6 +635,11 @@ public abstract class Engine implements LifecycleAware, Closeable {
     public static class IndexResult extends Result {
 
         private final boolean created;
+        private boolean hasStageTimes;
+        private long parseTime;
+        private long versionLookupTime;
+        private long luceneTime;
+        private long translogTime;
 
         public IndexResult(long version, long term, long seqNo, boolean created) {
             super(Operation.TYPE.INDEX, version, term, seqNo);
@@ -662,6 +667,41 @@ public abstract class Engine implements LifecycleAware, Closeable {
             return created;
         }
 
+        /**
+         * Sets the time in nanoseconds the stages of the operation took in the engine. The parse time runs from the start of
+         * the operation, which parses the document, until the engine starts executing it.
+         */
+        void setStageTimes(long parseTime, long versionLookupTime, long luceneTime, long translogTime) {
+            this.hasStageTimes = true;
+            this.parseTime = parseTime;
+            this.versionLookupTime = versionLookupTime;
+            this.luceneTime = luceneTime;
+            this.translogTime = translogTime;
+        }
+
+        /**
+         * Whether the engine measured the stages of the operation, engines that don't index into Lucene don't.
+         */
+        public boolean hasStageTimes() {
+            return hasStageTimes;
+        }
+
+        public long getParseTime() {
+            return parseTime;
+        }
+
+        public long getVersionLookupTime() {
+            return versionLookupTime;
+        }
+
+        public long getLuceneTime() {
+            return luceneTime;
+        }
+
+        public long getTranslogTime() {
+            return translogTime;
+        }
+
     }
 
     /**
@@ -163,7 +163,7 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    protected final LiveVersionMap versionMap = new LiveVersionMap();
+    protected final LiveVersionMap versionMap;
 
     @Nullable
     protected final String historyUUID;
@@ -230,6 +230,7 @@ public class InternalEngine extends Engine {
         TranslogEventListener translogEventListener
     ) {
         super(engineConfig);
+        this.versionMap = new LiveVersionMap(engineConfig.getIndexSettings().getVersionMapLockStripes());
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
@@ -865,6 +866,7 @@ public class InternalEngine extends Engine {
     @Override
     public IndexResult index(Index index) throws IOException {
         assert Objects.equals(index.uid().field(), IdFieldMapper.NAME) : index.uid().field();
+        final long engineStartTime = System.nanoTime();
         final boolean doThrottle = index.origin().isRecovery() == false;
         try (ReleasableLock releasableLock = readLock.acquire()) {
             ensureOpen();
@@ -901,10 +903,13 @@ public class InternalEngine extends Engine {
                  *  if A arrives on the shard first we use addDocument since maxUnsafeAutoIdTimestamp is < 10. A` will then just be skipped
                  *  or calls updateDocument.
                  */
+                final long planStartTime = System.nanoTime();
                 final IndexingStrategy plan = indexingStrategyForOperation(index);
+                final long versionLookupTime = System.nanoTime() - planStartTime;
                 reservedDocs = plan.reservedDocs;
 
                 final IndexResult indexResult;
+                long luceneTime = 0;
                 if (plan.earlyResultOnPreFlightError.isPresent()) {
                     assert index.origin() == Operation.Origin.PRIMARY : index.origin();
                     indexResult = (IndexResult) plan.earlyResultOnPreFlightError.get();
@@ -938,16 +943,21 @@ public class InternalEngine extends Engine {
                     assert index.seqNo() >= 0 : "ops should have an assigned seq no.; origin: " + index.origin();
 
                     if (plan.executeOpOnEngine || plan.addStaleOpToEngine) {
+                        final long luceneStartTime = System.nanoTime();
                         indexResult = indexIntoLucene(index, plan);
+                        luceneTime = System.nanoTime() - luceneStartTime;
                     } else {
                         indexResult = new IndexResult(plan.version, index.primaryTerm(), index.seqNo(), plan.currentNotFoundOrDeleted);
                     }
 
                 }
+                long translogTime = 0;
                 if (index.origin().isFromTranslog() == false) {
                     final Translog.Location location;
                     if (indexResult.getResultType() == Result.Type.SUCCESS) {
+                        final long translogStartTime = System.nanoTime();
                         location = translogManager.add(new Translog.Index(index, indexResult));
+                        translogTime = System.nanoTime() - translogStartTime;
                     } else if (indexResult.getSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO
                         && indexResult.getFailure() != null
                         && !(indexResult.getFailure() instanceof AppendOnlyIndexOperationRetryException)) {
@@ -980,6 +990,7 @@ public class InternalEngine extends Engine {
                     assert index.origin().isFromTranslog() || indexResult.getSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO;
                     localCheckpointTracker.markSeqNoAsPersisted(indexResult.getSeqNo());
                 }
+                indexResult.setStageTimes(engineStartTime - index.startTime(), versionLookupTime, luceneTime, translogTime);
                 indexResult.setTook(System.nanoTime() - index.startTime());
                 indexResult.freeze();
                 return indexResult;
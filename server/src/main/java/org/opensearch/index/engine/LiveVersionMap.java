@@ -39,6 +39,7 @@ import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.KeyedLock;
+import org.opensearch.common.util.concurrent.StripedLock;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -53,7 +54,9 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 final class LiveVersionMap implements ReferenceManager.RefreshListener, Accountable {
 
-    private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+    // exactly one of the two is set, the striped lock trades per-uid locks for locks that don't allocate on the write path
+    private final KeyedLock<BytesRef> keyedLock;
+    private final StripedLock<BytesRef> stripedLock;
 
     /**
      * Looks up document version
@@ -264,6 +267,23 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      */
     private final AtomicLong ramBytesUsedTombstones = new AtomicLong();
 
+    LiveVersionMap() {
+        this(0);
+    }
+
+    /**
+     * @param lockStripes the number of locks that the uids are spread over, or {@code 0} to lock every uid on its own
+     */
+    LiveVersionMap(int lockStripes) {
+        if (lockStripes == 0) {
+            this.keyedLock = new KeyedLock<>();
+            this.stripedLock = null;
+        } else {
+            this.keyedLock = null;
+            this.stripedLock = new StripedLock<>(lockStripes);
+        }
+    }
+
     @Override
     public void beforeRefresh() throws IOException {
         // Start sending all updates after this point to the new
@@ -421,7 +441,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             // we won't collect the tombstone below since it must be newer than this one.
             if (canRemoveTombstone(maxTimestampToPrune, maxSeqNoToPrune, entry.getValue())) {
                 final BytesRef uid = entry.getKey();
-                try (Releasable lock = keyedLock.tryAcquire(uid)) {
+                try (Releasable lock = stripedLock == null ? keyedLock.tryAcquire(uid) : stripedLock.tryAcquire(uid)) {
                     // we use tryAcquire here since this is a best effort and we try to be least disruptive
                     // this method is also called under lock in the engine under certain situations such that this can lead to deadlocks
                     // if we do use a blocking acquire. see #28714
@@ -496,13 +516,18 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * this lock to be hold by the caller otherwise the visibility guarantees of this version
      * map are broken. We assert on this lock to be hold when calling these methods.
      * @see KeyedLock
+     * @see StripedLock
      */
     Releasable acquireLock(BytesRef uid) {
-        return keyedLock.acquire(uid);
+        return stripedLock == null ? keyedLock.acquire(uid) : stripedLock.acquire(uid);
     }
 
     boolean assertKeyedLockHeldByCurrentThread(BytesRef uid) {
-        assert keyedLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
+        assert stripedLock == null ? keyedLock.isHeldByCurrentThread(uid) : stripedLock.isHeldByCurrentThread(uid) : "Thread ["
+            + Thread.currentThread().getName()
+            + "], uid ["
+            + uid.utf8ToString()
+            + "]";
         return true;
     }
 }
@@ -32,7 +32,6 @@
 
 package org.opensearch.index.fielddata.plain;
 
-import org.apache.lucene.index.SortedNumericDocValues;
 import org.opensearch.index.fielddata.FieldData;
 import org.opensearch.index.fielddata.IndexNumericFieldData.NumericType;
 import org.opensearch.index.fielddata.LeafNumericFieldData;
@@ -42,8 +41,6 @@ import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.index.mapper.DocValueFetcher;
 import org.opensearch.search.DocValueFormat;
 
-import java.io.IOException;
-
 /**
  * Specialization of {@link LeafNumericFieldData} for integers.
  *
@@ -95,21 +92,10 @@ public abstract class LeafLongFieldData implements LeafNumericFieldData {
 
     @Override
     public DocValueFetcher.Leaf getLeafValueFetcher(DocValueFormat format) {
-        SortedNumericDocValues values = getLongValues();
-        return new DocValueFetcher.Leaf() {
-            @Override
-            public boolean advanceExact(int docId) throws IOException {
-                return values.advanceExact(docId);
-            }
-
-            @Override
-            public int docValueCount() throws IOException {
-                return values.docValueCount();
-            }
-
+        return new DocValueFetcher.NumericLeaf(getLongValues()) {
             @Override
-            public Object nextValue() throws IOException {
-                return format.format(values.nextValue());
+            protected Object formatValue(long value) {
+                return format.format(value);
             }
         };
     }
@@ -211,21 +211,10 @@ public class SortedNumericIndexFieldData extends IndexNumericFieldData {
         @Override
         public DocValueFetcher.Leaf getLeafValueFetcher(DocValueFormat format) {
             DocValueFormat nanosFormat = DocValueFormat.withNanosecondResolution(format);
-            SortedNumericDocValues values = getLongValuesAsNanos();
-            return new DocValueFetcher.Leaf() {
+            return new DocValueFetcher.NumericLeaf(getLongValuesAsNanos()) {
                 @Override
-                public boolean advanceExact(int docId) throws IOException {
-                    return values.advanceExact(docId);
-                }
-
-                @Override
-                public int docValueCount() throws IOException {
-                    return values.docValueCount();
-                }
-
-                @Override
-                public Object nextValue() throws IOException {
-                    return nanosFormat.format(values.nextValue());
+                protected Object formatValue(long value) {
+                    return nanosFormat.format(value);
                 }
             };
         }
@@ -576,22 +565,10 @@ public class SortedNumericIndexFieldData extends IndexNumericFieldData {
 
         @Override
         public DocValueFetcher.Leaf getLeafValueFetcher(DocValueFormat format) {
-            SortedNumericDocValues values = getLongValues();
-            return new DocValueFetcher.Leaf() {
-                @Override
-                public boolean advanceExact(int docId) throws IOException {
-                    return values.advanceExact(docId);
-                }
-
-                @Override
-                public int docValueCount() {
-                    return values.docValueCount();
-                }
-
+            return new DocValueFetcher.NumericLeaf(getLongValues()) {
                 @Override
-                public Object nextValue() throws IOException {
-                    final BigInteger value = Numbers.toUnsignedBigInteger(values.nextValue());
-                    return format.format(value);
+                protected Object formatValue(long value) {
+                    return format.format(Numbers.toUnsignedBigInteger(value));
                 }
             };
         }
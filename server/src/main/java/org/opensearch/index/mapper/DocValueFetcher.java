@@ -33,6 +33,8 @@
 package org.opensearch.index.mapper;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.util.ArrayUtil;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.search.DocValueFormat;
@@ -53,30 +55,101 @@ import static org.opensearch.index.mapper.FlatObjectFieldMapper.DOC_VALUE_NO_MAT
 public final class DocValueFetcher implements ValueFetcher {
     private final DocValueFormat format;
     private final IndexFieldData<?> ifd;
+    private LeafReaderContext context;
     private Leaf leaf;
 
+    // the raw values of the docs of the current leaf loaded by #prefetch, null if the values are read doc by doc
+    private int[] batchDocIds;
+    private int[] batchCounts = new int[0];
+    private long[] batchValues = new long[0];
+    private int batchIndex;
+    private int batchOffset;
+
     public DocValueFetcher(DocValueFormat format, IndexFieldData<?> ifd) {
         this.format = format;
         this.ifd = ifd;
     }
 
     public void setNextReader(LeafReaderContext context) {
+        this.context = context;
         leaf = ifd.load(context).getLeafValueFetcher(format);
+        batchDocIds = null;
+    }
+
+    /**
+     * Reads the raw values of all the docs at once if the field is backed by numeric doc values, they are only formatted
+     * when the values of each doc are fetched.
+     */
+    @Override
+    public void prefetch(int[] docIds) throws IOException {
+        if (leaf instanceof NumericLeaf numericLeaf && docIds.length > 1) {
+            batchCounts = ArrayUtil.grow(batchCounts, docIds.length);
+            batchValues = numericLeaf.readValues(docIds, batchCounts, batchValues);
+            batchDocIds = docIds;
+            batchIndex = 0;
+            batchOffset = 0;
+        }
     }
 
     @Override
     public List<Object> fetchValues(SourceLookup lookup) throws IOException {
+        if (batchDocIds != null) {
+            List<Object> result = new ArrayList<>();
+            return fetchValues(lookup.docId(), result) ? result : emptyList();
+        }
         if (false == leaf.advanceExact(lookup.docId())) {
             return emptyList();
         }
         List<Object> result = new ArrayList<Object>(leaf.docValueCount());
+        addValues(result);
+        return result;
+    }
+
+    /**
+     * Appends the values of the provided doc to {@code values}, without allocating an intermediate list.
+     * @return false if there are no values for this document, true otherwise
+     */
+    public boolean fetchValues(int docId, List<Object> values) throws IOException {
+        if (batchDocIds != null) {
+            return fetchBatchedValues(docId, values);
+        }
+        if (false == leaf.advanceExact(docId)) {
+            return false;
+        }
+        if (values instanceof ArrayList<Object> list) {
+            list.ensureCapacity(list.size() + leaf.docValueCount());
+        }
+        addValues(values);
+        return true;
+    }
+
+    private boolean fetchBatchedValues(int docId, List<Object> values) throws IOException {
+        while (batchIndex < batchDocIds.length && batchDocIds[batchIndex] < docId) {
+            batchOffset += batchCounts[batchIndex++];
+        }
+        if (batchIndex == batchDocIds.length || batchDocIds[batchIndex] != docId) {
+            // not a prefetched doc, the doc values were read past it so they are reloaded to read it on its own
+            setNextReader(context);
+            return fetchValues(docId, values);
+        }
+        final NumericLeaf numericLeaf = (NumericLeaf) leaf;
+        final int count = batchCounts[batchIndex];
+        if (values instanceof ArrayList<Object> list) {
+            list.ensureCapacity(list.size() + count);
+        }
+        for (int i = 0; i < count; i++) {
+            values.add(numericLeaf.formatValue(batchValues[batchOffset + i]));
+        }
+        return count > 0;
+    }
+
+    private void addValues(List<Object> values) throws IOException {
         for (int i = 0, count = leaf.docValueCount(); i < count; ++i) {
             Object value = leaf.nextValue();
             if (value != DOC_VALUE_NO_MATCH) {
-                result.add(value);
+                values.add(value);
             }
         }
-        return result;
     }
 
     /**
@@ -102,4 +175,62 @@ public final class DocValueFetcher implements ValueFetcher {
          */
         Object nextValue() throws IOException;
     }
+
+    /**
+     * A {@link Leaf} backed by numeric doc values, which can read the raw values of many docs in a single pass and
+     * format them afterwards.
+     *
+     * @opensearch.internal
+     */
+    public abstract static class NumericLeaf implements Leaf {
+        private final SortedNumericDocValues values;
+
+        protected NumericLeaf(SortedNumericDocValues values) {
+            this.values = values;
+        }
+
+        /**
+         * Format a raw doc value.
+         */
+        protected abstract Object formatValue(long value);
+
+        @Override
+        public boolean advanceExact(int docId) throws IOException {
+            return values.advanceExact(docId);
+        }
+
+        @Override
+        public int docValueCount() {
+            return values.docValueCount();
+        }
+
+        @Override
+        public Object nextValue() throws IOException {
+            return formatValue(values.nextValue());
+        }
+
+        /**
+         * Reads the raw values of the provided docs, sorted by doc id, one after the other in {@code buffer}.
+         * @param docIds the docs to read, sorted by doc id
+         * @param counts receives the number of values of each doc
+         * @param buffer the array to read the values into
+         * @return the array holding the values, {@code buffer} or a larger copy of it
+         */
+        long[] readValues(int[] docIds, int[] counts, long[] buffer) throws IOException {
+            int size = 0;
+            for (int i = 0; i < docIds.length; i++) {
+                if (values.advanceExact(docIds[i])) {
+                    final int count = values.docValueCount();
+                    buffer = ArrayUtil.grow(buffer, size + count);
+                    for (int j = 0; j < count; j++) {
+                        buffer[size++] = values.nextValue();
+                    }
+                    counts[i] = count;
+                } else {
+                    counts[i] = 0;
+                }
+            }
+            return buffer;
+        }
+    }
 }
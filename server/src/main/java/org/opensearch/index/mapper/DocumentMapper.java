@@ -302,6 +302,10 @@ public class DocumentMapper implements ToXContentFragment {
     }
 
     public ParsedDocument parse(SourceToParse source) throws MapperParsingException {
+        final ParsedDocument parsedDocument = source.takeParsedDocument(this);
+        if (parsedDocument != null) {
+            return parsedDocument;
+        }
         return documentParser.parseDocument(source, mapping.metadataMappers);
     }
 
@@ -300,26 +300,38 @@ public class SourceFieldMapper extends MetadataFieldMapper {
         }
         BytesReference originalSource = context.sourceToParse().source();
         MediaType contentType = context.sourceToParse().getMediaType();
-        final BytesReference adaptedSource = applyFilters(originalSource, contentType);
-
-        if (adaptedSource != null) {
+        if (originalSource == null) {
+            // Percolate and tv APIs may not set the source and that is ok, because these APIs will not index any data
+            return;
+        }
+        // the source is parsed at most once, even if both the _source and the _recovery_source are filtered
+        Tuple<? extends MediaType, Map<String, Object>> sourceAsMap = null;
+        BytesReference adaptedSource = null;
+        if (enabled) {
+            if (filter != null) {
+                sourceAsMap = XContentHelper.convertToMap(originalSource, true, contentType);
+                adaptedSource = filter(sourceAsMap, filter, originalSource.length());
+            } else {
+                adaptedSource = originalSource;
+            }
             final BytesRef ref = adaptedSource.toBytesRef();
             context.doc().add(new StoredField(fieldType().name(), ref.bytes, ref.offset, ref.length));
         }
 
-        if (recoverySourceEnabled) {
-            if (originalSource != null && adaptedSource != originalSource) {
-                final BytesReference adaptedRecoverySource = applyFilters(
-                    originalSource,
-                    contentType,
-                    recoverySourceEnabled,
-                    recoverySourceFilter
-                );
-                // if we omitted source or modified it we add the _recovery_source to ensure we have it for ops based recovery
-                BytesRef ref = adaptedRecoverySource.toBytesRef();
-                context.doc().add(new StoredField(RECOVERY_SOURCE_NAME, ref.bytes, ref.offset, ref.length));
-                context.doc().add(new NumericDocValuesField(RECOVERY_SOURCE_NAME, 1));
+        if (recoverySourceEnabled && adaptedSource != originalSource) {
+            final BytesReference adaptedRecoverySource;
+            if (recoverySourceFilter != null) {
+                if (sourceAsMap == null) {
+                    sourceAsMap = XContentHelper.convertToMap(originalSource, true, contentType);
+                }
+                adaptedRecoverySource = filter(sourceAsMap, recoverySourceFilter, originalSource.length());
+            } else {
+                adaptedRecoverySource = originalSource;
             }
+            // if we omitted source or modified it we add the _recovery_source to ensure we have it for ops based recovery
+            BytesRef ref = adaptedRecoverySource.toBytesRef();
+            context.doc().add(new StoredField(RECOVERY_SOURCE_NAME, ref.bytes, ref.offset, ref.length));
+            context.doc().add(new NumericDocValuesField(RECOVERY_SOURCE_NAME, 1));
         }
     }
 
@@ -340,12 +352,7 @@ public class SourceFieldMapper extends MetadataFieldMapper {
             if (filters != null) {
                 // we don't update the context source if we filter, we want to keep it as is...
                 Tuple<? extends MediaType, Map<String, Object>> mapTuple = XContentHelper.convertToMap(originalSource, true, contentType);
-                Map<String, Object> filteredSource = filters.apply(mapTuple.v2());
-                BytesStreamOutput bStream = new BytesStreamOutput();
-                MediaType actualContentType = mapTuple.v1();
-                XContentBuilder builder = MediaTypeRegistry.contentBuilder(actualContentType, bStream).map(filteredSource);
-                builder.close();
-                return bStream.bytes();
+                return filter(mapTuple, filters, originalSource.length());
             } else {
                 return originalSource;
             }
@@ -354,6 +361,22 @@ public class SourceFieldMapper extends MetadataFieldMapper {
         }
     }
 
+    /**
+     * Serializes the filtered source. The output is sized after the original source, which the filtered source rarely
+     * exceeds, so that the buffer does not have to grow while writing.
+     */
+    private static BytesReference filter(
+        Tuple<? extends MediaType, Map<String, Object>> sourceAsMap,
+        Function<Map<String, ?>, Map<String, Object>> filters,
+        int expectedSize
+    ) throws IOException {
+        Map<String, Object> filteredSource = filters.apply(sourceAsMap.v2());
+        BytesStreamOutput bStream = new BytesStreamOutput(expectedSize);
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(sourceAsMap.v1(), bStream).map(filteredSource);
+        builder.close();
+        return bStream.bytes();
+    }
+
     @Override
     protected String contentType() {
         return CONTENT_TYPE;
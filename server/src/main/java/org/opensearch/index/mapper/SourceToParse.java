@@ -61,6 +61,10 @@ public class SourceToParse {
 
     private final ExtraFieldValues extraFieldValues;
 
+    private DocumentMapper parsedBy;
+
+    private ParsedDocument parsedDocument;
+
     public SourceToParse(String index, String id, BytesReference source, MediaType mediaType, @Nullable String routing) {
         this(index, id, source, mediaType, routing, ExtraFieldValues.EMPTY);
     }
@@ -111,6 +115,29 @@ public class SourceToParse {
         return this.extraFieldValues;
     }
 
+    /**
+     * Sets the document that the given mapper already parsed from this source, so that parsing this source again with the
+     * same mapper returns it instead.
+     */
+    public void setParsedDocument(DocumentMapper parsedBy, ParsedDocument parsedDocument) {
+        this.parsedBy = Objects.requireNonNull(parsedBy);
+        this.parsedDocument = Objects.requireNonNull(parsedDocument);
+    }
+
+    /**
+     * Returns the document that the given mapper already parsed from this source, if any. The document is only returned once.
+     */
+    @Nullable
+    ParsedDocument takeParsedDocument(DocumentMapper documentMapper) {
+        if (parsedBy != documentMapper) {
+            return null;
+        }
+        final ParsedDocument parsed = parsedDocument;
+        parsedBy = null;
+        parsedDocument = null;
+        return parsed;
+    }
+
     /**
      * Origin of the source
      *
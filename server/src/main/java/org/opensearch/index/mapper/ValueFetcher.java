@@ -67,4 +67,10 @@ public interface ValueFetcher {
      * Update the leaf reader used to fetch values.
      */
     default void setNextReader(LeafReaderContext context) {}
+
+    /**
+     * Called after {@link #setNextReader} with the docs of the leaf that values will be fetched for, sorted by doc id,
+     * so that the values of all of them can be loaded at once.
+     */
+    default void prefetch(int[] docIds) throws IOException {}
 }
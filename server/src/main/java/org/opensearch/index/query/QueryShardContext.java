@@ -130,6 +130,7 @@ public class QueryShardContext extends BaseQueryRewriteContext {
     private boolean isInnerHitQuery;
 
     private StarTreeQueryContext starTreeQueryContext;
+    private String starTreeNotUsedReason;
 
     public QueryShardContext(
         int shardId,
@@ -390,6 +391,18 @@ public class QueryShardContext extends BaseQueryRewriteContext {
         this.starTreeQueryContext = starTreeQueryContext;
     }
 
+    /**
+     * Returns why the star-tree of the index could not be used to resolve the aggregations of the request, or
+     * {@code null} if it was used or there is no star-tree.
+     */
+    public String getStarTreeNotUsedReason() {
+        return starTreeNotUsedReason;
+    }
+
+    public void setStarTreeNotUsedReason(String starTreeNotUsedReason) {
+        this.starTreeNotUsedReason = starTreeNotUsedReason;
+    }
+
     public void addNamedQuery(String name, Query query) {
         if (query != null) {
             namedQueries.put(name, query);
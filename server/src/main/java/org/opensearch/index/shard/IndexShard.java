@@ -202,6 +202,7 @@ import org.opensearch.index.translog.RemoteTranslogStats;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupSyncService;
 import org.opensearch.index.translog.TranslogRecoveryRunner;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
@@ -463,7 +464,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         @Nullable final MergedSegmentPublisher mergedSegmentPublisher,
         @Nullable final ReferencedSegmentsPublisher referencedSegmentsPublisher,
         final Map<String, FormatChecksumStrategy> checksumStrategies,
-        @Nullable final DataFormatRegistry dataFormatRegistry
+        @Nullable final DataFormatRegistry dataFormatRegistry,
+        @Nullable final TranslogGroupSyncService translogGroupSyncService
     ) throws IOException {
         super(shardRouting.shardId(), indexSettings);
         assert shardRouting.initializing();
@@ -484,7 +486,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             threadPool,
             this::getIndexer,
             indexSettings.isAssignedOnRemoteNode(),
-            () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
+            () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval),
+            translogGroupSyncService,
+            path
         );
         this.mergedSegmentTransferTracker = new MergedSegmentTransferTracker();
         this.mapperService = mapperService;
@@ -2645,7 +2649,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                         refreshListeners,
                         pendingReplicationActions,
                         refreshTask,
-                        periodicFlushTask
+                        periodicFlushTask,
+                        translogSyncProcessor instanceof Closeable closeable ? closeable : null
                     );
 
                     if (deleted && engine != null && isPrimaryMode()) {
@@ -5210,7 +5215,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         ThreadPool threadPool,
         Supplier<Indexer> engineSupplier,
         boolean bufferAsyncIoProcessor,
-        Supplier<TimeValue> bufferIntervalSupplier
+        Supplier<TimeValue> bufferIntervalSupplier,
+        @Nullable TranslogGroupSyncService translogGroupSyncService,
+        ShardPath path
     ) {
         assert bufferAsyncIoProcessor == false || Objects.nonNull(bufferIntervalSupplier)
             : "If bufferAsyncIoProcessor is true, then the bufferIntervalSupplier needs to be non null";
@@ -5239,6 +5246,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 }
             };
         }
+        if (translogGroupSyncService != null && translogGroupSyncService.isEnabled()) {
+            return translogGroupSyncService.newShardSyncProcessor(path.getRootDataPath(), writeConsumer);
+        }
 
         return new AsyncIOProcessor<>(logger, 1024, threadContext) {
             @Override
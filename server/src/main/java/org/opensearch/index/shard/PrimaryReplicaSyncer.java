@@ -38,8 +38,12 @@ import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.resync.ResyncReplicationRequest;
 import org.opensearch.action.resync.ResyncReplicationResponse;
 import org.opensearch.action.resync.TransportResyncReplicationAction;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
@@ -81,11 +85,31 @@ public class PrimaryReplicaSyncer {
 
     public static final ByteSizeValue DEFAULT_CHUNK_SIZE = new ByteSizeValue(512, ByteSizeUnit.KB);
 
+    /**
+     * The maximum number of resync chunks of a shard that are sent to the replicas without waiting for their responses. The chunk
+     * that trims the translog of the replicas is always sent on its own, before any other chunk.
+     */
+    public static final Setting<Integer> RESYNC_MAX_CONCURRENT_CHUNKS = Setting.intSetting(
+        "indices.replication.resync.max_concurrent_chunks",
+        1,
+        1,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     private volatile ByteSizeValue chunkSize = DEFAULT_CHUNK_SIZE;
 
+    private volatile int maxConcurrentChunks = RESYNC_MAX_CONCURRENT_CHUNKS.getDefault(Settings.EMPTY);
+
     @Inject
-    public PrimaryReplicaSyncer(TransportService transportService, TransportResyncReplicationAction syncAction) {
+    public PrimaryReplicaSyncer(
+        TransportService transportService,
+        TransportResyncReplicationAction syncAction,
+        ClusterService clusterService
+    ) {
         this(transportService.getTaskManager(), syncAction);
+        this.maxConcurrentChunks = clusterService.getClusterSettings().get(RESYNC_MAX_CONCURRENT_CHUNKS);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(RESYNC_MAX_CONCURRENT_CHUNKS, this::setMaxConcurrentChunks);
     }
 
     // for tests
@@ -101,6 +125,10 @@ public class PrimaryReplicaSyncer {
         this.chunkSize = chunkSize;
     }
 
+    void setMaxConcurrentChunks(int maxConcurrentChunks) {
+        this.maxConcurrentChunks = maxConcurrentChunks;
+    }
+
     public void resync(final IndexShard indexShard, final ActionListener<ResyncTask> listener) {
         Translog.Snapshot snapshot = null;
         try {
@@ -217,6 +245,7 @@ public class PrimaryReplicaSyncer {
                 primaryTerm,
                 snapshot,
                 chunkSize.bytesAsInt(),
+                maxConcurrentChunks,
                 startingSeqNo,
                 maxSeqNo,
                 maxSeenAutoIdTimestamp,
@@ -243,7 +272,9 @@ public class PrimaryReplicaSyncer {
     }
 
     /**
-     * Sends a snapshot
+     * Sends a snapshot. Once the replicas responded to the first chunk, which trims their translog above the starting sequence number,
+     * up to {@code maxConcurrentChunks} chunks are in flight: the next chunk is read from the snapshot while the previous ones are
+     * processed by the replicas.
      *
      * @opensearch.internal
      */
@@ -259,11 +290,16 @@ public class PrimaryReplicaSyncer {
         private final long maxSeqNo;
         private final long maxSeenAutoIdTimestamp;
         private final int chunkSizeInBytes;
+        private final int maxConcurrentChunks;
         private final ActionListener<Void> listener;
         private final AtomicBoolean firstMessage = new AtomicBoolean(true);
         private final AtomicInteger totalSentOps = new AtomicInteger();
         private final AtomicInteger totalSkippedOps = new AtomicInteger();
         private final AtomicBoolean closed = new AtomicBoolean();
+        // guarded by this
+        private int inFlightChunks;
+        private boolean firstChunkAcknowledged;
+        private boolean snapshotExhausted;
 
         SnapshotSender(
             SyncAction syncAction,
@@ -273,6 +309,7 @@ public class PrimaryReplicaSyncer {
             long primaryTerm,
             Translog.Snapshot snapshot,
             int chunkSizeInBytes,
+            int maxConcurrentChunks,
             long startingSeqNo,
             long maxSeqNo,
             long maxSeenAutoIdTimestamp,
@@ -286,6 +323,7 @@ public class PrimaryReplicaSyncer {
             this.primaryTerm = primaryTerm;
             this.snapshot = snapshot;
             this.chunkSizeInBytes = chunkSizeInBytes;
+            this.maxConcurrentChunks = maxConcurrentChunks;
             this.startingSeqNo = startingSeqNo;
             this.maxSeqNo = maxSeqNo;
             this.maxSeenAutoIdTimestamp = maxSeenAutoIdTimestamp;
@@ -295,6 +333,10 @@ public class PrimaryReplicaSyncer {
 
         @Override
         public void onResponse(ResyncReplicationResponse response) {
+            synchronized (this) {
+                inFlightChunks--;
+                firstChunkAcknowledged = true;
+            }
             run();
         }
 
@@ -309,6 +351,38 @@ public class PrimaryReplicaSyncer {
 
         @Override
         protected void doRun() throws Exception {
+            while (true) {
+                final ResyncReplicationRequest request;
+                synchronized (this) {
+                    if (closed.get()) {
+                        return;
+                    }
+                    if (snapshotExhausted) {
+                        if (inFlightChunks == 0 && closed.compareAndSet(false, true)) {
+                            break;
+                        }
+                        return;
+                    }
+                    if (inFlightChunks >= (firstChunkAcknowledged ? maxConcurrentChunks : 1)) {
+                        return;
+                    }
+                    request = nextRequest();
+                    if (request == null) {
+                        snapshotExhausted = true;
+                        continue;
+                    }
+                    inFlightChunks++;
+                }
+                syncAction.sync(request, task, primaryAllocationId, primaryTerm, this);
+            }
+            logger.trace("{} resync completed (total sent: [{}], skipped: [{}])", shardId, totalSentOps.get(), totalSkippedOps.get());
+            listener.onResponse(null);
+        }
+
+        /**
+         * Reads the next chunk of operations from the snapshot, or returns {@code null} if there is nothing left to send
+         */
+        private ResyncReplicationRequest nextRequest() throws IOException {
             long size = 0;
             final List<Translog.Operation> operations = new ArrayList<>();
 
@@ -352,11 +426,9 @@ public class PrimaryReplicaSyncer {
                     totalSkippedOps.get()
                 );
                 firstMessage.set(false);
-                syncAction.sync(request, task, primaryAllocationId, primaryTerm, this);
-            } else if (closed.compareAndSet(false, true)) {
-                logger.trace("{} resync completed (total sent: [{}], skipped: [{}])", shardId, totalSentOps.get(), totalSkippedOps.get());
-                listener.onResponse(null);
+                return request;
             }
+            return null;
         }
     }
 
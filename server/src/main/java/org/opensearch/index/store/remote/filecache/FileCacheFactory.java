@@ -44,6 +44,20 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build());
     }
 
+    /**
+     * Creates a file cache whose segments keep the files that are used more than once in a protected LRU list that takes up to the
+     * given ratio of the capacity, so that files which are read once, like the ones of a large scan, don't evict them.
+     */
+    public static FileCache createConcurrentLRUFileCache(long capacity, double protectedRatio) {
+        return new FileCache(createDefaultBuilder().capacity(capacity).protectedRatio(protectedRatio).build());
+    }
+
+    public static FileCache createConcurrentLRUFileCache(long capacity, int concurrencyLevel, double protectedRatio) {
+        return new FileCache(
+            createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).protectedRatio(protectedRatio).build()
+        );
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
@@ -32,6 +32,18 @@ public class FileCacheSettings {
         Setting.Property.Dynamic
     );
 
+    /**
+     * The ratio of the file cache that the files which are used more than once can take up before files that were only used once
+     * are evicted in their place. The default of 0 evicts the least recently used files regardless of how often they were used.
+     */
+    public static final Setting<Double> FILE_CACHE_PROTECTED_RATIO_SETTING = Setting.doubleSetting(
+        "node.search.cache.protected_ratio",
+        0.0,
+        0.0,
+        0.9,
+        Setting.Property.NodeScope
+    );
+
     private volatile double remoteDataRatio;
 
     public FileCacheSettings(Settings settings, ClusterSettings clusterSettings) {
@@ -123,7 +123,10 @@ public class NodeCacheService implements Closeable, BlockCacheRegistry {
             provider.setReservedCapacityBytes(reserved);
         }
 
-        FileCache fileCache = FileCacheFactory.createConcurrentLRUFileCache(fileCacheBytes);
+        FileCache fileCache = FileCacheFactory.createConcurrentLRUFileCache(
+            fileCacheBytes,
+            FileCacheSettings.FILE_CACHE_PROTECTED_RATIO_SETTING.get(settings)
+        );
         fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(fileCacheBytes, ByteSizeUnit.BYTES);
         restoreFileCacheFromDisk(settings, fileCacheNodePath, fileCache);
 
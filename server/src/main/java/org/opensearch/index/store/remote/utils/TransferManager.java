@@ -14,6 +14,7 @@ import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.io.Streams;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCachedIndexInput;
@@ -21,12 +22,15 @@ import org.opensearch.secure_sm.AccessController;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.BufferedOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
@@ -142,7 +146,141 @@ public class TransferManager {
         }
     }
 
+    /**
+     * Asynchronously fetches the given requests, like {@link #fetchBlobAsync(BlobFetchRequest)} does for a single request.
+     * Requests that are not in the cache yet are downloaded together when each of them is a single blob part that directly
+     * follows the blob part of the previous one in the same blob: they are fetched with one ranged read, which is then split
+     * back into one cache entry per request. Requests that are in the cache, or are being downloaded by another reader, share
+     * the existing entry instead.
+     *
+     * @param blobFetchRequests requests to fetch, typically consecutive blocks of a file
+     * @return futures of the IndexInputs, in the order of the requests
+     */
+    @ExperimentalApi
+    public List<CompletableFuture<IndexInput>> fetchBlobsAsync(List<BlobFetchRequest> blobFetchRequests) {
+        final Executor executor = threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY);
+        final List<CompletableFuture<IndexInput>> results = new ArrayList<>(blobFetchRequests.size());
+        final List<DelayedCreationCachedIndexInput> coalesced = new ArrayList<>();
+        for (BlobFetchRequest blobFetchRequest : blobFetchRequests) {
+            final Path key = blobFetchRequest.getFilePath();
+            logger.trace("Asynchronous fetchBlob called for {}", key.toString());
+            final CachedIndexInput cacheEntry;
+            try {
+                cacheEntry = fileCache.compute(key, (path, cachedIndexInput) -> {
+                    if (cachedIndexInput == null || cachedIndexInput.isClosed()) {
+                        // Doesn't exist or is closed, either way create a new one
+                        return new DelayedCreationCachedIndexInput(fileCache, streamReader, blobFetchRequest);
+                    } else {
+                        // already in the cache and ready to be used (open)
+                        return cachedIndexInput;
+                    }
+                });
+            } catch (Exception e) {
+                logger.error("Exception while asynchronous fetching blob key:{}, Exception {}", key, e.getMessage());
+                results.add(CompletableFuture.failedFuture(e));
+                continue;
+            }
+            // Cache entry was either retrieved from the cache or newly added, either
+            // way the reference count has been incremented by one.
+            if (cacheEntry instanceof DelayedCreationCachedIndexInput entry && entry.tryStartDownload()) {
+                // The reference taken by compute is held until the download of the entry completes
+                if (coalesced.isEmpty() == false && isContiguous(coalesced.getLast().request, blobFetchRequest) == false) {
+                    downloadAsync(List.copyOf(coalesced), executor);
+                    coalesced.clear();
+                }
+                coalesced.add(entry);
+                results.add(entry.result);
+            } else {
+                try {
+                    results.add(cacheEntry.asyncLoadIndexInput(executor));
+                } catch (Exception e) {
+                    fileCache.decRef(key);
+                    logger.error("Exception while asynchronous fetching blob key:{}, Exception {}", key, e.getMessage());
+                    results.add(CompletableFuture.failedFuture(e));
+                }
+            }
+        }
+        if (coalesced.isEmpty() == false) {
+            downloadAsync(List.copyOf(coalesced), executor);
+        }
+        return results;
+    }
+
+    /**
+     * Returns whether the single blob part of the next request directly follows the single blob part of the previous one.
+     */
+    private static boolean isContiguous(BlobFetchRequest previous, BlobFetchRequest next) {
+        if (previous.blobParts().size() != 1 || next.blobParts().size() != 1) {
+            return false;
+        }
+        final BlobFetchRequest.BlobPart previousPart = previous.blobParts().getFirst();
+        final BlobFetchRequest.BlobPart nextPart = next.blobParts().getFirst();
+        return previousPart.getBlobName().equals(nextPart.getBlobName())
+            && previousPart.getPosition() + previousPart.getLength() == nextPart.getPosition();
+    }
+
+    /**
+     * Downloads the given entries, whose requests are contiguous, with a single read and completes each entry as soon
+     * as its bytes are written.
+     */
+    private void downloadAsync(List<DelayedCreationCachedIndexInput> entries, Executor executor) {
+        try {
+            executor.execute(() -> {
+                final BlobFetchRequest.BlobPart firstPart = entries.getFirst().request.blobParts().getFirst();
+                final long length = entries.stream().mapToLong(entry -> entry.request.getBlobLength()).sum();
+                int completed = 0;
+                try (InputStream inputStream = streamReader.read(firstPart.getBlobName(), firstPart.getPosition(), length)) {
+                    for (DelayedCreationCachedIndexInput entry : entries) {
+                        final InputStream blobInputStream = Streams.limitStream(
+                            Streams.noCloseStream(inputStream),
+                            entry.request.getBlobLength()
+                        );
+                        final FileCachedIndexInput indexInput = createIndexInput(fileCache, entry.request, outputStream -> {
+                            if (blobInputStream.transferTo(outputStream) != entry.request.getBlobLength()) {
+                                throw new EOFException("Unexpected end of blob while fetching " + entry.request.getFilePath());
+                            }
+                        });
+                        // skip the bytes of blobs that were already on disk
+                        blobInputStream.transferTo(OutputStream.nullOutputStream());
+                        entry.completeDownload(indexInput);
+                        completed++;
+                    }
+                } catch (Exception e) {
+                    for (DelayedCreationCachedIndexInput entry : entries.subList(completed, entries.size())) {
+                        entry.failDownload(e);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            entries.forEach(entry -> entry.failDownload(e));
+        }
+    }
+
+    /**
+     * Writes the content of a blob to the local file of a {@link BlobFetchRequest}
+     */
+    @FunctionalInterface
+    private interface BlobWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
     private static FileCachedIndexInput createIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
+        return createIndexInput(fileCache, request, outputStream -> {
+            for (BlobFetchRequest.BlobPart blobPart : request.blobParts()) {
+                try (
+                    InputStream snapshotFileInputStream = streamReader.read(
+                        blobPart.getBlobName(),
+                        blobPart.getPosition(),
+                        blobPart.getLength()
+                    );
+                ) {
+                    snapshotFileInputStream.transferTo(outputStream);
+                }
+            }
+        });
+    }
+
+    private static FileCachedIndexInput createIndexInput(FileCache fileCache, BlobFetchRequest request, BlobWriter blobWriter) {
         try {
             // This local file cache is ref counted and may not strictly enforce configured capacity.
             // If we find available capacity is exceeded, deny further BlobFetchRequests.
@@ -163,17 +301,7 @@ public class TransferManager {
                     OutputStream fileOutputStream = Files.newOutputStream(request.getFilePath());
                     OutputStream localFileOutputStream = new BufferedOutputStream(fileOutputStream)
                 ) {
-                    for (BlobFetchRequest.BlobPart blobPart : request.blobParts()) {
-                        try (
-                            InputStream snapshotFileInputStream = streamReader.read(
-                                blobPart.getBlobName(),
-                                blobPart.getPosition(),
-                                blobPart.getLength()
-                            );
-                        ) {
-                            snapshotFileInputStream.transferTo(localFileOutputStream);
-                        }
-                    }
+                    blobWriter.writeTo(localFileOutputStream);
                 }
             }
             final IndexInput luceneIndexInput = request.getDirectory().openInput(request.getFileName(), IOContext.DEFAULT);
@@ -230,6 +358,27 @@ public class TransferManager {
             }
         }
 
+        /**
+         * Claims the download of this entry for a caller that downloads it together with other entries, and completes
+         * it with {@link #completeDownload} or {@link #failDownload}. The caller holds a reference to the entry until then.
+         *
+         * @return false if the entry is closed or its download already started
+         */
+        private boolean tryStartDownload() {
+            return isClosed.get() == false && isStarted.getAndSet(true) == false;
+        }
+
+        private void completeDownload(IndexInput indexInput) {
+            fileCache.decRef(request.getFilePath());
+            result.complete(indexInput);
+        }
+
+        private void failDownload(Exception e) {
+            // Removing the entry from the cache also releases the reference held for the download
+            fileCache.remove(request.getFilePath());
+            result.completeExceptionally(e instanceof IOException ioException ? new UncheckedIOException(ioException) : e);
+        }
+
         @ExperimentalApi
         public CompletableFuture<IndexInput> asyncLoadIndexInput(Executor executor) {
             if (isClosed.get()) {
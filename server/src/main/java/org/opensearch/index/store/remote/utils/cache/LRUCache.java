@@ -43,6 +43,10 @@ import java.util.function.Predicate;
  * <li>Supports Cache Pinning.</li>
  * <li>Cache maintains it's capacity using LRU Eviction while ignoring entries with {@link Node#refCount} greater than 0 from eviction</li>
  * </ul>
+ * Optionally, the cache is a segmented LRU: entries that are used again after they were added move to a protected LRU list of at
+ * most a given weight, and entries are evicted from the protected list only once the list of the entries that were used once is
+ * empty. A scan that reads many entries once then only evicts other entries that were used once, not the ones that are used
+ * repeatedly.
  * @see RefCountedCache
  *
  * @opensearch.internal
@@ -53,9 +57,16 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     private final HashMap<K, Node<K, V>> data;
 
-    /** the LRU list */
+    /** the LRU list, of the entries that were used once if the cache is segmented */
     private final LinkedHashMap<K, Node<K, V>> lru;
 
+    /** the LRU list of the entries that were used again, only used if the cache is segmented */
+    private final LinkedHashMap<K, Node<K, V>> protectedLru;
+
+    private final long protectedCapacity;
+
+    private long protectedWeight;
+
     private final RemovalListener<K, V> listener;
 
     private final Weigher<V> weigher;
@@ -75,6 +86,11 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
         boolean pinned;
 
+        /** whether the entry was used again since it was added or moved out of the protected list */
+        boolean reused;
+
+        boolean inProtectedLru;
+
         Node(K key, V value, long weight) {
             this.key = key;
             this.value = value;
@@ -89,11 +105,20 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     }
 
     public LRUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+        this(capacity, 0L, listener, weigher);
+    }
+
+    /**
+     * Creates a segmented LRU cache whose protected list holds at most the given weight, 0 disables the protected list
+     */
+    public LRUCache(long capacity, long protectedCapacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
         this.capacity = capacity;
+        this.protectedCapacity = protectedCapacity;
         this.listener = listener;
         this.weigher = weigher;
         this.data = new HashMap<>();
         this.lru = new LinkedHashMap<>();
+        this.protectedLru = new LinkedHashMap<>();
         this.lock = new ReentrantLock();
         this.statsCounter = new FileStatsCounter<>();
 
@@ -111,6 +136,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
                 return null;
             }
             // hit
+            node.reused = true;
             incRef(key);
             statsCounter.recordHits(key, node.value, node.pinned, 1);
             return node.value;
@@ -164,6 +190,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
                     return null;
                 } else {
                     statsCounter.recordHits(key, node.value, node.pinned, 1);
+                    node.reused = true;
                     replaceNode(node, newValue);
                     return newValue;
                 }
@@ -207,6 +234,8 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         lock.lock();
         try {
             lru.clear();
+            protectedLru.clear();
+            protectedWeight = 0L;
             final Iterator<Node<K, V>> iterator = data.values().iterator();
             while (iterator.hasNext()) {
                 Node<K, V> node = iterator.next();
@@ -241,7 +270,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since it become active, we should remove it from eviction list
-                    lru.remove(node.key);
+                    removeFromEvictionList(node);
                 }
 
                 node.refCount++;
@@ -263,7 +292,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    addToEvictionList(node);
                     evict(); // If cache usage is already overflowing trigger evictions
                 }
 
@@ -295,7 +324,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since its pinned, we should remove it from eviction list
-                    lru.remove(node.key, node);
+                    removeFromEvictionList(node);
                 }
 
                 node.pinned = true;
@@ -323,7 +352,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    addToEvictionList(node);
                 }
 
                 statsCounter.recordPinnedUsage(node.value, node.weight, true);
@@ -351,24 +380,32 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     @Override
     public long prune(Predicate<K> keyPredicate) {
-        long sum = 0L;
         lock.lock();
         try {
-            final Iterator<Node<K, V>> iterator = lru.values().iterator();
-            while (iterator.hasNext()) {
-                final Node<K, V> node = iterator.next();
-                if (keyPredicate != null && !keyPredicate.test(node.key)) {
-                    continue;
-                }
-                iterator.remove();
-                data.remove(node.key, node);
-                sum += node.weight;
-                statsCounter.recordRemoval(node.value, node.pinned, node.weight);
-                listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
-            }
+            return prune(lru, keyPredicate) + prune(protectedLru, keyPredicate);
         } finally {
             lock.unlock();
         }
+    }
+
+    private long prune(LinkedHashMap<K, Node<K, V>> evictionList, Predicate<K> keyPredicate) {
+        long sum = 0L;
+        final Iterator<Node<K, V>> iterator = evictionList.values().iterator();
+        while (iterator.hasNext()) {
+            final Node<K, V> node = iterator.next();
+            if (keyPredicate != null && !keyPredicate.test(node.key)) {
+                continue;
+            }
+            iterator.remove();
+            if (node.inProtectedLru) {
+                node.inProtectedLru = false;
+                protectedWeight -= node.weight;
+            }
+            data.remove(node.key, node);
+            sum += node.weight;
+            statsCounter.recordRemoval(node.value, node.pinned, node.weight);
+            listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
+        }
         return sum;
     }
 
@@ -457,6 +494,9 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             // update the value and weight
             node.value = newValue;
             node.weight = newWeight;
+            if (node.inProtectedLru) {
+                protectedWeight += newWeight - oldWeight;
+            }
 
             // update stats
             statsCounter.recordReplacement(oldValue, newValue, oldWeight, newWeight, node.refCount > 0, node.pinned);
@@ -473,7 +513,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
                 statsCounter.recordActiveUsage(node.value, node.weight, node.pinned, true);
             }
             if (node.evictable()) {
-                lru.remove(node.key);
+                removeFromEvictionList(node);
             }
 
             if (node.pinned) {
@@ -489,13 +529,52 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         return statsCounter.usage() >= capacity;
     }
 
+    private void addToEvictionList(Node<K, V> node) {
+        if (protectedCapacity > 0 && node.reused) {
+            node.inProtectedLru = true;
+            protectedLru.put(node.key, node);
+            protectedWeight += node.weight;
+            // move the least recently used entries that don't fit anymore back to the list of the entries that were used once
+            final Iterator<Node<K, V>> iterator = protectedLru.values().iterator();
+            while (protectedWeight > protectedCapacity && iterator.hasNext()) {
+                final Node<K, V> demoted = iterator.next();
+                iterator.remove();
+                demoted.inProtectedLru = false;
+                demoted.reused = false;
+                protectedWeight -= demoted.weight;
+                lru.put(demoted.key, demoted);
+            }
+        } else {
+            lru.put(node.key, node);
+        }
+    }
+
+    private void removeFromEvictionList(Node<K, V> node) {
+        if (node.inProtectedLru) {
+            node.inProtectedLru = false;
+            protectedLru.remove(node.key, node);
+            protectedWeight -= node.weight;
+        } else {
+            lru.remove(node.key, node);
+        }
+    }
+
     private void evict() {
         // Attempts to evict entries from the cache if it exceeds the maximum
-        // capacity.
-        final Iterator<Node<K, V>> iterator = lru.values().iterator();
+        // capacity, starting with the entries that were used once.
+        evict(lru);
+        evict(protectedLru);
+    }
+
+    private void evict(LinkedHashMap<K, Node<K, V>> evictionList) {
+        final Iterator<Node<K, V>> iterator = evictionList.values().iterator();
         while (hasOverflowed() && iterator.hasNext()) {
             final Node<K, V> node = iterator.next();
             iterator.remove();
+            if (node.inProtectedLru) {
+                node.inProtectedLru = false;
+                protectedWeight -= node.weight;
+            }
             // Notify the listener only if the entry was evicted
             data.remove(node.key, node);
             statsCounter.recordEviction(node.value, node.weight);
@@ -59,8 +59,9 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.table = newSegmentArray(segments);
         this.perSegmentCapacity = (builder.capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
+        final long perSegmentProtectedCapacity = (long) (perSegmentCapacity * builder.protectedRatio);
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            table[i] = new LRUCache<>(perSegmentCapacity, perSegmentProtectedCapacity, builder.listener, builder.weigher);
         }
         this.capacity = perSegmentCapacity * segments;
     }
@@ -302,9 +303,12 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         long capacity;
 
+        double protectedRatio;
+
         @SuppressWarnings("unchecked")
         Builder() {
             capacity = -1;
+            protectedRatio = 0.0;
             weigher = (Weigher<V>) SingletonWeigher.INSTANCE;
             concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
             listener = (RemovalListener<K, V>) DiscardingListener.INSTANCE;
@@ -340,6 +344,23 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Specifies the ratio of the capacity that the entries which are used more than once can hold in a protected LRU list, from
+         * which entries are only evicted once all the entries that were used once are gone. The default of 0 makes every segment
+         * a plain LRU cache.
+         *
+         * @param protectedRatio the ratio of the capacity of the protected list
+         * @throws IllegalArgumentException if the protectedRatio is not between 0 and 1
+         */
+        public Builder<K, V> protectedRatio(double protectedRatio) {
+            checkArgument(
+                protectedRatio >= 0.0 && protectedRatio < 1.0,
+                "protectedRatio has to be greater or equal to 0 and less than 1"
+            );
+            this.protectedRatio = protectedRatio;
+            return this;
+        }
+
         /**
          * Specifies an optional listener that is registered for notification when
          * an entry is removed.
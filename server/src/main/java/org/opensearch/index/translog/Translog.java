@@ -45,6 +45,7 @@ import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.compress.ZstdCompressor;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -52,6 +53,7 @@ import org.opensearch.core.common.io.stream.BufferedChecksumStreamInput;
 import org.opensearch.core.common.io.stream.BufferedChecksumStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.VersionType;
@@ -608,7 +610,11 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         try {
             final long start = out.position();
             out.skip(Integer.BYTES);
-            writeOperationNoSize(new BufferedChecksumStreamOutput(out), operation);
+            writeOperationNoSize(
+                new BufferedChecksumStreamOutput(out),
+                operation,
+                config.getIndexSettings().isTranslogSourceCompressionEnabled()
+            );
             final long end = out.position();
             final int operationSize = (int) (end - Integer.BYTES - start);
             out.seek(start);
@@ -1200,12 +1206,20 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
          * Writes the type and translog operation to the given stream
          */
         static void writeOperation(final StreamOutput output, final Operation operation) throws IOException {
+            writeOperation(output, operation, false);
+        }
+
+        /**
+         * Writes the type and translog operation to the given stream, compressing the source of index operations if
+         * {@code compressSource} is set. The stream must only be read by nodes that know {@link Index#FORMAT_COMPRESSED_SOURCE}.
+         */
+        static void writeOperation(final StreamOutput output, final Operation operation, final boolean compressSource) throws IOException {
             output.writeByte(operation.opType().id());
             switch (operation.opType()) {
                 case CREATE:
                     // the serialization logic in Index was identical to that of Create when create was deprecated
                 case INDEX:
-                    ((Index) operation).write(output);
+                    ((Index) operation).write(output, compressSource);
                     break;
                 case DELETE:
                     ((Delete) operation).write(output);
@@ -1251,6 +1265,14 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         public static final int FORMAT_NO_VERSION_TYPE = FORMAT_NO_PARENT + 1;
         public static final int FORMAT_NO_DOC_TYPE = FORMAT_NO_VERSION_TYPE + 1;
         public static final int SERIALIZATION_FORMAT = FORMAT_NO_DOC_TYPE;
+        /**
+         * Only written to translog files of indices with {@link IndexSettings#INDEX_TRANSLOG_SOURCE_COMPRESSION_ENABLED_SETTING}, when
+         * compressing the source saves space, and only to streams of nodes on {@link Version#V_3_9_0} or later. Operations sent to
+         * other nodes are always written with {@link #SERIALIZATION_FORMAT}.
+         */
+        public static final int FORMAT_COMPRESSED_SOURCE = FORMAT_NO_DOC_TYPE + 1;
+        // sources shorter than this hardly shrink once the frame overhead of the compressor is added
+        private static final int MIN_COMPRESSED_SOURCE_LENGTH = 512;
         private final String id;
         private final long autoGeneratedIdTimestamp;
         private final long seqNo;
@@ -1262,12 +1284,19 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         private Index(final StreamInput in) throws IOException {
             final int format = in.readVInt(); // SERIALIZATION_FORMAT
             assert format >= FORMAT_6_0 : "format was: " + format;
+            if (format > FORMAT_COMPRESSED_SOURCE) {
+                throw new IllegalStateException("unknown format of translog index operation [" + format + "]");
+            }
             id = in.readString();
             if (format < FORMAT_NO_DOC_TYPE) {
                 in.readString();
                 // can't assert that this is _doc because pre 2.0 indexes can have any name for a type
             }
-            source = in.readBytesReference();
+            if (format >= FORMAT_COMPRESSED_SOURCE) {
+                source = CompressorRegistry.getCompressor(ZstdCompressor.NAME).uncompress(in.readBytesReference());
+            } else {
+                source = in.readBytesReference();
+            }
             routing = in.readOptionalString();
             if (format < FORMAT_NO_PARENT) {
                 in.readOptionalString(); // _parent
@@ -1349,14 +1378,26 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
             return new Source(source, routing);
         }
 
-        private void write(final StreamOutput out) throws IOException {
-            final int format = out.getVersion().onOrAfter(Version.V_2_0_0) ? SERIALIZATION_FORMAT : FORMAT_NO_VERSION_TYPE;
+        private void write(final StreamOutput out, final boolean compressSource) throws IOException {
+            BytesReference compressedSource = null;
+            if (compressSource && source.length() >= MIN_COMPRESSED_SOURCE_LENGTH && out.getVersion().onOrAfter(Version.V_3_9_0)) {
+                compressedSource = CompressorRegistry.getCompressor(ZstdCompressor.NAME).compress(source);
+                if (compressedSource.length() >= source.length()) {
+                    compressedSource = null;
+                }
+            }
+            final int format;
+            if (compressedSource != null) {
+                format = FORMAT_COMPRESSED_SOURCE;
+            } else {
+                format = out.getVersion().onOrAfter(Version.V_2_0_0) ? SERIALIZATION_FORMAT : FORMAT_NO_VERSION_TYPE;
+            }
             out.writeVInt(format);
             out.writeString(id);
             if (format < FORMAT_NO_DOC_TYPE) {
                 out.writeString(MapperService.SINGLE_MAPPING_NAME);
             }
-            out.writeBytesReference(source);
+            out.writeBytesReference(compressedSource != null ? compressedSource : source);
             out.writeOptionalString(routing);
             if (format < FORMAT_NO_PARENT) {
                 out.writeOptionalString(null); // _parent
@@ -1752,11 +1793,15 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
     }
 
     public static void writeOperationNoSize(BufferedChecksumStreamOutput out, Translog.Operation op) throws IOException {
+        writeOperationNoSize(out, op, false);
+    }
+
+    static void writeOperationNoSize(BufferedChecksumStreamOutput out, Translog.Operation op, boolean compressSource) throws IOException {
         // This BufferedChecksumStreamOutput remains unclosed on purpose,
         // because closing it closes the underlying stream, which we don't
         // want to do here.
         out.resetDigest();
-        Translog.Operation.writeOperation(out, op);
+        Translog.Operation.writeOperation(out, op, compressSource);
         long checksum = out.getChecksum();
         out.writeInt((int) checksum);
     }
@@ -0,0 +1,261 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AsyncIOProcessor;
+import org.opensearch.common.util.concurrent.BufferedAsyncIOProcessor;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Groups the translog syncs that are requested by the shards of a node which share a data path. Instead of syncing as soon as
+ * a write request asks for it, each shard hands its pending syncs to a processor of its data path, which collects the syncs of all
+ * the shards of the data path for at most {@link #TRANSLOG_GROUP_SYNC_MAX_DELAY} and then issues one sync per shard, all at once.
+ * Issuing the syncs of a window together lets the file system commit them together instead of one after the other.
+ *
+ * Only the shards that sync their translog locally use this service, see {@link #newShardSyncProcessor}.
+ *
+ * @opensearch.internal
+ */
+public final class TranslogGroupSyncService {
+
+    private static final Logger logger = LogManager.getLogger(TranslogGroupSyncService.class);
+
+    /**
+     * Whether the translog syncs of the shards that share a data path are grouped. Only applies to shards created after the node
+     * started with this setting.
+     */
+    public static final Setting<Boolean> TRANSLOG_GROUP_SYNC_ENABLED = Setting.boolSetting(
+        "indices.translog.group_sync.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum time a translog sync waits for the syncs of the other shards of its data path.
+     */
+    public static final Setting<TimeValue> TRANSLOG_GROUP_SYNC_MAX_DELAY = Setting.timeSetting(
+        "indices.translog.group_sync.max_delay",
+        TimeValue.timeValueMillis(2),
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    private static final int GROUP_QUEUE_SIZE = 102400;
+
+    private final boolean enabled;
+    private final ThreadPool threadPool;
+    private final Map<Path, GroupSyncProcessor> processors = ConcurrentCollections.newConcurrentMap();
+    private volatile TimeValue maxDelay;
+
+    public TranslogGroupSyncService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
+        this.enabled = TRANSLOG_GROUP_SYNC_ENABLED.get(settings);
+        this.threadPool = threadPool;
+        this.maxDelay = clusterSettings.get(TRANSLOG_GROUP_SYNC_MAX_DELAY);
+        clusterSettings.addSettingsUpdateConsumer(TRANSLOG_GROUP_SYNC_MAX_DELAY, maxDelay -> this.maxDelay = maxDelay);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Creates the processor of the translog syncs of a shard on the given data path, which is the root data path that the shards
+     * of the node share rather than the directory of the shard. The processor hands the syncs to the processor of the data path,
+     * which calls the given consumer with the pending syncs of the shard once per window. The returned processor is
+     * {@link Closeable} and must be closed with the shard, the processor of the data path is released once its last shard closed.
+     */
+    public AsyncIOProcessor<Translog.Location> newShardSyncProcessor(
+        Path dataPath,
+        CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> shardSync
+    ) {
+        assert enabled : "translog group sync is disabled";
+        final GroupSyncProcessor groupProcessor = processors.compute(dataPath, (path, existing) -> {
+            final GroupSyncProcessor processor = existing == null ? new GroupSyncProcessor() : existing;
+            processor.shards++;
+            return processor;
+        });
+        return new ShardSyncProcessor(dataPath, groupProcessor, shardSync, threadPool);
+    }
+
+    private void release(Path dataPath, GroupSyncProcessor groupProcessor) {
+        processors.computeIfPresent(dataPath, (path, processor) -> {
+            if (processor != groupProcessor) {
+                return processor;
+            }
+            return --processor.shards == 0 ? null : processor;
+        });
+    }
+
+    // pkg-private for testing
+    int dataPathCount() {
+        return processors.size();
+    }
+
+    // pkg-private for testing
+    long syncRounds(Path dataPath) {
+        final GroupSyncProcessor processor = processors.get(dataPath);
+        return processor == null ? 0 : processor.rounds.get();
+    }
+
+    /**
+     * Forwards the syncs of a shard to the processor of its data path.
+     */
+    private final class ShardSyncProcessor extends AsyncIOProcessor<Translog.Location> implements Closeable {
+
+        private final Path dataPath;
+        private final GroupSyncProcessor groupProcessor;
+        private final CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> shardSync;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        ShardSyncProcessor(
+            Path dataPath,
+            GroupSyncProcessor groupProcessor,
+            CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> shardSync,
+            ThreadPool threadPool
+        ) {
+            // nothing is queued here, the syncs are queued on the processor of the data path
+            super(logger, 1, threadPool.getThreadContext());
+            this.dataPath = dataPath;
+            this.groupProcessor = groupProcessor;
+            this.shardSync = shardSync;
+        }
+
+        @Override
+        public void put(Translog.Location location, Consumer<Exception> listener) {
+            final PendingSync pendingSync = new PendingSync(this, location);
+            groupProcessor.put(pendingSync, e -> listener.accept(e == null ? pendingSync.failure : e));
+        }
+
+        @Override
+        protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
+            shardSync.accept(candidates);
+        }
+
+        @Override
+        public void close() {
+            // the syncs that are already queued are still issued by the processor of the data path
+            if (closed.compareAndSet(false, true)) {
+                release(dataPath, groupProcessor);
+            }
+        }
+    }
+
+    /**
+     * A translog location that a shard waits to be synced. The failure is only set if the sync of the shard failed, the syncs of
+     * the other shards of the window are not affected.
+     */
+    private static final class PendingSync {
+        private final ShardSyncProcessor shard;
+        private final Translog.Location location;
+        private Exception failure;
+
+        PendingSync(ShardSyncProcessor shard, Translog.Location location) {
+            this.shard = shard;
+            this.location = location;
+        }
+    }
+
+    /**
+     * Collects the syncs of the shards of a data path and issues them together once per window.
+     */
+    private final class GroupSyncProcessor extends BufferedAsyncIOProcessor<PendingSync> {
+
+        // the number of open shard processors, only accessed while computing the entry of the data path
+        private int shards;
+        private final AtomicLong rounds = new AtomicLong();
+
+        GroupSyncProcessor() {
+            super(logger, GROUP_QUEUE_SIZE, threadPool.getThreadContext(), threadPool, () -> maxDelay);
+        }
+
+        @Override
+        protected void write(List<Tuple<PendingSync, Consumer<Exception>>> candidates) throws IOException {
+            rounds.incrementAndGet();
+            final Map<ShardSyncProcessor, List<Tuple<PendingSync, Consumer<Exception>>>> syncsByShard = new LinkedHashMap<>();
+            for (Tuple<PendingSync, Consumer<Exception>> candidate : candidates) {
+                syncsByShard.computeIfAbsent(candidate.v1().shard, shard -> new ArrayList<>()).add(candidate);
+            }
+            final List<List<Tuple<PendingSync, Consumer<Exception>>>> shardSyncs = new ArrayList<>(syncsByShard.values());
+            final AtomicInteger nextShard = new AtomicInteger();
+            final CountDownLatch remainingShards = new CountDownLatch(shardSyncs.size());
+            final Runnable worker = () -> {
+                int shard;
+                while ((shard = nextShard.getAndIncrement()) < shardSyncs.size()) {
+                    try {
+                        syncShard(shardSyncs.get(shard));
+                    } finally {
+                        remainingShards.countDown();
+                    }
+                }
+            };
+            // the syncs of the other shards are issued concurrently, the shards that no forked thread picked up are synced here
+            final Executor executor = threadPool.executor(getBufferProcessThreadPoolName());
+            for (int i = 1; i < shardSyncs.size(); i++) {
+                try {
+                    executor.execute(worker);
+                } catch (OpenSearchRejectedExecutionException e) {
+                    break;
+                }
+            }
+            worker.run();
+            try {
+                remainingShards.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted while waiting for the translog syncs of the data path", e);
+            }
+        }
+
+        private void syncShard(List<Tuple<PendingSync, Consumer<Exception>>> syncs) {
+            final List<Tuple<Translog.Location, Consumer<Exception>>> locations = new ArrayList<>(syncs.size());
+            for (Tuple<PendingSync, Consumer<Exception>> sync : syncs) {
+                locations.add(new Tuple<>(sync.v1().location, sync.v2()));
+            }
+            try {
+                syncs.get(0).v1().shard.shardSync.accept(locations);
+            } catch (Exception e) {
+                logger.debug("failed to sync translog", e);
+                for (Tuple<PendingSync, Consumer<Exception>> sync : syncs) {
+                    sync.v1().failure = e;
+                }
+            }
+        }
+
+        @Override
+        protected String getBufferProcessThreadPoolName() {
+            return ThreadPool.Names.TRANSLOG_SYNC;
+        }
+    }
+}
@@ -36,11 +36,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
@@ -55,8 +57,10 @@ import org.opensearch.threadpool.ThreadPool.Names;
 import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -142,6 +146,17 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         Property.NodeScope
     );
 
+    /** Whether shards that write less than their share of the indexing throughput are asked to write their buffer first when the
+     * indexing buffer is over budget, instead of the shards with the largest buffers (default: false). */
+    public static final Setting<Boolean> WRITE_RATE_AWARE_SETTING = Setting.boolSetting(
+        "indices.memory.write_rate_aware.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    /** How much the write rate of a shard follows the bytes it wrote since the previous check, see {@link #WRITE_RATE_AWARE_SETTING}. */
+    private static final double WRITE_RATE_ALPHA = 0.3;
+
     private final ThreadPool threadPool;
 
     private final Iterable<IndexShard> indexShards;
@@ -152,6 +167,10 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
     private final TimeValue inactiveTime;
     private final TimeValue interval;
+    private final boolean writeRateAware;
+
+    /** Bytes written by each shard since the last check, only tracked if {@link #WRITE_RATE_AWARE_SETTING} is enabled */
+    private final Map<ShardId, AtomicLong> shardBytesWrittenSinceCheck = ConcurrentCollections.newConcurrentMap();
 
     /** Contains shards currently being throttled because we can't write segments quickly enough */
     private final Set<IndexShard> throttled = new HashSet<>();
@@ -185,17 +204,20 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         this.inactiveTime = SHARD_INACTIVE_TIME_SETTING.get(settings);
         // we need to have this relatively small to free up heap quickly enough
         this.interval = SHARD_MEMORY_INTERVAL_TIME_SETTING.get(settings);
+        this.writeRateAware = WRITE_RATE_AWARE_SETTING.get(settings);
 
         this.statusChecker = new ShardsIndicesStatusChecker();
 
         logger.debug(
-            "using indexing buffer size [{}], native buffer size [{}], with {} [{}], {} [{}]",
+            "using indexing buffer size [{}], native buffer size [{}], with {} [{}], {} [{}], {} [{}]",
             this.indexingBuffer,
             this.nativeBuffer,
             SHARD_INACTIVE_TIME_SETTING.getKey(),
             this.inactiveTime,
             SHARD_MEMORY_INTERVAL_TIME_SETTING.getKey(),
-            this.interval
+            this.interval,
+            WRITE_RATE_AWARE_SETTING.getKey(),
+            this.writeRateAware
         );
         this.scheduler = scheduleTask(threadPool);
 
@@ -292,21 +314,29 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
     @Override
     public void postIndex(ShardId shardId, Engine.Index index, Engine.IndexResult result) {
-        recordOperationBytes(index, result);
+        recordOperationBytes(shardId, index, result);
     }
 
     @Override
     public void postDelete(ShardId shardId, Engine.Delete delete, Engine.DeleteResult result) {
-        recordOperationBytes(delete, result);
+        recordOperationBytes(shardId, delete, result);
     }
 
     /** called by IndexShard to record estimated bytes written to translog for the operation */
-    private void recordOperationBytes(Engine.Operation operation, Engine.Result result) {
+    private void recordOperationBytes(ShardId shardId, Engine.Operation operation, Engine.Result result) {
         if (result.getResultType() == Engine.Result.Type.SUCCESS) {
+            if (writeRateAware) {
+                shardBytesWritten(shardId, operation.estimatedSizeInBytes());
+            }
             statusChecker.bytesWritten(operation.estimatedSizeInBytes());
         }
     }
 
+    /** records the bytes written by the given shard, to compute its write rate at the next check */
+    void shardBytesWritten(ShardId shardId, long bytes) {
+        shardBytesWrittenSinceCheck.computeIfAbsent(shardId, id -> new AtomicLong()).addAndGet(bytes);
+    }
+
     /** Resolves a buffer size setting, applying min/max bounds when the value is a percentage. */
     private static ByteSizeValue computeBufferSize(
         Settings settings,
@@ -361,6 +391,9 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         final AtomicLong bytesWrittenSinceCheck = new AtomicLong();
         final ReentrantLock runLock = new ReentrantLock();
 
+        /** Moving average of the bytes written by each shard between two checks, only guarded by runLock */
+        final Map<ShardId, ExponentiallyWeightedMovingAverage> writeRates = new HashMap<>();
+
         /** Shard calls this on each indexing/delete op */
         public void bytesWritten(int bytes) {
             long totalBytes = bytesWrittenSinceCheck.addAndGet(bytes);
@@ -412,6 +445,11 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
             long totalHeapBytesUsed = 0;
             long totalNativeUsed = 0;
             long totalBytesWriting = 0;
+            final Map<ShardId, Double> shardWriteRates = writeRateAware ? updateWriteRates() : Map.of();
+            double totalWriteRate = 0;
+            for (double writeRate : shardWriteRates.values()) {
+                totalWriteRate += writeRate;
+            }
             for (IndexShard shard : availableShards()) {
 
                 // Give shard a chance to transition to inactive so we can flush:
@@ -480,21 +518,32 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
                     // Sort key depends on which budget is exceeded (Option C):
                     long sortKey;
+                    long budget;
                     if (heapOverBudget && nativeOverBudget) {
                         sortKey = shardBytesUsed + shardNativeUsed;
+                        budget = indexingBuffer.getBytes() + nativeBuffer.getBytes();
                     } else if (heapOverBudget) {
                         sortKey = shardBytesUsed;
+                        budget = indexingBuffer.getBytes();
                     } else {
                         sortKey = shardNativeUsed;
+                        budget = nativeBuffer.getBytes();
                     }
 
                     if (sortKey > 0) {
+                        final double writeRate = shardWriteRates.getOrDefault(shard.shardId(), 0d);
+                        if (totalWriteRate > 0) {
+                            // Give each shard a share of the budget in proportion to its write rate, and write the shards that use
+                            // the most bytes beyond their share first: the buffers of cold shards no longer hold back the hot ones
+                            sortKey -= (long) (budget * (writeRate / totalWriteRate));
+                        }
                         if (logger.isTraceEnabled()) {
                             logger.trace(
-                                "shard [{}] is using [{}] heap, [{}] native",
+                                "shard [{}] is using [{}] heap, [{}] native, writes [{}] per check",
                                 shard.shardId(),
                                 new ByteSizeValue(shardBytesUsed),
-                                new ByteSizeValue(shardNativeUsed)
+                                new ByteSizeValue(shardNativeUsed),
+                                new ByteSizeValue((long) writeRate)
                             );
                         }
                         queue.add(new ShardAndBytesUsed(sortKey, shardBytesUsed, shardNativeUsed, shard));
@@ -541,6 +590,27 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                 throttled.clear();
             }
         }
+
+        /**
+         * Folds the bytes that each available shard wrote since the last check into its write rate, and forgets the shards that are no
+         * longer available.
+         */
+        private Map<ShardId, Double> updateWriteRates() {
+            final Map<ShardId, Double> shardWriteRates = new HashMap<>();
+            for (IndexShard shard : availableShards()) {
+                final AtomicLong bytesWritten = shardBytesWrittenSinceCheck.get(shard.shardId());
+                final long bytes = bytesWritten == null ? 0 : bytesWritten.getAndSet(0);
+                final ExponentiallyWeightedMovingAverage writeRate = writeRates.computeIfAbsent(
+                    shard.shardId(),
+                    shardId -> new ExponentiallyWeightedMovingAverage(WRITE_RATE_ALPHA, bytes)
+                );
+                writeRate.addValue(bytes);
+                shardWriteRates.put(shard.shardId(), writeRate.getAverage());
+            }
+            writeRates.keySet().retainAll(shardWriteRates.keySet());
+            shardBytesWrittenSinceCheck.keySet().retainAll(shardWriteRates.keySet());
+            return shardWriteRates;
+        }
     }
 
     /**
@@ -0,0 +1,229 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.cache.request.ShardRequestCache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * The segment level request cache keeps partial query results per segment rather than per shard reader. A refresh
+ * changes the top level reader and therefore invalidates every {@link IndicesRequestCache} entry of the shard, but most
+ * segments of an append-only index survive the refresh unchanged. Results computed on those segments are looked up
+ * here so that only the new segments need to be searched before the partial results are reduced again.
+ * <p>
+ * Entries are keyed on the core cache key of the segment together with its number of live documents. Deletes on a
+ * segment core are monotonic, so the pair identifies the exact set of live documents the result was computed on.
+ * Entries of a segment are dropped as soon as its core is closed.
+ *
+ * @opensearch.internal
+ */
+public final class IndicesSegmentRequestCache implements RemovalListener<IndicesSegmentRequestCache.Key, BytesReference>, Closeable {
+
+    /**
+     * Enables segment level caching of request cache results on an index. Only requests that are eligible for the shard
+     * level request cache and whose results can be computed per segment are affected.
+     */
+    public static final Setting<Boolean> INDEX_SEGMENT_REQUEST_CACHE_ENABLED_SETTING = Setting.boolSetting(
+        "index.requests.cache.segment_level.enable",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * The maximum size of the segment level request cache.
+     */
+    public static final Setting<ByteSizeValue> INDICES_SEGMENT_REQUEST_CACHE_SIZE = Setting.memorySizeSetting(
+        "indices.requests.cache.segment_level.size",
+        "1%",
+        Property.NodeScope
+    );
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+
+    private final Cache<Key, BytesReference> cache;
+    private final ConcurrentMap<IndexReader.CacheKey, Set<Key>> keysByCore = ConcurrentCollections.newConcurrentMap();
+
+    IndicesSegmentRequestCache(Settings settings) {
+        final long sizeInBytes = INDICES_SEGMENT_REQUEST_CACHE_SIZE.get(settings).getBytes();
+        this.cache = CacheBuilder.<Key, BytesReference>builder()
+            .setMaximumWeight(sizeInBytes)
+            .weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed())
+            .removalListener(this)
+            .build();
+    }
+
+    /**
+     * Returns the cached result for the given segment, computing it with the loader if needed. Segments that cannot
+     * be cached, because their reader does not expose a core cache key, are always computed. Hits and misses are
+     * recorded on the request cache stats of the shard.
+     */
+    BytesReference getOrCompute(
+        ShardId shardId,
+        int indexShardHashCode,
+        ShardRequestCache shardRequestCache,
+        LeafReaderContext leaf,
+        BytesReference cacheKey,
+        CheckedSupplier<BytesReference, IOException> loader
+    ) throws Exception {
+        final IndexReader.CacheHelper coreCacheHelper = leaf.reader().getCoreCacheHelper();
+        if (coreCacheHelper == null) {
+            shardRequestCache.onSegmentLevelMiss();
+            return loader.get();
+        }
+        final Key key = new Key(shardId, indexShardHashCode, coreCacheHelper.getKey(), leaf.reader().numDocs(), cacheKey);
+        final boolean[] loaded = new boolean[] { false };
+        final BytesReference value;
+        try {
+            value = cache.computeIfAbsent(key, k -> {
+                loaded[0] = true;
+                return loader.get();
+            });
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+        if (loaded[0]) {
+            shardRequestCache.onSegmentLevelMiss();
+            registerKey(coreCacheHelper, key);
+        } else {
+            shardRequestCache.onSegmentLevelHit();
+        }
+        return value;
+    }
+
+    private void registerKey(IndexReader.CacheHelper coreCacheHelper, Key key) {
+        final Set<Key> keys = keysByCore.computeIfAbsent(coreCacheHelper.getKey(), coreKey -> {
+            coreCacheHelper.addClosedListener(this::onCoreClosed);
+            return ConcurrentCollections.newConcurrentSet();
+        });
+        keys.add(key);
+    }
+
+    private void onCoreClosed(IndexReader.CacheKey coreKey) {
+        final Set<Key> keys = keysByCore.remove(coreKey);
+        if (keys != null) {
+            for (Key key : keys) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<Key, BytesReference> notification) {
+        final Key key = notification.getKey();
+        final Set<Key> keys = keysByCore.get(key.coreKey);
+        if (keys != null) {
+            keys.remove(key);
+        }
+    }
+
+    /**
+     * Drops all the entries of the given shard.
+     */
+    void clear(ShardId shardId) {
+        final List<Key> toInvalidate = new ArrayList<>();
+        for (Key key : cache.keys()) {
+            if (key.shardId.equals(shardId)) {
+                toInvalidate.add(key);
+            }
+        }
+        for (Key key : toInvalidate) {
+            cache.invalidate(key);
+        }
+    }
+
+    long count() {
+        return cache.count();
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+        keysByCore.clear();
+    }
+
+    /**
+     * Unique key of a segment level cache entry
+     *
+     * @opensearch.internal
+     */
+    static final class Key implements Accountable {
+        final ShardId shardId;
+        final int indexShardHashCode; // same role as in IndicesRequestCache.Key, a reallocated shard must not share entries
+        final IndexReader.CacheKey coreKey;
+        final int numDocs;
+        final BytesReference value;
+
+        Key(ShardId shardId, int indexShardHashCode, IndexReader.CacheKey coreKey, int numDocs, BytesReference value) {
+            this.shardId = shardId;
+            this.indexShardHashCode = indexShardHashCode;
+            this.coreKey = Objects.requireNonNull(coreKey);
+            this.numDocs = numDocs;
+            this.value = value;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED + shardId.getBaseRamBytesUsed() + value.length();
+        }
+
+        @Override
+        public Collection<Accountable> getChildResources() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return numDocs == key.numDocs
+                && indexShardHashCode == key.indexShardHashCode
+                && coreKey == key.coreKey
+                && shardId.equals(key.shardId)
+                && value.equals(key.value);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = shardId.hashCode();
+            result = 31 * result + indexShardHashCode;
+            result = 31 * result + System.identityHashCode(coreKey);
+            result = 31 * result + numDocs;
+            result = 31 * result + value.hashCode();
+            return result;
+        }
+    }
+}
@@ -37,6 +37,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader.CacheHelper;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.util.CollectionUtil;
 import org.apache.lucene.util.RamUsageEstimator;
@@ -156,6 +157,7 @@ import org.opensearch.index.store.remote.filecache.NodeCacheService;
 import org.opensearch.index.translog.InternalTranslogFactory;
 import org.opensearch.index.translog.RemoteBlobStoreInternalTranslogFactory;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupSyncService;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -185,6 +187,7 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.query.SegmentLevelQueryExecutor;
 import org.opensearch.storage.prefetch.StoredFieldsPrefetch;
 import org.opensearch.storage.prefetch.TieredStoragePrefetchSettings;
 import org.opensearch.storage.slowlogs.TieredStorageSearchSlowLog;
@@ -451,6 +454,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final IndexingMemoryController indexingMemoryController;
     private final TimeValue cleanInterval; // clean interval for the field data cache
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
+    final IndicesSegmentRequestCache indicesSegmentRequestCache; // pkg-private for testing
     private final IndicesQueryCache indicesQueryCache;
     private final MetaStateService metaStateService;
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
@@ -467,6 +471,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private volatile boolean allowExpensiveQueries;
     private final RecoverySettings recoverySettings;
     private final RemoteStoreSettings remoteStoreSettings;
+    private final TranslogGroupSyncService translogGroupSyncService;
     @Nullable
     private final OpenSearchThreadPoolExecutor danglingIndicesThreadPoolExecutor;
     private final Set<Index> danglingIndicesToWrite = Sets.newConcurrentHashSet();
@@ -553,7 +558,9 @@ public class IndicesService extends AbstractLifecycleComponent
             }
             return Optional.of(new IndexShardCacheEntity(indexService.getShardOrNull(shardId.id())));
         }), cacheService, threadPool, clusterService, nodeEnv);
+        this.indicesSegmentRequestCache = new IndicesSegmentRequestCache(settings);
         this.indicesQueryCache = new IndicesQueryCache(settings, clusterService.getClusterSettings());
+        this.translogGroupSyncService = new TranslogGroupSyncService(settings, clusterService.getClusterSettings(), threadPool);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
         indexingMemoryController = new IndexingMemoryController(
@@ -615,6 +622,7 @@ public class IndicesService extends AbstractLifecycleComponent
                         indicesFieldDataCache,
                         cacheCleaner,
                         indicesRequestCache,
+                        indicesSegmentRequestCache,
                         indicesQueryCache,
                         ingestionPayloadDecoderRegistry
                     );
@@ -1207,6 +1215,9 @@ public class IndicesService extends AbstractLifecycleComponent
         for (IndexEventListener listener : builtInListeners) {
             indexModule.addIndexEventListener(listener);
         }
+        if (translogGroupSyncService.isEnabled()) {
+            indexModule.setTranslogGroupSyncService(translogGroupSyncService);
+        }
 
         return indexModule.newIndexService(
             indexCreationContext,
@@ -2134,7 +2145,7 @@ public class IndicesService extends AbstractLifecycleComponent
         boolean[] loadedFromCache = new boolean[] { true };
         BytesReference bytesReference = cacheShardLevelResult(context.indexShard(), directoryReader, request.cacheKey(), out -> {
             long beforeQueryPhase = System.nanoTime();
-            queryPhase.execute(context);
+            queryPhase.execute(context, segmentResultCache(request, context));
             // Write relevant info for cache tier policies before the whole QuerySearchResult, so we don't have to read
             // the whole QSR into memory when we decide whether to allow it into a particular cache tier based on took time/other info
             CachedQueryResult cachedQueryResult = new CachedQueryResult(context.queryResult(), System.nanoTime() - beforeQueryPhase);
@@ -2167,6 +2178,35 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Returns the segment level cache to compute the request with, or {@code null} if segment level caching is disabled on the index.
+     */
+    @Nullable
+    private SegmentLevelQueryExecutor.SegmentResultCache segmentResultCache(ShardSearchRequest request, SearchContext context) {
+        final IndexShard indexShard = context.indexShard();
+        if (indexShard.indexSettings().getValue(IndicesSegmentRequestCache.INDEX_SEGMENT_REQUEST_CACHE_ENABLED_SETTING) == false) {
+            return null;
+        }
+        return new SegmentLevelQueryExecutor.SegmentResultCache() {
+            @Override
+            public BytesReference getOrCompute(LeafReaderContext leaf, Loader loader) throws Exception {
+                return indicesSegmentRequestCache.getOrCompute(
+                    indexShard.shardId(),
+                    System.identityHashCode(indexShard),
+                    indexShard.requestCache(),
+                    leaf,
+                    request.cacheKey(),
+                    loader::load
+                );
+            }
+
+            @Override
+            public NamedWriteableRegistry namedWriteableRegistry() {
+                return namedWriteableRegistry;
+            }
+        };
+    }
+
     public ByteSizeValue getTotalIndexingBufferBytes() {
         return indexingMemoryController.indexingBufferSize();
     }
@@ -2310,6 +2350,7 @@ public class IndicesService extends AbstractLifecycleComponent
             final boolean clearedAtLeastOne = service.clearCaches(queryCache, fieldDataCache, fields);
             if ((requestCache || (clearedAtLeastOne == false && fields.length == 0)) && shard != null) {
                 indicesRequestCache.clear(new IndexShardCacheEntity(shard));
+                indicesSegmentRequestCache.clear(shardId);
             }
         }
     }
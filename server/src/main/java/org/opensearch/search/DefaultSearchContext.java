@@ -82,6 +82,7 @@ import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.collapse.CollapseContext;
 import org.opensearch.search.deciders.ConcurrentSearchDecision;
 import org.opensearch.search.deciders.ConcurrentSearchRequestDecider;
+import org.opensearch.search.deciders.ConcurrentSearchSliceController;
 import org.opensearch.search.deciders.ConcurrentSearchVisitor;
 import org.opensearch.search.deciders.IntraSegmentSearchDecider;
 import org.opensearch.search.deciders.IntraSegmentSearchVisitor;
@@ -238,6 +239,8 @@ final class DefaultSearchContext extends SearchContext {
     private boolean isStreamSearch;
     private StreamSearchChannelListener listener;
     private final SetOnce<FlushMode> cachedFlushMode = new SetOnce<>();
+    private ConcurrentSearchSliceController concurrentSearchSliceController;
+    private int targetMaxSliceCount = -1;
 
     DefaultSearchContext(
         ReaderContext readerContext,
@@ -1206,13 +1209,23 @@ final class DefaultSearchContext extends SearchContext {
             return 1; // Disable slicing: run search in a single thread when concurrent search is off
         }
 
-        return indexService.getIndexSettings()
-            .getSettings()
-            .getAsInt(
-                IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_MAX_SLICE_COUNT.getKey(),
-                clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_SETTING)
-            );
+        if (targetMaxSliceCount == -1) {
+            final int configuredSliceCount = indexService.getIndexSettings()
+                .getSettings()
+                .getAsInt(
+                    IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_MAX_SLICE_COUNT.getKey(),
+                    clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_SETTING)
+                );
+            // the slice count is sampled once so that it stays the same for the whole request
+            targetMaxSliceCount = concurrentSearchSliceController == null
+                ? configuredSliceCount
+                : concurrentSearchSliceController.sliceCount(configuredSliceCount, searcher.getIndexReader().maxDoc());
+        }
+        return targetMaxSliceCount;
+    }
 
+    void setConcurrentSearchSliceController(ConcurrentSearchSliceController concurrentSearchSliceController) {
+        this.concurrentSearchSliceController = concurrentSearchSliceController;
     }
 
     @Override
@@ -289,6 +289,10 @@ public interface DocValueFormat extends NamedWriteable {
             return timeZone;
         }
 
+        public DateFieldMapper.Resolution getResolution() {
+            return resolution;
+        }
+
         @Override
         public String format(long value) {
             return formatter.format(resolution.toInstant(value).atZone(timeZone));
@@ -40,6 +40,7 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.IndicesRequest;
 import org.opensearch.action.OriginalIndices;
@@ -83,8 +84,10 @@ import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.DerivedFieldResolver;
 import org.opensearch.index.mapper.DerivedFieldResolverFactory;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.query.InnerHitContextBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.query.MatchNoneQueryBuilder;
@@ -99,6 +102,7 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndices.IndexRemovalReason;
+import org.opensearch.monitor.process.ProcessProbe;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.plugins.SearchPlugin;
 import org.opensearch.script.FieldScript;
@@ -113,6 +117,7 @@ import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTr
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.collapse.CollapseContext;
 import org.opensearch.search.deciders.ConcurrentSearchRequestDecider;
+import org.opensearch.search.deciders.ConcurrentSearchSliceController;
 import org.opensearch.search.dfs.DfsPhase;
 import org.opensearch.search.dfs.DfsSearchResult;
 import org.opensearch.search.fetch.FetchPhase;
@@ -451,6 +456,17 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    /**
+     * Allows partial reduces on the coordinating node to trim terms aggregations ordered by doc count to their
+     * {@code shard_size}, which bounds the memory used by a partial result at the cost of a larger doc count error.
+     */
+    public static final Setting<Boolean> BOUNDED_PARTIAL_REDUCE_SETTING = Setting.boolSetting(
+        "search.aggregations.partial_reduce.bounded",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final int DEFAULT_BUCKET_SELECTION_STRATEGY_FACTOR = 5;
     public static final Setting<Integer> BUCKET_SELECTION_STRATEGY_FACTOR_SETTING = Setting.intSetting(
         "search.aggregation.bucket_selection_strategy_factor",
@@ -501,6 +517,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile boolean allowDerivedField;
 
+    private volatile boolean boundedPartialReduce;
+
     private final Cancellable keepAliveReaper;
 
     private final AtomicLong idGenerator = new AtomicLong();
@@ -513,6 +531,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     private final AtomicInteger openPitContexts = new AtomicInteger();
     private final String sessionId = UUIDs.randomBase64UUID();
     private final Executor indexSearcherExecutor;
+
+    private final ConcurrentSearchSliceController concurrentSearchSliceController;
     private final TaskResourceTrackingService taskResourceTrackingService;
 
     private final List<SearchPlugin.ProfileMetricsProvider> pluginProfilers;
@@ -549,6 +569,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             workloadGroupService
         );
         this.indexSearcherExecutor = indexSearcherExecutor;
+        this.concurrentSearchSliceController = new ConcurrentSearchSliceController(
+            settings,
+            clusterService.getClusterSettings(),
+            indexSearcherExecutor,
+            threadPool::relativeTimeInMillis,
+            () -> ProcessProbe.getInstance().getProcessCpuPercent()
+        );
         this.taskResourceTrackingService = taskResourceTrackingService;
         TimeValue keepAliveInterval = KEEPALIVE_INTERVAL_SETTING.get(settings);
         setKeepAlives(DEFAULT_KEEPALIVE_SETTING.get(settings), MAX_KEEPALIVE_SETTING.get(settings));
@@ -598,6 +625,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         allowDerivedField = CLUSTER_ALLOW_DERIVED_FIELD_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(CLUSTER_ALLOW_DERIVED_FIELD_SETTING, this::setAllowDerivedField);
 
+        boundedPartialReduce = BOUNDED_PARTIAL_REDUCE_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(BOUNDED_PARTIAL_REDUCE_SETTING, this::setBoundedPartialReduce);
+
         this.concurrentSearchDeciderFactories = concurrentSearchDeciderFactories;
 
         this.pluginProfilers = pluginProfilers;
@@ -677,6 +707,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.allowDerivedField = allowDerivedField;
     }
 
+    private void setBoundedPartialReduce(boolean boundedPartialReduce) {
+        this.boundedPartialReduce = boundedPartialReduce;
+    }
+
     private void setMaxOpenPitContext(int maxOpenPitContext) {
         this.maxOpenPitContext = maxOpenPitContext;
     }
@@ -1390,6 +1424,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 concurrentSearchDeciderFactories,
                 isStreamSearch
             );
+            searchContext.setConcurrentSearchSliceController(concurrentSearchSliceController);
             // we clone the query shard context here just for rewriting otherwise we
             // might end up with incorrect state since we are using now() or script services
             // during rewrite and normalized / evaluate templates etc.
@@ -1782,7 +1817,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             boolean consolidated = starTreeQueryContext.consolidateAllFilters(context);
             if (consolidated) {
                 queryShardContext.setStarTreeQueryContext(starTreeQueryContext);
+            } else {
+                queryShardContext.setStarTreeNotUsedReason(starTreeQueryContext.getUnsupportedReason());
             }
+        } else if (context.aggregations() != null && context.mapperService().isCompositeIndexPresent()) {
+            queryShardContext.setStarTreeNotUsedReason(
+                context.getStarTreeIndexEnabled() ? "post_filter is not supported by the star-tree" : "star-tree search is disabled"
+            );
         }
     }
 
@@ -1924,11 +1965,40 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 final Integer trackTotalHitsUpto = request.source() == null ? null : request.source().trackTotalHitsUpTo();
                 canMatch = canMatch && canMatchSearchAfter(searchAfterFieldDoc, minMax, sortBuilder, trackTotalHitsUpto);
 
-                return new CanMatchResponse(canMatch || hasRefreshPending, minMax);
+                return new CanMatchResponse(
+                    canMatch || hasRefreshPending,
+                    minMax,
+                    readerContext == null ? getCacheableBoundsFormat(context, canMatchSearcher, sortBuilder, minMax) : null
+                );
             }
         }
     }
 
+    /**
+     * Returns the format of the primary sort field if its shard bounds cover every document of the shard, so that the
+     * coordinating node can cache them and use them to skip the shard for range queries on that field. Only date fields
+     * sorted in their own resolution are reported, and only when the searcher sees all the indexed documents.
+     */
+    private static DocValueFormat getCacheableBoundsFormat(
+        QueryShardContext context,
+        Engine.Searcher searcher,
+        FieldSortBuilder sortBuilder,
+        MinAndMax<?> minMax
+    ) throws IOException {
+        if (minMax == null || sortBuilder.getNumericType() != null) {
+            return null;
+        }
+        final MappedFieldType fieldType = context.fieldMapper(sortBuilder.getFieldName());
+        if (fieldType == null || fieldType.unwrap() instanceof DateFieldMapper.DateFieldType == false) {
+            return null;
+        }
+        if (searcher.getDirectoryReader().isCurrent() == false) {
+            // documents that are not refreshed yet are not reflected in the bounds
+            return null;
+        }
+        return fieldType.docValueFormat(null, null);
+    }
+
     public static boolean canMatchSearchAfter(
         FieldDoc searchAfter,
         MinAndMax<?> minMax,
@@ -2000,6 +2070,28 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Rewriteable.rewriteAndFetch(request.getRewriteable(), indicesService.getRewriteContext(request::nowInMillis), actionListener);
     }
 
+    /**
+     * Rewrites the source of the first of the given shard requests once and sets the rewritten source on all the requests that
+     * carry the same source, so that the node level rewrite (and fetch, e.g. of terms lookups) of a batch of shard requests is
+     * done once instead of once per shard. The per shard rewrite of the query phase still runs on the rewritten source.
+     */
+    public void rewriteSharedSource(List<ShardSearchRequest> requests, ActionListener<Void> listener) {
+        final ShardSearchRequest first = requests.get(0);
+        final SearchSourceBuilder source = first.source();
+        if (source == null) {
+            listener.onResponse(null);
+            return;
+        }
+        Rewriteable.rewriteAndFetch(source, indicesService.getRewriteContext(first::nowInMillis), ActionListener.wrap(rewritten -> {
+            for (ShardSearchRequest request : requests) {
+                if (request.nowInMillis() == first.nowInMillis() && source.equals(request.source())) {
+                    request.source(rewritten);
+                }
+            }
+            listener.onResponse(null);
+        }, listener::onFailure));
+    }
+
     /**
      * Returns a new {@link QueryCoordinatorContext} with the given {@code now} provider and {@link IndicesRequest searchRequest}
      */
@@ -2026,11 +2118,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         return new InternalAggregation.ReduceContextBuilder() {
             @Override
             public InternalAggregation.ReduceContext forPartialReduction() {
-                return InternalAggregation.ReduceContext.forPartialReduction(
+                InternalAggregation.ReduceContext reduceContext = InternalAggregation.ReduceContext.forPartialReduction(
                     bigArrays,
                     scriptService,
                     () -> requestToPipelineTree(searchSourceBuilder)
                 );
+                reduceContext.setBoundedPartialReduce(boundedPartialReduce);
+                return reduceContext;
             }
 
             @Override
@@ -2061,16 +2155,27 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final class CanMatchResponse extends SearchPhaseResult {
         private final boolean canMatch;
         private final MinAndMax<?> estimatedMinAndMax;
+        private final DocValueFormat boundsFormat;
 
         public CanMatchResponse(StreamInput in) throws IOException {
             super(in);
             this.canMatch = in.readBoolean();
             this.estimatedMinAndMax = in.readOptionalWriteable(MinAndMax::new);
+            if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+                this.boundsFormat = in.readOptionalNamedWriteable(DocValueFormat.class);
+            } else {
+                this.boundsFormat = null;
+            }
         }
 
         public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax) {
+            this(canMatch, estimatedMinAndMax, null);
+        }
+
+        public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax, DocValueFormat boundsFormat) {
             this.canMatch = canMatch;
             this.estimatedMinAndMax = estimatedMinAndMax;
+            this.boundsFormat = boundsFormat;
         }
 
         @Override
@@ -2078,6 +2183,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             super.writeTo(out);
             out.writeBoolean(canMatch);
             out.writeOptionalWriteable(estimatedMinAndMax);
+            if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+                out.writeOptionalNamedWriteable(boundsFormat);
+            }
         }
 
         public boolean canMatch() {
@@ -2087,6 +2195,14 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         public MinAndMax<?> estimatedMinAndMax() {
             return estimatedMinAndMax;
         }
+
+        /**
+         * The format of the field of {@link #estimatedMinAndMax()} if these bounds cover all the documents of the shard
+         * and can be cached by the coordinating node, {@code null} otherwise.
+         */
+        public DocValueFormat boundsFormat() {
+            return boundsFormat;
+        }
     }
 
     /**
@@ -275,6 +275,15 @@ public class AggregatorFactories {
         return true;
     }
 
+    public boolean allFactoriesSupportSegmentLevelCache() {
+        for (AggregatorFactory factory : factories) {
+            if (factory.supportsSegmentLevelCache() == false || factory.evaluateChildFactoriesForSegmentLevelCache() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public boolean allFactoriesSupportIntraSegmentSearch() {
         for (AggregatorFactory factory : factories) {
             if (factory.supportsIntraSegmentSearch() == false || factory.evaluateChildFactoriesForIntraSegment() == false) {
@@ -132,10 +132,22 @@ public abstract class AggregatorFactory {
         return false;
     }
 
+    /**
+     * Implementation should override this method and return false if the results that the Aggregator created by the factory
+     * computes on each segment of a shard can't be cached and reduced like the results of concurrent segment search slices
+     */
+    protected boolean supportsSegmentLevelCache() {
+        return true;
+    }
+
     public boolean evaluateChildFactories() {
         return factories.allFactoriesSupportConcurrentSearch();
     }
 
+    public boolean evaluateChildFactoriesForSegmentLevelCache() {
+        return factories.allFactoriesSupportSegmentLevelCache();
+    }
+
     public boolean evaluateChildFactoriesForIntraSegment() {
         return factories.allFactoriesSupportIntraSegmentSearch();
     }
@@ -97,6 +97,7 @@ public abstract class InternalAggregation implements Aggregation, NamedWriteable
         private final PipelineTree pipelineTreeRoot;
 
         private boolean isSliceLevel;
+        private boolean boundedPartialReduce;
         /**
          * Supplies the pipelines when the result of the reduce is serialized
          * to node versions that need pipeline aggregators to be serialized
@@ -166,6 +167,19 @@ public abstract class InternalAggregation implements Aggregation, NamedWriteable
             return this.isSliceLevel;
         }
 
+        public void setBoundedPartialReduce(boolean boundedPartialReduce) {
+            this.boundedPartialReduce = boundedPartialReduce;
+        }
+
+        /**
+         * Returns <code>true</code> if a partial reduce may trim bucket aggregations to their shard level size, the same way
+         * a shard does, in order to bound the memory used by the reduced result. Aggregations that trim must account for the
+         * dropped buckets in their error bounds.
+         */
+        public boolean isBoundedPartialReduce() {
+            return isFinalReduce() == false && boundedPartialReduce;
+        }
+
         /**
          * For slice level partial reduce we will apply shard level `shard_size` and `shard_min_doc_count` limits
          * whereas for coordinator level partial reduce it will use top level `size` and `min_doc_count`
@@ -179,6 +179,9 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         if (weight == null) {
             // Weight not assigned - cannot use this optimization
             return false;
+        } else if (context.shouldUseIntraSegmentSearch()) {
+            // The segment may be split across slices, counting it from its postings would count it once per partition
+            return false;
         } else {
             if (weight.count(ctx) == 0) {
                 // No documents matches top level query on this segment, we can skip the segment entirely
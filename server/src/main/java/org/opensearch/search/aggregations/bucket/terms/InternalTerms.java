@@ -464,6 +464,7 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         }
 
         final B[] list;
+        long maxTrimmedDocCount = 0;
         if (reduceContext.isFinalReduce() || reduceContext.isSliceLevel()) {
             final int size = Math.min(localBucketCountThresholds.getRequiredSize(), reducedBuckets.size());
             // final comparator
@@ -491,6 +492,33 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             for (int i = ordered.size() - 1; i >= 0; i--) {
                 list[i] = ordered.pop();
             }
+        } else if (reduceContext.isBoundedPartialReduce()
+            && InternalOrder.isCountDesc(order)
+            && sumDocCountError != -1
+            && reducedBuckets.size() > getShardSize()) {
+            // keep the top shard_size buckets like a shard does: the partial result then behaves like the response of
+            // a single shard in the next reduce, and the doc count of the trimmed buckets is added to its error bound
+            final BucketPriorityQueue<B> ordered = new BucketPriorityQueue<>(getShardSize(), order.comparator());
+            for (B bucket : reducedBuckets) {
+                final long fSumDocCountError = sumDocCountError;
+                bucket.setDocCountError(docCountError -> docCountError + fSumDocCountError);
+                B removed = ordered.insertWithOverflow(bucket);
+                if (removed != null) {
+                    otherDocCount += removed.getDocCount();
+                    maxTrimmedDocCount = Math.max(maxTrimmedDocCount, removed.getDocCount());
+                    reduceContext.consumeBucketsAndMaybeBreak(-countInnerBucket(removed));
+                } else {
+                    reduceContext.consumeBucketsAndMaybeBreak(1);
+                }
+            }
+            list = createBucketsArray(ordered.size());
+            for (int i = ordered.size() - 1; i >= 0; i--) {
+                list[i] = ordered.pop();
+            }
+            // partial results must stay sorted by key for the merge sort of the next reduce
+            if (isKeyOrder(thisReduceOrder)) {
+                Arrays.sort(list, thisReduceOrder.comparator());
+            }
         } else {
             // we can prune the list on partial reduce if the aggregation is ordered by key
             // and not filtered (minDocCount == 0)
@@ -518,6 +546,8 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             } else {
                 docCountError = aggregations.size() == 1 ? 0 : sumDocCountError;
             }
+            // a term that was trimmed by a bounded partial reduce can't have more documents than the largest trimmed bucket
+            docCountError += maxTrimmedDocCount;
         }
 
         // Shards must return buckets sorted by key, so we apply the sort here in shard level reduce
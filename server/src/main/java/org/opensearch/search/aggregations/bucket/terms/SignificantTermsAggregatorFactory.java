@@ -311,6 +311,15 @@ public class SignificantTermsAggregatorFactory extends ValuesSourceAggregatorFac
         return true;
     }
 
+    /**
+     * The results of every segment carry the superset size and frequencies of the whole shard, reducing the cached results
+     * of the segments of a shard would count them once per segment.
+     */
+    @Override
+    protected boolean supportsSegmentLevelCache() {
+        return false;
+    }
+
     /**
      * The execution mode for the significant terms agg
      *
@@ -317,4 +317,12 @@ public class SignificantTextAggregatorFactory extends AggregatorFactory {
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    /**
+     * Like significant_terms, the background frequencies in the result of a segment are those of the whole shard.
+     */
+    @Override
+    protected boolean supportsSegmentLevelCache() {
+        return false;
+    }
 }
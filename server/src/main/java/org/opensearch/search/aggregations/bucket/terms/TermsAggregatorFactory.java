@@ -797,4 +797,30 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    @Override
+    protected boolean supportsIntraSegmentSearch() {
+        // Terms are collected doc by doc into per-slice bucket ords, which is partition-safe. The exception is the term
+        // frequency fast path of the global ordinals aggregator: it counts a whole segment from its postings when the
+        // query matches every document, so it would run once per partition. Stay sequential whenever it may apply.
+        return termFrequencyFastPathMayApply() == false;
+    }
+
+    /**
+     * Whether the global ordinals aggregator may count a segment from its term frequencies (see
+     * {@link GlobalOrdinalsStringTermsAggregator#tryCollectFromTermFrequencies}). Whether the query matches every document
+     * of a segment is only known at collection time, so this only checks the static preconditions.
+     */
+    boolean termFrequencyFastPathMayApply() {
+        if (parent != null || factories.countAggregators() > 0) {
+            return false;
+        }
+        if (ExecutionMode.MAP.toString().equals(executionHint)) {
+            return false;
+        }
+        if (config.hasValues() == false || config.script() != null || config.valueSourceType() != CoreValuesSourceType.BYTES) {
+            return false;
+        }
+        return config.fieldType() != null && config.fieldType().isSearchable();
+    }
 }
@@ -66,17 +66,28 @@ import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.ObjectArray;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.StarTreeBucketCollector;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryHelper;
+import org.opensearch.search.startree.filter.DimensionFilter;
+import org.opensearch.search.startree.filter.MatchAllFilter;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 
@@ -87,7 +98,7 @@ import static org.opensearch.search.SearchService.CARDINALITY_AGGREGATION_PRUNIN
  *
  * @opensearch.internal
  */
-public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue {
+public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue implements StarTreePreComputeCollector {
 
     private static final Logger logger = LogManager.getLogger(CardinalityAggregator.class);
 
@@ -148,6 +159,7 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
     int ordinalsCollectorsOverheadTooHigh;
     int stringHashingCollectorsUsed;
     int dynamicPrunedSegments;
+    int starTreeCollectorsUsed;
 
     public CardinalityAggregator(
         String name,
@@ -333,6 +345,99 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         };
     }
 
+    @Override
+    protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
+        if (valuesSource == null) {
+            return false;
+        }
+        CompositeIndexFieldInfo supportedStarTree = StarTreeQueryHelper.getSupportedStarTree(context.getQueryShardContext());
+        if (supportedStarTree != null) {
+            if (parent != null && subAggregators.length == 0) {
+                // If this a child aggregator, then the parent will trigger star-tree pre-computation.
+                return true;
+            }
+            StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, supportedStarTree);
+            StarTreeBucketCollector starTreeBucketCollector = getStarTreeDimensionCollector(
+                ctx,
+                starTreeValues,
+                StarTreeQueryHelper.getStarTreeResult(starTreeValues, context, getDimensionFilters())
+            );
+            StarTreeQueryHelper.preComputeBucketsWithStarTree(starTreeBucketCollector);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public List<DimensionFilter> getDimensionFilters() {
+        // the star-tree entries must carry the values of the field, star nodes of its dimension can't be used
+        return List.of(new MatchAllFilter(valuesSourceConfig.fieldContext().field()));
+    }
+
+    /**
+     * The parent aggregator invokes this method to get a StarTreeBucketCollector,
+     * which exposes collectStarTreeEntry() to be evaluated on filtered star tree entries
+     */
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        assert parentCollector != null;
+        return getStarTreeDimensionCollector(ctx, parentCollector.getStarTreeValues(), parentCollector.getMatchingDocsBitSet());
+    }
+
+    /**
+     * Collects the values of the star-tree dimension of the field. Values are hashed the same way as the doc values
+     * collectors do, so the counts are identical to the ones computed from the documents.
+     */
+    private StarTreeBucketCollector getStarTreeDimensionCollector(
+        LeafReaderContext ctx,
+        StarTreeValues starTreeValues,
+        FixedBitSet matchingDocsBitSet
+    ) throws IOException {
+        postCollectLastCollector();
+        starTreeCollectorsUsed++;
+        final String fieldName = valuesSourceConfig.fieldContext().field();
+        if (valuesSource instanceof ValuesSource.Bytes.WithOrdinals source) {
+            // star-tree ordinals of keyword dimensions are the segment ordinals of the field
+            final SortedSetStarTreeValuesIterator ordinalsIterator = (SortedSetStarTreeValuesIterator) starTreeValues
+                .getDimensionValuesIterator(fieldName);
+            final OrdinalsCollector ordinalsCollector = new OrdinalsCollector(counts, source.ordinalsValues(ctx), context.bigArrays());
+            // ordinals are hashed when the collector is post collected, like for regular collection
+            collector = ordinalsCollector;
+            return new StarTreeBucketCollector(starTreeValues, matchingDocsBitSet) {
+                @Override
+                public void collectStarTreeEntry(int starTreeEntry, long bucket) throws IOException {
+                    if (ordinalsIterator.advanceExact(starTreeEntry)) {
+                        for (int i = 0, count = ordinalsIterator.entryValueCount(); i < count; i++) {
+                            ordinalsCollector.collectOrd(bucket, ordinalsIterator.value());
+                        }
+                    }
+                }
+            };
+        }
+        final ValuesSource.Numeric source = (ValuesSource.Numeric) valuesSource;
+        final SortedNumericStarTreeValuesIterator valuesIterator = (SortedNumericStarTreeValuesIterator) starTreeValues
+            .getDimensionValuesIterator(fieldName);
+        final NumberFieldMapper.NumberFieldType fieldType = source.isFloatingPoint()
+            ? (NumberFieldMapper.NumberFieldType) context.mapperService().fieldType(fieldName)
+            : null;
+        return new StarTreeBucketCollector(starTreeValues, matchingDocsBitSet) {
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long bucket) throws IOException {
+                if (valuesIterator.advanceExact(starTreeEntry)) {
+                    for (int i = 0, count = valuesIterator.entryValueCount(); i < count; i++) {
+                        final long value = valuesIterator.nextValue();
+                        final long bits = fieldType == null ? value : Double.doubleToLongBits(fieldType.toDoubleValue(value));
+                        counts.collect(bucket, BitMixer.mix64(bits));
+                    }
+                }
+            }
+        };
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         postCollectLastCollector();
@@ -393,6 +498,7 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         add.accept("ordinals_collectors_overhead_too_high", ordinalsCollectorsOverheadTooHigh);
         add.accept("string_hashing_collectors_used", stringHashingCollectorsUsed);
         add.accept("dynamic_pruned_segments", dynamicPrunedSegments);
+        add.accept("star_tree_collectors_used", starTreeCollectorsUsed);
     }
 
     /**
@@ -681,6 +787,13 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
             return bits;
         }
 
+        /**
+         * Marks an ordinal of the field as visited by the given bucket.
+         */
+        void collectOrd(long bucketOrd, long ord) {
+            getBitArray(bucketOrd).set((int) ord);
+        }
+
         private void collect(final int doc, final BitArray bits) throws IOException {
             if (values.advanceExact(doc)) {
                 int count = values.docValueCount();
@@ -60,7 +60,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory implements StreamingCostEstimable {
+public class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory implements StreamingCostEstimable {
 
     /**
      * Execution mode for cardinality agg
@@ -157,6 +157,24 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory impleme
         return StreamingCostMetrics.nonStreamable();
     }
 
+    /**
+     * Returns whether the aggregation counts the plain values of a keyword or numeric field, without script or missing
+     * value, which is what a star-tree dimension of that field holds.
+     */
+    public boolean countsPlainFieldValues() {
+        if (config.hasValues() == false || config.script() != null || config.missing() != null || config.fieldContext() == null) {
+            return false;
+        }
+        if (config.fieldContext().fieldType() instanceof HllFieldMapper.HllFieldType) {
+            return false;
+        }
+        ValuesSource valuesSource = config.getValuesSource();
+        if (valuesSource instanceof ValuesSource.Numeric numeric) {
+            return numeric.isBigInteger() == false;
+        }
+        return valuesSource instanceof ValuesSource.Bytes.WithOrdinals;
+    }
+
     @Override
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
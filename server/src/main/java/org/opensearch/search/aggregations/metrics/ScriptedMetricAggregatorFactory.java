@@ -129,6 +129,15 @@ class ScriptedMetricAggregatorFactory extends AggregatorFactory {
         return true;
     }
 
+    /**
+     * The scripts may read scores, which depend on the term statistics of the whole shard, so the results can't be cached
+     * per segment.
+     */
+    @Override
+    protected boolean supportsSegmentLevelCache() {
+        return false;
+    }
+
     private static Script deepCopyScript(Script script, SearchContext context, Map<String, Object> aggParams) {
         if (script != null) {
             Map<String, Object> params = mergeParams(aggParams, deepCopyParams(script.getParams(), context));
@@ -41,6 +41,12 @@ public class StreamCardinalityAggregator extends CardinalityAggregator {
         super(name, valuesSourceConfig, precision, context, parent, metadata, executionMode);
     }
 
+    @Override
+    protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) {
+        // results are flushed per segment from the stream collector, star-tree pre-computation doesn't go through it
+        return false;
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         // Clean up previous collector if it exists
@@ -159,4 +159,13 @@ class TopHitsAggregatorFactory extends AggregatorFactory {
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    /**
+     * Hits sorted by score or with tracked scores depend on the term statistics of the whole shard, so they can't be cached
+     * per segment.
+     */
+    @Override
+    protected boolean supportsSegmentLevelCache() {
+        return sort.isPresent() && sort.get().sort.needsScores() == false && trackScores == false;
+    }
 }
@@ -100,4 +100,11 @@ public abstract class MultiValuesSourceAggregatorFactory extends AggregatorFacto
         Map<String, Object> metadata
     ) throws IOException;
 
+    /**
+     * Values that depend on scores depend on the term statistics of the whole shard, so they can't be cached per segment.
+     */
+    @Override
+    protected boolean supportsSegmentLevelCache() {
+        return configs.values().stream().noneMatch(ValuesSourceConfig::needsScores);
+    }
 }
@@ -106,4 +106,12 @@ public abstract class ValuesSourceAggregatorFactory extends AggregatorFactory {
     public String getField() {
         return config.fieldContext() != null ? config.fieldContext().field() : null;
     }
+
+    /**
+     * Values that depend on scores depend on the term statistics of the whole shard, so they can't be cached per segment.
+     */
+    @Override
+    protected boolean supportsSegmentLevelCache() {
+        return config.needsScores() == false;
+    }
 }
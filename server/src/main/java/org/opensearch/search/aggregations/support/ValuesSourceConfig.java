@@ -411,6 +411,13 @@ public class ValuesSourceConfig {
         return valuesSource;
     }
 
+    /**
+     * Returns true if the values source configured by this object yields values that depend on the scores of the documents.
+     */
+    public boolean needsScores() {
+        return hasValues() && valuesSource != null && valuesSource.needsScores();
+    }
+
     public boolean hasGlobalOrdinals() {
         return valuesSource.hasGlobalOrdinals();
     }
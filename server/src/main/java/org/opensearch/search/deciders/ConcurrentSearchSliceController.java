@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.deciders;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Node level controller that lowers the slice count of concurrent segment search requests when the node is busy.
+ * The configured slice count is an upper bound that fits an idle node: under load, every slice of a request waits in
+ * the queue of the index searcher pool behind the slices of the other requests, which raises the tail latency of all
+ * of them. The controller caps the slice count by the threads of the pool that are not busy, by the size of the shard,
+ * and falls back to a single slice when the pool is saturated or the CPU usage of the process is above a threshold.
+ *
+ * @opensearch.internal
+ */
+public final class ConcurrentSearchSliceController {
+
+    private static final Logger logger = LogManager.getLogger(ConcurrentSearchSliceController.class);
+
+    public static final Setting<Boolean> ADAPTIVE_SLICE_COUNT_ENABLED_SETTING = Setting.boolSetting(
+        "search.concurrent.adaptive_slice_count.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // above this CPU usage of the process, requests are searched with a single slice
+    public static final Setting<Integer> ADAPTIVE_SLICE_COUNT_CPU_THRESHOLD_SETTING = Setting.intSetting(
+        "search.concurrent.adaptive_slice_count.cpu_threshold",
+        90,
+        1,
+        100,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // the minimum number of documents that is worth a slice, smaller shards are searched with fewer slices
+    public static final Setting<Integer> ADAPTIVE_SLICE_COUNT_MIN_DOCS_PER_SLICE_SETTING = Setting.intSetting(
+        "search.concurrent.adaptive_slice_count.min_docs_per_slice",
+        50_000,
+        1,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // sampling the CPU usage is a system call, it is refreshed at most once per interval
+    static final long CPU_SAMPLING_INTERVAL_MILLIS = TimeValue.timeValueSeconds(1).millis();
+
+    private final Executor executor;
+    private final LongSupplier relativeTimeInMillis;
+    private final IntSupplier cpuPercent;
+
+    private volatile boolean enabled;
+    private volatile int cpuThreshold;
+    private volatile int minDocsPerSlice;
+
+    private volatile long lastCpuSampleMillis;
+    private volatile int lastCpuPercent;
+
+    public ConcurrentSearchSliceController(
+        Settings settings,
+        ClusterSettings clusterSettings,
+        Executor executor,
+        LongSupplier relativeTimeInMillis,
+        IntSupplier cpuPercent
+    ) {
+        this.executor = executor;
+        this.relativeTimeInMillis = relativeTimeInMillis;
+        this.cpuPercent = cpuPercent;
+        this.lastCpuSampleMillis = relativeTimeInMillis.getAsLong() - CPU_SAMPLING_INTERVAL_MILLIS;
+        this.enabled = ADAPTIVE_SLICE_COUNT_ENABLED_SETTING.get(settings);
+        this.cpuThreshold = ADAPTIVE_SLICE_COUNT_CPU_THRESHOLD_SETTING.get(settings);
+        this.minDocsPerSlice = ADAPTIVE_SLICE_COUNT_MIN_DOCS_PER_SLICE_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ADAPTIVE_SLICE_COUNT_ENABLED_SETTING, value -> this.enabled = value);
+        clusterSettings.addSettingsUpdateConsumer(ADAPTIVE_SLICE_COUNT_CPU_THRESHOLD_SETTING, value -> this.cpuThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(ADAPTIVE_SLICE_COUNT_MIN_DOCS_PER_SLICE_SETTING, value -> this.minDocsPerSlice = value);
+    }
+
+    /**
+     * Returns the slice count to use for a request on a shard with the given number of documents.
+     * @param targetMaxSliceCount the configured slice count, {@code 0} means that Lucene computes the slices
+     * @param docCount the number of documents of the shard
+     */
+    public int sliceCount(int targetMaxSliceCount, long docCount) {
+        if (enabled == false || targetMaxSliceCount <= 1 || executor instanceof ThreadPoolExecutor == false) {
+            return targetMaxSliceCount;
+        }
+        final ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+        final int poolSize = pool.getMaximumPoolSize();
+        final int active = pool.getActiveCount();
+        final int queued = pool.getQueue().size();
+        final int cpu = currentCpuPercent();
+        final int sliceCount = sliceCount(targetMaxSliceCount, docCount, poolSize, active, queued, cpu);
+        if (sliceCount != targetMaxSliceCount && logger.isDebugEnabled()) {
+            logger.debug(
+                "reduced slice count from [{}] to [{}]: docs [{}], pool size [{}], active [{}], queued [{}], cpu [{}%]",
+                targetMaxSliceCount,
+                sliceCount,
+                docCount,
+                poolSize,
+                active,
+                queued,
+                cpu
+            );
+        }
+        return sliceCount;
+    }
+
+    int sliceCount(int targetMaxSliceCount, long docCount, int poolSize, int active, int queued, int cpu) {
+        if (cpu >= cpuThreshold || queued >= poolSize) {
+            // slices would only wait in the queue, search sequentially on the calling thread
+            return 1;
+        }
+        // the calling thread searches slices too, so it counts as an available thread
+        final int availableThreads = Math.max(0, poolSize - active - queued) + 1;
+        final long docsBound = Math.max(1, docCount / minDocsPerSlice);
+        return (int) Math.min(Math.min(targetMaxSliceCount, availableThreads), docsBound);
+    }
+
+    private int currentCpuPercent() {
+        final long now = relativeTimeInMillis.getAsLong();
+        if (now - lastCpuSampleMillis >= CPU_SAMPLING_INTERVAL_MILLIS) {
+            lastCpuPercent = cpuPercent.getAsInt();
+            lastCpuSampleMillis = now;
+        }
+        return lastCpuPercent;
+    }
+}
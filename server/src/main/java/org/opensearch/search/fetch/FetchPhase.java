@@ -219,11 +219,13 @@ public class FetchPhase {
                     } else {
                         fieldReader = currentReaderContext.reader().storedFields()::document;
                     }
+                    final int[] leafDocIds = processors.isEmpty() ? null : leafDocIds(docs, index, currentReaderContext);
                     for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
                         FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
                         LeafReaderContext readerCtx = currentReaderContext;
                         profile(pbd, FetchTimingType.SET_NEXT_READER, () -> {
                             p.v1().setNextReader(readerCtx);
+                            p.v1().prefetch(leafDocIds);
                             return null;
                         });
                     }
@@ -803,6 +805,22 @@ public class FetchPhase {
         }
     }
 
+    /**
+     * Returns the doc ids, relative to the leaf, of the docs that belong to the provided leaf starting at {@code from}.
+     */
+    static int[] leafDocIds(DocIdToIndex[] docs, int from, LeafReaderContext leaf) {
+        final int maxDoc = leaf.docBase + leaf.reader().maxDoc();
+        int to = from;
+        while (to < docs.length && docs[to].docId < maxDoc) {
+            to++;
+        }
+        final int[] leafDocIds = new int[to - from];
+        for (int i = from; i < to; i++) {
+            leafDocIds[i - from] = docs[i].docId - leaf.docBase;
+        }
+        return leafDocIds;
+    }
+
     /**
      * Returns <code>true</code> if the provided <code>docs</code> are
      * stored sequentially (Dn = Dn-1 + 1).
@@ -49,6 +49,12 @@ public interface FetchSubPhaseProcessor {
      */
     void setNextReader(LeafReaderContext readerContext) throws IOException;
 
+    /**
+     * Called after {@link #setNextReader} with the doc ids, relative to the leaf reader and sorted, of the hits
+     * that will be processed in this leaf reader
+     */
+    default void prefetch(int[] docIds) throws IOException {}
+
     /**
      * Called in doc id order for each hit in a leaf reader
      */
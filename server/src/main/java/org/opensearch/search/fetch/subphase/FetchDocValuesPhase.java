@@ -36,7 +36,6 @@ import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.index.mapper.DocValueFetcher;
 import org.opensearch.index.mapper.MappedFieldType;
-import org.opensearch.index.mapper.ValueFetcher;
 import org.opensearch.search.fetch.FetchContext;
 import org.opensearch.search.fetch.FetchSubPhase;
 import org.opensearch.search.fetch.FetchSubPhaseProcessor;
@@ -86,7 +85,7 @@ public final class FetchDocValuesPhase implements FetchSubPhase {
                 continue;
             }
             String format = USE_DEFAULT_FORMAT.equals(fieldAndFormat.format) ? null : fieldAndFormat.format;
-            ValueFetcher fetcher = new DocValueFetcher(ft.docValueFormat(format, null), context.searchLookup().doc().getForField(ft));
+            DocValueFetcher fetcher = new DocValueFetcher(ft.docValueFormat(format, null), context.searchLookup().doc().getForField(ft));
             fields.add(new DocValueField(fieldAndFormat.field, fetcher));
         }
 
@@ -98,6 +97,13 @@ public final class FetchDocValuesPhase implements FetchSubPhase {
                 }
             }
 
+            @Override
+            public void prefetch(int[] docIds) throws IOException {
+                for (DocValueField f : fields) {
+                    f.fetcher.prefetch(docIds);
+                }
+            }
+
             @Override
             public void process(HitContext hit) throws IOException {
                 for (DocValueField f : fields) {
@@ -108,7 +114,8 @@ public final class FetchDocValuesPhase implements FetchSubPhase {
                         // docValues fields will still be document fields, and put under "fields" section of a hit.
                         hit.hit().setDocumentField(f.field, hitField);
                     }
-                    hitField.getValues().addAll(f.fetcher.fetchValues(hit.sourceLookup()));
+                    // appends straight to the values of the hit, this runs for every field of every hit
+                    f.fetcher.fetchValues(hit.docId(), hitField.getValues());
                 }
             }
         };
@@ -116,9 +123,9 @@ public final class FetchDocValuesPhase implements FetchSubPhase {
 
     private static class DocValueField {
         private final String field;
-        private final ValueFetcher fetcher;
+        private final DocValueFetcher fetcher;
 
-        DocValueField(String field, ValueFetcher fetcher) {
+        DocValueField(String field, DocValueFetcher fetcher) {
             this.field = field;
             this.fetcher = fetcher;
         }
@@ -79,6 +79,11 @@ public final class FetchFieldsPhase implements FetchSubPhase {
                 fieldFetcher.setNextReader(readerContext);
             }
 
+            @Override
+            public void prefetch(int[] docIds) throws IOException {
+                fieldFetcher.prefetch(docIds);
+            }
+
             @Override
             public void process(HitContext hitContext) throws IOException {
                 SearchHit hit = hitContext.hit();
@@ -107,6 +107,12 @@ public class FieldFetcher {
         }
     }
 
+    public void prefetch(int[] docIds) throws IOException {
+        for (FieldContext field : fieldContexts) {
+            field.valueFetcher.prefetch(docIds);
+        }
+    }
+
     private static class FieldContext {
         final String fieldName;
         final ValueFetcher valueFetcher;
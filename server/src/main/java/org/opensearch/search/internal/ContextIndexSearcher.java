@@ -276,6 +276,15 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         result.topDocs(new TopDocsAndMaxScore(mergedTopDocs, Float.NaN), formats);
     }
 
+    /**
+     * Searches a single leaf with the given weight and performs the post collection of the aggregations of the collector
+     * tree. Unlike the other search methods this does not notify the slice execution listeners since no slice is involved.
+     */
+    public void search(LeafReaderContext ctx, Weight weight, Collector collector) throws IOException {
+        searchLeaf(ctx, 0, DocIdSetIterator.NO_MORE_DOCS, weight, collector);
+        searchContext.bucketCollectorProcessor().processPostCollection(collector);
+    }
+
     @Override
     public void search(Query query, Collector collector) throws IOException {
         // TODO : Remove when switching to use the @org.apache.lucene.search.IndexSearcher#search(Query, CollectorManager) variant from
@@ -109,6 +109,21 @@ public class ProfilingAggregator extends Aggregator implements ProfilingWrapper<
         } finally {
             timer.stop();
             delegate.collectDebugInfo(profileBreakdown::addDebugInfo);
+            addStarTreeDebugInfo();
+        }
+    }
+
+    /**
+     * Reports on the top level aggregations why the star-tree of the index was not used to resolve the request.
+     */
+    private void addStarTreeDebugInfo() {
+        SearchContext context = delegate.context();
+        if (delegate.parent() != null || context == null || context.getQueryShardContext() == null) {
+            return;
+        }
+        String reason = context.getQueryShardContext().getStarTreeNotUsedReason();
+        if (reason != null) {
+            profileBreakdown.addDebugInfo("star_tree_not_used_reason", reason);
         }
     }
 
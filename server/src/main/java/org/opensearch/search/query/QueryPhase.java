@@ -48,6 +48,7 @@ import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.common.Booleans;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
@@ -134,6 +135,15 @@ public class QueryPhase {
     }
 
     public void execute(SearchContext searchContext) throws QueryPhaseExecutionException {
+        execute(searchContext, null);
+    }
+
+    /**
+     * Executes the query phase, computing aggregation-only requests segment by segment through the given cache when
+     * the request allows it.
+     */
+    public void execute(SearchContext searchContext, @Nullable SegmentLevelQueryExecutor.SegmentResultCache segmentResultCache)
+        throws QueryPhaseExecutionException {
         if (searchContext.hasOnlySuggest()) {
             suggestProcessor.process(searchContext);
             searchContext.queryResult()
@@ -148,6 +158,16 @@ public class QueryPhase {
             LOGGER.trace("{}", new SearchContextSourcePrinter(searchContext));
         }
 
+        if (segmentResultCache != null) {
+            try {
+                if (SegmentLevelQueryExecutor.execute(searchContext, segmentResultCache)) {
+                    return;
+                }
+            } catch (Exception e) {
+                throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Failed to execute main query", e);
+            }
+        }
+
         final AggregationProcessor aggregationProcessor = queryPhaseSearcher.aggregationProcessor(searchContext);
         // Pre-process aggregations as late as possible. In the case of a DFS_Q_T_F
         // request, preProcess is called on the DFS phase phase, this is why we pre-process them
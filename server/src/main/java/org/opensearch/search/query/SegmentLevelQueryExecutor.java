@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.Weight;
+import org.opensearch.action.search.SearchType;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.BucketCollector;
+import org.opensearch.search.aggregations.BucketCollectorProcessor;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.MultiBucketCollector;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Executes aggregation-only requests one segment at a time so that the partial result of every segment can be cached
+ * and reused across refreshes. Each segment gets its own aggregator tree, exactly like a slice of concurrent segment
+ * search, and the per-segment results are merged at the shard level with a partial reduce.
+ * <p>
+ * Only requests whose per-segment results do not depend on the rest of the shard are executed this way: no hits, no
+ * scores, no post filter or minimum score, no global aggregations, and aggregations that support being built and
+ * reduced per slice. Every other request goes through the regular {@link QueryPhase}.
+ *
+ * @opensearch.internal
+ */
+public final class SegmentLevelQueryExecutor {
+
+    private SegmentLevelQueryExecutor() {}
+
+    /**
+     * Cache of serialized per-segment query results
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public interface SegmentResultCache {
+
+        /**
+         * Returns the cached result of the request on the given segment, computing it with the loader if needed.
+         */
+        BytesReference getOrCompute(LeafReaderContext leaf, Loader loader) throws Exception;
+
+        /**
+         * Registry used to read back the cached aggregation results.
+         */
+        NamedWriteableRegistry namedWriteableRegistry();
+
+        /**
+         * Computes the serialized result of the request on a segment
+         *
+         * @opensearch.experimental
+         */
+        @ExperimentalApi
+        @FunctionalInterface
+        interface Loader {
+            BytesReference load() throws IOException;
+        }
+    }
+
+    /**
+     * Can the request be executed segment by segment?
+     */
+    static boolean canExecute(SearchContext context) {
+        if (context.aggregations() == null || context.size() != 0 || context.from() > 0) {
+            return false;
+        }
+        if (context.searchType() != SearchType.QUERY_THEN_FETCH || context.scrollContext() != null || context.getProfilers() != null) {
+            return false;
+        }
+        if (context.parsedPostFilter() != null
+            || context.minimumScore() != null
+            || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+            || context.suggest() != null
+            || context.rescore().isEmpty() == false
+            || context.isStreamSearch()) {
+            return false;
+        }
+        // a timed out segment would be cached as if it was complete
+        if (context.timeout() != null && context.timeout().equals(SearchService.NO_TIMEOUT) == false) {
+            return false;
+        }
+        // aggregations that need scores opt out of the segment level cache, their scores depend on shard level term statistics
+        final AggregatorFactories factories = context.aggregations().factories();
+        return factories.hasGlobalAggregator() == false
+            && factories.allFactoriesSupportConcurrentSearch()
+            && factories.allFactoriesSupportSegmentLevelCache();
+    }
+
+    /**
+     * Executes the request segment by segment, loading the results of unchanged segments from the cache.
+     * @return whether the request was executed, {@code false} means it must go through the regular query phase
+     */
+    static boolean execute(SearchContext context, SegmentResultCache cache) throws IOException {
+        final ContextIndexSearcher searcher = context.searcher();
+        final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+        if (leaves.isEmpty() || canExecute(context) == false) {
+            return false;
+        }
+        context.setBucketCollectorProcessor(new BucketCollectorProcessor());
+        final Weight[] weight = new Weight[1];
+
+        final List<InternalAggregations> partials = new ArrayList<>(leaves.size());
+        long totalHits = 0;
+        for (LeafReaderContext leaf : leaves) {
+            final BytesReference bytes;
+            try {
+                bytes = cache.getOrCompute(leaf, () -> {
+                    final Collector aggCollector = createAggregationCollector(context);
+                    if (weight[0] == null) {
+                        weight[0] = searcher.createWeight(
+                            searcher.rewrite(new ConstantScoreQuery(context.query())),
+                            ScoreMode.COMPLETE_NO_SCORES,
+                            1f
+                        );
+                    }
+                    return computeSegmentResult(context, leaf, weight[0], aggCollector);
+                });
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+            try (StreamInput in = new NamedWriteableAwareStreamInput(bytes.streamInput(), cache.namedWriteableRegistry())) {
+                totalHits += in.readVLong();
+                partials.add(InternalAggregations.readFrom(in));
+            }
+        }
+
+        final InternalAggregation.ReduceContext reduceContext = context.partialOnShard();
+        // Cached results went through serialization which drops the shard level bucket thresholds, so reduce them like the
+        // coordinator does for partial reduces: buckets are merged without being trimmed to shard_size.
+        reduceContext.setSliceLevel(false);
+        final QuerySearchResult queryResult = context.queryResult();
+        queryResult.searchTimedOut(false);
+        queryResult.from(context.from());
+        queryResult.size(context.size());
+        queryResult.topDocs(new TopDocsAndMaxScore(new TopDocs(totalHits(context, totalHits), Lucene.EMPTY_SCORE_DOCS), Float.NaN), null);
+        queryResult.aggregations(InternalAggregations.reduce(partials, reduceContext));
+        // disable aggregations so that they don't run on next pages, same as the aggregation processors do
+        context.aggregations(null);
+        return true;
+    }
+
+    private static Collector createAggregationCollector(SearchContext context) throws IOException {
+        final BucketCollector collector = MultiBucketCollector.wrap(context.aggregations().factories().createTopLevelAggregators(context));
+        assert collector.scoreMode().needsScores() == false : "aggregations that need scores must not support the segment level cache";
+        collector.preCollection();
+        return collector;
+    }
+
+    private static BytesReference computeSegmentResult(SearchContext context, LeafReaderContext leaf, Weight weight, Collector aggCollector)
+        throws IOException {
+        final TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
+        final Collector collector = MultiCollector.wrap(aggCollector, hitCountCollector);
+        context.searcher().search(leaf, weight, collector);
+        final List<InternalAggregation> aggregations = context.bucketCollectorProcessor()
+            .toInternalAggregations(Collections.singletonList(aggCollector));
+        context.aggregations().multiBucketConsumer().reset();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeVLong(hitCountCollector.getTotalHits());
+            InternalAggregations.from(aggregations).writeTo(out);
+            return out.bytes();
+        }
+    }
+
+    private static TotalHits totalHits(SearchContext context, long totalHits) {
+        final int trackTotalHitsUpTo = context.trackTotalHitsUpTo();
+        if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
+            // for bwc hit count is set to 0, it will be converted to -1 by the coordinating node
+            return new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+        } else if (totalHits > trackTotalHitsUpTo) {
+            return new TotalHits(trackTotalHitsUpTo, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+        }
+        return new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO);
+    }
+}
@@ -16,6 +16,7 @@ import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.Metric;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.OrdinalDimension;
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitRounding;
 import org.opensearch.index.mapper.CompositeDataCubeFieldType;
@@ -25,7 +26,9 @@ import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregat
 import org.opensearch.search.aggregations.bucket.range.RangeAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.terms.MultiTermsAggregationFactory;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregatorFactory;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregatorFactory;
 import org.opensearch.search.aggregations.metrics.MetricAggregatorFactory;
+import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.startree.filter.StarTreeFilter;
 import org.opensearch.search.startree.filter.provider.StarTreeFilterProvider;
@@ -54,6 +57,7 @@ public class StarTreeQueryContext {
 
     private final QueryBuilder baseQueryBuilder;
     private StarTreeFilter baseStarTreeFilter;
+    private String unsupportedReason;
 
     // TODO : Implement storing and aggregating aggregation specific filters.
 
@@ -108,22 +112,44 @@ public class StarTreeQueryContext {
     public boolean consolidateAllFilters(SearchContext context) {
         // Validate the fields and metrics required by aggregations are supported in star tree
         for (AggregatorFactory aggregatorFactory : context.aggregations().factories().getFactories()) {
-            if (validateNestedAggregationStructure(compositeMappedFieldType, aggregatorFactory)) {
-                continue;
+            AggregatorFactory unsupportedFactory = findUnsupportedAggregation(compositeMappedFieldType, aggregatorFactory);
+            if (unsupportedFactory != null) {
+                // invalid query shape
+                unsupportedReason = "aggregation [" + unsupportedFactory.name() + "]" + fieldDescription(unsupportedFactory)
+                    + " cannot be resolved from star-tree [" + compositeMappedFieldType.name() + "]";
+                return false;
             }
-            // invalid query shape
-            return false;
         }
 
         // Generate the base Star Tree Filter
         if (baseQueryBuilder != null) {
             baseStarTreeFilter = getStarTreeFilter(context, baseQueryBuilder, compositeMappedFieldType);
-            return baseStarTreeFilter != null; // Base Query is not supported by star tree filter.
+            if (baseStarTreeFilter == null) {
+                // Base Query is not supported by star tree filter.
+                unsupportedReason = "query [" + baseQueryBuilder.getName() + "] cannot be resolved from the dimensions of star-tree ["
+                    + compositeMappedFieldType.name() + "]";
+                return false;
+            }
         }
         // TODO : Generate StarTreeFilter specific to aggregations by merging base and their parents.
         return true;
     }
 
+    /**
+     * Returns why the request cannot be resolved from the star-tree, set when {@link #consolidateAllFilters} fails.
+     */
+    public String getUnsupportedReason() {
+        return unsupportedReason;
+    }
+
+    private static String fieldDescription(AggregatorFactory aggregatorFactory) {
+        if (aggregatorFactory instanceof ValuesSourceAggregatorFactory valuesSourceAggregatorFactory
+            && valuesSourceAggregatorFactory.getField() != null) {
+            return " on field [" + valuesSourceAggregatorFactory.getField() + "]";
+        }
+        return "";
+    }
+
     public StarTreeFilter getBaseQueryStarTreeFilter() {
         if (baseStarTreeFilter == null) {
             return new StarTreeFilter(Collections.emptyMap());
@@ -227,6 +253,22 @@ public class StarTreeQueryContext {
         return true;
     }
 
+    private static boolean validateCardinalityAggregationSupport(
+        CompositeDataCubeFieldType compositeIndexFieldInfo,
+        CardinalityAggregatorFactory cardinalityAggregatorFactory
+    ) {
+        // Validate request field is a keyword or numeric dimension, the distinct values are read from the dimension
+        if (cardinalityAggregatorFactory.countsPlainFieldValues() == false) {
+            return false;
+        }
+        return compositeIndexFieldInfo.getDimensions()
+            .stream()
+            .anyMatch(
+                dimension -> cardinalityAggregatorFactory.getField().equals(dimension.getField())
+                    && (dimension instanceof OrdinalDimension || dimension instanceof NumericDimension)
+            );
+    }
+
     private static boolean validateMultiTermsAggregationSupport(
         CompositeDataCubeFieldType compositeIndexFieldInfo,
         MultiTermsAggregationFactory multiTermsAggregationFactory
@@ -238,7 +280,11 @@ public class StarTreeQueryContext {
             .containsAll(multiTermsAggregationFactory.getRequestFields());
     }
 
-    private static boolean validateNestedAggregationStructure(
+    /**
+     * Returns the first aggregation of the tree that cannot be resolved from the star-tree, or {@code null} if all of
+     * them can be.
+     */
+    private static AggregatorFactory findUnsupportedAggregation(
         CompositeDataCubeFieldType compositeIndexFieldInfo,
         AggregatorFactory aggregatorFactory
     ) {
@@ -259,26 +305,31 @@ public class StarTreeQueryContext {
             );
             case MetricAggregatorFactory metricAggregatorFactory -> {
                 isValid = validateStarTreeMetricSupport(compositeIndexFieldInfo, metricAggregatorFactory);
-                return isValid && metricAggregatorFactory.getSubFactories().getFactories().length == 0;
+                return isValid && metricAggregatorFactory.getSubFactories().getFactories().length == 0 ? null : aggregatorFactory;
+            }
+            case CardinalityAggregatorFactory cardinalityAggregatorFactory -> {
+                isValid = validateCardinalityAggregationSupport(compositeIndexFieldInfo, cardinalityAggregatorFactory);
+                return isValid && cardinalityAggregatorFactory.getSubFactories().getFactories().length == 0 ? null : aggregatorFactory;
             }
             case MultiTermsAggregationFactory multiTermsAggregationFactory -> isValid = validateMultiTermsAggregationSupport(
                 compositeIndexFieldInfo,
                 multiTermsAggregationFactory
             );
             case null, default -> {
-                return false;
+                return aggregatorFactory;
             }
         }
 
-        if (isValid == false) return false;
+        if (isValid == false) return aggregatorFactory;
 
         for (AggregatorFactory subFactory : aggregatorFactory.getSubFactories().getFactories()) {
-            if (!validateNestedAggregationStructure(compositeIndexFieldInfo, subFactory)) {
-                return false;
+            AggregatorFactory unsupportedFactory = findUnsupportedAggregation(compositeIndexFieldInfo, subFactory);
+            if (unsupportedFactory != null) {
+                return unsupportedFactory;
             }
         }
 
-        return true;
+        return null;
     }
 
 }
@@ -25,12 +25,20 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import static org.opensearch.storage.prefetch.TieredStoragePrefetchSettings.CFS_FILE_SUFFIX;
 
 /**
  * Block-based index input that prefetches subsequent blocks from remote storage on demand.
+ * <p>
+ * Files of the formats in {@link TieredStoragePrefetchSettings#getReadAheadEnableFileFormats()} always read ahead the next blocks.
+ * Other files read ahead once this input, which is a single clone or slice, fetches blocks at a constant distance from each
+ * other, with a window that doubles on every fetch that keeps the pattern. Files of the formats in
+ * {@link TieredStoragePrefetchSettings#getPrefetchOnOpenFileFormats()} are downloaded entirely when they are opened.
  */
 public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapshotIndexInput {
 
@@ -41,6 +49,14 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
     protected final String resourceDescription;
     private static final Logger logger = LogManager.getLogger(OnDemandPrefetchBlockSnapshotIndexInput.class);
 
+    /**
+     * State of the adaptive read-ahead of this input. Like the rest of the input it is only used from one thread.
+     */
+    private int lastBlockId = -1;
+    private int stride;
+    private int readAheadWindow;
+    private int readAheadUntil = -1;
+
     public OnDemandPrefetchBlockSnapshotIndexInput(
         String resourceDescription,
         BlobStoreIndexShardSnapshot.FileInfo fileInfo,
@@ -58,6 +74,7 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
         this.fileCache = fileCache;
         this.resourceDescription = resourceDescription;
         this.tieredStoragePrefetchSettingsSupplier = tieredStoragePrefetchSettingsSupplier;
+        prefetchOnOpen();
     }
 
     @Override
@@ -68,7 +85,7 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
         final TieredStoragePerQueryMetric metricCollector = TieredStorageQueryMetricService.getInstance()
             .getMetricCollector(Thread.currentThread().threadId());
         metricCollector.recordFileAccess(blockFileName, cacheHit);
-        fetchNextNBlocks(blockId);
+        readAhead(blockId);
         return super.fetchBlock(blockId);
     }
 
@@ -87,6 +104,7 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
         this.fileCache = fileCache;
         this.resourceDescription = resourceDescription;
         this.tieredStoragePrefetchSettingsSupplier = tieredStoragePrefetchSettingsSupplier;
+        prefetchOnOpen();
     }
 
     @Override
@@ -108,6 +126,39 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
         );
     }
 
+    /**
+     * Reads ahead the blocks that are likely to be fetched after the given block.
+     */
+    protected void readAhead(int blockId) {
+        final int distance = blockId - lastBlockId;
+        lastBlockId = blockId;
+        if (checkIfFileEnabledReadAhead()) {
+            fetchNextNBlocks(blockId);
+            return;
+        }
+        final TieredStoragePrefetchSettings settings = tieredStoragePrefetchSettingsSupplier.get();
+        if (settings.isAdaptiveReadAheadEnabled() == false) {
+            return;
+        }
+        final boolean keepsPattern = distance == stride;
+        stride = distance;
+        if (keepsPattern == false) {
+            readAheadWindow = 0;
+            readAheadUntil = -1;
+        }
+        // a distance of one is sequential access, any other distance needs to be seen twice in a row to be a stride
+        if (distance <= 0 || (distance != 1 && keepsPattern == false)) {
+            return;
+        }
+        readAheadWindow = Math.min(Math.max(1, readAheadWindow * 2), settings.getReadAheadBlockCount());
+        // blocks up to readAheadUntil were already read ahead by an earlier fetch of this input
+        final long startBlockId = (long) Math.max(blockId, readAheadUntil) + distance;
+        final long endBlockId = Math.min((long) blockId + (long) readAheadWindow * distance, getTotalBlocks() - 1L);
+        if (startBlockId <= endBlockId) {
+            readAheadUntil = startDownloads((int) startBlockId, (int) endBlockId, distance, true, true);
+        }
+    }
+
     protected void fetchNextNBlocks(int blockId) {
         // check if read ahead was enabled and file type was doc values
         if (!checkIfFileEnabledReadAhead()) {
@@ -124,6 +175,19 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
         TieredStorageQueryMetricService.getInstance().recordDocValuesPrefetch(true);
     }
 
+    /**
+     * Downloads the whole file if it is of a format that is read right after it is opened. Slices and clones are
+     * created from an already opened file and are skipped. The file is read in full, so its blocks don't take permits
+     * of the read-ahead budget. Called from the constructors, so it must not call overridable methods.
+     */
+    private void prefetchOnOpen() {
+        if (isClone || isFilePrefetchedOnOpen() == false) {
+            return;
+        }
+        logger.trace("Prefetching all blocks of File: {} on open", fileName);
+        startDownloads(0, (int) ((originalFileSize - 1) >>> blockSizeShift), 1, true, false);
+    }
+
     @Override
     public void prefetch(long offset, long length) throws IOException {
         // This can trigger by lucene as well internally having validation here will make us to stop async download if needed.
@@ -141,12 +205,37 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
     }
 
     protected void downloadBlocksAsync(int startBlock, int endBlock, boolean isReadAhead) {
+        downloadBlocksAsync(startBlock, endBlock, 1, isReadAhead);
+    }
+
+    /**
+     * Starts the download of the blocks from startBlock to endBlock that are stride blocks apart. Consecutive blocks are
+     * fetched together, see {@link TransferManager#fetchBlobsAsync}.
+     *
+     * @return the last block whose download was started, or startBlock - stride if none was
+     */
+    protected int downloadBlocksAsync(int startBlock, int endBlock, int stride, boolean isReadAhead) {
+        return startDownloads(startBlock, endBlock, stride, isReadAhead, false);
+    }
+
+    /**
+     * Adaptive read-ahead is speculative, its blocks take a permit of the node wide read-ahead budget and the remaining
+     * blocks are skipped when the budget is exhausted.
+     */
+    private int startDownloads(int startBlock, int endBlock, int stride, boolean isReadAhead, boolean takesReadAheadPermits) {
+        final TieredStoragePrefetchSettings settings = tieredStoragePrefetchSettingsSupplier.get();
         final TieredStoragePerQueryMetric metricCollector = TieredStorageQueryMetricService.getInstance()
             .getMetricCollector(Thread.currentThread().threadId());
-        for (int nextBlockId = startBlock; nextBlockId <= endBlock; nextBlockId++) {
-            String blockFileName = fileName + "_block_" + nextBlockId;
-            long blockStart = getBlockStart(nextBlockId);
-            long blockEnd = blockStart + getActualBlockSize(nextBlockId, blockSizeShift, originalFileSize);
+        final List<BlobFetchRequest> blobFetchRequests = new ArrayList<>();
+        int lastStartedBlockId = startBlock - stride;
+        for (int blockId = startBlock; blockId <= endBlock; blockId += stride) {
+            if (takesReadAheadPermits && settings.tryAcquireReadAheadPermit() == false) {
+                logger.trace("Read ahead budget exhausted, skipping Block ID: {} for File: {}", blockId, fileName);
+                break;
+            }
+            String blockFileName = fileName + "_block_" + blockId;
+            long blockStart = getBlockStart(blockId);
+            long blockEnd = blockStart + getActualBlockSize(blockId, blockSizeShift, originalFileSize);
             logger.trace(
                 "File: {} , Block File: {} , BlockStart: {} , BlockEnd: {} , OriginalFileSize: {}",
                 fileName,
@@ -156,9 +245,9 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
                 originalFileSize
             );
             if (isReadAhead) {
-                metricCollector.recordReadAhead(fileName, nextBlockId);
+                metricCollector.recordReadAhead(fileName, blockId);
             } else {
-                metricCollector.recordPrefetch(fileName, nextBlockId);
+                metricCollector.recordPrefetch(fileName, blockId);
             }
             // Block may be present on multiple chunks of a file, so we need
             // to fetch each chunk/blob part separately to fetch an entire block.
@@ -167,20 +256,32 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
                 .directory(directory)
                 .fileName(blockFileName)
                 .build();
-            try {
-                transferManager.fetchBlobAsync(blobFetchRequest);
-            } catch (Exception e) {
-                logger.error(
-                    "Exception while fetching block asynchronously from remote - "
-                        + "File: {} , Block File: {} , BlockStart: {} , BlockEnd: {} , OriginalFileSize: {}",
-                    fileName,
-                    blockFileName,
-                    blockStart,
-                    blockEnd,
-                    originalFileSize
-                );
+            blobFetchRequests.add(blobFetchRequest);
+            lastStartedBlockId = blockId;
+        }
+        if (blobFetchRequests.isEmpty()) {
+            return lastStartedBlockId;
+        }
+        List<CompletableFuture<IndexInput>> downloads = List.of();
+        try {
+            downloads = transferManager.fetchBlobsAsync(blobFetchRequests);
+        } catch (Exception e) {
+            logger.error(
+                "Exception while fetching blocks asynchronously from remote - File: {} , Blocks: {} to {} , OriginalFileSize: {}",
+                fileName,
+                startBlock,
+                lastStartedBlockId,
+                originalFileSize
+            );
+        }
+        if (takesReadAheadPermits) {
+            // every block holds a permit until its download completes, blocks that could not be started release it right away
+            downloads.forEach(download -> download.whenComplete((indexInput, e) -> settings.releaseReadAheadPermit()));
+            for (int i = downloads.size(); i < blobFetchRequests.size(); i++) {
+                settings.releaseReadAheadPermit();
             }
         }
+        return lastStartedBlockId;
     }
 
     /**
@@ -194,6 +295,15 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
             .anyMatch(format -> fileName.endsWith(format) || (resourceDescription.endsWith(format) && fileName.endsWith(CFS_FILE_SUFFIX)));
     }
 
+    /**
+     * Checks if the current file is downloaded entirely when it is opened.
+     * @return true if the file format is prefetched on open
+     */
+    private boolean isFilePrefetchedOnOpen() {
+        final TieredStoragePrefetchSettings settings = tieredStoragePrefetchSettingsSupplier.get();
+        return settings.isPrefetchOnOpenEnabled() && settings.getPrefetchOnOpenFileFormats().stream().anyMatch(fileName::endsWith);
+    }
+
     /**
      * Checks if stored fields prefetch is enabled.
      * @return true if stored fields prefetch is enabled
@@ -207,6 +317,11 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
         OnDemandPrefetchBlockSnapshotIndexInput clone = buildSlice("clone", 0L, this.length);
         // ensures that clones may be positioned at the same point as the blocked file they were cloned from
         clone.cloneBlock(this);
+        // and keep reading ahead from there
+        clone.lastBlockId = lastBlockId;
+        clone.stride = stride;
+        clone.readAheadWindow = readAheadWindow;
+        clone.readAheadUntil = readAheadUntil;
         return clone;
     }
 
@@ -12,10 +12,12 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Settings for tiered storage prefetch behavior including read-ahead block count
- * and stored fields prefetch configuration.
+ * and stored fields prefetch configuration. Also holds the node wide budget of
+ * read-ahead blocks that may be downloading at the same time.
  *
  * @opensearch.experimental
  */
@@ -27,6 +29,12 @@ public class TieredStoragePrefetchSettings {
     public static final String DVD_FILE_SUFFIX = "dvd";
     /** Compound file suffix */
     public static final String CFS_FILE_SUFFIX = "cfs";
+    /** Terms index file suffix */
+    public static final String TIP_FILE_SUFFIX = "tip";
+    /** Terms metadata file suffix */
+    public static final String TMD_FILE_SUFFIX = "tmd";
+    /** Default number of read-ahead blocks that may be downloading at the same time on a node */
+    public static final int DEFAULT_READ_AHEAD_MAX_IN_FLIGHT_BLOCKS = 32;
 
     /** Cluster setting for the number of blocks to read ahead during prefetch */
     public static final Setting<Integer> READ_AHEAD_BLOCK_COUNT = Setting.intSetting(
@@ -45,11 +53,45 @@ public class TieredStoragePrefetchSettings {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Cluster setting to enable read-ahead for files that are not always read ahead, once sequential or
+     * strided block access is detected on an index input
+     */
+    public static final Setting<Boolean> ADAPTIVE_READ_AHEAD_ENABLED_SETTING = Setting.boolSetting(
+        "tiering.service.prefetch.read_ahead.adaptive.enabled",
+        true,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /** Cluster setting for the maximum number of adaptive read-ahead blocks that may be downloading at the same time on a node */
+    public static final Setting<Integer> READ_AHEAD_MAX_IN_FLIGHT_BLOCKS = Setting.intSetting(
+        "tiering.service.prefetch.read_ahead.max_in_flight_blocks",
+        DEFAULT_READ_AHEAD_MAX_IN_FLIGHT_BLOCKS,
+        0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /** Cluster setting to enable or disable downloading whole files of the formats read right after they are opened */
+    public static final Setting<Boolean> PREFETCH_ON_OPEN_ENABLED_SETTING = Setting.boolSetting(
+        "tiering.service.prefetch.on_open.enabled",
+        true,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     /** File formats for which read-ahead is enabled */
     public static final List<String> READ_AHEAD_ENABLE_FILE_FORMATS = List.of(DVD_FILE_SUFFIX);
+    /** File formats that are downloaded entirely when they are opened */
+    public static final List<String> PREFETCH_ON_OPEN_FILE_FORMATS = List.of(TIP_FILE_SUFFIX, TMD_FILE_SUFFIX);
     private volatile int readAheadBlockCount;
     private final List<String> readAheadEnableFileFormats;
     private volatile boolean storedFieldsPrefetchEnabled;
+    private volatile boolean adaptiveReadAheadEnabled;
+    private volatile int readAheadMaxInFlightBlocks;
+    private volatile boolean prefetchOnOpenEnabled;
+    private final AtomicInteger readAheadInFlightBlocks = new AtomicInteger();
 
     /**
      * Creates a new TieredStoragePrefetchSettings instance.
@@ -61,6 +103,12 @@ public class TieredStoragePrefetchSettings {
         this.readAheadEnableFileFormats = READ_AHEAD_ENABLE_FILE_FORMATS;
         this.storedFieldsPrefetchEnabled = clusterSettings.get(STORED_FIELDS_PREFETCH_ENABLED_SETTING);
         clusterSettings.addSettingsUpdateConsumer(STORED_FIELDS_PREFETCH_ENABLED_SETTING, this::setStoredFieldsPrefetchEnabled);
+        this.adaptiveReadAheadEnabled = clusterSettings.get(ADAPTIVE_READ_AHEAD_ENABLED_SETTING);
+        clusterSettings.addSettingsUpdateConsumer(ADAPTIVE_READ_AHEAD_ENABLED_SETTING, this::setAdaptiveReadAheadEnabled);
+        this.readAheadMaxInFlightBlocks = clusterSettings.get(READ_AHEAD_MAX_IN_FLIGHT_BLOCKS);
+        clusterSettings.addSettingsUpdateConsumer(READ_AHEAD_MAX_IN_FLIGHT_BLOCKS, this::setReadAheadMaxInFlightBlocks);
+        this.prefetchOnOpenEnabled = clusterSettings.get(PREFETCH_ON_OPEN_ENABLED_SETTING);
+        clusterSettings.addSettingsUpdateConsumer(PREFETCH_ON_OPEN_ENABLED_SETTING, this::setPrefetchOnOpenEnabled);
     }
 
     /**
@@ -102,4 +150,93 @@ public class TieredStoragePrefetchSettings {
     public List<String> getReadAheadEnableFileFormats() {
         return this.readAheadEnableFileFormats;
     }
+
+    /**
+     * Sets whether adaptive read-ahead is enabled.
+     * @param adaptiveReadAheadEnabled true to enable adaptive read-ahead
+     */
+    public void setAdaptiveReadAheadEnabled(boolean adaptiveReadAheadEnabled) {
+        this.adaptiveReadAheadEnabled = adaptiveReadAheadEnabled;
+    }
+
+    /**
+     * Returns whether adaptive read-ahead is enabled.
+     * @return true if adaptive read-ahead is enabled
+     */
+    public boolean isAdaptiveReadAheadEnabled() {
+        return adaptiveReadAheadEnabled;
+    }
+
+    /**
+     * Sets the maximum number of read-ahead blocks that may be downloading at the same time.
+     * @param readAheadMaxInFlightBlocks the maximum number of in flight read-ahead blocks
+     */
+    public void setReadAheadMaxInFlightBlocks(int readAheadMaxInFlightBlocks) {
+        this.readAheadMaxInFlightBlocks = readAheadMaxInFlightBlocks;
+    }
+
+    /**
+     * Returns the maximum number of read-ahead blocks that may be downloading at the same time.
+     * @return the maximum number of in flight read-ahead blocks
+     */
+    public int getReadAheadMaxInFlightBlocks() {
+        return readAheadMaxInFlightBlocks;
+    }
+
+    /**
+     * Sets whether files of the formats returned by {@link #getPrefetchOnOpenFileFormats()} are downloaded when opened.
+     * @param prefetchOnOpenEnabled true to download these files when they are opened
+     */
+    public void setPrefetchOnOpenEnabled(boolean prefetchOnOpenEnabled) {
+        this.prefetchOnOpenEnabled = prefetchOnOpenEnabled;
+    }
+
+    /**
+     * Returns whether files of the formats returned by {@link #getPrefetchOnOpenFileFormats()} are downloaded when opened.
+     * @return true if these files are downloaded when they are opened
+     */
+    public boolean isPrefetchOnOpenEnabled() {
+        return prefetchOnOpenEnabled;
+    }
+
+    /**
+     * Returns the file formats that are downloaded entirely when they are opened.
+     * @return the list of file format suffixes
+     */
+    public List<String> getPrefetchOnOpenFileFormats() {
+        return PREFETCH_ON_OPEN_FILE_FORMATS;
+    }
+
+    /**
+     * Reserves one read-ahead block download from the node wide budget. Read-ahead is speculative, so callers skip it
+     * rather than wait when the budget is exhausted, and must call {@link #releaseReadAheadPermit()} once the download completes.
+     * @return true if the download may start
+     */
+    public boolean tryAcquireReadAheadPermit() {
+        final int maxInFlightBlocks = readAheadMaxInFlightBlocks;
+        int inFlightBlocks;
+        do {
+            inFlightBlocks = readAheadInFlightBlocks.get();
+            if (inFlightBlocks >= maxInFlightBlocks) {
+                return false;
+            }
+        } while (readAheadInFlightBlocks.compareAndSet(inFlightBlocks, inFlightBlocks + 1) == false);
+        return true;
+    }
+
+    /**
+     * Returns a read-ahead block download reserved with {@link #tryAcquireReadAheadPermit()} to the budget.
+     */
+    public void releaseReadAheadPermit() {
+        final int inFlightBlocks = readAheadInFlightBlocks.decrementAndGet();
+        assert inFlightBlocks >= 0 : "released more read-ahead permits than acquired";
+    }
+
+    /**
+     * Returns the number of read-ahead blocks currently downloading.
+     * @return the number of in flight read-ahead blocks
+     */
+    public int getReadAheadInFlightBlocks() {
+        return readAheadInFlightBlocks.get();
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.index.engine.Engine;
+import org.opensearch.telemetry.metrics.Histogram;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class BulkMetricsTests extends OpenSearchTestCase {
+
+    public void testMetricsInitialization() {
+        MetricsRegistry metricsRegistry = mock(MetricsRegistry.class);
+        when(metricsRegistry.createHistogram(anyString(), anyString(), anyString())).thenReturn(mock(Histogram.class));
+
+        BulkMetrics metrics = new BulkMetrics(metricsRegistry);
+
+        verify(metricsRegistry).createHistogram(eq("bulk.coordinating.latency"), anyString(), eq("ms"));
+        verify(metricsRegistry).createHistogram(eq("bulk.ingest.latency"), anyString(), eq("ms"));
+        verify(metricsRegistry).createHistogram(eq("bulk.shard.latency"), anyString(), eq("ms"));
+        verify(metricsRegistry).createHistogram(eq("bulk.shard.primary.latency"), anyString(), eq("ms"));
+        verify(metricsRegistry).createHistogram(eq("bulk.shard.replica.latency"), anyString(), eq("ms"));
+        verify(metricsRegistry).createHistogram(eq("bulk.shard.translog_sync.latency"), anyString(), eq("ms"));
+        verify(metricsRegistry).createHistogram(eq("bulk.item.parse.latency"), anyString(), eq("ms"));
+        verify(metricsRegistry).createHistogram(eq("bulk.item.version_lookup.latency"), anyString(), eq("ms"));
+        verify(metricsRegistry).createHistogram(eq("bulk.item.lucene.latency"), anyString(), eq("ms"));
+        verify(metricsRegistry).createHistogram(eq("bulk.item.translog.latency"), anyString(), eq("ms"));
+        assertNotNull(metrics.coordinatingLatency);
+        assertNotNull(metrics.replicaLatency);
+    }
+
+    public void testRecordNanosRecordsMillis() {
+        Histogram histogram = mock(Histogram.class);
+        BulkMetrics.recordNanos(histogram, TimeUnit.MILLISECONDS.toNanos(12) + TimeUnit.MICROSECONDS.toNanos(500));
+        verify(histogram).record(12.5);
+    }
+
+    public void testRecordStages() {
+        MetricsRegistry metricsRegistry = mock(MetricsRegistry.class);
+        when(metricsRegistry.createHistogram(anyString(), anyString(), anyString())).thenAnswer(invocation -> mock(Histogram.class));
+        BulkMetrics metrics = new BulkMetrics(metricsRegistry);
+
+        Engine.IndexResult indexResult = mock(Engine.IndexResult.class);
+        when(indexResult.hasStageTimes()).thenReturn(false);
+        metrics.recordStages(indexResult);
+        verify(metrics.parseLatency, never()).record(anyDouble());
+
+        when(indexResult.hasStageTimes()).thenReturn(true);
+        when(indexResult.getParseTime()).thenReturn(TimeUnit.MILLISECONDS.toNanos(1));
+        when(indexResult.getVersionLookupTime()).thenReturn(TimeUnit.MILLISECONDS.toNanos(2));
+        when(indexResult.getLuceneTime()).thenReturn(TimeUnit.MILLISECONDS.toNanos(3));
+        when(indexResult.getTranslogTime()).thenReturn(TimeUnit.MILLISECONDS.toNanos(4));
+        metrics.recordStages(indexResult);
+        verify(metrics.parseLatency).record(1.0);
+        verify(metrics.versionLookupLatency).record(2.0);
+        verify(metrics.luceneLatency).record(3.0);
+        verify(metrics.translogLatency).record(4.0);
+
+        metrics.recordStages(mock(Engine.DeleteResult.class));
+        verifyNoMoreInteractions(metrics.parseLatency, metrics.versionLookupLatency, metrics.luceneLatency, metrics.translogLatency);
+    }
+}
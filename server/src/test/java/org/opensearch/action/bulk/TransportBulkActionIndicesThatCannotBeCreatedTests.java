@@ -173,7 +173,8 @@ public class TransportBulkActionIndicesThatCannotBeCreatedTests extends OpenSear
             ),
             null,
             new SystemIndices(emptyMap()),
-            NoopTracer.INSTANCE
+            NoopTracer.INSTANCE,
+            BulkMetrics.NOOP
         ) {
             @Override
             void executeBulk(
@@ -187,7 +187,8 @@ public class TransportBulkActionIngestTests extends OpenSearchSingleNodeTestCase
                 ),
                 null,
                 new SystemIndices(emptyMap()),
-                NoopTracer.INSTANCE
+                NoopTracer.INSTANCE,
+                BulkMetrics.NOOP
             );
         }
 
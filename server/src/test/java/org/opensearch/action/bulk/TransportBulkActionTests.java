@@ -136,7 +136,8 @@ public class TransportBulkActionTests extends OpenSearchTestCase {
                 new IndexingPressureService(Settings.EMPTY, clusterService),
                 mock(IndicesService.class),
                 new SystemIndices(emptyMap()),
-                NoopTracer.INSTANCE
+                NoopTracer.INSTANCE,
+                BulkMetrics.NOOP
             );
         }
 
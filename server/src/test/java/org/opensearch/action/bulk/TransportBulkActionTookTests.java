@@ -283,7 +283,8 @@ public class TransportBulkActionTookTests extends OpenSearchTestCase {
                 null,
                 new SystemIndices(emptyMap()),
                 relativeTimeProvider,
-                NoopTracer.INSTANCE
+                NoopTracer.INSTANCE,
+                BulkMetrics.NOOP
             );
         }
 
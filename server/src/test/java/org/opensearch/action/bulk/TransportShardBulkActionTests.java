@@ -32,11 +32,16 @@
 
 package org.opensearch.action.bulk;
 
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.TermQuery;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.LatchedActionListener;
+import org.opensearch.action.bulk.TransportShardBulkAction.PrimaryExecutionOptions;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.index.IndexRequest;
@@ -62,6 +67,7 @@ import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
@@ -74,10 +80,15 @@ import org.opensearch.index.SegmentReplicationPressureService;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.MapperParsingException;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.Mapping;
 import org.opensearch.index.mapper.MetadataFieldMapper;
+import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.index.mapper.RootObjectMapper;
+import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.remote.RemoteStorePressureService;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
@@ -99,6 +110,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
@@ -111,6 +123,7 @@ import static org.opensearch.index.remote.RemoteStoreTestsHelper.createIndexSett
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -830,7 +843,8 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
                 assertFalse(refreshCalled.get());
             }), latch),
             threadPool,
-            Names.WRITE
+            Names.WRITE,
+            PrimaryExecutionOptions.DEFAULT
         );
 
         assertTrue(latch.await(5, TimeUnit.SECONDS));
@@ -906,7 +920,8 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
                 assertTrue(refreshCalled.get());
             }), latch),
             threadPool,
-            Names.WRITE
+            Names.WRITE,
+            PrimaryExecutionOptions.DEFAULT
         );
 
         assertTrue(latch.await(5, TimeUnit.SECONDS));
@@ -966,7 +981,8 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
                 assertFalse(refreshCalled.get());
             }), latch),
             threadPool,
-            Names.WRITE
+            Names.WRITE,
+            PrimaryExecutionOptions.DEFAULT
         );
 
         assertTrue(latch.await(5, TimeUnit.SECONDS));
@@ -1028,7 +1044,8 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
                 assertTrue(refreshCalled.get());
             }), latch),
             threadPool,
-            Names.WRITE
+            Names.WRITE,
+            PrimaryExecutionOptions.DEFAULT
         );
 
         assertTrue(latch.await(5, TimeUnit.SECONDS));
@@ -1075,6 +1092,173 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testParallelDocumentParsing() throws Exception {
+        IndexShard shard = newStartedShard(true);
+        DocumentMapper documentMapper = shard.mapperService().documentMapper();
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(3, 20)];
+        int malformedItem = randomIntBetween(1, items.length - 1);
+        for (int i = 0; i < items.length; i++) {
+            DocWriteRequest<?> writeRequest;
+            if (i == 0) {
+                writeRequest = new DeleteRequest("index").id("id_" + i);
+            } else if (i == malformedItem) {
+                writeRequest = new IndexRequest("index").id("id_" + i).source("{\"field\":", Requests.INDEX_CONTENT_TYPE);
+            } else {
+                writeRequest = new IndexRequest("index").id("id_" + i).source(Requests.INDEX_CONTENT_TYPE);
+            }
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+
+        ParsedDocument[] parsedDocuments = ParallelDocumentParser.parse(
+            items,
+            documentMapper,
+            threadPool.executor(Names.WRITE),
+            randomIntBetween(2, 4)
+        );
+        assertThat(parsedDocuments.length, equalTo(items.length));
+        // deletes are not parsed, and a document that fails to parse is left to be parsed again when it is executed
+        assertThat(parsedDocuments[0], nullValue());
+        assertThat(parsedDocuments[malformedItem], nullValue());
+        for (int i = 1; i < items.length; i++) {
+            if (i != malformedItem) {
+                assertThat(parsedDocuments[i].id(), equalTo("id_" + i));
+                // tag the documents so that the index shows whether the pre-parsed documents or new ones were indexed
+                parsedDocuments[i].rootDoc().add(new StringField("pre_parsed", "true", Field.Store.NO));
+            }
+        }
+
+        // the mapper returns the attached document once instead of parsing the source again
+        SourceToParse sourceToParse = new SourceToParse("index", "id", new BytesArray("{}"), Requests.INDEX_CONTENT_TYPE);
+        ParsedDocument document = documentMapper.parse(sourceToParse);
+        sourceToParse.setParsedDocument(documentMapper, document);
+        assertThat(documentMapper.parse(sourceToParse), sameInstance(document));
+        assertThat(documentMapper.parse(sourceToParse), not(sameInstance(document)));
+
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        context.setParsedDocuments(documentMapper, parsedDocuments);
+        while (context.hasMoreOperationsToExecute()) {
+            TransportShardBulkAction.executeBulkItemRequest(
+                context,
+                null,
+                threadPool::absoluteTimeInMillis,
+                new NoopMappingUpdatePerformer(),
+                listener -> {},
+                ASSERTING_DONE_LISTENER
+            );
+        }
+
+        BulkItemRequest[] completedItems = context.getBulkShardRequest().items();
+        for (int i = 0; i < completedItems.length; i++) {
+            BulkItemResponse response = completedItems[i].primaryResponse();
+            if (i == malformedItem) {
+                assertTrue(response.isFailed());
+                assertThat(response.getFailure().getCause(), instanceOf(MapperParsingException.class));
+            } else {
+                assertFalse(response.isFailed());
+            }
+        }
+        shard.refresh("test");
+        try (Engine.Searcher searcher = shard.acquireSearcher("test")) {
+            // every document that parsed ahead of its execution was indexed as it was parsed, without being parsed again
+            assertThat(searcher.count(new TermQuery(new Term("pre_parsed", "true"))), equalTo(items.length - 2));
+        }
+        assertThat(getShardDocUIDs(shard).size(), equalTo(items.length - 2));
+
+        closeShards(shard);
+    }
+
+    public void testParallelDocumentParsingOnPrimary() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(3, 20)];
+        int malformedItem = randomIntBetween(1, items.length - 1);
+        for (int i = 0; i < items.length; i++) {
+            DocWriteRequest<?> writeRequest;
+            if (i == 0) {
+                writeRequest = new DeleteRequest("index").id("id_" + i);
+            } else if (i == malformedItem) {
+                writeRequest = new IndexRequest("index").id("id_" + i).source("{\"field\":", Requests.INDEX_CONTENT_TYPE);
+            } else {
+                writeRequest = new IndexRequest("index").id("id_" + i).source(Requests.INDEX_CONTENT_TYPE);
+            }
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+        CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            new NoopMappingUpdatePerformer(),
+            listener -> listener.onResponse(null),
+            new LatchedActionListener<>(ActionTestUtils.assertNoFailureListener(result -> {
+                BulkItemResponse[] responses = result.finalResponseIfSuccessful.getResponses();
+                assertThat(responses.length, equalTo(items.length));
+                for (int i = 0; i < responses.length; i++) {
+                    // the failure to parse one document is reported on its item only
+                    assertThat(responses[i].isFailed(), equalTo(i == malformedItem));
+                }
+            }), latch),
+            threadPool,
+            Names.WRITE,
+            new PrimaryExecutionOptions(randomIntBetween(2, 4), false, BulkMetrics.NOOP)
+        );
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertThat(getShardDocUIDs(shard).size(), equalTo(items.length - 2));
+
+        closeShards(shard);
+    }
+
+    public void testUpdatesReuseUpdatedSource() throws Exception {
+        IndexShard shard = newStartedShard(true);
+        indexDoc(shard, "_doc", "id", "{\"foo\":\"a\",\"bar\":\"b\"}");
+
+        BulkItemRequest[] items = new BulkItemRequest[3];
+        items[0] = new BulkItemRequest(0, new UpdateRequest("index", "id").doc(Requests.INDEX_CONTENT_TYPE, "foo", "x"));
+        items[1] = new BulkItemRequest(1, new UpdateRequest("index", "id").doc(Requests.INDEX_CONTENT_TYPE, "bar", "y"));
+        items[2] = new BulkItemRequest(2, new UpdateRequest("index", "id").doc(Requests.INDEX_CONTENT_TYPE, "foo", "z"));
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        UpdateHelper updateHelper = spy(new UpdateHelper(null));
+        CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            updateHelper,
+            threadPool::absoluteTimeInMillis,
+            new NoopMappingUpdatePerformer(),
+            listener -> listener.onResponse(null),
+            new LatchedActionListener<>(ActionTestUtils.assertNoFailureListener(result -> {
+                BulkItemResponse[] responses = result.finalResponseIfSuccessful.getResponses();
+                assertThat(responses.length, equalTo(items.length));
+                for (int i = 0; i < responses.length; i++) {
+                    assertFalse(responses[i].isFailed());
+                    // every update is executed and gets its own sequence number
+                    assertThat(responses[i].getResponse().getVersion(), equalTo(i + 2L));
+                    assertThat(responses[i].getResponse().getSeqNo(), equalTo(i + 1L));
+                }
+            }), latch),
+            threadPool,
+            Names.WRITE,
+            new PrimaryExecutionOptions(1, true, BulkMetrics.NOOP)
+        );
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        // only the first update gets the document from the shard
+        verify(updateHelper, times(1)).prepare(any(UpdateRequest.class), eq(shard), any(LongSupplier.class));
+        verify(updateHelper, times(2)).prepare(any(UpdateRequest.class), eq(shard), any(GetResult.class), any(LongSupplier.class));
+        GetResult getResult = shard.getService()
+            .getForUpdate("id", SequenceNumbers.UNASSIGNED_SEQ_NO, SequenceNumbers.UNASSIGNED_PRIMARY_TERM);
+        assertThat(getResult.getVersion(), equalTo(4L));
+        assertThat(getResult.sourceAsMap(), equalTo(Map.of("foo", "z", "bar", "y")));
+
+        closeShards(shard);
+    }
+
     public void testNoOpReplicationOnPrimaryDocumentFailure() throws Exception {
         final IndexShard shard = spy(newStartedShard(false));
         final String failureMessage = "simulated primary failure";
@@ -1091,7 +1275,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         BulkItemRequest[] itemRequests = new BulkItemRequest[1];
         itemRequests[0] = itemRequest;
         BulkShardRequest bulkShardRequest = new BulkShardRequest(shard.shardId(), RefreshPolicy.NONE, itemRequests);
-        TransportShardBulkAction.performOnReplica(bulkShardRequest, shard);
+        TransportShardBulkAction.performOnReplica(bulkShardRequest, shard, BulkMetrics.NOOP);
         verify(shard, times(1)).markSeqNoAsNoop(1, 1, exception.toString());
         closeShards(shard);
     }
@@ -1160,7 +1344,8 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
                 assertThat(response.getSeqNo(), equalTo(13L));
             }), latch),
             threadPool,
-            Names.WRITE
+            Names.WRITE,
+            PrimaryExecutionOptions.DEFAULT
         );
         latch.await();
     }
@@ -1220,7 +1405,8 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
                 completedRequest[0] = result.replicaRequest();
             }), latch),
             threadPool,
-            Names.WRITE
+            Names.WRITE,
+            PrimaryExecutionOptions.DEFAULT
         );
 
         // execute the runnable on a separate thread so that the infinite loop can be detected
@@ -1324,7 +1510,8 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
                     completedRequest[0] = result.replicaRequest();
                 }), latch),
                 rejectingThreadPool,
-                Names.WRITE
+                Names.WRITE,
+                PrimaryExecutionOptions.DEFAULT
             );
             latch.await();
 
@@ -1375,7 +1562,8 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
             mock(SegmentReplicationPressureService.class),
             mock(RemoteStorePressureService.class),
             mock(SystemIndices.class),
-            NoopTracer.INSTANCE
+            NoopTracer.INSTANCE,
+            BulkMetrics.NOOP
         );
         action.handlePrimaryTermValidationRequest(
             new TransportShardBulkAction.PrimaryTermValidationRequest(aId + "-1", 1, shardId),
@@ -1407,7 +1595,8 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
             mock(SegmentReplicationPressureService.class),
             mock(RemoteStorePressureService.class),
             mock(SystemIndices.class),
-            NoopTracer.INSTANCE
+            NoopTracer.INSTANCE,
+            BulkMetrics.NOOP
         );
         action.handlePrimaryTermValidationRequest(
             new TransportShardBulkAction.PrimaryTermValidationRequest(aId, 1, shardId),
@@ -1439,7 +1628,8 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
             mock(SegmentReplicationPressureService.class),
             mock(RemoteStorePressureService.class),
             mock(SystemIndices.class),
-            NoopTracer.INSTANCE
+            NoopTracer.INSTANCE,
+            BulkMetrics.NOOP
         );
         action.handlePrimaryTermValidationRequest(
             new TransportShardBulkAction.PrimaryTermValidationRequest(aId, 1, shardId),
@@ -1482,7 +1672,8 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
             mock(SegmentReplicationPressureService.class),
             mock(RemoteStorePressureService.class),
             mock(SystemIndices.class),
-            NoopTracer.INSTANCE
+            NoopTracer.INSTANCE,
+            BulkMetrics.NOOP
         );
     }
 
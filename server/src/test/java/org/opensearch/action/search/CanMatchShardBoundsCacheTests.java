@@ -0,0 +1,208 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.Version;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchService.CanMatchResponse;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.MinAndMax;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class CanMatchShardBoundsCacheTests extends OpenSearchTestCase {
+
+    private static final DocValueFormat FORMAT = new DocValueFormat.DateTime(
+        DateFieldMapper.getDefaultDateTimeFormatter(),
+        ZoneOffset.UTC,
+        DateFieldMapper.Resolution.MILLISECONDS
+    );
+
+    public void testSkipsShardsOutsideOfTheRange() {
+        CanMatchShardBoundsCache cache = new CanMatchShardBoundsCache(clusterSettings(true));
+        ClusterState clusterState = clusterState(indexMetadata("logs-1", true, 1), indexMetadata("logs-2", true, 1));
+        SearchShardIterator oldShard = shardIterator("logs-1");
+        SearchShardIterator newShard = shardIterator("logs-2");
+        cache.put(searchRequest(0L), oldShard, clusterState, new CanMatchResponse(true, new MinAndMax<>(0L, 100L), FORMAT));
+        cache.put(searchRequest(0L), newShard, clusterState, new CanMatchResponse(true, new MinAndMax<>(200L, 300L), FORMAT));
+        assertThat(cache.count(), equalTo(2));
+
+        GroupShardsIterator<SearchShardIterator> shardIterators = new GroupShardsIterator<>(List.of(oldShard, newShard));
+        assertThat(cache.skipShards(searchRequest(150L), shardIterators, clusterState, () -> 0L), equalTo(1));
+        assertTrue(oldShard.skip());
+        assertFalse(newShard.skip());
+    }
+
+    public void testExclusiveLowerBound() {
+        CanMatchShardBoundsCache cache = new CanMatchShardBoundsCache(clusterSettings(true));
+        ClusterState clusterState = clusterState(indexMetadata("logs-1", true, 1), indexMetadata("logs-2", true, 1));
+        SearchShardIterator oldShard = shardIterator("logs-1");
+        SearchShardIterator newShard = shardIterator("logs-2");
+        cache.put(searchRequest(0L), oldShard, clusterState, new CanMatchResponse(true, new MinAndMax<>(0L, 100L), FORMAT));
+        cache.put(searchRequest(0L), newShard, clusterState, new CanMatchResponse(true, new MinAndMax<>(100L, 300L), FORMAT));
+
+        SearchRequest request = new SearchRequest().source(
+            new SearchSourceBuilder().query(QueryBuilders.rangeQuery("@timestamp").gt(99L).format("epoch_millis"))
+                .sort("@timestamp", SortOrder.DESC)
+        );
+        GroupShardsIterator<SearchShardIterator> shardIterators = new GroupShardsIterator<>(List.of(oldShard, newShard));
+        assertThat(cache.skipShards(request, shardIterators, clusterState, () -> 0L), equalTo(0));
+        assertFalse(oldShard.skip());
+        assertFalse(newShard.skip());
+    }
+
+    public void testKeepsOneShardWhenAllShardsCanBeSkipped() {
+        CanMatchShardBoundsCache cache = new CanMatchShardBoundsCache(clusterSettings(true));
+        ClusterState clusterState = clusterState(indexMetadata("logs-1", true, 1), indexMetadata("logs-2", true, 1));
+        SearchShardIterator first = shardIterator("logs-1");
+        SearchShardIterator second = shardIterator("logs-2");
+        cache.put(searchRequest(0L), first, clusterState, new CanMatchResponse(true, new MinAndMax<>(0L, 100L), FORMAT));
+        cache.put(searchRequest(0L), second, clusterState, new CanMatchResponse(true, new MinAndMax<>(200L, 300L), FORMAT));
+
+        GroupShardsIterator<SearchShardIterator> shardIterators = new GroupShardsIterator<>(List.of(first, second));
+        assertThat(cache.skipShards(searchRequest(1000L), shardIterators, clusterState, () -> 0L), equalTo(1));
+        assertFalse(first.skip());
+        assertTrue(second.skip());
+    }
+
+    public void testKeepsShardsWhenTheRequestMustVisitAllDocuments() {
+        CanMatchShardBoundsCache cache = new CanMatchShardBoundsCache(clusterSettings(true));
+        ClusterState clusterState = clusterState(indexMetadata("logs-1", true, 1), indexMetadata("logs-2", true, 1));
+        SearchShardIterator oldShard = shardIterator("logs-1");
+        SearchShardIterator newShard = shardIterator("logs-2");
+        cache.put(searchRequest(0L), oldShard, clusterState, new CanMatchResponse(true, new MinAndMax<>(0L, 100L), FORMAT));
+        cache.put(searchRequest(0L), newShard, clusterState, new CanMatchResponse(true, new MinAndMax<>(200L, 300L), FORMAT));
+
+        // a global aggregation collects the documents of every shard, whatever the query
+        SearchRequest request = searchRequest(150L);
+        request.source().aggregation(AggregationBuilders.global("global").subAggregation(AggregationBuilders.count("count").field("_id")));
+        GroupShardsIterator<SearchShardIterator> shardIterators = new GroupShardsIterator<>(List.of(oldShard, newShard));
+        assertThat(cache.skipShards(request, shardIterators, clusterState, () -> 0L), equalTo(0));
+        assertFalse(oldShard.skip());
+        assertFalse(newShard.skip());
+
+        // so does an aggregation that returns empty buckets
+        request = searchRequest(150L);
+        request.source().aggregation(AggregationBuilders.terms("terms").field("tag").minDocCount(0));
+        assertThat(cache.skipShards(request, shardIterators, clusterState, () -> 0L), equalTo(0));
+        assertFalse(oldShard.skip());
+    }
+
+    public void testInvalidatesEntriesOfNewGeneration() {
+        CanMatchShardBoundsCache cache = new CanMatchShardBoundsCache(clusterSettings(true));
+        SearchShardIterator oldShard = shardIterator("logs-1");
+        SearchShardIterator newShard = shardIterator("logs-2");
+        cache.put(
+            searchRequest(0L),
+            oldShard,
+            clusterState(indexMetadata("logs-1", true, 1)),
+            new CanMatchResponse(true, new MinAndMax<>(0L, 100L), FORMAT)
+        );
+        assertThat(cache.count(), equalTo(1));
+
+        // the write block was removed and added back, documents may have been indexed in the meantime
+        ClusterState clusterState = clusterState(indexMetadata("logs-1", true, 3), indexMetadata("logs-2", true, 1));
+        GroupShardsIterator<SearchShardIterator> shardIterators = new GroupShardsIterator<>(List.of(oldShard, newShard));
+        assertThat(cache.skipShards(searchRequest(150L), shardIterators, clusterState, () -> 0L), equalTo(0));
+        assertFalse(oldShard.skip());
+        assertThat(cache.count(), equalTo(0));
+    }
+
+    public void testDoesNotCacheWritableOrRemoteShards() {
+        CanMatchShardBoundsCache cache = new CanMatchShardBoundsCache(clusterSettings(true));
+        ClusterState clusterState = clusterState(indexMetadata("logs-1", false, 1), indexMetadata("logs-2", true, 1));
+        CanMatchResponse response = new CanMatchResponse(true, new MinAndMax<>(0L, 100L), FORMAT);
+        cache.put(searchRequest(0L), shardIterator("logs-1"), clusterState, response);
+        cache.put(searchRequest(0L), shardIterator("remote", "logs-2"), clusterState, response);
+        // the shard did not report cacheable bounds
+        cache.put(searchRequest(0L), shardIterator("logs-2"), clusterState, new CanMatchResponse(true, new MinAndMax<>(0L, 100L)));
+        assertThat(cache.count(), equalTo(0));
+    }
+
+    public void testDisabled() {
+        ClusterSettings clusterSettings = clusterSettings(true);
+        CanMatchShardBoundsCache cache = new CanMatchShardBoundsCache(clusterSettings);
+        ClusterState clusterState = clusterState(indexMetadata("logs-1", true, 1), indexMetadata("logs-2", true, 1));
+        SearchShardIterator oldShard = shardIterator("logs-1");
+        SearchShardIterator newShard = shardIterator("logs-2");
+        cache.put(searchRequest(0L), oldShard, clusterState, new CanMatchResponse(true, new MinAndMax<>(0L, 100L), FORMAT));
+        assertThat(cache.count(), equalTo(1));
+
+        clusterSettings.applySettings(
+            Settings.builder().put(CanMatchShardBoundsCache.SEARCH_CAN_MATCH_BOUNDS_CACHE_ENABLED.getKey(), false).build()
+        );
+        assertThat(cache.count(), equalTo(0));
+        cache.put(searchRequest(0L), oldShard, clusterState, new CanMatchResponse(true, new MinAndMax<>(0L, 100L), FORMAT));
+        assertThat(cache.count(), equalTo(0));
+        GroupShardsIterator<SearchShardIterator> shardIterators = new GroupShardsIterator<>(List.of(oldShard, newShard));
+        assertThat(cache.skipShards(searchRequest(150L), shardIterators, clusterState, () -> 0L), equalTo(0));
+    }
+
+    private static SearchRequest searchRequest(long from) {
+        return new SearchRequest().source(
+            new SearchSourceBuilder().query(QueryBuilders.rangeQuery("@timestamp").gte(from).format("epoch_millis"))
+                .sort("@timestamp", SortOrder.DESC)
+        );
+    }
+
+    private static ClusterSettings clusterSettings(boolean enabled) {
+        Settings settings = Settings.builder()
+            .put(CanMatchShardBoundsCache.SEARCH_CAN_MATCH_BOUNDS_CACHE_ENABLED.getKey(), enabled)
+            .build();
+        return new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+    }
+
+    private static ClusterState clusterState(IndexMetadata... indexMetadata) {
+        Metadata.Builder metadata = Metadata.builder();
+        for (IndexMetadata metadataEntry : indexMetadata) {
+            metadata.put(metadataEntry, false);
+        }
+        return ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build();
+    }
+
+    private static IndexMetadata indexMetadata(String index, boolean writeBlock, long settingsVersion) {
+        return IndexMetadata.builder(index)
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_INDEX_UUID, "_na_")
+                    .put(IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.getKey(), writeBlock)
+                    .build()
+            )
+            .settingsVersion(settingsVersion)
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+    }
+
+    private static SearchShardIterator shardIterator(String index) {
+        return shardIterator(null, index);
+    }
+
+    private static SearchShardIterator shardIterator(String clusterAlias, String index) {
+        return new SearchShardIterator(clusterAlias, new ShardId(index, "_na_", 0), List.of("node-1"), OriginalIndices.NONE, null, null);
+    }
+}
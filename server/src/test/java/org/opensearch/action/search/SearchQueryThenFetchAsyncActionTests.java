@@ -74,6 +74,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
@@ -285,4 +286,170 @@ public class SearchQueryThenFetchAsyncActionTests extends OpenSearchTestCase {
         assertThat(((FieldDoc) phase.sortedTopDocs.scoreDocs[0]).fields.length, equalTo(1));
         assertThat(((FieldDoc) phase.sortedTopDocs.scoreDocs[0]).fields[0], equalTo(0));
     }
+
+    public void testBatchShardRequestsPerNode() throws Exception {
+        final boolean supportsBatches = randomBoolean();
+        final DiscoveryNode node = new DiscoveryNode(
+            "node_1",
+            buildNewFakeTransportAddress(),
+            supportsBatches ? Version.CURRENT : Version.V_3_8_0
+        );
+        final Map<String, Transport.Connection> lookup = Collections.singletonMap(
+            node.getId(),
+            new SearchAsyncActionTests.MockConnection(node)
+        );
+        final int numShards = randomIntBetween(2, 20);
+        final int numConcurrent = randomIntBetween(1, 4);
+        final AtomicInteger singleRequests = new AtomicInteger();
+        final AtomicInteger batchRequests = new AtomicInteger();
+        final AtomicInteger batchedShards = new AtomicInteger();
+        final AtomicInteger skippedShards = new AtomicInteger();
+        SearchTransportService searchTransportService = new SearchTransportService(null, null) {
+            @Override
+            public void sendExecuteQuery(
+                Transport.Connection connection,
+                ShardSearchRequest request,
+                SearchTask task,
+                SearchActionListener<SearchPhaseResult> listener
+            ) {
+                singleRequests.incrementAndGet();
+                new Thread(() -> listener.onResponse(queryResult(request))).start();
+            }
+
+            @Override
+            public void sendExecuteQueryBatch(
+                Transport.Connection connection,
+                List<ShardSearchRequest> requests,
+                int maxConcurrentShardRequests,
+                SearchTask task,
+                List<SearchActionListener<SearchPhaseResult>> listeners,
+                IntConsumer onShardSkipped
+            ) {
+                assertEquals(node, connection.getNode());
+                assertEquals(numConcurrent, maxConcurrentShardRequests);
+                assertEquals(requests.size(), listeners.size());
+                batchRequests.incrementAndGet();
+                batchedShards.addAndGet(requests.size());
+                // the node always answers for one shard of the batch, the others can be skipped by its pre-check
+                final boolean[] skipped = new boolean[requests.size()];
+                for (int i = 1; i < skipped.length; i++) {
+                    skipped[i] = randomBoolean();
+                }
+                new Thread(() -> {
+                    for (int i = 0; i < requests.size(); i++) {
+                        if (skipped[i]) {
+                            skippedShards.incrementAndGet();
+                            onShardSkipped.accept(i);
+                        } else {
+                            listeners.get(i).onResponse(queryResult(requests.get(i)));
+                        }
+                    }
+                }).start();
+            }
+        };
+        CountDownLatch latch = new CountDownLatch(1);
+        GroupShardsIterator<SearchShardIterator> shardsIter = SearchAsyncActionTests.getShardsIter(
+            "idx",
+            new OriginalIndices(new String[] { "idx" }, SearchRequest.DEFAULT_INDICES_OPTIONS),
+            numShards,
+            false,
+            node,
+            null
+        );
+        final SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setMaxConcurrentShardRequests(numConcurrent);
+        searchRequest.source(new SearchSourceBuilder().size(1).sort(SortBuilders.fieldSort("timestamp")));
+        searchRequest.allowPartialSearchResults(false);
+        Executor executor = OpenSearchExecutors.newDirectExecutorService();
+        SearchPhaseController controller = new SearchPhaseController(
+            writableRegistry(),
+            r -> InternalAggregationTestCase.emptyReduceContextBuilder()
+        );
+        SearchTask task = new SearchTask(0, "n/a", "n/a", () -> "test", null, Collections.emptyMap());
+        QueryPhaseResultConsumer resultConsumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            controller,
+            task.getProgressListener(),
+            writableRegistry(),
+            shardsIter.size(),
+            exc -> {}
+        );
+        SearchQueryThenFetchAsyncAction action = new SearchQueryThenFetchAsyncAction(
+            logger,
+            searchTransportService,
+            (clusterAlias, nodeId) -> lookup.get(nodeId),
+            Collections.singletonMap("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY)),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            controller,
+            executor,
+            resultConsumer,
+            searchRequest,
+            null,
+            shardsIter,
+            new TransportSearchAction.SearchTimeProvider(0, System.nanoTime(), System::nanoTime),
+            null,
+            task,
+            SearchResponse.Clusters.EMPTY,
+            new SearchRequestContext(
+                new SearchRequestOperationsListener.CompositeListener(List.of(assertingListener), LogManager.getLogger()),
+                searchRequest,
+                () -> null
+            ),
+            NoopTracer.INSTANCE
+        ) {
+            @Override
+            protected SearchPhase getNextPhase(SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
+                return new SearchPhase("test") {
+                    @Override
+                    public void run() {
+                        assertingListener.onPhaseEnd(new MockSearchPhaseContext(1, searchRequest, this), null);
+                        latch.countDown();
+                    }
+                };
+            }
+        };
+        action.setBatchShardRequests(true);
+
+        action.start();
+        latch.await();
+        if (supportsBatches) {
+            // all the shards live on the same node, they are sent in a single request
+            assertThat(batchRequests.get(), equalTo(1));
+            assertThat(batchedShards.get(), equalTo(numShards));
+            assertThat(singleRequests.get(), equalTo(0));
+        } else {
+            assertThat(batchRequests.get(), equalTo(0));
+            assertThat(singleRequests.get(), equalTo(numShards));
+            assertThat(skippedShards.get(), equalTo(0));
+        }
+        SearchPhaseController.ReducedQueryPhase phase = action.results.reduce();
+        assertThat(phase.totalHits.value(), equalTo((long) (numShards - skippedShards.get())));
+        assertThat(phase.sortedTopDocs.scoreDocs.length, equalTo(1));
+    }
+
+    private static QuerySearchResult queryResult(ShardSearchRequest request) {
+        final int shardId = request.shardId().id();
+        QuerySearchResult queryResult = new QuerySearchResult(
+            new ShardSearchContextId("N/A", 123),
+            new SearchShardTarget("node_1", new ShardId("idx", "na", shardId), null, OriginalIndices.NONE),
+            null
+        );
+        queryResult.topDocs(
+            new TopDocsAndMaxScore(
+                new TopFieldDocs(
+                    new TotalHits(1, TotalHits.Relation.EQUAL_TO),
+                    new FieldDoc[] { new FieldDoc(randomInt(1000), Float.NaN, new Object[] { shardId }) },
+                    new SortField[] { new SortField("timestamp", SortField.Type.LONG) }
+                ),
+                Float.NaN
+            ),
+            new DocValueFormat[] { DocValueFormat.RAW }
+        );
+        queryResult.from(0);
+        queryResult.size(1);
+        return queryResult;
+    }
 }
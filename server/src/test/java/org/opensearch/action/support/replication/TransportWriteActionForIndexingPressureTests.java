@@ -420,13 +420,16 @@ public class TransportWriteActionForIndexingPressureTests extends OpenSearchTest
         ) {
             ActionListener.completeWith(
                 listener,
-                () -> new WritePrimaryResult<>(request, new TestResponse(), location, null, primary, logger)
+                () -> new WritePrimaryResult<>(request, new TestResponse(), location, null, primary, logger, tookNanos -> {})
             );
         }
 
         @Override
         protected void dispatchedShardOperationOnReplica(TestRequest request, IndexShard replica, ActionListener<ReplicaResult> listener) {
-            ActionListener.completeWith(listener, () -> new WriteReplicaResult<>(request, location, null, replica, logger));
+            ActionListener.completeWith(
+                listener,
+                () -> new WriteReplicaResult<>(request, location, null, replica, logger, tookNanos -> {})
+            );
         }
 
     }
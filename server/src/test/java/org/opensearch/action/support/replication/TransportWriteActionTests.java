@@ -480,9 +480,17 @@ public class TransportWriteActionTests extends OpenSearchTestCase {
         ) {
             ActionListener.completeWith(listener, () -> {
                 if (withDocumentFailureOnPrimary) {
-                    return new WritePrimaryResult<>(request, null, null, new RuntimeException("simulated"), primary, logger);
+                    return new WritePrimaryResult<>(
+                        request,
+                        null,
+                        null,
+                        new RuntimeException("simulated"),
+                        primary,
+                        logger,
+                        tookNanos -> {}
+                    );
                 } else {
-                    return new WritePrimaryResult<>(request, new TestResponse(), location, null, primary, logger);
+                    return new WritePrimaryResult<>(request, new TestResponse(), location, null, primary, logger, tookNanos -> {});
                 }
             });
         }
@@ -492,9 +500,16 @@ public class TransportWriteActionTests extends OpenSearchTestCase {
             ActionListener.completeWith(listener, () -> {
                 final WriteReplicaResult<TestRequest> replicaResult;
                 if (withDocumentFailureOnReplica) {
-                    replicaResult = new WriteReplicaResult<>(request, null, new RuntimeException("simulated"), replica, logger);
+                    replicaResult = new WriteReplicaResult<>(
+                        request,
+                        null,
+                        new RuntimeException("simulated"),
+                        replica,
+                        logger,
+                        tookNanos -> {}
+                    );
                 } else {
-                    replicaResult = new WriteReplicaResult<>(request, location, null, replica, logger);
+                    replicaResult = new WriteReplicaResult<>(request, location, null, replica, logger, tookNanos -> {});
                 }
                 return replicaResult;
             });
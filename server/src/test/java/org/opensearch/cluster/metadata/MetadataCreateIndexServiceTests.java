@@ -4416,6 +4416,32 @@ public class MetadataCreateIndexServiceTests extends OpenSearchTestCase {
         assertTrue(e.getMessage().contains(Version.V_3_5_0.toString()));
     }
 
+    public void testValidateTranslogSourceCompressionSettings() {
+        final Set<DiscoveryNodeRole> roles = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList(DiscoveryNodeRole.CLUSTER_MANAGER_ROLE, DiscoveryNodeRole.DATA_ROLE))
+        );
+        DiscoveryNode oldNode = new DiscoveryNode("old_node", buildNewFakeTransportAddress(), emptyMap(), roles, Version.V_3_8_0);
+        ClusterState mixedState = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .nodes(DiscoveryNodes.builder().add(newNode("node1")).add(oldNode).build())
+            .build();
+        ClusterState upgradedState = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .nodes(DiscoveryNodes.builder().add(newNode("node1")).build())
+            .build();
+        Settings enabled = Settings.builder().put(IndexSettings.INDEX_TRANSLOG_SOURCE_COMPRESSION_ENABLED_SETTING.getKey(), true).build();
+        Settings disabled = Settings.builder().put(IndexSettings.INDEX_TRANSLOG_SOURCE_COMPRESSION_ENABLED_SETTING.getKey(), false).build();
+
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> MetadataCreateIndexService.validateTranslogSourceCompressionSettings(enabled, mixedState)
+        );
+        assertTrue(e.getMessage().contains("index.translog.source_compression.enabled requires all nodes"));
+        assertTrue(e.getMessage().contains(Version.V_3_8_0.toString()));
+
+        // Should not throw
+        MetadataCreateIndexService.validateTranslogSourceCompressionSettings(disabled, mixedState);
+        MetadataCreateIndexService.validateTranslogSourceCompressionSettings(enabled, upgradedState);
+    }
+
     public void testValidateIngestionSourceSettingsWithDefaultMapperType() {
         // Default mapper type on old nodes — should pass (no version requirement)
         final Set<DiscoveryNodeRole> roles = Collections.unmodifiableSet(
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class StripedLockTests extends OpenSearchTestCase {
+
+    public void testStripesAreRoundedUpToPowerOfTwo() {
+        assertThat(new StripedLock<String>(1).stripes(), equalTo(1));
+        assertThat(new StripedLock<String>(2).stripes(), equalTo(2));
+        assertThat(new StripedLock<String>(3).stripes(), equalTo(4));
+        assertThat(new StripedLock<String>(16).stripes(), equalTo(16));
+        assertThat(new StripedLock<String>(17).stripes(), equalTo(32));
+        expectThrows(IllegalArgumentException.class, () -> new StripedLock<String>(0));
+        expectThrows(IllegalArgumentException.class, () -> new StripedLock<String>(StripedLock.MAX_STRIPES + 1));
+    }
+
+    public void testAcquireIsReentrant() {
+        StripedLock<String> lock = new StripedLock<>(randomIntBetween(1, 64));
+        String key = randomAlphaOfLength(10);
+        assertFalse(lock.isHeldByCurrentThread(key));
+        try (Releasable outer = lock.acquire(key)) {
+            assertTrue(lock.isHeldByCurrentThread(key));
+            try (Releasable inner = lock.acquire(key)) {
+                assertTrue(lock.isHeldByCurrentThread(key));
+            }
+            assertTrue(lock.isHeldByCurrentThread(key));
+        }
+        assertFalse(lock.isHeldByCurrentThread(key));
+    }
+
+    public void testClosingTwiceReleasesOnce() {
+        StripedLock<String> lock = new StripedLock<>(randomIntBetween(1, 64));
+        String key = randomAlphaOfLength(10);
+        Releasable outer = lock.acquire(key);
+        Releasable inner = randomBoolean() ? lock.acquire(key) : lock.tryAcquire(key);
+        inner.close();
+        inner.close();
+        // the second close must not release the hold of the outer acquire
+        assertTrue(lock.isHeldByCurrentThread(key));
+        outer.close();
+        assertFalse(lock.isHeldByCurrentThread(key));
+        outer.close();
+        assertFalse(lock.isHeldByCurrentThread(key));
+    }
+
+    public void testTryAcquireFailsWhileHeldByOtherThread() throws Exception {
+        StripedLock<String> lock = new StripedLock<>(1);
+        String key = randomAlphaOfLength(10);
+        // with a single stripe all the keys share the lock
+        String otherKey = randomAlphaOfLength(11);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try (Releasable ignored = lock.acquire(key)) {
+                locked.countDown();
+                release.await();
+            } catch (Exception e) {
+                failure.set(e);
+            }
+        });
+        thread.start();
+        locked.await();
+        assertNull(lock.tryAcquire(otherKey));
+        assertFalse(lock.isHeldByCurrentThread(key));
+        release.countDown();
+        thread.join();
+        assertNull(failure.get());
+        try (Releasable acquired = lock.tryAcquire(otherKey)) {
+            assertNotNull(acquired);
+            assertTrue(lock.isHeldByCurrentThread(key));
+        }
+    }
+}
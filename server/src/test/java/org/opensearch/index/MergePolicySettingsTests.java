@@ -33,12 +33,15 @@ package org.opensearch.index;
 
 import org.apache.lucene.index.LogByteSizeMergePolicy;
 import org.apache.lucene.index.NoMergePolicy;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.FeatureFlags;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
 
 import java.io.IOException;
 
@@ -181,6 +184,43 @@ public class MergePolicySettingsTests extends OpenSearchTestCase {
 
     }
 
+    public void testDefaultMergePolicyForTimestampSortedIndex() throws IOException {
+        Settings sortedOnTimestamp = Settings.builder().put(IndexSortConfig.INDEX_SORT_FIELD_SETTING.getKey(), "@timestamp").build();
+        // time series indices sorted on the timestamp merge adjacent segments by default
+        IndexSettings indexSettings = indexSettings(sortedOnTimestamp);
+        assertTrue(indexSettings.getMergePolicy(false) instanceof OpenSearchTieredMergePolicy);
+        assertTrue(indexSettings.getMergePolicy(true) instanceof LogByteSizeMergePolicy);
+
+        // the node level time series merge policy takes precedence
+        Settings nodeSettings = Settings.builder()
+            .put(IndexSettings.TIME_SERIES_INDEX_MERGE_POLICY.getKey(), IndexSettings.IndexMergePolicy.TIERED.getValue())
+            .build();
+        indexSettings = new IndexSettings(newIndexMeta("test", sortedOnTimestamp), nodeSettings);
+        assertTrue(indexSettings.getMergePolicy(true) instanceof OpenSearchTieredMergePolicy);
+
+        // and so does the index level merge policy
+        indexSettings = indexSettings(
+            Settings.builder()
+                .put(sortedOnTimestamp)
+                .put(IndexSettings.INDEX_MERGE_POLICY.getKey(), IndexSettings.IndexMergePolicy.TIERED.getValue())
+                .build()
+        );
+        assertTrue(indexSettings.getMergePolicy(true) instanceof OpenSearchTieredMergePolicy);
+
+        // indices sorted on another field keep the default merge policy
+        indexSettings = indexSettings(Settings.builder().put(IndexSortConfig.INDEX_SORT_FIELD_SETTING.getKey(), "host").build());
+        assertTrue(indexSettings.getMergePolicy(true) instanceof OpenSearchTieredMergePolicy);
+
+        // indices created before the switch keep the default merge policy
+        indexSettings = indexSettings(
+            Settings.builder()
+                .put(sortedOnTimestamp)
+                .put(IndexMetadata.SETTING_VERSION_CREATED, VersionUtils.getPreviousVersion(Version.V_3_9_0))
+                .build()
+        );
+        assertTrue(indexSettings.getMergePolicy(true) instanceof OpenSearchTieredMergePolicy);
+    }
+
     /**
      * When the pluggable data format (composite engine) is enabled on an index, the default merge policy
      * should be LogByteSizeMergePolicy for both regular and time-series indexes.
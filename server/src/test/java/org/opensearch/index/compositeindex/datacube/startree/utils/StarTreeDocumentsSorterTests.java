@@ -195,6 +195,67 @@ public class StarTreeDocumentsSorterTests extends OpenSearchTestCase {
         assertArrayEquals(new int[] { 3, 4, 2, 1, 0 }, sortedDocIds);
     }
 
+    public void testMergeSortedRuns() {
+        // two runs, each sorted on its own: docs 0-4 and docs 5-9
+        int[] firstRun = { 0, 1, 2, 3, 4 };
+        int[] secondRun = { 5, 6, 7, 8, 9 };
+        StarTreeDocumentsSorter.sort(firstRun, -1, firstRun.length, i -> testData.get(firstRun[i]), comparatorList);
+        StarTreeDocumentsSorter.sort(secondRun, -1, secondRun.length, i -> testData.get(secondRun[i]), comparatorList);
+        int[] runDocs = new int[10];
+        System.arraycopy(firstRun, 0, runDocs, 0, 5);
+        System.arraycopy(secondRun, 0, runDocs, 5, 5);
+
+        int[] merged = StarTreeDocumentsSorter.mergeSortedRuns(new int[] { 0, 5, 10 }, i -> testData.get(runDocs[i]), comparatorList);
+        int[] mergedDocIds = Arrays.stream(merged).map(i -> runDocs[i]).toArray();
+        assertArrayEquals(new int[] { 7, 4, 1, 5, 2, 3, 9, 6, 0, 8 }, mergedDocIds);
+    }
+
+    public void testMergeSortedRuns_EmptyRuns() {
+        Long[][] docs = new Long[][] { { 1L }, { 3L }, { 2L }, { 2L } };
+        List<Comparator<Long>> comparators = List.of(new NumericDimension("dim").comparator());
+        int[] merged = StarTreeDocumentsSorter.mergeSortedRuns(new int[] { 0, 0, 2, 2, 4 }, i -> docs[i], comparators);
+        // equal documents keep the order of their runs
+        assertArrayEquals(new int[] { 0, 2, 3, 1 }, merged);
+
+        assertArrayEquals(new int[0], StarTreeDocumentsSorter.mergeSortedRuns(new int[] { 0 }, i -> docs[i], comparators));
+        assertArrayEquals(new int[0], StarTreeDocumentsSorter.mergeSortedRuns(new int[] { 0, 0, 0 }, i -> docs[i], comparators));
+    }
+
+    public void testMergeSortedRunsRandomized() {
+        Random random = Randomness.get();
+        int numDimensions = randomIntBetween(1, 5);
+        List<Comparator<Long>> comparators = new ArrayList<>();
+        for (int i = 0; i < numDimensions; i++) {
+            boolean isUnsignedLong = random.nextBoolean();
+            comparators.add(isUnsignedLong ? new UnsignedLongDimension("dim").comparator() : new NumericDimension("dim").comparator());
+        }
+        int numRuns = randomIntBetween(1, 10);
+        int[] runStarts = new int[numRuns + 1];
+        List<Long[]> docs = new ArrayList<>();
+        for (int run = 0; run < numRuns; run++) {
+            runStarts[run] = docs.size();
+            List<Long[]> runDocs = new ArrayList<>();
+            int numDocs = randomIntBetween(0, 100);
+            for (int i = 0; i < numDocs; i++) {
+                Long[] dimensions = new Long[numDimensions];
+                for (int j = 0; j < numDimensions; j++) {
+                    dimensions[j] = random.nextBoolean() ? null : (long) randomIntBetween(-5, 5);
+                }
+                runDocs.add(dimensions);
+            }
+            runDocs.sort((a, b) -> StarTreeDocumentsSorter.compare(a, b, -1, comparators));
+            docs.addAll(runDocs);
+        }
+        runStarts[numRuns] = docs.size();
+
+        int[] merged = StarTreeDocumentsSorter.mergeSortedRuns(runStarts, docs::get, comparators);
+        assertEquals(docs.size(), merged.length);
+        assertEquals(docs.size(), Arrays.stream(merged).distinct().count());
+        for (int i = 1; i < merged.length; i++) {
+            assertTrue(StarTreeDocumentsSorter.compare(docs.get(merged[i - 1]), docs.get(merged[i]), -1, comparators) <= 0);
+        }
+    }
+
     public void testTheRandomSort() {
         int i = 0;
         while (i < 10) {
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.LeafFieldData;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.lookup.SourceLookup;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DocValueFetcherTests extends OpenSearchTestCase {
+
+    public void testFetchValuesAppendsToTheProvidedList() throws IOException {
+        DocValueFetcher fetcher = fetcher(Map.of(0, List.of("a", "b"), 2, List.of("c")));
+
+        List<Object> values = new ArrayList<>();
+        values.add("existing");
+        assertTrue(fetcher.fetchValues(0, values));
+        assertThat(values, contains("existing", "a", "b"));
+        assertFalse(fetcher.fetchValues(1, values));
+        assertThat(values, contains("existing", "a", "b"));
+        assertTrue(fetcher.fetchValues(2, values));
+        assertThat(values, contains("existing", "a", "b", "c"));
+    }
+
+    public void testFetchValuesFromSourceLookup() throws IOException {
+        DocValueFetcher fetcher = fetcher(Map.of(0, List.of("a", "b")));
+
+        SourceLookup lookup = mock(SourceLookup.class);
+        when(lookup.docId()).thenReturn(0);
+        assertThat(fetcher.fetchValues(lookup), contains("a", "b"));
+        when(lookup.docId()).thenReturn(1);
+        assertThat(fetcher.fetchValues(lookup), empty());
+    }
+
+    public void testPrefetchNumericValues() throws IOException {
+        Map<Integer, long[]> valuesPerDoc = Map.of(1, new long[] { 3, 5 }, 4, new long[] { 7 }, 6, new long[] { 9 });
+        LeafFieldData leafFieldData = mock(LeafFieldData.class);
+        when(leafFieldData.getLeafValueFetcher(any())).thenAnswer(invocation -> new DocValueFetcher.NumericLeaf(docValues(valuesPerDoc)) {
+            @Override
+            protected Object formatValue(long value) {
+                return "v" + value;
+            }
+        });
+        @SuppressWarnings("unchecked")
+        IndexFieldData<LeafFieldData> fieldData = mock(IndexFieldData.class);
+        when(fieldData.load(any())).thenReturn(leafFieldData);
+        DocValueFetcher fetcher = new DocValueFetcher(DocValueFormat.RAW, fieldData);
+        fetcher.setNextReader(null);
+        fetcher.prefetch(new int[] { 1, 2, 4 });
+
+        List<Object> values = new ArrayList<>();
+        assertTrue(fetcher.fetchValues(1, values));
+        assertThat(values, contains("v3", "v5"));
+        values.clear();
+        assertFalse(fetcher.fetchValues(2, values));
+        assertThat(values, empty());
+        assertTrue(fetcher.fetchValues(4, values));
+        assertThat(values, contains("v7"));
+        values.clear();
+        // not prefetched, read on its own
+        assertTrue(fetcher.fetchValues(6, values));
+        assertThat(values, contains("v9"));
+    }
+
+    private static SortedNumericDocValues docValues(Map<Integer, long[]> valuesPerDoc) {
+        return new SortedNumericDocValues() {
+            private int doc = -1;
+            private int next;
+
+            @Override
+            public boolean advanceExact(int target) {
+                assert target >= doc : "doc values must be read in doc id order";
+                doc = target;
+                next = 0;
+                return valuesPerDoc.containsKey(target);
+            }
+
+            @Override
+            public long nextValue() {
+                return valuesPerDoc.get(doc)[next++];
+            }
+
+            @Override
+            public int docValueCount() {
+                return valuesPerDoc.get(doc).length;
+            }
+
+            @Override
+            public int docID() {
+                return doc;
+            }
+
+            @Override
+            public int nextDoc() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int advance(int target) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public long cost() {
+                return valuesPerDoc.size();
+            }
+        };
+    }
+
+    private static DocValueFetcher fetcher(Map<Integer, List<?>> valuesPerDoc) {
+        LeafFieldData leafFieldData = mock(LeafFieldData.class);
+        when(leafFieldData.getLeafValueFetcher(any())).thenReturn(new DocValueFetcher.Leaf() {
+            private List<?> values;
+            private int next;
+
+            @Override
+            public boolean advanceExact(int docId) {
+                values = valuesPerDoc.get(docId);
+                next = 0;
+                return values != null;
+            }
+
+            @Override
+            public int docValueCount() {
+                return values.size();
+            }
+
+            @Override
+            public Object nextValue() {
+                return values.get(next++);
+            }
+        });
+        @SuppressWarnings("unchecked")
+        IndexFieldData<LeafFieldData> fieldData = mock(IndexFieldData.class);
+        when(fieldData.load(any())).thenReturn(leafFieldData);
+        DocValueFetcher fetcher = new DocValueFetcher(DocValueFormat.RAW, fieldData);
+        fetcher.setNextReader(null);
+        return fetcher;
+    }
+}
@@ -219,6 +219,37 @@ public class SourceFieldMapperTests extends OpenSearchSingleNodeTestCase {
         assertNull(sourceIndexableField);
     }
 
+    public void testFilteredRecoverySourceWhenSourceIsDisabled() throws Exception {
+        String mapping = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject("type")
+            .startObject("_source")
+            .field("enabled", "false")
+            .array("recovery_source_excludes", new String[] { "path2*" })
+            .endObject()
+            .endObject()
+            .endObject()
+            .toString();
+
+        DocumentMapperParser parser = createIndex("test").mapperService().documentMapperParser();
+        DocumentMapper documentMapper = parser.parse("type", new CompressedXContent(mapping));
+        BytesReference source = BytesReference.bytes(
+            XContentFactory.jsonBuilder().startObject().field("path1", "value1").field("path2", "value2").endObject()
+        );
+        ParsedDocument doc = documentMapper.parse(new SourceToParse("test", "1", source, MediaTypeRegistry.JSON));
+
+        assertNull(doc.rootDoc().getField("_source"));
+        final IndexableField recoverySourceIndexableField = doc.rootDoc().getField("_recovery_source");
+        assertNotNull(recoverySourceIndexableField);
+        Map<String, Object> recoverySourceAsMap;
+        BytesArray recoverySource = new BytesArray(recoverySourceIndexableField.binaryValue());
+        try (XContentParser xContentParser = createParser(JsonXContent.jsonXContent, recoverySource)) {
+            recoverySourceAsMap = xContentParser.map();
+        }
+        assertThat(recoverySourceAsMap.containsKey("path1"), equalTo(true));
+        assertThat(recoverySourceAsMap.containsKey("path2"), equalTo(false));
+    }
+
     public void testExcludes() throws Exception {
         String mapping = XContentFactory.jsonBuilder()
             .startObject()
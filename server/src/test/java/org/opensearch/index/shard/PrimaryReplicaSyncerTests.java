@@ -64,10 +64,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
 
 public class PrimaryReplicaSyncerTests extends IndexShardTestCase {
@@ -156,6 +158,67 @@ public class PrimaryReplicaSyncerTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testSyncerPipelinesChunks() throws Exception {
+        IndexShard shard = newStartedShard(true);
+        TaskManager taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet());
+        int maxConcurrentChunks = randomIntBetween(2, 5);
+        AtomicBoolean firstChunkAcknowledged = new AtomicBoolean();
+        AtomicInteger inFlightChunks = new AtomicInteger();
+        AtomicInteger maxInFlightChunks = new AtomicInteger();
+        AtomicInteger resyncedOps = new AtomicInteger();
+        PrimaryReplicaSyncer.SyncAction syncAction = (request, parentTask, allocationId, primaryTerm, listener) -> {
+            if (request.getTrimAboveSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO) {
+                assertTrue("chunks must not be sent before the first chunk is acknowledged", firstChunkAcknowledged.get());
+            }
+            maxInFlightChunks.accumulateAndGet(inFlightChunks.incrementAndGet(), Math::max);
+            resyncedOps.addAndGet(request.getOperations().length);
+            threadPool.generic().execute(() -> {
+                inFlightChunks.decrementAndGet();
+                firstChunkAcknowledged.set(true);
+                listener.onResponse(new ResyncReplicationResponse());
+            });
+        };
+        PrimaryReplicaSyncer syncer = new PrimaryReplicaSyncer(taskManager, syncAction);
+        // one operation per chunk
+        syncer.setChunkSize(new ByteSizeValue(1));
+        syncer.setMaxConcurrentChunks(maxConcurrentChunks);
+
+        int numDocs = randomIntBetween(10, 50);
+        for (int i = 0; i < numDocs; i++) {
+            shard.applyIndexOperationOnPrimary(
+                Versions.MATCH_ANY,
+                VersionType.INTERNAL,
+                new SourceToParse(shard.shardId().getIndexName(), Integer.toString(i), new BytesArray("{}"), MediaTypeRegistry.JSON),
+                SequenceNumbers.UNASSIGNED_SEQ_NO,
+                0,
+                IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP,
+                true
+            );
+        }
+        String allocationId = shard.routingEntry().allocationId().getId();
+        shard.updateShardState(
+            shard.routingEntry(),
+            shard.getPendingPrimaryTerm(),
+            null,
+            1000L,
+            Collections.singleton(allocationId),
+            new IndexShardRoutingTable.Builder(shard.shardId()).addShard(shard.routingEntry()).build(),
+            IndexShardTestUtils.getFakeDiscoveryNodes(shard.routingEntry())
+        );
+        shard.updateLocalCheckpointForShard(allocationId, 0);
+        assertEquals(0, shard.getLastKnownGlobalCheckpoint());
+
+        PlainActionFuture<PrimaryReplicaSyncer.ResyncTask> fut = new PlainActionFuture<>();
+        syncer.resync(shard, fut);
+        PrimaryReplicaSyncer.ResyncTask resyncTask = fut.get();
+
+        assertThat(resyncedOps.get(), equalTo(numDocs - 1));
+        assertThat(resyncTask.getResyncedOperations(), equalTo(numDocs - 1));
+        assertThat(inFlightChunks.get(), equalTo(0));
+        assertThat(maxInFlightChunks.get(), lessThanOrEqualTo(maxConcurrentChunks));
+        closeShards(shard);
+    }
+
     public void testSyncerOnClosingShard() throws Exception {
         IndexShard shard = newStartedShard(true);
         AtomicBoolean syncActionCalled = new AtomicBoolean();
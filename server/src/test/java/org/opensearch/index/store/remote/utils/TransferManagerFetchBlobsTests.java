@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils;
+
+import com.carrotsearch.randomizedtesting.annotations.ThreadLeakFilters;
+
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.SimpleFSLockFactory;
+import org.opensearch.index.store.remote.file.CleanerDaemonThreadLeakFilter;
+import org.opensearch.index.store.remote.filecache.FileCache;
+import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+@ThreadLeakFilters(filters = CleanerDaemonThreadLeakFilter.class)
+public class TransferManagerFetchBlobsTests extends OpenSearchTestCase {
+    private static final int BLOCK_SIZE = 1024;
+
+    private final FileCache fileCache = FileCacheFactory.createConcurrentLRUFileCache(BLOCK_SIZE * 16, 1);
+    private final byte[] data = new byte[BLOCK_SIZE * 8];
+    private final List<String> reads = new CopyOnWriteArrayList<>();
+    private MMapDirectory directory;
+    private ExecutorService executorService;
+    private TransferManager transferManager;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        random().nextBytes(data);
+        directory = new MMapDirectory(createTempDir(), SimpleFSLockFactory.INSTANCE);
+        executorService = Executors.newFixedThreadPool(2);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        doReturn(executorService).when(threadPool).executor(ThreadPool.Names.REMOTE_RECOVERY);
+        transferManager = new TransferManager((name, position, length) -> {
+            if (name.equals("failure-blob")) {
+                throw new IOException("Expected test exception");
+            }
+            reads.add(name + "[" + position + "," + (position + length) + ")");
+            return new ByteArrayInputStream(data, (int) position, (int) length);
+        }, fileCache, threadPool);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executorService.shutdownNow();
+        super.tearDown();
+    }
+
+    public void testContiguousBlocksAreFetchedWithOneRead() throws Exception {
+        final List<BlobFetchRequest> requests = List.of(blockRequest("blob", 0), blockRequest("blob", 1), blockRequest("blob", 2));
+        final List<CompletableFuture<IndexInput>> downloads = transferManager.fetchBlobsAsync(requests);
+        CompletableFuture.allOf(downloads.toArray(new CompletableFuture[0])).get();
+
+        assertEquals(List.of("blob[0,3072)"), reads);
+        for (int block = 0; block < 3; block++) {
+            assertBlockContent(requests.get(block), block);
+        }
+        assertEquals(0L, fileCache.activeUsage());
+        assertEquals(3L * BLOCK_SIZE, fileCache.usage());
+    }
+
+    public void testCachedBlocksSplitTheRead() throws Exception {
+        transferManager.fetchBlob(blockRequest("blob", 2)).close();
+        reads.clear();
+
+        final List<BlobFetchRequest> requests = List.of(
+            blockRequest("blob", 0),
+            blockRequest("blob", 1),
+            blockRequest("blob", 2),
+            blockRequest("blob", 3),
+            blockRequest("blob", 5)
+        );
+        final List<CompletableFuture<IndexInput>> downloads = transferManager.fetchBlobsAsync(requests);
+        CompletableFuture.allOf(downloads.toArray(new CompletableFuture[0])).get();
+
+        assertEquals(3, reads.size());
+        assertTrue(reads.containsAll(List.of("blob[0,2048)", "blob[3072,4096)", "blob[5120,6144)")));
+        for (BlobFetchRequest request : requests) {
+            assertBlockContent(request, (int) (request.blobParts().getFirst().getPosition() / BLOCK_SIZE));
+        }
+        assertEquals(0L, fileCache.activeUsage());
+    }
+
+    public void testBlocksOfDifferentBlobsAreNotCoalesced() throws Exception {
+        final List<CompletableFuture<IndexInput>> downloads = transferManager.fetchBlobsAsync(
+            List.of(blockRequest("blob", 0), blockRequest("other-blob", 1))
+        );
+        CompletableFuture.allOf(downloads.toArray(new CompletableFuture[0])).get();
+
+        assertEquals(2, reads.size());
+    }
+
+    public void testFailedReadFailsAllBlocks() {
+        final List<BlobFetchRequest> requests = List.of(blockRequest("failure-blob", 0), blockRequest("failure-blob", 1));
+        final List<CompletableFuture<IndexInput>> downloads = transferManager.fetchBlobsAsync(requests);
+        for (CompletableFuture<IndexInput> download : downloads) {
+            ExecutionException e = expectThrows(ExecutionException.class, download::get);
+            assertThat(e.getCause().getCause(), instanceOf(IOException.class));
+        }
+        // the failed blocks are not cached and a later fetch reports the failure
+        assertEquals(0L, fileCache.usage());
+        expectThrows(IOException.class, () -> transferManager.fetchBlob(requests.getFirst()));
+    }
+
+    private BlobFetchRequest blockRequest(String blobName, int block) {
+        return BlobFetchRequest.builder()
+            .fileName(blobName + "_block_" + block)
+            .directory(directory)
+            .blobParts(List.of(new BlobFetchRequest.BlobPart(blobName, (long) block * BLOCK_SIZE, BLOCK_SIZE)))
+            .build();
+    }
+
+    private void assertBlockContent(BlobFetchRequest request, int block) throws IOException {
+        try (IndexInput indexInput = transferManager.fetchBlob(request)) {
+            final byte[] content = new byte[BLOCK_SIZE];
+            indexInput.readBytes(content, 0, BLOCK_SIZE);
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                assertEquals(data[block * BLOCK_SIZE + i], content[i]);
+            }
+        }
+    }
+}
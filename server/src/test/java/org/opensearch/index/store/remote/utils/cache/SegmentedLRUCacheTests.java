@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+public class SegmentedLRUCacheTests extends RefCountedCacheTestCase {
+    public SegmentedLRUCacheTests() {
+        super(new LRUCache<>(CAPACITY, CAPACITY / 2, n -> {}, value -> value));
+    }
+
+    public void testScanDoesNotEvictReusedEntries() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, CAPACITY / 2, n -> {}, value -> value);
+        // the working set is used twice
+        for (int i = 0; i < 2; i++) {
+            final String key = "hot-" + i;
+            cache.put(key, 20L);
+            cache.decRef(key);
+            assertNotNull(cache.get(key));
+            cache.decRef(key);
+        }
+        // a scan reads many entries once
+        for (int i = 0; i < 10; i++) {
+            final String key = "scan-" + i;
+            cache.put(key, 20L);
+            cache.decRef(key);
+        }
+        assertEquals(80L, cache.usage());
+        for (int i = 0; i < 2; i++) {
+            assertNotNull(cache.get("hot-" + i));
+        }
+        assertNull(cache.get("scan-0"));
+    }
+
+    public void testProtectedEntriesAreDemotedWhenTheProtectedListIsFull() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, CAPACITY / 2, n -> {}, value -> value);
+        for (int i = 0; i < 3; i++) {
+            final String key = "hot-" + i;
+            cache.put(key, 25L);
+            cache.decRef(key);
+            assertNotNull(cache.get(key));
+            cache.decRef(key);
+        }
+        // only two entries fit the protected list, the least recently used one went back to the entries that were used once
+        cache.put("new", 25L);
+        cache.decRef("new");
+        assertNull(cache.get("hot-0"));
+        assertNotNull(cache.get("hot-1"));
+        assertNotNull(cache.get("hot-2"));
+        assertNotNull(cache.get("new"));
+    }
+}
@@ -157,6 +157,7 @@ import static org.hamcrest.Matchers.hasToString;
 import static org.hamcrest.Matchers.in;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
@@ -714,6 +715,84 @@ public class LocalTranslogTests extends OpenSearchTestCase {
         assertNull(translog.readOperation(new Location(100, 0, 0)));
     }
 
+    public void testCompressedSourceOperations() throws IOException {
+        final Path path = createTempDir();
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_SOURCE_COMPRESSION_ENABLED_SETTING.getKey(), true)
+            .build();
+        final byte[] largeSourceBytes = compressibleSource();
+        final TranslogConfig config = getTranslogConfig(path, settings);
+        ArrayList<Translog.Operation> ops = new ArrayList<>();
+        ArrayList<Translog.Location> locs = new ArrayList<>();
+        try (Translog compressedTranslog = createTranslog(config)) {
+            locs.add(addToTranslogAndList(compressedTranslog, ops, new Translog.Index("1", 0, primaryTerm.get(), largeSourceBytes)));
+            locs.add(addToTranslogAndList(compressedTranslog, ops, new Translog.Index("2", 1, primaryTerm.get(), new byte[] { 1 })));
+            locs.add(addToTranslogAndList(compressedTranslog, ops, new Translog.Delete("3", 2, primaryTerm.get())));
+
+            // only the large source is worth compressing
+            assertThat(locs.get(0).size, lessThan(largeSourceBytes.length));
+            for (int i = 0; i < ops.size(); i++) {
+                assertEquals(ops.get(i), compressedTranslog.readOperation(locs.get(i)));
+            }
+            try (Translog.Snapshot snapshot = compressedTranslog.newSnapshot()) {
+                assertThat(snapshot, SnapshotMatchers.equalsTo(ops));
+            }
+        }
+    }
+
+    public void testCompressedSourceOpSerialization() throws IOException {
+        final Translog.Index index = new Translog.Index("1", 0, primaryTerm.get(), compressibleSource());
+
+        // nodes before the compressed format always get the source uncompressed
+        final Version oldVersion = VersionUtils.randomVersionBetween(
+            random(),
+            Version.CURRENT.minimumCompatibilityVersion(),
+            VersionUtils.getPreviousVersion(Version.V_3_9_0)
+        );
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(oldVersion);
+        Translog.Operation.writeOperation(out, index, true);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(oldVersion);
+        assertEquals(Translog.Operation.Type.INDEX.id(), in.readByte());
+        assertEquals(Translog.Index.SERIALIZATION_FORMAT, in.readVInt());
+        in = out.bytes().streamInput();
+        in.setVersion(oldVersion);
+        assertEquals(index, Translog.Operation.readOperation(in));
+
+        // operations sent to other nodes are never compressed
+        out = new BytesStreamOutput();
+        Translog.Operation.writeOperation(out, index);
+        in = out.bytes().streamInput();
+        assertEquals(Translog.Operation.Type.INDEX.id(), in.readByte());
+        assertEquals(Translog.Index.SERIALIZATION_FORMAT, in.readVInt());
+
+        out = new BytesStreamOutput();
+        Translog.Operation.writeOperation(out, index, true);
+        in = out.bytes().streamInput();
+        assertEquals(Translog.Operation.Type.INDEX.id(), in.readByte());
+        assertEquals(Translog.Index.FORMAT_COMPRESSED_SOURCE, in.readVInt());
+        assertEquals(index, Translog.Operation.readOperation(out.bytes().streamInput()));
+
+        // a format from the future is rejected instead of being read as an older one
+        out = new BytesStreamOutput();
+        out.writeByte(Translog.Operation.Type.INDEX.id());
+        out.writeVInt(Translog.Index.FORMAT_COMPRESSED_SOURCE + 1);
+        out.writeString("1");
+        final StreamInput futureFormat = out.bytes().streamInput();
+        expectThrows(IllegalStateException.class, () -> Translog.Operation.readOperation(futureFormat));
+    }
+
+    private static byte[] compressibleSource() {
+        final StringBuilder source = new StringBuilder("{\"field\":[");
+        for (int i = 0; i < 200; i++) {
+            source.append(i == 0 ? "" : ",").append("\"value\"");
+        }
+        source.append("]}");
+        return source.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
     public void testSnapshotWithNewTranslog() throws IOException {
         List<Closeable> toClose = new ArrayList<>();
         try {
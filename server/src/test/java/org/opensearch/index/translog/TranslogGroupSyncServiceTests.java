@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AsyncIOProcessor;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.shard.ShardPath;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class TranslogGroupSyncServiceTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool("translog-group-sync");
+    }
+
+    @After
+    public void cleanup() {
+        terminate(threadPool);
+    }
+
+    public void testSyncsShardsOfTheSameDataPath() throws Exception {
+        TranslogGroupSyncService service = newService(TimeValue.timeValueSeconds(1));
+        Path root = createTempDir();
+        ShardPath firstShardPath = shardPath(root, "index", 0);
+        ShardPath secondShardPath = shardPath(root, "other-index", 1);
+        assertThat(firstShardPath.getDataPath(), not(equalTo(secondShardPath.getDataPath())));
+
+        List<Translog.Location> firstShardSyncs = new CopyOnWriteArrayList<>();
+        List<Translog.Location> secondShardSyncs = new CopyOnWriteArrayList<>();
+        AsyncIOProcessor<Translog.Location> firstShard = service.newShardSyncProcessor(
+            firstShardPath.getRootDataPath(),
+            candidates -> candidates.forEach(candidate -> firstShardSyncs.add(candidate.v1()))
+        );
+        AsyncIOProcessor<Translog.Location> secondShard = service.newShardSyncProcessor(
+            secondShardPath.getRootDataPath(),
+            candidates -> candidates.forEach(candidate -> secondShardSyncs.add(candidate.v1()))
+        );
+        // the shards of both directories share the processor of their root data path
+        assertThat(service.dataPathCount(), equalTo(1));
+
+        // the first sync of a data path is issued right away, the following ones wait for the window
+        CountDownLatch warmUp = new CountDownLatch(1);
+        firstShard.put(new Translog.Location(0, 0, 10), e -> warmUp.countDown());
+        assertTrue(warmUp.await(10, TimeUnit.SECONDS));
+        assertThat(service.syncRounds(root), equalTo(1L));
+        firstShardSyncs.clear();
+
+        Translog.Location first = new Translog.Location(1, 0, 10);
+        Translog.Location second = new Translog.Location(1, 10, 10);
+        Translog.Location third = new Translog.Location(1, 0, 20);
+        CountDownLatch latch = new CountDownLatch(3);
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+        firstShard.put(first, e -> {
+            if (e != null) {
+                failures.add(e);
+            }
+            latch.countDown();
+        });
+        firstShard.put(second, e -> {
+            if (e != null) {
+                failures.add(e);
+            }
+            latch.countDown();
+        });
+        secondShard.put(third, e -> {
+            if (e != null) {
+                failures.add(e);
+            }
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(failures.size(), equalTo(0));
+        assertThat(firstShardSyncs, containsInAnyOrder(first, second));
+        assertThat(secondShardSyncs, containsInAnyOrder(third));
+        // the syncs of both shards were issued in a single round
+        assertThat(service.syncRounds(root), equalTo(2L));
+    }
+
+    public void testProcessorOfDataPathIsReleasedWithItsLastShard() throws Exception {
+        TranslogGroupSyncService service = newService(TimeValue.timeValueMillis(10));
+        Path root = createTempDir();
+        AsyncIOProcessor<Translog.Location> firstShard = service.newShardSyncProcessor(
+            shardPath(root, "index", 0).getRootDataPath(),
+            candidates -> {}
+        );
+        AsyncIOProcessor<Translog.Location> secondShard = service.newShardSyncProcessor(
+            shardPath(root, "index", 1).getRootDataPath(),
+            candidates -> {}
+        );
+        AsyncIOProcessor<Translog.Location> otherDataPathShard = service.newShardSyncProcessor(
+            shardPath(createTempDir(), "index", 2).getRootDataPath(),
+            candidates -> {}
+        );
+        assertThat(service.dataPathCount(), equalTo(2));
+
+        ((Closeable) firstShard).close();
+        // closing a shard twice does not release the processor of the other shard
+        ((Closeable) firstShard).close();
+        assertThat(service.dataPathCount(), equalTo(2));
+        ((Closeable) secondShard).close();
+        assertThat(service.dataPathCount(), equalTo(1));
+        ((Closeable) otherDataPathShard).close();
+        assertThat(service.dataPathCount(), equalTo(0));
+
+        // a new shard gets a new processor
+        service.newShardSyncProcessor(shardPath(root, "index", 0).getRootDataPath(), candidates -> {});
+        assertThat(service.dataPathCount(), equalTo(1));
+    }
+
+    public void testFailedSyncOnlyFailsItsShard() throws Exception {
+        TranslogGroupSyncService service = newService(TimeValue.timeValueMillis(10));
+        Path dataPath = createTempDir();
+        IOException failure = new IOException("simulated fsync failure");
+        AsyncIOProcessor<Translog.Location> failingShard = service.newShardSyncProcessor(dataPath, candidates -> { throw failure; });
+        AsyncIOProcessor<Translog.Location> healthyShard = service.newShardSyncProcessor(dataPath, candidates -> {});
+
+        CountDownLatch latch = new CountDownLatch(2);
+        AtomicReference<Exception> failingShardResult = new AtomicReference<>();
+        AtomicReference<Exception> healthyShardResult = new AtomicReference<>();
+        failingShard.put(new Translog.Location(1, 0, 10), e -> {
+            failingShardResult.set(e);
+            latch.countDown();
+        });
+        healthyShard.put(new Translog.Location(1, 0, 10), e -> {
+            healthyShardResult.set(e);
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(failingShardResult.get(), sameInstance(failure));
+        assertNull(healthyShardResult.get());
+    }
+
+    private static ShardPath shardPath(Path root, String index, int shard) {
+        ShardId shardId = new ShardId(index, index + "-uuid", shard);
+        Path shardDataPath = root.resolve("indices").resolve(shardId.getIndex().getUUID()).resolve(Integer.toString(shard));
+        return new ShardPath(false, shardDataPath, shardDataPath, shardId);
+    }
+
+    private TranslogGroupSyncService newService(TimeValue maxDelay) {
+        Settings settings = Settings.builder()
+            .put(TranslogGroupSyncService.TRANSLOG_GROUP_SYNC_ENABLED.getKey(), true)
+            .put(TranslogGroupSyncService.TRANSLOG_GROUP_SYNC_MAX_DELAY.getKey(), maxDelay)
+            .build();
+        ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        return new TranslogGroupSyncService(settings, clusterSettings, threadPool);
+    }
+}
@@ -256,6 +256,38 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         closeShards(shard0, shard1);
     }
 
+    public void testWriteRateAwareWritesColdShardFirst() throws IOException {
+        MockController controller = new MockController(
+            Settings.builder()
+                .put("indices.memory.index_buffer_size", "4mb")
+                .put(IndexingMemoryController.WRITE_RATE_AWARE_SETTING.getKey(), true)
+                .build()
+        );
+        IndexShard hotShard = newStartedShard();
+        IndexShard coldShard = newStartedShard();
+
+        // the cold shard only indexes at the beginning
+        controller.shardBytesWritten(coldShard.shardId(), 1024 * 1024);
+        controller.simulateIndexing(coldShard);
+        controller.shardBytesWritten(coldShard.shardId(), 1024 * 1024);
+        controller.simulateIndexing(coldShard);
+
+        controller.shardBytesWritten(hotShard.shardId(), 1024 * 1024);
+        controller.simulateIndexing(hotShard);
+        controller.shardBytesWritten(hotShard.shardId(), 1024 * 1024);
+        controller.simulateIndexing(hotShard);
+        controller.assertBuffer(hotShard, 2);
+        controller.assertBuffer(coldShard, 2);
+
+        // crosses the 4mb limit: the hot shard has the largest buffer but it stays within its share of the budget
+        controller.shardBytesWritten(hotShard.shardId(), 1024 * 1024);
+        controller.simulateIndexing(hotShard);
+        controller.assertBuffer(hotShard, 3);
+        controller.assertBuffer(coldShard, 0);
+        controller.assertWriting(coldShard, 2);
+        closeShards(hotShard, coldShard);
+    }
+
     public void testMinBufferSizes() {
         MockController controller = new MockController(
             Settings.builder().put("indices.memory.index_buffer_size", "0.001%").put("indices.memory.min_index_buffer_size", "6mb").build()
@@ -0,0 +1,242 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.cache.request.RequestCacheStats;
+import org.opensearch.index.cache.request.ShardRequestCache;
+import org.opensearch.search.aggregations.bucket.terms.SignificantTerms;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.TopHits;
+import org.opensearch.test.OpenSearchSingleNodeTestCase;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.search.aggregations.AggregationBuilders.significantTerms;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
+import static org.opensearch.search.aggregations.AggregationBuilders.topHits;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertNoFailures;
+
+public class IndicesSegmentRequestCacheTests extends OpenSearchSingleNodeTestCase {
+
+    public void testSegmentsAreReusedAcrossRefreshes() throws Exception {
+        final ShardId shardId = new ShardId("foo", "bar", 1);
+        final BytesReference cacheKey = new BytesArray("request");
+        final AtomicInteger loads = new AtomicInteger();
+        final ShardRequestCache shardRequestCache = new ShardRequestCache();
+        try (
+            IndicesSegmentRequestCache cache = new IndicesSegmentRequestCache(Settings.EMPTY);
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))
+        ) {
+            writer.addDocument(newDoc("1"));
+            writer.addDocument(newDoc("3"));
+            writer.commit();
+            DirectoryReader reader = DirectoryReader.open(writer);
+            final LeafReaderContext first = reader.leaves().get(0);
+            cache.getOrCompute(shardId, 0, shardRequestCache, first, cacheKey, () -> load(loads));
+            assertEquals(1, loads.get());
+
+            // a refresh that adds a segment keeps the first segment cached
+            writer.addDocument(newDoc("2"));
+            DirectoryReader newReader = DirectoryReader.openIfChanged(reader, writer);
+            assertNotNull(newReader);
+            reader.close();
+            reader = newReader;
+            assertEquals(2, reader.leaves().size());
+            for (LeafReaderContext leaf : reader.leaves()) {
+                cache.getOrCompute(shardId, 0, shardRequestCache, leaf, cacheKey, () -> load(loads));
+            }
+            assertEquals(2, loads.get());
+            assertEquals(1, shardRequestCache.stats().getSegmentLevelHitCount());
+            assertEquals(2, shardRequestCache.stats().getSegmentLevelMissCount());
+            assertEquals(2, cache.count());
+
+            // deletes change the live docs of the segment, it must be computed again
+            writer.deleteDocuments(new Term("id", "1"));
+            newReader = DirectoryReader.openIfChanged(reader, writer);
+            assertNotNull(newReader);
+            reader.close();
+            reader = newReader;
+            for (LeafReaderContext leaf : reader.leaves()) {
+                cache.getOrCompute(shardId, 0, shardRequestCache, leaf, cacheKey, () -> load(loads));
+            }
+            assertEquals(3, loads.get());
+            assertEquals(2, shardRequestCache.stats().getSegmentLevelHitCount());
+
+            // a different shard instance does not share entries
+            cache.getOrCompute(shardId, 1, shardRequestCache, reader.leaves().get(0), cacheKey, () -> load(loads));
+            assertEquals(4, loads.get());
+
+            cache.clear(shardId);
+            assertEquals(0, cache.count());
+            reader.close();
+        }
+    }
+
+    public void testEntriesAreDroppedWhenSegmentCoreCloses() throws Exception {
+        final ShardId shardId = new ShardId("foo", "bar", 1);
+        final AtomicInteger loads = new AtomicInteger();
+        final ShardRequestCache shardRequestCache = new ShardRequestCache();
+        try (IndicesSegmentRequestCache cache = new IndicesSegmentRequestCache(Settings.EMPTY); Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig())) {
+                writer.addDocument(newDoc("1"));
+                writer.commit();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                cache.getOrCompute(shardId, 0, shardRequestCache, reader.leaves().get(0), new BytesArray("a"), () -> load(loads));
+                cache.getOrCompute(shardId, 0, shardRequestCache, reader.leaves().get(0), new BytesArray("b"), () -> load(loads));
+                assertEquals(2, cache.count());
+            }
+            assertEquals(0, cache.count());
+        }
+    }
+
+    public void testAggregationResultsMatchAcrossRefreshes() throws Exception {
+        createCacheIndex("index", true);
+
+        client().prepareIndex("index").setId("1").setSource("k", "a").get();
+        client().prepareIndex("index").setId("2").setSource("k", "b").get();
+        client().admin().indices().prepareRefresh("index").get();
+        assertTerms(2, 1, 1);
+        final long missesAfterFirstSearch = requestCacheStats("index").getSegmentLevelMissCount();
+        assertEquals(0, requestCacheStats("index").getSegmentLevelHitCount());
+
+        client().prepareIndex("index").setId("3").setSource("k", "a").get();
+        client().admin().indices().prepareRefresh("index").get();
+        assertTerms(3, 2, 1);
+        // the segment of the first refresh was reused, only the new one was computed
+        assertEquals(1, requestCacheStats("index").getSegmentLevelHitCount());
+        assertEquals(missesAfterFirstSearch + 1, requestCacheStats("index").getSegmentLevelMissCount());
+    }
+
+    public void testSignificantTermsMatchWithoutSegmentLevelCache() throws Exception {
+        createCacheIndex("cached", true);
+        createCacheIndex("uncached", false);
+        for (String index : List.of("cached", "uncached")) {
+            // three segments, each of them with foreground and background documents
+            for (int segment = 0; segment < 3; segment++) {
+                for (int doc = 0; doc < 10; doc++) {
+                    String tag = doc % 2 == 0 ? "fg" : "bg";
+                    String k = tag.equals("fg") && doc % 4 == 0 ? "rare" : "common";
+                    client().prepareIndex(index).setSource("tag", tag, "k", k).get();
+                }
+                client().admin().indices().prepareRefresh(index).get();
+            }
+        }
+
+        SignificantTerms cached = significantTermsOf("cached");
+        SignificantTerms uncached = significantTermsOf("uncached");
+        assertFalse(uncached.getBuckets().isEmpty());
+        assertEquals(uncached.getBuckets().size(), cached.getBuckets().size());
+        for (SignificantTerms.Bucket bucket : uncached.getBuckets()) {
+            SignificantTerms.Bucket cachedBucket = cached.getBucketByKey(bucket.getKeyAsString());
+            assertNotNull(cachedBucket);
+            assertEquals(bucket.getSubsetSize(), cachedBucket.getSubsetSize());
+            assertEquals(bucket.getSupersetSize(), cachedBucket.getSupersetSize());
+            assertEquals(bucket.getSubsetDf(), cachedBucket.getSubsetDf());
+            assertEquals(bucket.getSupersetDf(), cachedBucket.getSupersetDf());
+            assertEquals(bucket.getSignificanceScore(), cachedBucket.getSignificanceScore(), 0d);
+        }
+        // the request went through the regular query phase
+        assertEquals(0, requestCacheStats("cached").getSegmentLevelMissCount());
+    }
+
+    public void testAggregationsThatNeedScoresUseTheRegularQueryPhase() throws Exception {
+        createCacheIndex("index", true);
+        client().prepareIndex("index").setId("1").setSource("k", "a").get();
+        client().prepareIndex("index").setId("2").setSource("k", "b").get();
+        client().admin().indices().prepareRefresh("index").get();
+
+        // top hits without a sort are sorted by score
+        SearchResponse response = client().prepareSearch("index")
+            .setSize(0)
+            .setRequestCache(true)
+            .setQuery(termQuery("k", "a"))
+            .addAggregation(topHits("top"))
+            .get();
+        assertNoFailures(response);
+        TopHits topHits = response.getAggregations().get("top");
+        assertEquals(1, topHits.getHits().getHits().length);
+        assertEquals("1", topHits.getHits().getAt(0).getId());
+        assertFalse(Float.isNaN(topHits.getHits().getAt(0).getScore()));
+        assertEquals(0, requestCacheStats("index").getSegmentLevelMissCount());
+    }
+
+    private void createCacheIndex(String index, boolean segmentLevelCache) {
+        client().admin()
+            .indices()
+            .prepareCreate(index)
+            .setMapping("k", "type=keyword", "tag", "type=keyword")
+            .setSettings(
+                Settings.builder()
+                    .put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+                    .put(IndicesSegmentRequestCache.INDEX_SEGMENT_REQUEST_CACHE_ENABLED_SETTING.getKey(), segmentLevelCache)
+                    .put("index.number_of_shards", 1)
+                    .put("index.number_of_replicas", 0)
+                    .put("index.refresh_interval", -1)
+                    .put("index.merge.policy.segments_per_tier", 100)
+            )
+            .get();
+    }
+
+    private RequestCacheStats requestCacheStats(String index) {
+        return client().admin().indices().prepareStats(index).setRequestCache(true).get().getTotal().getRequestCache();
+    }
+
+    private SignificantTerms significantTermsOf(String index) {
+        SearchResponse response = client().prepareSearch(index)
+            .setSize(0)
+            .setRequestCache(true)
+            .setQuery(termQuery("tag", "fg"))
+            .addAggregation(significantTerms("significant").field("k").minDocCount(1))
+            .get();
+        assertNoFailures(response);
+        return response.getAggregations().get("significant");
+    }
+
+    private void assertTerms(long totalHits, long countA, long countB) {
+        SearchResponse response = client().prepareSearch("index")
+            .setSize(0)
+            .setRequestCache(true)
+            .addAggregation(terms("terms").field("k"))
+            .get();
+        assertNoFailures(response);
+        assertEquals(totalHits, response.getHits().getTotalHits().value());
+        Terms terms = response.getAggregations().get("terms");
+        assertEquals(countA, terms.getBucketByKey("a").getDocCount());
+        assertEquals(countB, terms.getBucketByKey("b").getDocCount());
+    }
+
+    private static BytesReference load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new BytesArray("result");
+    }
+
+    private static Document newDoc(String id) {
+        Document doc = new Document();
+        doc.add(new StringField("id", id, Field.Store.NO));
+        return doc;
+    }
+}
@@ -81,6 +81,7 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
+import static org.opensearch.search.aggregations.AggregationBuilders.cardinality;
 import static org.opensearch.search.aggregations.AggregationBuilders.count;
 import static org.opensearch.search.aggregations.AggregationBuilders.dateHistogram;
 import static org.opensearch.search.aggregations.AggregationBuilders.max;
@@ -807,6 +808,47 @@ public class SearchServiceStarTreeTests extends OpenSearchSingleNodeTestCase {
         termsAggregationBuilder = terms("term").field(NUMERIC_FIELD).subAggregation(medianAgg);
         sourceBuilder = new SearchSourceBuilder().size(0).query(new TermQueryBuilder(STATUS, 1)).aggregation(termsAggregationBuilder);
         assertStarTreeContext(request, sourceBuilder, null, -1);
+        assertStarTreeNotUsedReason(
+            request,
+            sourceBuilder,
+            "aggregation [median] on field [status] cannot be resolved from star-tree [startree1]"
+        );
+
+        // Case 7: Cardinality of a dimension is nested within keyword term aggregation, should use star tree
+        termsAggregationBuilder = terms("term").field(KEYWORD_FIELD).subAggregation(cardinality("cardinality").field(NUMERIC_FIELD));
+        sourceBuilder = new SearchSourceBuilder().size(0).query(new TermQueryBuilder(STATUS, 1)).aggregation(termsAggregationBuilder);
+        assertStarTreeContext(
+            request,
+            sourceBuilder,
+            getStarTreeQueryContext(
+                searchContext,
+                starTreeFieldConfiguration,
+                "startree1",
+                -1,
+                List.of(new NumericDimension(NUMERIC_FIELD), new OrdinalDimension(KEYWORD_FIELD), new NumericDimension(STATUS)),
+                List.of(new Metric(STATUS, List.of(MetricStat.SUM, MetricStat.MAX))),
+                baseQuery,
+                sourceBuilder,
+                true
+            ),
+            -1
+        );
+
+        // Case 8: Cardinality of a field which is not a dimension, should not use star tree
+        sourceBuilder = new SearchSourceBuilder().size(0).aggregation(cardinality("cardinality").field("rank"));
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+        assertStarTreeNotUsedReason(
+            request,
+            sourceBuilder,
+            "aggregation [cardinality] on field [rank] cannot be resolved from star-tree [startree1]"
+        );
+
+        // Case 9: Post filter is not supported by the star tree
+        sourceBuilder = new SearchSourceBuilder().size(0)
+            .aggregation(terms("term").field(KEYWORD_FIELD))
+            .postFilter(new TermQueryBuilder(STATUS, 1));
+        assertStarTreeContext(request, sourceBuilder, null, -1);
+        assertStarTreeNotUsedReason(request, sourceBuilder, "post_filter is not supported by the star-tree");
 
         setStarTreeIndexSetting(null);
     }
@@ -1116,6 +1158,17 @@ public class SearchServiceStarTreeTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    private void assertStarTreeNotUsedReason(ShardSearchRequest request, SearchSourceBuilder sourceBuilder, String expectedReason)
+        throws IOException {
+        request.source(sourceBuilder);
+        SearchService searchService = getInstanceFromNode(SearchService.class);
+        try (ReaderContext reader = searchService.createOrGetReaderContext(request, false)) {
+            SearchContext context = searchService.createContext(reader, request, null, true);
+            assertEquals(expectedReason, context.getQueryShardContext().getStarTreeNotUsedReason());
+            searchService.doStop();
+        }
+    }
+
     private StarTreeQueryContext getStarTreeQueryContext(
         SearchContext searchContext,
         StarTreeFieldConfiguration starTreeFieldConfiguration,
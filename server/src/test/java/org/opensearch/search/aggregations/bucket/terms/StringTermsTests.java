@@ -35,10 +35,12 @@ package org.opensearch.search.aggregations.bucket.terms;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.ParsedMultiBucketAggregation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -180,6 +182,68 @@ public class StringTermsTests extends InternalTermsTestCase {
         }
     }
 
+    public void testBoundedPartialReduce() {
+        InternalAggregation.ReduceContext unbounded = emptyReduceContextBuilder().forPartialReduction();
+        List<InternalAggregation> shardResults = boundedPartialReduceShardResults();
+        StringTerms reduced = (StringTerms) shardResults.get(0).reduce(shardResults, unbounded);
+        assertEquals(4, reduced.getBuckets().size());
+        assertEquals(0, reduced.getSumOfOtherDocCounts());
+
+        InternalAggregation.ReduceContext bounded = emptyReduceContextBuilder().forPartialReduction();
+        bounded.setBoundedPartialReduce(true);
+        // reduce mutates the doc count error of the buckets it reduces, so start again from fresh shard results
+        shardResults = boundedPartialReduceShardResults();
+        reduced = (StringTerms) shardResults.get(0).reduce(shardResults, bounded);
+        // only the top shard_size buckets are kept, sorted by key for the next reduce
+        assertEquals(2, reduced.getBuckets().size());
+        assertEquals("a", reduced.getBuckets().get(0).getKeyAsString());
+        assertEquals(15, reduced.getBuckets().get(0).getDocCount());
+        assertEquals(4, reduced.getBuckets().get(0).getDocCountError());
+        assertEquals("b", reduced.getBuckets().get(1).getKeyAsString());
+        assertEquals(14, reduced.getBuckets().get(1).getDocCount());
+        assertEquals(5, reduced.getBuckets().get(1).getDocCountError());
+        assertEquals(11, reduced.getSumOfOtherDocCounts());
+        // the error of the shards (8 + 5 + 4) plus the largest trimmed bucket (c: 7)
+        assertEquals(24, reduced.getDocCountError());
+
+        // the bounded partial result is reduced again like the response of a shard
+        InternalAggregation.ReduceContext finalReduce = emptyReduceContextBuilder().forFinalReduction();
+        StringTerms last = (StringTerms) shardResult(new String[] { "c", "e" }, new long[] { 3, 2 });
+        StringTerms result = (StringTerms) reduced.reduce(Arrays.asList(reduced, last), finalReduce);
+        assertEquals(1, result.getBuckets().size());
+        assertEquals("a", result.getBuckets().get(0).getKeyAsString());
+        assertEquals(26, result.getDocCountError());
+    }
+
+    private static List<InternalAggregation> boundedPartialReduceShardResults() {
+        return Arrays.asList(
+            shardResult(new String[] { "a", "b" }, new long[] { 10, 8 }),
+            shardResult(new String[] { "a", "c" }, new long[] { 5, 7 }),
+            shardResult(new String[] { "b", "d" }, new long[] { 6, 4 })
+        );
+    }
+
+    private static StringTerms shardResult(String[] keys, long[] docCounts) {
+        List<StringTerms.Bucket> buckets = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            BytesRef key = new BytesRef(keys[i]);
+            buckets.add(new StringTerms.Bucket(key, docCounts[i], InternalAggregations.EMPTY, true, 0, DocValueFormat.RAW));
+        }
+        return new StringTerms(
+            "terms",
+            BucketOrder.key(true),
+            BucketOrder.count(false),
+            null,
+            DocValueFormat.RAW,
+            2,
+            true,
+            0,
+            buckets,
+            0,
+            new TermsAggregator.BucketCountThresholds(1, 0, 1, 2)
+        );
+    }
+
     private BytesRef[] generateRandomDict() {
         Set<BytesRef> terms = new HashSet<>();
         int numTerms = randomIntBetween(2, 100);
@@ -50,10 +50,13 @@ import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.FieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
 import org.apache.lucene.util.BytesRef;
@@ -96,6 +99,7 @@ import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.AggregationExecutionException;
 import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
@@ -111,6 +115,7 @@ import org.opensearch.search.aggregations.bucket.global.InternalGlobal;
 import org.opensearch.search.aggregations.bucket.nested.InternalNested;
 import org.opensearch.search.aggregations.bucket.nested.NestedAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.InternalTopHits;
+import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.TopHitsAggregationBuilder;
 import org.opensearch.search.aggregations.pipeline.BucketScriptPipelineAggregationBuilder;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
@@ -1901,6 +1906,101 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         return DirectoryReader.open(directory);
     }
 
+    public void testSupportsIntraSegmentSearch() throws IOException {
+        // top-level keyword terms on a searchable field may count segments from their term frequencies
+        assertFalse(supportsIntraSegmentSearch(new TermsAggregationBuilder("terms").field("string"), true));
+        // the fast path needs postings
+        assertTrue(supportsIntraSegmentSearch(new TermsAggregationBuilder("terms").field("string"), false));
+        // the map execution mode never uses it
+        assertTrue(supportsIntraSegmentSearch(new TermsAggregationBuilder("terms").field("string").executionHint("map"), true));
+        // neither do aggregations with sub-aggregations
+        assertTrue(
+            supportsIntraSegmentSearch(
+                new TermsAggregationBuilder("terms").field("string").subAggregation(new MinAggregationBuilder("min").field("number")),
+                true
+            )
+        );
+        // nor numeric terms
+        assertTrue(supportsIntraSegmentSearch(new TermsAggregationBuilder("terms").field("number"), true));
+    }
+
+    private boolean supportsIntraSegmentSearch(TermsAggregationBuilder builder, boolean searchable) throws IOException {
+        try (Directory directory = newDirectory(); RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+            indexWriter.addDocument(List.of(new SortedSetDocValuesField("string", new BytesRef("a"))));
+            try (IndexReader reader = indexWriter.getReader()) {
+                IndexSearcher searcher = newIndexSearcher(reader);
+                MappedFieldType keywordType = new KeywordFieldMapper.KeywordFieldType("string", searchable, true, Collections.emptyMap());
+                MappedFieldType numberType = new NumberFieldMapper.NumberFieldType("number", NumberFieldMapper.NumberType.LONG);
+                AggregatorFactories factories = AggregatorFactories.builder()
+                    .addAggregator(builder)
+                    .build(
+                        createSearchContext(searcher, createIndexSettings(), new MatchAllDocsQuery(), null, keywordType, numberType)
+                            .getQueryShardContext(),
+                        null
+                    );
+                return factories.allFactoriesSupportIntraSegmentSearch();
+            }
+        }
+    }
+
+    /**
+     * Partitions of the same segment are collected by different aggregators, the term frequency fast path must not count
+     * the whole segment for each of them.
+     */
+    public void testIntraSegmentPartitionsOfMatchAllSegment() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < 100; i++) {
+                    Document document = new Document();
+                    String value = Integer.toString(i % 5);
+                    document.add(new SortedSetDocValuesField("string", new BytesRef(value)));
+                    document.add(new StringField("string", value, Field.Store.NO));
+                    indexWriter.addDocument(document);
+                }
+                indexWriter.forceMerge(1);
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = newIndexSearcher(reader);
+                LeafReaderContext leaf = reader.leaves().get(0);
+                MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+                Weight weight = searcher.createWeight(searcher.rewrite(new MatchAllDocsQuery()), ScoreMode.COMPLETE_NO_SCORES, 1f);
+                List<InternalAggregation> partitionResults = new ArrayList<>();
+                for (int[] range : new int[][] { { 0, 30 }, { 30, 100 } }) {
+                    TermsAggregator aggregator = createAggregatorWithCustomizableSearchContext(
+                        new MatchAllDocsQuery(),
+                        new TermsAggregationBuilder("terms").field("string"),
+                        searcher,
+                        createIndexSettings(),
+                        new MultiBucketConsumerService.MultiBucketConsumer(
+                            DEFAULT_MAX_BUCKETS,
+                            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+                        ),
+                        searchContext -> when(searchContext.shouldUseIntraSegmentSearch()).thenReturn(true),
+                        fieldType
+                    );
+                    aggregator.setWeight(weight);
+                    aggregator.preCollection();
+                    LeafBucketCollector leafCollector = aggregator.getLeafCollector(leaf);
+                    BulkScorer bulkScorer = weight.bulkScorer(leaf);
+                    bulkScorer.score(leafCollector, leaf.reader().getLiveDocs(), range[0], range[1]);
+                    aggregator.postCollection();
+                    partitionResults.add(aggregator.buildTopLevel());
+                }
+                InternalAggregation.ReduceContext reduceContext = InternalAggregation.ReduceContext.forFinalReduction(
+                    null,
+                    getMockScriptService(),
+                    b -> {},
+                    PipelineTree.EMPTY
+                );
+                Terms result = (Terms) partitionResults.get(0).reduce(partitionResults, reduceContext);
+                assertEquals(5, result.getBuckets().size());
+                for (Terms.Bucket bucket : result.getBuckets()) {
+                    assertEquals(20, bucket.getDocCount());
+                }
+            }
+        }
+    }
+
     private InternalAggregation buildInternalAggregation(TermsAggregationBuilder builder, MappedFieldType fieldType, IndexSearcher searcher)
         throws IOException {
         TermsAggregator aggregator = createAggregator(builder, searcher, fieldType);
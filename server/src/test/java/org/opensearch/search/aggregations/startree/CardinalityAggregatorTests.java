@@ -0,0 +1,237 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import com.carrotsearch.randomizedtesting.RandomizedTest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene104.Lucene104Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.codec.composite.CompositeIndexReader;
+import org.opensearch.index.codec.composite.composite104.Composite104Codec;
+import org.opensearch.index.codec.composite912.datacube.startree.StarTreeDocValuesFormatTests;
+import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.OrdinalDimension;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.bucket.terms.InternalTerms;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.InternalCardinality;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+
+import static org.opensearch.search.aggregations.AggregationBuilders.cardinality;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+
+public class CardinalityAggregatorTests extends AggregatorTestCase {
+    final static String STATUS = "status";
+    final static String SIZE = "size";
+    final static String CLIENTIP = "clientip";
+    private static final MappedFieldType STATUS_FIELD_TYPE = new NumberFieldMapper.NumberFieldType(
+        STATUS,
+        NumberFieldMapper.NumberType.LONG
+    );
+    private static final MappedFieldType SIZE_FIELD_NAME = new NumberFieldMapper.NumberFieldType(SIZE, NumberFieldMapper.NumberType.FLOAT);
+    private static final MappedFieldType CLIENTIP_FIELD_NAME = new KeywordFieldMapper.KeywordFieldType(CLIENTIP);
+
+    protected Codec getCodec() {
+        final Logger testLogger = LogManager.getLogger(CardinalityAggregatorTests.class);
+        MapperService mapperService;
+        try {
+            mapperService = StarTreeDocValuesFormatTests.createMapperService(NumericTermsAggregatorTests.getExpandedMapping(1, false));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new Composite104Codec(Lucene104Codec.Mode.BEST_SPEED, mapperService, testLogger);
+    }
+
+    public void testStarTreeCardinality() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(getCodec());
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+
+        Random random = RandomizedTest.getRandom();
+        int totalDocs = 100;
+
+        long val;
+        for (int i = 0; i < totalDocs; i++) {
+            Document doc = new Document();
+            if (random.nextBoolean()) {
+                val = random.nextInt(10); // Random int between 0 and 9 for status
+                doc.add(new SortedNumericDocValuesField(STATUS, val));
+            }
+            if (random.nextBoolean()) {
+                val = NumericUtils.floatToSortableInt(random.nextInt(100) + 0.5f);
+                doc.add(new SortedNumericDocValuesField(SIZE, val));
+            }
+            if (random.nextBoolean()) {
+                val = random.nextInt(10); // Random strings for int between 0 and 9 for clientip
+                doc.add(new SortedSetDocValuesField(CLIENTIP, new BytesRef(String.valueOf(val))));
+                doc.add(new StringField(CLIENTIP, String.valueOf(val), Field.Store.NO));
+            }
+            iw.addDocument(doc);
+        }
+
+        if (randomBoolean()) {
+            iw.forceMerge(1);
+        }
+        iw.close();
+        DirectoryReader ir = DirectoryReader.open(directory);
+        LeafReaderContext context = ir.leaves().get(0);
+
+        SegmentReader reader = Lucene.segmentReader(context.reader());
+        IndexSearcher indexSearcher = newSearcher(wrapInMockESDirectoryReader(ir), false, false);
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+
+        List<CompositeIndexFieldInfo> compositeIndexFields = starTreeDocValuesReader.getCompositeIndexFields();
+        CompositeIndexFieldInfo starTree = compositeIndexFields.get(0);
+
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions = new LinkedHashMap<>();
+        supportedDimensions.put(new NumericDimension(STATUS), STATUS_FIELD_TYPE);
+        supportedDimensions.put(new NumericDimension(SIZE), SIZE_FIELD_NAME);
+        supportedDimensions.put(new OrdinalDimension(CLIENTIP), CLIENTIP_FIELD_NAME);
+
+        for (String field : List.of(CLIENTIP, STATUS, SIZE)) {
+            Query query = new MatchAllDocsQuery();
+            QueryBuilder queryBuilder = null;
+            testCardinality(indexSearcher, query, queryBuilder, cardinality("_cardinality").field(field), starTree, supportedDimensions);
+
+            // Cardinality within keyword terms aggregation
+            AggregationBuilder termsAggregationBuilder = terms("terms_agg").field(CLIENTIP)
+                .subAggregation(cardinality("_cardinality").field(field));
+            testTerms(indexSearcher, query, queryBuilder, termsAggregationBuilder, starTree, supportedDimensions);
+
+            for (int cases = 0; cases < 10; cases++) {
+                long queryValue = random.nextInt(10);
+                query = SortedNumericDocValuesField.newSlowExactQuery(STATUS, queryValue);
+                queryBuilder = new TermQueryBuilder(STATUS, queryValue);
+                testCardinality(
+                    indexSearcher,
+                    query,
+                    queryBuilder,
+                    cardinality("_cardinality").field(field),
+                    starTree,
+                    supportedDimensions
+                );
+                testTerms(indexSearcher, query, queryBuilder, termsAggregationBuilder, starTree, supportedDimensions);
+            }
+        }
+        ir.close();
+        directory.close();
+    }
+
+    private void testCardinality(
+        IndexSearcher indexSearcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        AggregationBuilder aggregationBuilder,
+        CompositeIndexFieldInfo starTree,
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions
+    ) throws IOException {
+        InternalCardinality starTreeAggregation = search(
+            indexSearcher,
+            query,
+            queryBuilder,
+            aggregationBuilder,
+            starTree,
+            supportedDimensions
+        );
+        InternalCardinality defaultAggregation = search(indexSearcher, query, queryBuilder, aggregationBuilder, null, null);
+        assertEquals(defaultAggregation.getValue(), starTreeAggregation.getValue());
+    }
+
+    private void testTerms(
+        IndexSearcher indexSearcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        AggregationBuilder aggregationBuilder,
+        CompositeIndexFieldInfo starTree,
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions
+    ) throws IOException {
+        InternalTerms<?, ?> starTreeAggregation = search(
+            indexSearcher,
+            query,
+            queryBuilder,
+            aggregationBuilder,
+            starTree,
+            supportedDimensions
+        );
+        InternalTerms<?, ?> defaultAggregation = search(indexSearcher, query, queryBuilder, aggregationBuilder, null, null);
+        assertEquals(defaultAggregation.getBuckets().size(), starTreeAggregation.getBuckets().size());
+        for (int i = 0; i < defaultAggregation.getBuckets().size(); i++) {
+            Terms.Bucket defaultBucket = defaultAggregation.getBuckets().get(i);
+            Terms.Bucket starTreeBucket = starTreeAggregation.getBuckets().get(i);
+            assertEquals(defaultBucket.getKey(), starTreeBucket.getKey());
+            assertEquals(defaultBucket.getDocCount(), starTreeBucket.getDocCount());
+            InternalCardinality defaultCardinality = defaultBucket.getAggregations().get("_cardinality");
+            InternalCardinality starTreeCardinality = starTreeBucket.getAggregations().get("_cardinality");
+            assertEquals(defaultCardinality.getValue(), starTreeCardinality.getValue());
+        }
+    }
+
+    private <A extends InternalAggregation> A search(
+        IndexSearcher indexSearcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        AggregationBuilder aggregationBuilder,
+        CompositeIndexFieldInfo starTree,
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions
+    ) throws IOException {
+        return searchAndReduceStarTree(
+            createIndexSettings(),
+            indexSearcher,
+            query,
+            queryBuilder,
+            aggregationBuilder,
+            starTree,
+            supportedDimensions,
+            null,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            null,
+            starTree != null,
+            STATUS_FIELD_TYPE,
+            SIZE_FIELD_NAME,
+            CLIENTIP_FIELD_NAME
+        );
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.deciders;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+import static org.opensearch.search.deciders.ConcurrentSearchSliceController.ADAPTIVE_SLICE_COUNT_CPU_THRESHOLD_SETTING;
+import static org.opensearch.search.deciders.ConcurrentSearchSliceController.ADAPTIVE_SLICE_COUNT_ENABLED_SETTING;
+import static org.opensearch.search.deciders.ConcurrentSearchSliceController.ADAPTIVE_SLICE_COUNT_MIN_DOCS_PER_SLICE_SETTING;
+import static org.opensearch.search.deciders.ConcurrentSearchSliceController.CPU_SAMPLING_INTERVAL_MILLIS;
+
+public class ConcurrentSearchSliceControllerTests extends OpenSearchTestCase {
+
+    private static final Settings ENABLED = Settings.builder()
+        .put(ADAPTIVE_SLICE_COUNT_ENABLED_SETTING.getKey(), true)
+        .put(ADAPTIVE_SLICE_COUNT_MIN_DOCS_PER_SLICE_SETTING.getKey(), 1000)
+        .build();
+
+    public void testSliceCount() {
+        final ConcurrentSearchSliceController controller = controller(ENABLED, Runnable::run, () -> 0);
+        // idle node, large shard: the configured count is kept
+        assertEquals(4, controller.sliceCount(4, 1_000_000, 8, 0, 0, 10));
+        // busy threads lower the slice count, the calling thread always counts
+        assertEquals(3, controller.sliceCount(4, 1_000_000, 8, 6, 0, 10));
+        assertEquals(1, controller.sliceCount(4, 1_000_000, 8, 8, 0, 10));
+        assertEquals(2, controller.sliceCount(4, 1_000_000, 8, 6, 1, 10));
+        // small shards are not worth many slices
+        assertEquals(2, controller.sliceCount(4, 2_500, 8, 0, 0, 10));
+        assertEquals(1, controller.sliceCount(4, 10, 8, 0, 0, 10));
+        // saturated pool or CPU above the threshold: sequential
+        assertEquals(1, controller.sliceCount(4, 1_000_000, 8, 8, 8, 10));
+        assertEquals(1, controller.sliceCount(4, 1_000_000, 8, 0, 0, 90));
+    }
+
+    public void testDisabledOrUnknownExecutor() {
+        final ThreadPoolExecutor pool = newPool();
+        try {
+            assertEquals(4, controller(Settings.EMPTY, pool, () -> 100).sliceCount(4, 10));
+            assertEquals(4, controller(ENABLED, Runnable::run, () -> 100).sliceCount(4, 10));
+            // lucene computes the slices, or concurrent search is off
+            assertEquals(0, controller(ENABLED, pool, () -> 100).sliceCount(0, 10));
+            assertEquals(1, controller(ENABLED, pool, () -> 100).sliceCount(1, 10));
+        } finally {
+            terminate(pool);
+        }
+    }
+
+    public void testSettingsUpdate() {
+        final ClusterSettings clusterSettings = clusterSettings(Settings.EMPTY);
+        final ThreadPoolExecutor pool = newPool();
+        try {
+            final ConcurrentSearchSliceController controller = new ConcurrentSearchSliceController(
+                Settings.EMPTY,
+                clusterSettings,
+                pool,
+                System::currentTimeMillis,
+                () -> 50
+            );
+            assertEquals(4, controller.sliceCount(4, 10));
+            clusterSettings.applySettings(ENABLED);
+            assertEquals(1, controller.sliceCount(4, 10));
+            assertEquals(4, controller.sliceCount(4, 1_000_000));
+            clusterSettings.applySettings(
+                Settings.builder().put(ENABLED).put(ADAPTIVE_SLICE_COUNT_CPU_THRESHOLD_SETTING.getKey(), 50).build()
+            );
+            assertEquals(1, controller.sliceCount(4, 1_000_000));
+        } finally {
+            terminate(pool);
+        }
+    }
+
+    public void testCpuIsSampledOncePerInterval() {
+        final AtomicLong now = new AtomicLong(randomNonNegativeLong() / 2);
+        final AtomicInteger samples = new AtomicInteger();
+        final ThreadPoolExecutor pool = newPool();
+        try {
+            final ConcurrentSearchSliceController controller = new ConcurrentSearchSliceController(
+                ENABLED,
+                clusterSettings(ENABLED),
+                pool,
+                now::get,
+                () -> samples.incrementAndGet() == 1 ? 10 : 95
+            );
+            assertEquals(4, controller.sliceCount(4, 1_000_000));
+            now.addAndGet(CPU_SAMPLING_INTERVAL_MILLIS - 1);
+            assertEquals(4, controller.sliceCount(4, 1_000_000));
+            assertEquals(1, samples.get());
+            now.incrementAndGet();
+            assertEquals(1, controller.sliceCount(4, 1_000_000));
+            assertEquals(2, samples.get());
+        } finally {
+            terminate(pool);
+        }
+    }
+
+    private static ConcurrentSearchSliceController controller(Settings settings, Executor executor, IntSupplier cpu) {
+        return new ConcurrentSearchSliceController(settings, clusterSettings(settings), executor, System::currentTimeMillis, cpu);
+    }
+
+    private static ClusterSettings clusterSettings(Settings settings) {
+        return new ClusterSettings(
+            settings,
+            Set.of(
+                ADAPTIVE_SLICE_COUNT_ENABLED_SETTING,
+                ADAPTIVE_SLICE_COUNT_CPU_THRESHOLD_SETTING,
+                ADAPTIVE_SLICE_COUNT_MIN_DOCS_PER_SLICE_SETTING
+            )
+        );
+    }
+
+    private ThreadPoolExecutor newPool() {
+        return OpenSearchExecutors.newFixed(
+            getTestName(),
+            8,
+            100,
+            OpenSearchExecutors.daemonThreadFactory("slice_controller"),
+            new ThreadContext(Settings.EMPTY)
+        );
+    }
+}
@@ -32,6 +32,12 @@
 
 package org.opensearch.search.fetch;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.store.Directory;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.core.common.Strings;
@@ -51,6 +57,7 @@ import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.TestSearchContext;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -81,6 +88,31 @@ public class FetchPhaseTests extends OpenSearchTestCase {
         assertFalse(FetchPhase.hasSequentialDocs(docs));
     }
 
+    public void testLeafDocIds() throws IOException {
+        try (
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))
+        ) {
+            for (int i = 0; i < 3; i++) {
+                writer.addDocument(new Document());
+            }
+            writer.commit();
+            for (int i = 0; i < 2; i++) {
+                writer.addDocument(new Document());
+            }
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                assertEquals(2, reader.leaves().size());
+                FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[] {
+                    new FetchPhase.DocIdToIndex(0, 2),
+                    new FetchPhase.DocIdToIndex(2, 0),
+                    new FetchPhase.DocIdToIndex(4, 1) };
+                assertArrayEquals(new int[] { 0, 2 }, FetchPhase.leafDocIds(docs, 0, reader.leaves().get(0)));
+                assertArrayEquals(new int[] { 2 }, FetchPhase.leafDocIds(docs, 1, reader.leaves().get(0)));
+                assertArrayEquals(new int[] { 1 }, FetchPhase.leafDocIds(docs, 2, reader.leaves().get(1)));
+            }
+        }
+    }
+
     public void testFieldsVisitorsInFetchPhase() {
 
         FetchPhase fetchPhase = new FetchPhase(new ArrayList<>());
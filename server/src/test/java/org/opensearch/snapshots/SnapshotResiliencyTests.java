@@ -84,6 +84,7 @@ import org.opensearch.action.admin.indices.shards.IndicesShardStoresAction;
 import org.opensearch.action.admin.indices.shards.TransportIndicesShardStoresAction;
 import org.opensearch.action.admin.indices.stats.SearchResponseStatusStats;
 import org.opensearch.action.bulk.BulkAction;
+import org.opensearch.action.bulk.BulkMetrics;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.bulk.TransportBulkAction;
@@ -2179,7 +2180,8 @@ public class SnapshotResiliencyTests extends OpenSearchTestCase {
                             new IndexingPressureService(settings, clusterService),
                             new SystemIndices(emptyMap()),
                             NoopTracer.INSTANCE
-                        )
+                        ),
+                        clusterService
                     ),
                     new GlobalCheckpointSyncAction(
                         settings,
@@ -2281,7 +2283,8 @@ public class SnapshotResiliencyTests extends OpenSearchTestCase {
                     ),
                     mock(RemoteStorePressureService.class),
                     new SystemIndices(emptyMap()),
-                    NoopTracer.INSTANCE
+                    NoopTracer.INSTANCE,
+                    BulkMetrics.NOOP
                 );
                 actions.put(
                     BulkAction.INSTANCE,
@@ -2309,7 +2312,8 @@ public class SnapshotResiliencyTests extends OpenSearchTestCase {
                         new IndexingPressureService(settings, clusterService),
                         mockIndicesService,
                         new SystemIndices(emptyMap()),
-                        NoopTracer.INSTANCE
+                        NoopTracer.INSTANCE,
+                        BulkMetrics.NOOP
                     )
                 );
                 final RestoreService restoreService = new RestoreService(
@@ -113,11 +113,11 @@ public class OnDemandPrefetchBlockSnapshotIndexInputTests extends OpenSearchTest
         final OnDemandPrefetchBlockSnapshotIndexInput blockedSnapshotFile = createIndexInput(23);
 
         blockedSnapshotFile.prefetch(0, 10);
-        verify(transferManager, times(1)).fetchBlobAsync(any(BlobFetchRequest.class));
+        verify(transferManager, times(1)).fetchBlobsAsync(argThat(requests -> requests.size() == 1));
         blockedSnapshotFile.prefetch(0, 8388670);
-        verify(transferManager, times(3)).fetchBlobAsync(any(BlobFetchRequest.class));
+        verify(transferManager, times(1)).fetchBlobsAsync(argThat(requests -> requests.size() == 2));
         blockedSnapshotFile.prefetch(0, 16777350);
-        verify(transferManager, times(6)).fetchBlobAsync(any(BlobFetchRequest.class));
+        verify(transferManager, times(1)).fetchBlobsAsync(argThat(requests -> requests.size() == 3));
     }
 
     public void testCloneAndSlice() throws Exception {
@@ -154,7 +154,7 @@ public class OnDemandPrefetchBlockSnapshotIndexInputTests extends OpenSearchTest
     public void testDownloadBlocksAsync() throws Exception {
         final OnDemandPrefetchBlockSnapshotIndexInput input = createIndexInput(23);
         input.downloadBlocksAsync(0, 1, false);
-        verify(transferManager, times(2)).fetchBlobAsync(any(BlobFetchRequest.class));
+        verify(transferManager, times(1)).fetchBlobsAsync(argThat(requests -> requests.size() == 2));
     }
 
     public void testChunkedRepositoryWithBlockSizeGreaterThanChunkSize() throws IOException {
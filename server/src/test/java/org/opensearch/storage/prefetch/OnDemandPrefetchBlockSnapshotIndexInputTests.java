@@ -41,11 +41,15 @@ import org.junit.Before;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import static org.opensearch.common.settings.ClusterSettings.BUILT_IN_CLUSTER_SETTINGS;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doAnswer;
@@ -72,11 +76,25 @@ public class OnDemandPrefetchBlockSnapshotIndexInputTests extends OpenSearchTest
     private ThreadPool threadPool;
     FileCache fileCache;
     private TieredStoragePrefetchSettings tieringServicePrefetchSettings;
+    private List<String> requestedBlocks;
+    private List<CompletableFuture<IndexInput>> downloads;
 
     @Before
-    public void init() {
+    public void init() throws IOException {
         assumeFalse("Awaiting Windows fix https://github.com/opensearch-project/OpenSearch/issues/5396", Constants.WINDOWS);
         transferManager = mock(TransferManager.class);
+        requestedBlocks = new ArrayList<>();
+        downloads = new ArrayList<>();
+        when(transferManager.fetchBlobsAsync(any())).thenAnswer(invocation -> {
+            List<BlobFetchRequest> blobFetchRequests = invocation.getArgument(0);
+            List<CompletableFuture<IndexInput>> results = new ArrayList<>();
+            for (BlobFetchRequest blobFetchRequest : blobFetchRequests) {
+                requestedBlocks.add(blobFetchRequest.getFileName());
+                results.add(new CompletableFuture<>());
+            }
+            downloads.addAll(results);
+            return results;
+        });
         lockFactory = SimpleFSLockFactory.INSTANCE;
         threadPool = new TestThreadPool("PrefetchBlockSnapshotIndexInputTests");
         path = createTempDir("TestOnDemandPrefetchBlockSnapshotIndexInputTests");
@@ -103,11 +121,14 @@ public class OnDemandPrefetchBlockSnapshotIndexInputTests extends OpenSearchTest
         final TestOnDemandPrefetchBlockSnapshotIndexInput blockedSnapshotFile = createTestOnDemandPrefetchBlockSnapshotIndexInput(23);
 
         blockedSnapshotFile.prefetch(0, 10);
-        verify(transferManager, times(1)).fetchBlobAsync(any(BlobFetchRequest.class));
+        verifyRequestedBlocks(1);
         blockedSnapshotFile.prefetch(0, 8388670);
-        verify(transferManager, times(3)).fetchBlobAsync(any(BlobFetchRequest.class));
+        verifyRequestedBlocks(3);
         blockedSnapshotFile.prefetch(0, 16777350);
-        verify(transferManager, times(6)).fetchBlobAsync(any(BlobFetchRequest.class));
+        verifyRequestedBlocks(6);
+        // the blocks of a prefetch are requested together so that they can be fetched with a single read
+        verify(transferManager, times(3)).fetchBlobsAsync(any());
+        verify(transferManager).fetchBlobsAsync(argThat(blobFetchRequests -> blobFetchRequests.size() == 3));
     }
 
     public void testSettings() throws Exception {
@@ -133,7 +154,7 @@ public class OnDemandPrefetchBlockSnapshotIndexInputTests extends OpenSearchTest
         final TestOnDemandPrefetchBlockSnapshotIndexInput blockedSnapshotFile = createTestOnDemandPrefetchBlockSnapshotIndexInput(23);
         // prefetch should be a no-op when disabled
         blockedSnapshotFile.prefetch(0, 10);
-        verify(transferManager, never()).fetchBlobAsync(any(BlobFetchRequest.class));
+        verify(transferManager, never()).fetchBlobsAsync(any());
     }
 
     public void testFetchBlockWithCacheTracking() throws Exception {
@@ -151,6 +172,97 @@ public class OnDemandPrefetchBlockSnapshotIndexInputTests extends OpenSearchTest
         blockedSnapshotFile.downloadBlocksAsync(0, 1, false);
     }
 
+    public void testAdaptiveReadAheadOnSequentialAccess() throws Exception {
+        final TestOnDemandPrefetchBlockSnapshotIndexInput blockedSnapshotFile = createTestOnDemandPrefetchBlockSnapshotIndexInput(20);
+
+        // the window doubles on every sequential fetch, and blocks that were already read ahead are not requested again
+        fetchBlocks(blockedSnapshotFile, 0);
+        verifyRequestedBlocks(1);
+        assertTrue(requestedBlocks.contains(FILE_NAME + "_block_1"));
+        fetchBlocks(blockedSnapshotFile, 1);
+        verifyRequestedBlocks(3);
+        fetchBlocks(blockedSnapshotFile, 2);
+        verifyRequestedBlocks(6);
+        assertTrue(requestedBlocks.contains(FILE_NAME + "_block_6"));
+
+        // random access stops the read-ahead
+        fetchBlocks(blockedSnapshotFile, 20, 10);
+        verifyRequestedBlocks(6);
+    }
+
+    public void testAdaptiveReadAheadOnStridedAccess() throws Exception {
+        final TestOnDemandPrefetchBlockSnapshotIndexInput blockedSnapshotFile = createTestOnDemandPrefetchBlockSnapshotIndexInput(20);
+
+        fetchBlocks(blockedSnapshotFile, 3, 6);
+        verifyRequestedBlocks(0);
+        fetchBlocks(blockedSnapshotFile, 9);
+        verifyRequestedBlocks(1);
+        assertTrue(requestedBlocks.contains(FILE_NAME + "_block_12"));
+    }
+
+    public void testAdaptiveReadAheadDisabledBySettings() throws Exception {
+        tieringServicePrefetchSettings.setAdaptiveReadAheadEnabled(false);
+        final TestOnDemandPrefetchBlockSnapshotIndexInput blockedSnapshotFile = createTestOnDemandPrefetchBlockSnapshotIndexInput(20);
+
+        fetchBlocks(blockedSnapshotFile, 0, 1, 2, 3);
+        verifyRequestedBlocks(0);
+    }
+
+    public void testReadAheadIsBoundedByTheInFlightBudget() throws Exception {
+        tieringServicePrefetchSettings.setReadAheadMaxInFlightBlocks(2);
+        final TestOnDemandPrefetchBlockSnapshotIndexInput blockedSnapshotFile = createTestOnDemandPrefetchBlockSnapshotIndexInput(20);
+
+        fetchBlocks(blockedSnapshotFile, 0, 1, 2);
+        verifyRequestedBlocks(2);
+        assertEquals(2, tieringServicePrefetchSettings.getReadAheadInFlightBlocks());
+
+        downloads.forEach(download -> download.complete(null));
+        assertEquals(0, tieringServicePrefetchSettings.getReadAheadInFlightBlocks());
+        fetchBlocks(blockedSnapshotFile, 3);
+        verifyRequestedBlocks(4);
+    }
+
+    public void testPrefetchOnOpen() throws Exception {
+        TestOnDemandPrefetchBlockSnapshotIndexInput indexInput = getIndexInput("_0.tip", "clone");
+        verifyRequestedBlocks(indexInput.getTotalBlocks());
+        indexInput.clone();
+        indexInput.slice("slice", 0, 10);
+        verifyRequestedBlocks(indexInput.getTotalBlocks());
+
+        tieringServicePrefetchSettings.setPrefetchOnOpenEnabled(false);
+        getIndexInput("_1.tmd", "clone");
+        getIndexInput("_1.tim", "clone");
+        verifyRequestedBlocks(indexInput.getTotalBlocks());
+    }
+
+    public void testPrefetchOnOpenAndDocValuesReadAheadIgnoreTheInFlightBudget() throws Exception {
+        tieringServicePrefetchSettings.setReadAheadMaxInFlightBlocks(1);
+
+        // the whole file is downloaded although it has more blocks than the budget
+        final TestOnDemandPrefetchBlockSnapshotIndexInput indexInput = getIndexInput("_0.tip", "clone");
+        assertThat(indexInput.getTotalBlocks(), greaterThan(1));
+        verifyRequestedBlocks(indexInput.getTotalBlocks());
+        assertEquals(0, tieringServicePrefetchSettings.getReadAheadInFlightBlocks());
+
+        // and doc values keep reading ahead their whole block count
+        final TestOnDemandPrefetchBlockSnapshotIndexInput dvdInput = createDvdFileIndexInput(20);
+        final int readAheadBlockCount = tieringServicePrefetchSettings.getReadAheadBlockCount();
+        assertThat(readAheadBlockCount, greaterThan(1));
+        fetchBlocks(dvdInput, 0);
+        verifyRequestedBlocks(indexInput.getTotalBlocks() + readAheadBlockCount);
+        assertEquals(0, tieringServicePrefetchSettings.getReadAheadInFlightBlocks());
+    }
+
+    private void fetchBlocks(TestOnDemandPrefetchBlockSnapshotIndexInput indexInput, int... blockIds) throws IOException {
+        for (int blockId : blockIds) {
+            indexInput.fetchBlockPublic(blockId).close();
+        }
+    }
+
+    private void verifyRequestedBlocks(int blocks) {
+        assertEquals(blocks, requestedBlocks.size());
+    }
+
     public void test8MBBlock() throws Exception {
         runAllTestsFor(23);
     }
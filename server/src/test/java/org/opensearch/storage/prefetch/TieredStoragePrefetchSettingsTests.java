@@ -53,6 +53,25 @@ public class TieredStoragePrefetchSettingsTests extends OpenSearchTestCase {
         assertEquals(TieredStoragePrefetchSettings.DEFAULT_READ_AHEAD_BLOCK_COUNT, settings.getReadAheadBlockCount());
         assertEquals(TieredStoragePrefetchSettings.READ_AHEAD_ENABLE_FILE_FORMATS, settings.getReadAheadEnableFileFormats());
         assertEquals(true, settings.isStoredFieldsPrefetchEnabled());
+        assertEquals(true, settings.isAdaptiveReadAheadEnabled());
+        assertEquals(TieredStoragePrefetchSettings.DEFAULT_READ_AHEAD_MAX_IN_FLIGHT_BLOCKS, settings.getReadAheadMaxInFlightBlocks());
+        assertEquals(true, settings.isPrefetchOnOpenEnabled());
+        assertEquals(TieredStoragePrefetchSettings.PREFETCH_ON_OPEN_FILE_FORMATS, settings.getPrefetchOnOpenFileFormats());
+    }
+
+    public void testReadAheadPermits() {
+        TieredStoragePrefetchSettings settings = new TieredStoragePrefetchSettings(clusterService.getClusterSettings());
+        clusterService.getClusterSettings()
+            .applySettings(Settings.builder().put(TieredStoragePrefetchSettings.READ_AHEAD_MAX_IN_FLIGHT_BLOCKS.getKey(), 2).build());
+        assertTrue(settings.tryAcquireReadAheadPermit());
+        assertTrue(settings.tryAcquireReadAheadPermit());
+        assertFalse(settings.tryAcquireReadAheadPermit());
+        assertEquals(2, settings.getReadAheadInFlightBlocks());
+        settings.releaseReadAheadPermit();
+        assertTrue(settings.tryAcquireReadAheadPermit());
+        settings.releaseReadAheadPermit();
+        settings.releaseReadAheadPermit();
+        assertEquals(0, settings.getReadAheadInFlightBlocks());
     }
 
     public void testUpdateAfterGetDefaultSettings() {
@@ -39,6 +39,7 @@ import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.admin.indices.flush.FlushRequest;
 import org.opensearch.action.bulk.BulkItemRequest;
 import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkMetrics;
 import org.opensearch.action.bulk.BulkShardRequest;
 import org.opensearch.action.bulk.BulkShardResponse;
 import org.opensearch.action.bulk.MappingUpdatePerformer;
@@ -1073,7 +1074,8 @@ public abstract class OpenSearchIndexLevelReplicationTestCase extends IndexShard
                     listener.onResponse((TransportWriteAction.WritePrimaryResult<BulkShardRequest, BulkShardResponse>) result);
                 }),
                 threadPool,
-                Names.WRITE
+                Names.WRITE,
+                TransportShardBulkAction.PrimaryExecutionOptions.DEFAULT
             );
         } catch (Exception e) {
             listener.onFailure(e);
@@ -1116,7 +1118,7 @@ public abstract class OpenSearchIndexLevelReplicationTestCase extends IndexShard
         );
         final Translog.Location location;
         try (Releasable ignored = permitAcquiredFuture.actionGet()) {
-            location = TransportShardBulkAction.performOnReplica(request, replica);
+            location = TransportShardBulkAction.performOnReplica(request, replica, BulkMetrics.NOOP);
         }
         TransportWriteActionTestHelper.performPostWriteActions(replica, request, location, logger);
     }
@@ -1235,7 +1237,8 @@ public abstract class OpenSearchIndexLevelReplicationTestCase extends IndexShard
                 null,
                 null,
                 primary,
-                logger
+                logger,
+                tookNanos -> {}
             );
         TransportWriteActionTestHelper.performPostWriteActions(primary, request, result.location, logger);
         return result;
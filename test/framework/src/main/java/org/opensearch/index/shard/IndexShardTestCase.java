@@ -808,7 +808,8 @@ public abstract class IndexShardTestCase extends OpenSearchTestCase {
                 mergedSegmentPublisher,
                 ReferencedSegmentsPublisher.EMPTY,
                 Collections.emptyMap(),
-                null // TODO
+                null, // TODO
+                null
             );
             indexShard.addShardFailureCallback(DEFAULT_SHARD_FAILURE_HANDLER);
             if (remoteStoreStatsTrackerFactory != null) {